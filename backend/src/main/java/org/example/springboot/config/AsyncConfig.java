@@ -0,0 +1,107 @@
+package org.example.springboot.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 🧵 **Eigene Thread-Pools für Hintergrund-Arbeit**
+ *
+ * Der Standard-Executor von Spring (für @Async E-Mails usw.) bleibt
+ * unangetastet. Langsame Nebenjobs wie das Löschen von Dateien laufen in
+ * eigenen, kleinen Pools, damit sie sich nicht gegenseitig ausbremsen.
+ */
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * 🧹 Datei-Cleanup nach dem Commit (PDFs gelöschter Nachweise)
+     */
+    @Bean(name = "dateiCleanupExecutor")
+    public ThreadPoolTaskExecutor dateiCleanupExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("datei-cleanup-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 🗑️ Die eigentlichen Datei-Löschungen eines Cleanup-Batches. Blockierendes
+     * I/O gehört nicht in den gemeinsamen ForkJoinPool (parallelStream) -
+     * dort würde es Streams im Rest der App ausbremsen.
+     */
+    @Bean(name = "dateiLoeschExecutor")
+    public ThreadPoolTaskExecutor dateiLoeschExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("datei-loesch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * ⚙️ Hintergrund-Jobs (Löschen im großen Stil, Batch-Operationen).
+     * Bewusst klein gehalten: jeder Thread hält pro Chunk eine DB-Connection,
+     * der Rest des Pools bleibt für interaktive Requests frei.
+     */
+    @Bean(name = "bulkJobExecutor")
+    public ThreadPoolTaskExecutor bulkJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("bulk-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 📢 Benachrichtigungen an viele Empfänger (Broadcasts), asynchroner Modus
+     */
+    @Bean(name = "notificationFanoutExecutor")
+    public ThreadPoolTaskExecutor notificationFanoutExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(20);
+        executor.setThreadNamePrefix("notification-fanout-");
+        // Bei einem Burst läuft der Fan-out lieber synchron beim Aufrufer als mit 500 abzubrechen
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 📬 Nebenwirkungen von Nachweis-Änderungen nach dem Commit (PDF, E-Mail,
+     * Benachrichtigungen). Ist die Queue voll, läuft das Event im aufrufenden
+     * Thread weiter - langsamer, aber es geht keine Mail verloren.
+     */
+    @Bean(name = "nachweisEreignisExecutor")
+    public ThreadPoolTaskExecutor nachweisEreignisExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("nachweis-ereignis-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
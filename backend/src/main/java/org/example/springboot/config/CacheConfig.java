@@ -63,7 +63,9 @@ public class CacheConfig {
                                 // Rate-Limit-Daten: 1 Minute (genau kalibriert)
                                 "rateLimits", defaultCacheConfig.entryTtl(Duration.ofMinutes(1)),
                                 // Settings/Config: 1 Tag (sehr stabil)
-                                "settings", defaultCacheConfig.entryTtl(Duration.ofHours(24)));
+                                "settings", defaultCacheConfig.entryTtl(Duration.ofHours(24)),
+                                // Ausbilder-Dashboard: 1 Minute (wird bei Status-Änderungen geleert)
+                                "ausbilderDashboard", defaultCacheConfig.entryTtl(Duration.ofMinutes(1)));
 
                 return RedisCacheManager.builder(redisConnectionFactory)
                                 .cacheDefaults(defaultCacheConfig)
@@ -25,7 +25,7 @@ public class HibernatePerformanceConfig {
      * - hibernate.jdbc.fetch_size: Batch Size für DB Queries
      * - hibernate.jdbc.batch_size: Batch Size für Inserts/Updates
      * - hibernate.cache.use_second_level_cache: Aktiviere 2nd Level Cache
-     * - hibernate.cache.region.factory_class: Cache Provider (Redis via Spring)
+     * - hibernate.cache.region.factory_class: Cache Provider (JCache/Caffeine)
      * - hibernate.generate_statistics: Zeige Query Stats (nur für Debugging)
      */
     public static Map<String, Object> hibernateProperties() {
@@ -36,8 +36,9 @@ public class HibernatePerformanceConfig {
         properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, 20); // Batch 20 inserts zusammen
         properties.put(AvailableSettings.BATCH_VERSIONED_DATA, true); // Batch versioned data
         
-        // 💾 Second-Level Cache (via Redis durch Spring Data Redis)
-        properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false); // Spring Cache reicht
+        // 💾 Second-Level Cache: lokal (JCache/Caffeine), Invalidierung über Redis - siehe L2CacheConfig
+        properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+        properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
         properties.put(AvailableSettings.USE_QUERY_CACHE, false); // Query Cache via Spring Cache
         
         // 🎯 Lazy Loading Optimierungen
@@ -10,6 +10,7 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
@@ -82,6 +83,14 @@ public class RedisConfig {
         return template;
     }
 
+    // 3. Listener-Container für Pub/Sub (z.B. Notification-Push über alle Nodes)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
     @Bean
     public RedisCacheConfiguration cacheConfiguration() {
         return RedisCacheConfiguration.defaultCacheConfig()
@@ -96,6 +105,8 @@ public class RedisConfig {
             RedisCacheConfiguration cacheConfiguration) {
         return RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(cacheConfiguration)
+                // Ausbilder-Dashboard nur kurz - wird bei Status-Änderungen ohnehin geleert
+                .withCacheConfiguration("ausbilderDashboard", cacheConfiguration.entryTtl(Duration.ofMinutes(1)))
                 .build();
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package org.example.springboot.config;
 
+import jakarta.servlet.DispatcherType;
 import org.example.springboot.config.auth.JwtAuthEntryPoint;
 import org.example.springboot.config.auth.JwtAuthenticationFilter;
 import org.springframework.context.annotation.Bean;
@@ -97,6 +98,9 @@ public class SecurityConfig {
                 .authorizeHttpRequests(req -> req
                         // Public endpoints (no authentication required)
                         .requestMatchers(PUBLIC_URLS).permitAll()
+                        // Async-Re-Dispatches (SSE-Stream) wurden beim ersten Dispatch schon
+                        // geprüft - stateless ist der SecurityContext dann aber leer
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // All other endpoints require authentication
                         .anyRequest().authenticated())
                 .exceptionHandling(exc -> exc.authenticationEntryPoint(unauthorizedHandler))
@@ -145,7 +149,7 @@ public class SecurityConfig {
 
                 registry.addMapping("/**")
                         .allowedOrigins(origins)
-                        .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
+                        .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
                         .allowedHeaders("*")
                         .allowCredentials(true);
             }
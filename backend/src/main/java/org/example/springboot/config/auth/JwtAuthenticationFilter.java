@@ -34,11 +34,18 @@ import java.io.IOException;
  * 6. Am Ende sagt er Spring Security: "Yo, der User ist legit für diesen
  * Request, lass ihn rein."
  * Damit ist der User für diese eine Anfrage authentifiziert.
+ *
+ * Sonderfall SSE-Stream: Ein Browser-EventSource kann keinen Header setzen.
+ * Für {@value #STREAM_PFAD} wird deshalb ein kurzlebiger Stream-Token als
+ * Query-Parameter {@code token} akzeptiert - und zwar nur dort. Umgekehrt
+ * wird ein Stream-Token nicht als Bearer-Token angenommen.
  */
 @Slf4j
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    public static final String STREAM_PFAD = "/api/notifications/stream";
+
     private final JwtUtil jwtUtil;
     private final UserService userService;
 
@@ -73,15 +80,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         final String authorizationHeader = request.getHeader("Authorization");
         final String jwt;
-        final String username;
-
-        if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer")) {
+        final boolean streamToken;
+
+        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer")) {
+            jwt = authorizationHeader.substring(7);
+            streamToken = false;
+        } else if (STREAM_PFAD.equals(request.getRequestURI()) && request.getParameter("token") != null) {
+            jwt = request.getParameter("token");
+            streamToken = true;
+        } else {
             filterChain.doFilter(request, response);
             return; // Beendet die Funktion hier, bevor NullPointerException auftritt
         }
 
-        jwt = authorizationHeader.substring(7);
-
         try {
             final String email = jwtUtil.extractSubject(jwt);
             log.info("JWT Subject extracted: {}", email);
@@ -90,7 +101,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 log.info("Loading UserDetails for email: {}", email);
                 UserDetails userDetails = userService.loadUserByUsername(email);
 
-                if (jwtUtil.isTokenValid(jwt, userDetails)) {
+                if (jwtUtil.isTokenValid(jwt, userDetails) && jwtUtil.isStreamToken(jwt) == streamToken) {
                     log.info("JWT Token is valid for user: {}", email);
                     UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                             userDetails,
@@ -42,6 +42,12 @@ public class JwtUtil {
     private String superSecretKey;
     @Value("${jwt.expiration.ms}")
     private long jwtExpirationInMs;
+    @Value("${jwt.stream-token.ms:60000}")
+    private long streamTokenInMs;
+
+    // Stream-Tokens taugen nur für den SSE-Stream, nicht als Bearer-Token
+    private static final String ZWECK_CLAIM = "zweck";
+    private static final String ZWECK_STREAM = "sse-stream";
 
     public String generateToken(UserDetails userDetails) {
         if (!(userDetails instanceof User)) {
@@ -68,6 +74,37 @@ public class JwtUtil {
                 .compact();
     }
 
+    /**
+     * 📡 Kurzlebiger Token für den SSE-Stream. Ein Browser-EventSource kann
+     * keinen Authorization-Header mitschicken, deshalb geht der Token als
+     * Query-Parameter - und soll in Access-Logs nicht lange was taugen.
+     */
+    public String generateStreamToken(UserDetails userDetails) {
+        if (!(userDetails instanceof User user)) {
+            throw new IllegalArgumentException("UserDetails must be an instance of User");
+        }
+        return Jwts.builder()
+                .claim("userId", user.getId().toString())
+                .claim(ZWECK_CLAIM, ZWECK_STREAM)
+                .setSubject(user.getEmail())
+                .setIssuedAt(new Date(System.currentTimeMillis()))
+                .setExpiration(new Date(System.currentTimeMillis() + streamTokenInMs))
+                .signWith(getSigningKey())
+                .compact();
+    }
+
+    public boolean isStreamToken(String token) {
+        try {
+            return ZWECK_STREAM.equals(extractAllClaims(token).get(ZWECK_CLAIM));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    public long getStreamTokenInMs() {
+        return streamTokenInMs;
+    }
+
     public String extractSubject(String token) {
         return extractClaims(token, Claims::getSubject);
     }
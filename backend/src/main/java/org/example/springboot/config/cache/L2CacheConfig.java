@@ -0,0 +1,82 @@
+package org.example.springboot.config.cache;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.example.springboot.model.Role;
+import org.example.springboot.model.User;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.configuration.MutableConfiguration;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 💾 **Was geht hier ab?**
+ * Hibernate Second-Level-Cache: Entities mit {@code @Cache} (Role, User)
+ * liegen pro Node lokal in Caffeine (über die JCache-API) - ein Treffer
+ * kostet keinen Roundtrip zu Postgres, auch nicht zu Redis.
+ *
+ * Weil jeder Node seinen eigenen Cache hat, verteilt
+ * {@link L2CacheInvalidierung} Updates/Deletes über Redis Pub/Sub. Die
+ * Ablaufzeiten hier begrenzen, wie lange ein Node im schlimmsten Fall (Redis
+ * weg) veraltete Daten sieht.
+ *
+ * Abschalten: {@code app.hibernate.l2-cache.enabled=false}. Statistiken
+ * (Hit/Miss pro Entity, /api/monitoring/hibernate/l2 und Micrometer
+ * {@code hibernate.*}): {@code app.hibernate.statistik}.
+ */
+@Slf4j
+@Configuration
+public class L2CacheConfig {
+
+    /**
+     * Regionen mit eigener Ablaufzeit. Region = Entity-Klasse, Natural IDs
+     * bekommen "##NaturalId" angehängt.
+     */
+    static final Map<String, java.time.Duration> REGIONEN = Map.of(
+            Role.class.getName(), java.time.Duration.ofHours(24),
+            Role.class.getName() + "##NaturalId", java.time.Duration.ofHours(24),
+            User.class.getName(), java.time.Duration.ofMinutes(10));
+
+    @Bean(destroyMethod = "close")
+    public CacheManager l2JCacheManager() {
+        CacheManager manager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        REGIONEN.forEach((region, ttl) -> {
+            if (manager.getCache(region) == null) {
+                manager.createCache(region, new MutableConfiguration<>()
+                        .setStoreByValue(false)
+                        .setStatisticsEnabled(true)
+                        .setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(
+                                new Duration(TimeUnit.SECONDS, ttl.toSeconds()))));
+            }
+        });
+        return manager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer l2CacheHibernateProperties(
+            @Value("${app.hibernate.l2-cache.enabled:true}") boolean aktiv,
+            @Value("${app.hibernate.statistik:true}") boolean statistik) {
+        return properties -> {
+            properties.put(AvailableSettings.GENERATE_STATISTICS, statistik);
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, aktiv);
+            // Query-Cache bleibt aus - Lookups laufen über ID / Natural ID
+            properties.put(AvailableSettings.USE_QUERY_CACHE, false);
+            if (aktiv) {
+                properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+                properties.put(ConfigSettings.CACHE_MANAGER, l2JCacheManager());
+                properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create");
+                log.info("💾 Hibernate L2-Cache aktiv (JCache/Caffeine, Regionen: {})", REGIONEN.keySet());
+            }
+        };
+    }
+}
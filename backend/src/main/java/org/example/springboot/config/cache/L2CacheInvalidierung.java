@@ -0,0 +1,134 @@
+package org.example.springboot.config.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * 📡 **Was geht hier ab?**
+ * Hält die lokalen L2-Caches ({@link L2CacheConfig}) der Nodes zusammen:
+ * - nach dem Commit eines Updates/Deletes auf eine gecachte Entity geht
+ * "node|entity|id" über Redis Pub/Sub raus
+ * - die anderen Nodes werfen genau diesen Eintrag (plus die Natural-ID-Region
+ * der Entity) aus ihrem Cache, der Sender selbst hat ihn schon aktuell
+ *
+ * Inserts brauchen nix - neue IDs kann noch kein Node gecacht haben.
+ */
+@Slf4j
+@Component
+public class L2CacheInvalidierung implements MessageListener, SmartInitializingSingleton,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    static final String KANAL = "hibernate:l2-invalidierung";
+    private static final String TRENNER = "|";
+
+    private final String knoten = UUID.randomUUID().toString();
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final boolean aktiv;
+
+    public L2CacheInvalidierung(EntityManagerFactory entityManagerFactory,
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${app.hibernate.l2-cache.enabled:true}") boolean aktiv) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.aktiv = aktiv;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!aktiv) {
+            return;
+        }
+        EventListenerRegistry registry = sessionFactory().getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+        listenerContainer.addMessageListener(this, new ChannelTopic(KANAL));
+        log.info("📡 L2-Cache-Invalidierung über Redis aktiv (Node {})", knoten);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publizieren(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publizieren(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // Rollback - der Cache wurde nie geändert
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // Rollback - der Cache wurde nie geändert
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] teile = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (teile.length != 3 || teile[0].equals(knoten)) {
+            return;
+        }
+        try {
+            SessionFactoryImplementor sessionFactory = sessionFactory();
+            EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(teile[1]);
+            Object id = persister.getIdentifierMapping().getJavaType().fromString(teile[2]);
+            sessionFactory.getCache().evictEntityData(persister.getEntityName(), id);
+            if (persister.hasNaturalIdCache()) {
+                sessionFactory.getCache().evictNaturalIdData(persister.getEntityName());
+            }
+            log.debug("📡 L2-Cache: {}#{} auf Hinweis von Node {} verworfen", teile[1], teile[2], teile[0]);
+        } catch (Exception e) {
+            log.warn("⚠️ L2-Cache-Invalidierung nicht verarbeitet: {}", e.getMessage());
+        }
+    }
+
+    private void publizieren(EntityPersister persister, Object id) {
+        if (id == null) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(KANAL, String.join(TRENNER, knoten, persister.getEntityName(),
+                    id.toString()));
+        } catch (Exception e) {
+            // Redis weg? Dann räumt die Ablaufzeit der Region auf
+            log.warn("⚠️ L2-Cache-Invalidierung für {}#{} nicht verteilt: {}", persister.getEntityName(), id,
+                    e.getMessage());
+        }
+    }
+
+    private SessionFactoryImplementor sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    }
+}
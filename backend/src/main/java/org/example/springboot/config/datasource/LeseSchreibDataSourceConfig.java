@@ -0,0 +1,86 @@
+package org.example.springboot.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 📚 **Was geht hier ab?**
+ * Lese-/Schreib-Trennung: Schreiben und normale Transaktionen gehen an den
+ * Primary ({@code spring.datasource.*}), {@code readOnly}-Transaktionen an
+ * die Replika ({@code app.datasource.replica.*}).
+ *
+ * Ohne {@code app.datasource.replica.url} ist diese Config komplett aus und
+ * Spring Boot baut wie gehabt die eine DataSource.
+ *
+ * Lokal testen geht mit zwei Postgres-Instanzen (z.B. zweiter Container auf
+ * Port 5433): {@code app.datasource.replica.url=jdbc:postgresql://localhost:5433/nachweise_db}.
+ * Flyway läuft immer nur gegen den Primary.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "url")
+public class LeseSchreibDataSourceConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaerDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primaer");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replikaDataSource(DataSourceProperties properties,
+            @Value("${app.datasource.replica.url}") String url,
+            @Value("${app.datasource.replica.username:}") String username,
+            @Value("${app.datasource.replica.password:}") String password,
+            @Value("${app.datasource.replica.maximum-pool-size:10}") int maxPoolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replika");
+        dataSource.setJdbcUrl(url);
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setUsername(username.isBlank() ? properties.determineUsername() : username);
+        dataSource.setPassword(password.isBlank() ? properties.determinePassword() : password);
+        dataSource.setMaximumPoolSize(maxPoolSize);
+        dataSource.setReadOnly(true);
+        // Nicht beim Start auf die Replika warten - ist sie weg, lesen wir halt vom Primary
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplikaStatus replikaStatus(@Qualifier("replikaDataSource") DataSource replika,
+            @Value("${app.datasource.replica.lese-nach-schreib-ms:5000}") long leseNachSchreibMs,
+            @Value("${app.datasource.replica.max-lag-sekunden:30}") double maxLagSekunden,
+            MeterRegistry meterRegistry) {
+        ReplikaStatus status = new ReplikaStatus(replika, leseNachSchreibMs, maxLagSekunden);
+        meterRegistry.gauge("db.replika.lag.sekunden", status, ReplikaStatus::getLagSekunden);
+        meterRegistry.gauge("db.replika.nutzbar", status, s -> s.isNutzbar() ? 1 : 0);
+        return status;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaerDataSource") DataSource primaer,
+            @Qualifier("replikaDataSource") DataSource replika,
+            ReplikaStatus replikaStatus,
+            MeterRegistry meterRegistry) {
+        log.info("🔀 Lese-/Schreib-Routing aktiv: readOnly-Transaktionen gehen an die Replika");
+        return new LazyConnectionDataSourceProxy(
+                new LeseSchreibRoutingDataSource(primaer, replika, replikaStatus, meterRegistry));
+    }
+}
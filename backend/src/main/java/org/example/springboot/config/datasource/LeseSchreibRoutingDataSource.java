@@ -0,0 +1,72 @@
+package org.example.springboot.config.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 🔀 **Was geht hier ab?**
+ * Schickt {@code @Transactional(readOnly = true)} auf die Replika, alles
+ * andere auf den Primary. Muss hinter einem
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+ * hängen - sonst holt sich der TransactionManager die Connection, bevor das
+ * readOnly-Flag überhaupt gesetzt ist.
+ *
+ * Replika weg oder zu weit hinten → Primary. Kein Request scheitert nur
+ * deshalb, weil die Replika Probleme hat.
+ */
+public class LeseSchreibRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primaer;
+    private final DataSource replika;
+    private final ReplikaStatus status;
+    private final Counter aufPrimaer;
+    private final Counter aufReplika;
+
+    public LeseSchreibRoutingDataSource(DataSource primaer, DataSource replika, ReplikaStatus status,
+            MeterRegistry meterRegistry) {
+        this.primaer = primaer;
+        this.replika = replika;
+        this.status = status;
+        this.aufPrimaer = meterRegistry.counter("db.routing", "ziel", "primaer");
+        this.aufReplika = meterRegistry.counter("db.routing", "ziel", "replika");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!replikaVerwenden()) {
+            aufPrimaer.increment();
+            return primaer.getConnection();
+        }
+        try {
+            Connection connection = replika.getConnection();
+            aufReplika.increment();
+            return connection;
+        } catch (SQLException e) {
+            status.alsGestoertMarkieren(e);
+            aufPrimaer.increment();
+            return primaer.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // Eigene Credentials gibt's bei uns nicht - immer der Primary
+        return primaer.getConnection(username, password);
+    }
+
+    private boolean replikaVerwenden() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                status.schreibzugriffMerken();
+            }
+            return false;
+        }
+        return status.isNutzbar() && !status.imLeseNachSchreibFenster();
+    }
+}
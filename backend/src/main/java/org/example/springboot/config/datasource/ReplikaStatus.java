@@ -0,0 +1,120 @@
+package org.example.springboot.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.springboot.util.TransaktionsHelfer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 🩺 **Was geht hier ab?**
+ * Entscheidet, ob die Replika gerade benutzt werden darf:
+ * - Health-Check alle paar Sekunden: nicht erreichbar oder zu viel Lag →
+ * alles auf den Primary
+ * - Read-your-writes: wer gerade selbst geschrieben hat, liest für ein kurzes
+ * Fenster ({@code app.datasource.replica.lese-nach-schreib-ms}) vom Primary,
+ * sonst sieht er nach dem Speichern evtl. noch den alten Stand
+ *
+ * Das Fenster wird pro Instanz gemerkt. Reicht, weil die Replika-Lag im
+ * Normalfall im Millisekunden-Bereich liegt und das Fenster großzügig ist.
+ */
+@Slf4j
+public class ReplikaStatus {
+
+    // Auf einer Standby-Instanz: Sekunden seit der letzten eingespielten
+    // Transaktion. Auf einem normalen Server (lokaler Test) NULL → 0.
+    private static final String LAG_SQL = "SELECT COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)";
+
+    private final JdbcTemplate replikaJdbc;
+    private final long leseNachSchreibMs;
+    private final double maxLagSekunden;
+
+    private final Map<String, Long> letzterSchreibzugriff = new ConcurrentHashMap<>();
+    private volatile boolean nutzbar = true;
+    private volatile double lagSekunden;
+
+    public ReplikaStatus(DataSource replika, long leseNachSchreibMs, double maxLagSekunden) {
+        this.replikaJdbc = new JdbcTemplate(replika);
+        this.replikaJdbc.setQueryTimeout(2);
+        this.leseNachSchreibMs = leseNachSchreibMs;
+        this.maxLagSekunden = maxLagSekunden;
+    }
+
+    public boolean isNutzbar() {
+        return nutzbar;
+    }
+
+    public double getLagSekunden() {
+        return lagSekunden;
+    }
+
+    /**
+     * Replika beim Verbindungsaufbau gescheitert - bis zum nächsten
+     * erfolgreichen Health-Check auf den Primary.
+     */
+    void alsGestoertMarkieren(Exception e) {
+        if (nutzbar) {
+            log.warn("⚠️ Replika nicht erreichbar, lese vom Primary: {}", e.getMessage());
+        }
+        nutzbar = false;
+    }
+
+    /**
+     * Merkt sich für den aktuellen User einen Schreibzugriff - einmal sofort und
+     * nochmal nach dem Commit, damit lange Transaktionen das Fenster nicht
+     * auffressen.
+     */
+    void schreibzugriffMerken() {
+        String username = aktuellerUsername();
+        if (username == null) {
+            return;
+        }
+        letzterSchreibzugriff.put(username, System.currentTimeMillis());
+        TransaktionsHelfer.nachCommit(() -> letzterSchreibzugriff.put(username, System.currentTimeMillis()));
+    }
+
+    /**
+     * Hat der aktuelle User innerhalb des Fensters selbst geschrieben?
+     */
+    boolean imLeseNachSchreibFenster() {
+        if (letzterSchreibzugriff.isEmpty()) {
+            return false;
+        }
+        String username = aktuellerUsername();
+        if (username == null) {
+            return false;
+        }
+        Long zeitpunkt = letzterSchreibzugriff.get(username);
+        return zeitpunkt != null && System.currentTimeMillis() - zeitpunkt < leseNachSchreibMs;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.pruef-intervall-ms:5000}")
+    public void pruefen() {
+        try {
+            Double lag = replikaJdbc.queryForObject(LAG_SQL, Double.class);
+            lagSekunden = lag != null ? lag : 0;
+            boolean vorher = nutzbar;
+            nutzbar = lagSekunden <= maxLagSekunden;
+            if (!nutzbar) {
+                log.warn("🐢 Replika hängt {}s hinterher (max {}s) - Lesezugriffe gehen auf den Primary",
+                        lagSekunden, maxLagSekunden);
+            } else if (!vorher) {
+                log.info("✅ Replika wieder nutzbar (Lag {}s)", lagSekunden);
+            }
+        } catch (Exception e) {
+            alsGestoertMarkieren(e);
+        }
+        long grenze = System.currentTimeMillis() - leseNachSchreibMs;
+        letzterSchreibzugriff.values().removeIf(zeitpunkt -> zeitpunkt < grenze);
+    }
+
+    private static String aktuellerUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
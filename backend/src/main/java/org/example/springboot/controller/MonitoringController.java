@@ -1,6 +1,7 @@
 package org.example.springboot.controller;
 
 import org.example.springboot.monitoring.CacheMonitoring;
+import org.example.springboot.monitoring.L2CacheStatistik;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.StringRedisTemplate;
@@ -18,6 +19,7 @@ import java.util.Map;
  * Endpoints:
  * - GET /api/monitoring/cache/stats - Cache-Statistiken
  * - GET /api/monitoring/redis/info - Redis Info
+ * - GET /api/monitoring/hibernate/l2 - L2-Cache Hit/Miss pro Entity
  * - POST /api/monitoring/cache/flush - Cache löschen (Admin only)
  */
 @RestController
@@ -27,12 +29,15 @@ import java.util.Map;
 public class MonitoringController {
 
     private final CacheMonitoring cacheMonitoring;
+    private final L2CacheStatistik l2CacheStatistik;
     private final StringRedisTemplate redisTemplate;
 
     @Autowired
     public MonitoringController(CacheMonitoring cacheMonitoring,
+            L2CacheStatistik l2CacheStatistik,
             StringRedisTemplate redisTemplate) {
         this.cacheMonitoring = cacheMonitoring;
+        this.l2CacheStatistik = l2CacheStatistik;
         this.redisTemplate = redisTemplate;
     }
 
@@ -69,6 +74,15 @@ public class MonitoringController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 💾 Hibernate L2-Cache: Hit/Miss/Put gesamt und pro Entity
+     */
+    @GetMapping("/hibernate/l2")
+    @Operation(summary = "Get second-level cache statistics", description = "Returns Hibernate L2 cache hits, misses and puts per cached entity and natural-id region")
+    public ResponseEntity<Map<String, Object>> getL2CacheStats() {
+        return ResponseEntity.ok(l2CacheStatistik.getStats());
+    }
+
     /**
      * 🔴 Redis Informationen und Metriken
      */
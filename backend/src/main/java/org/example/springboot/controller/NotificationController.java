@@ -9,16 +9,29 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import jakarta.validation.Valid;
+import org.example.springboot.config.auth.JwtUtil;
+import org.example.springboot.dto.NotificationBroadcastRequest;
+import org.example.springboot.dto.NotificationResponse;
 import org.example.springboot.model.Notification;
+import org.example.springboot.service.NotificationFanoutService;
+import org.example.springboot.service.NotificationPushService;
 import org.example.springboot.service.NotificationService;
+import org.example.springboot.service.retention.RetentionService;
 import org.example.springboot.util.SecurityUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -30,6 +43,8 @@ import java.util.UUID;
  * - Badge-Count
  * - Markiere als gelesen
  * - Lösche Benachrichtigungen
+ * - Live-Stream (SSE) statt Polling
+ * - Broadcast an viele Empfänger
  */
 @RestController
 @RequestMapping("/api/notifications")
@@ -39,6 +54,52 @@ import java.util.UUID;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationPushService notificationPushService;
+    private final NotificationFanoutService notificationFanoutService;
+    private final RetentionService retentionService;
+    private final JwtUtil jwtUtil;
+
+    /**
+     * 📡 GET /api/notifications/stream
+     * SSE-Stream: erstes Event "init" mit dem Unread-Count, danach Deltas
+     * (neu, gelesen, alle_gelesen, geloescht) inkl. aktuellem Count
+     */
+    @Operation(summary = "Live-Stream für Benachrichtigungen (SSE)", description = "Öffnet einen Server-Sent-Events-Stream. Der Client bekommt neue/gelesene/gelöschte Benachrichtigungen und den aktuellen Unread-Count gepusht und muss nicht mehr pollen. Browser (EventSource) authentifizieren sich mit ?token=<Stream-Token> von POST /api/notifications/stream-token.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream geöffnet", content = @Content(mediaType = "text/event-stream")),
+            @ApiResponse(responseCode = "401", description = "Benutzer nicht authentifiziert")
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream() {
+        UUID userId = SecurityUtils.getCurrentUserId();
+        if (userId == null) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no") // nginx soll nicht puffern
+                .body(notificationPushService.verbinden(userId));
+    }
+
+    /**
+     * 🎟️ POST /api/notifications/stream-token
+     * Kurzlebiger Token für den SSE-Stream - EventSource kann keinen
+     * Authorization-Header schicken, der Token geht als ?token= mit
+     */
+    @Operation(summary = "Stream-Token für den SSE-Stream", description = "Stellt einen kurzlebigen Token aus, mit dem ein Browser-EventSource /api/notifications/stream?token=... öffnen kann. Der Token gilt nur für den Stream und nur zum Verbindungsaufbau.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Token ausgestellt"),
+            @ApiResponse(responseCode = "401", description = "Benutzer nicht authentifiziert")
+    })
+    @PostMapping("/stream-token")
+    public ResponseEntity<Map<String, Object>> streamToken(@AuthenticationPrincipal UserDetails userDetails) {
+        if (userDetails == null) {
+            return ResponseEntity.status(401).build();
+        }
+        Map<String, Object> response = new HashMap<>();
+        response.put("token", jwtUtil.generateStreamToken(userDetails));
+        response.put("gueltigMs", jwtUtil.getStreamTokenInMs());
+        return ResponseEntity.ok(response);
+    }
 
     /**
      * 📋 GET /api/notifications
@@ -50,7 +111,7 @@ public class NotificationController {
             @ApiResponse(responseCode = "401", description = "Benutzer nicht authentifiziert")
     })
     @GetMapping
-    public ResponseEntity<Page<Notification>> getUnreadNotifications(
+    public ResponseEntity<Page<NotificationResponse>> getUnreadNotifications(
             @Parameter(description = "Seitennummer (0-basiert)", example = "0") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Anzahl der Einträge pro Seite", example = "20") @RequestParam(defaultValue = "20") int size) {
 
@@ -63,11 +124,39 @@ public class NotificationController {
         }
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<Notification> notifications = notificationService.getUnreadNotifications(userId, pageable);
+        Page<NotificationResponse> notifications = notificationService.getUnreadNotifications(userId, pageable);
 
         return ResponseEntity.ok(notifications);
     }
 
+    /**
+     * 🔖 GET /api/notifications/cursor
+     * Benachrichtigungen mit Cursor-Pagination (neueste zuerst)
+     */
+    @Operation(summary = "Benachrichtigungen mit Cursor-Pagination", description = "Keyset-Pagination über (createdAt, id). Das nextCursor der Antwort wird für die nächste Seite mitgeschickt. Gesamtanzahl nur mit mitAnzahl=true.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Seite erfolgreich abgerufen"),
+            @ApiResponse(responseCode = "400", description = "Ungültiger Cursor"),
+            @ApiResponse(responseCode = "401", description = "Benutzer nicht authentifiziert")
+    })
+    @GetMapping("/cursor")
+    public ResponseEntity<?> getNotificationsMitCursor(
+            @Parameter(description = "Nur ungelesene") @RequestParam(defaultValue = "true") boolean nurUngelesen,
+            @Parameter(description = "nextCursor der vorherigen Seite") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Anzahl der Einträge pro Seite", example = "20") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Gesamtanzahl mitliefern") @RequestParam(defaultValue = "false") boolean mitAnzahl) {
+        UUID userId = SecurityUtils.getCurrentUserId();
+        if (userId == null) {
+            return ResponseEntity.status(401).build();
+        }
+        try {
+            return ResponseEntity.ok(notificationService.getNotificationsMitCursor(userId, nurUngelesen, cursor,
+                    Math.min(Math.max(size, 1), 100), mitAnzahl));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     /**
      * 📋 GET /api/notifications/all
      * Hole ALLE Benachrichtigungen (nicht nur ungelesene)
@@ -78,7 +167,7 @@ public class NotificationController {
             @ApiResponse(responseCode = "401", description = "Benutzer nicht authentifiziert")
     })
     @GetMapping("/all")
-    public ResponseEntity<Page<Notification>> getAllNotifications(
+    public ResponseEntity<Page<NotificationResponse>> getAllNotifications(
             @Parameter(description = "Seitennummer (0-basiert)", example = "0") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Anzahl der Einträge pro Seite", example = "20") @RequestParam(defaultValue = "20") int size) {
 
@@ -88,7 +177,7 @@ public class NotificationController {
         }
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<Notification> notifications = notificationService.getAllNotifications(userId, pageable);
+        Page<NotificationResponse> notifications = notificationService.getAllNotifications(userId, pageable);
 
         return ResponseEntity.ok(notifications);
     }
@@ -233,14 +322,62 @@ public class NotificationController {
     })
     @DeleteMapping("/cleanup")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Map<String, String>> cleanupOldNotifications(
+    public ResponseEntity<Map<String, Object>> cleanupOldNotifications(
             @Parameter(description = "Anzahl der Tage zu speichern (Standard: 30)", example = "30") @RequestParam(defaultValue = "30") int daysToKeep) {
 
-        notificationService.deleteOldNotifications(daysToKeep);
+        // Chunkweise über den Retention-Service statt einem großen DELETE
+        long geloescht = retentionService.notificationsBereinigen(daysToKeep);
 
-        Map<String, String> response = new HashMap<>();
+        Map<String, Object> response = new HashMap<>();
         response.put("message", "Cleanup completed for notifications older than " + daysToKeep + " days");
+        response.put("deleted", geloescht);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 📢 POST /api/notifications/broadcast
+     * Eine Benachrichtigung an viele Empfänger (IDs, Rolle, Azubis eines
+     * Ausbilders). Ausbilder dürfen nur an ihre eigenen Azubis senden.
+     */
+    @Operation(summary = "Benachrichtigung an viele Empfänger senden", description = "Schreibt eine Benachrichtigung an explizite User-IDs, alle User einer Rolle und/oder alle Azubis eines Ausbilders - als Batch-Insert in Chunks. Mit async=true wird sofort 202 geantwortet. Nicht-Admins dürfen nur an ihre eigenen Azubis senden.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Benachrichtigungen erstellt", content = @Content(mediaType = "application/json", schema = @Schema(type = "object", example = "{\"empfaenger\": 42, \"erstellt\": 42}"))),
+            @ApiResponse(responseCode = "202", description = "Verteilung im Hintergrund gestartet"),
+            @ApiResponse(responseCode = "400", description = "Keine Empfänger angegeben"),
+            @ApiResponse(responseCode = "403", description = "Keine Berechtigung")
+    })
+    @PostMapping("/broadcast")
+    @PreAuthorize("hasRole('ADMIN') or @nachweisSecurityService.isAusbilder(authentication)")
+    public ResponseEntity<Map<String, Object>> broadcast(@Valid @RequestBody NotificationBroadcastRequest request) {
+        UUID userId = SecurityUtils.getCurrentUserId();
+        if (userId == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        boolean isAdmin = SecurityUtils.hasRole("ADMIN");
+        List<UUID> empfaenger = isAdmin
+                ? notificationFanoutService.empfaengerAufloesen(request.getUserIds(), request.getRolle(),
+                        request.getTrainerId())
+                : notificationFanoutService.empfaengerAufloesen(null, null, userId);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("empfaenger", empfaenger.size());
+        if (empfaenger.isEmpty()) {
+            response.put("message", "Keine Empfänger gefunden");
+            return ResponseEntity.badRequest().body(response);
+        }
+
+        Notification.NotificationType type = request.getType() != null ? request.getType()
+                : Notification.NotificationType.INFO;
+        if (request.isAsync()) {
+            notificationFanoutService.verteilenAsync(empfaenger, request.getTitle(), request.getMessage(), type,
+                    request.getNachweisId(), request.getActionUrl());
+            return ResponseEntity.accepted().body(response);
+        }
 
+        response.put("erstellt", notificationFanoutService.verteilen(empfaenger, request.getTitle(),
+                request.getMessage(), type, request.getNachweisId(), request.getActionUrl()));
         return ResponseEntity.ok(response);
     }
 }
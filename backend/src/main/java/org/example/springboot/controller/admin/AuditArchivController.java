@@ -0,0 +1,86 @@
+package org.example.springboot.controller.admin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.springboot.model.AuditArchiv;
+import org.example.springboot.service.audit.AuditArchivService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 📦 **Was geht hier ab?**
+ * Alte Audit-Monate liegen nicht mehr in der Datenbank, sondern als
+ * NDJSON.gz-Dateien im Archiv. Über diesen Controller können Admins sehen,
+ * welche Monate archiviert sind, und bei Bedarf darin suchen.
+ *
+ * - GET /{tabelle}: Liste der archivierten Monate
+ * - GET /{tabelle}/{monat}: Suche in einem Monat (z.B. 2023-04)
+ * - POST /ausfuehren: Archivierung sofort anstoßen (statt auf den nächtlichen
+ * Lauf zu warten)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/audit-archiv")
+@RequiredArgsConstructor
+@Tag(name = "Admin", description = "Audit-Archiv (archivierte Monate durchsuchen)")
+@SecurityRequirement(name = "bearerAuth")
+public class AuditArchivController {
+
+    private final AuditArchivService auditArchivService;
+
+    @Operation(summary = "Archivierte Monate", description = "Listet die archivierten Monate einer Audit-Tabelle (nachweis_audit_log oder role_audit).")
+    @GetMapping("/{tabelle}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> listeArchive(@PathVariable("tabelle") String tabelle) {
+        try {
+            List<AuditArchiv> archive = auditArchivService.listeArchive(tabelle);
+            return ResponseEntity.ok(archive);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @Operation(summary = "Im Archiv suchen", description = "Durchsucht einen archivierten Monat (Format yyyy-MM) nach Freitext und/oder Nachweis-ID.")
+    @GetMapping("/{tabelle}/{monat}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> sucheImArchiv(@PathVariable("tabelle") String tabelle,
+            @PathVariable("monat") String monat,
+            @RequestParam(value = "q", required = false) String suchbegriff,
+            @RequestParam(value = "nachweisId", required = false) String nachweisId,
+            @RequestParam(value = "limit", defaultValue = "200") int limit) {
+        try {
+            List<JsonNode> treffer = auditArchivService.sucheImArchiv(tabelle, YearMonth.parse(monat),
+                    suchbegriff, nachweisId, Math.min(Math.max(limit, 1), 1000));
+            return ResponseEntity.ok(treffer);
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest().body("Ungültiger Monat, erwartet yyyy-MM: " + monat);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @Operation(summary = "Archivierung ausführen", description = "Bereitet die kommenden Partitionen vor und archiviert alle Monate außerhalb der Retention.")
+    @PostMapping("/ausfuehren")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> archivierungAusfuehren() {
+        auditArchivService.partitionenVorbereiten();
+        int anzahl = auditArchivService.archiviereAlteMonate();
+        log.info("🗂️ Manuelle Audit-Archivierung: {} Partition(en) archiviert", anzahl);
+        return ResponseEntity.ok(Map.of("archiviertePartitionen", anzahl));
+    }
+}
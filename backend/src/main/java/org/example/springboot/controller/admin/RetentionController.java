@@ -0,0 +1,36 @@
+package org.example.springboot.controller.admin;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.example.springboot.service.retention.RetentionService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 🧹 **Was geht hier ab?**
+ * Die Retention läuft nachts von selbst. Hier können Admins sie sofort
+ * anstoßen und sehen, wie viele Zeilen pro Tabelle gelöscht wurden.
+ */
+@RestController
+@RequestMapping("/api/admin/retention")
+@RequiredArgsConstructor
+@Tag(name = "Admin", description = "Retention (alte Benachrichtigungen und abgelaufene Tokens)")
+@SecurityRequirement(name = "bearerAuth")
+public class RetentionController {
+
+    private final RetentionService retentionService;
+
+    @Operation(summary = "Retention ausführen", description = "Wendet alle aktiven Aufbewahrungsregeln an und liefert die gelöschten Zeilen pro Tabelle. Leer, wenn gerade eine andere Instanz aufräumt.")
+    @PostMapping("/ausfuehren")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Long>> ausfuehren() {
+        return ResponseEntity.ok(retentionService.ausfuehren());
+    }
+}
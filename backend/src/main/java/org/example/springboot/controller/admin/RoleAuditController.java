@@ -3,20 +3,27 @@ package org.example.springboot.controller.admin;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.springboot.model.RoleAudit;
 import org.example.springboot.model.enums.ERole;
+import org.example.springboot.service.audit.AuditExportService;
 import org.example.springboot.service.audit.RoleAuditService;
 import org.example.springboot.controller.admin.dto.RoleAuditDto;
 import org.example.springboot.controller.admin.dto.RoleAuditPageWrapper;
 import org.example.springboot.controller.nachweisController.dto.AuditPageResponse;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Locale;
 import java.util.stream.Collectors;
 import java.util.ArrayList;
 import java.util.List;
 import org.example.springboot.service.nachweis.NachweisSecurityService;
 import org.example.springboot.service.auth.UserService;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -54,6 +61,7 @@ public class RoleAuditController {
     private final RoleAuditService roleAuditService;
     private final NachweisSecurityService nachweisSecurityService;
     private final UserService userService;
+    private final AuditExportService auditExportService;
 
     /**
      * 📜 **Was geht hier ab?**
@@ -97,4 +105,31 @@ public class RoleAuditController {
         RoleAuditPageWrapper wrapperDto = new RoleAuditPageWrapper(resp, sichtbareGruppen, azubis, ausbilder);
         return ResponseEntity.ok(wrapperDto);
     }
+
+    /**
+     * 📤 Streamt das komplette Rollen-Audit (optional im Zeitraum) als NDJSON
+     * oder CSV.
+     */
+    @Operation(summary = "Rollen-Audit exportieren", description = "Streamt alle Rollen-Audit-Einträge als NDJSON oder CSV. Nur für Admins.")
+    @GetMapping("/rollen-audit/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void exportRoleAudits(@RequestParam(value = "format", defaultValue = "ndjson") String format,
+            @RequestParam(value = "von", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime von,
+            @RequestParam(value = "bis", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime bis,
+            HttpServletResponse response) throws IOException {
+        AuditExportService.ExportFormat exportFormat;
+        try {
+            exportFormat = AuditExportService.ExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Unbekanntes Format: " + format);
+            return;
+        }
+
+        boolean csv = exportFormat == AuditExportService.ExportFormat.CSV;
+        response.setContentType(csv ? "text/csv" : "application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"rollen_audit." + (csv ? "csv" : "ndjson") + "\"");
+        auditExportService.exportiereRollenAudit(exportFormat, von, bis, response.getOutputStream());
+    }
 }
@@ -0,0 +1,104 @@
+package org.example.springboot.controller.jobController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.springboot.controller.jobController.dto.BulkJobEintragResponse;
+import org.example.springboot.controller.jobController.dto.BulkJobResponse;
+import org.example.springboot.controller.nachweisController.dto.BatchRequest;
+import org.example.springboot.controller.nachweisController.dto.BatchStatusUpdateRequest;
+import org.example.springboot.model.enums.EJobEintragStatus;
+import org.example.springboot.service.job.BulkJobService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+/**
+ * ⚙️ **Was geht hier ab?**
+ * Große Lösch- und Batch-Aktionen laufen als Hintergrund-Jobs. Die Endpunkte,
+ * die so einen Job starten, antworten sofort mit 202 und der Job-ID - hier
+ * kann man dann nachschauen, wie weit er ist.
+ *
+ * Batch-Status-Updates und Batch-Löschungen für große Auswahlen werden direkt
+ * hier als Job eingereicht; das Ergebnis pro Nachweis gibt's unter
+ * /{jobId}/eintraege.
+ *
+ * Nur der Ersteller des Jobs und Admins dürfen den Status sehen.
+ */
+@RestController
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Jobs", description = "Status von Hintergrund-Jobs (Löschen, Batch-Operationen)")
+public class BulkJobController {
+
+    private final BulkJobService bulkJobService;
+
+    @PostMapping("/batch-status")
+    @Operation(summary = "Batch-Status-Update als Job", description = "Ändert den Status der ausgewählten Nachweise im Hintergrund, chunkweise mit eigener Transaktion pro Chunk.")
+    @ApiResponse(responseCode = "202", description = "Job eingereicht.")
+    @ApiResponse(responseCode = "400", description = "Ungültige Anfrage - Liste der IDs ist leer oder Status ungültig.")
+    @ApiResponse(responseCode = "403", description = "Verboten - Nur Administratoren können den Status ändern.")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkJobResponse> batchStatus(@Valid @RequestBody BatchStatusUpdateRequest request,
+            Authentication authentication) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(new BulkJobResponse(
+                bulkJobService.starteBatchStatus(request.getNachweisIds(), request.getStatus(),
+                        request.getComment(), authentication.getName())));
+    }
+
+    @PostMapping("/batch-delete")
+    @Operation(summary = "Batch-Löschen als Job", description = "Löscht die ausgewählten Nachweise im Hintergrund. Azubis können nur ihre eigenen Nachweise löschen, Admins alle.")
+    @ApiResponse(responseCode = "202", description = "Job eingereicht.")
+    @ApiResponse(responseCode = "400", description = "Ungültige Anfrage - Liste der IDs ist leer.")
+    public ResponseEntity<BulkJobResponse> batchLoeschen(@Valid @RequestBody BatchRequest request,
+            Authentication authentication) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(new BulkJobResponse(
+                bulkJobService.starteBatchLoeschen(request.getNachweisIds(), authentication.getName())));
+    }
+
+    @GetMapping("/{jobId}")
+    @Operation(summary = "Job-Status abfragen", description = "Liefert Status und Fortschritt eines Hintergrund-Jobs.")
+    @ApiResponse(responseCode = "200", description = "Job gefunden.")
+    @ApiResponse(responseCode = "403", description = "Job gehört einem anderen Benutzer.")
+    @ApiResponse(responseCode = "404", description = "Job nicht gefunden.")
+    public ResponseEntity<BulkJobResponse> getJob(@PathVariable UUID jobId, Authentication authentication) {
+        boolean isAdmin = authentication.getAuthorities().stream()
+                .anyMatch(a -> "ROLE_ADMIN".equals(a.getAuthority()));
+        return ResponseEntity.ok(new BulkJobResponse(
+                bulkJobService.getJob(jobId, authentication.getName(), isAdmin)));
+    }
+
+    @GetMapping("/{jobId}/eintraege")
+    @Operation(summary = "Ergebnisse pro Nachweis", description = "Liefert das Ergebnis pro Nachweis eines Batch-Jobs, optional gefiltert nach OFFEN, ERFOLGREICH oder FEHLGESCHLAGEN.")
+    @ApiResponse(responseCode = "200", description = "Einträge gefunden.")
+    @ApiResponse(responseCode = "403", description = "Job gehört einem anderen Benutzer.")
+    @ApiResponse(responseCode = "404", description = "Job nicht gefunden.")
+    public ResponseEntity<Page<BulkJobEintragResponse>> getEintraege(@PathVariable UUID jobId,
+            @RequestParam(required = false) EJobEintragStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size,
+            Authentication authentication) {
+        boolean isAdmin = authentication.getAuthorities().stream()
+                .anyMatch(a -> "ROLE_ADMIN".equals(a.getAuthority()));
+        PageRequest pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), 500));
+        return ResponseEntity.ok(bulkJobService
+                .getEintraege(jobId, status, pageable, authentication.getName(), isAdmin)
+                .map(BulkJobEintragResponse::new));
+    }
+}
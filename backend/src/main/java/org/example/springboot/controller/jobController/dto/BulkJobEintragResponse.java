@@ -0,0 +1,30 @@
+package org.example.springboot.controller.jobController.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.springboot.model.BulkJobEintrag;
+import org.example.springboot.model.enums.EJobEintragStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Ergebnis eines einzelnen Nachweises innerhalb eines Batch-Jobs
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkJobEintragResponse {
+    private UUID nachweisId;
+    private EJobEintragStatus status;
+    private String meldung;
+    private LocalDateTime bearbeitetAm;
+
+    public BulkJobEintragResponse(BulkJobEintrag eintrag) {
+        this.nachweisId = eintrag.getNachweisId();
+        this.status = eintrag.getStatus();
+        this.meldung = eintrag.getMeldung();
+        this.bearbeitetAm = eintrag.getBearbeitetAm();
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.springboot.controller.jobController.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.springboot.model.BulkJob;
+import org.example.springboot.model.enums.EJobStatus;
+import org.example.springboot.model.enums.EJobTyp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Status eines Hintergrund-Jobs inkl. Fortschritt
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkJobResponse {
+    private UUID id;
+    private EJobTyp typ;
+    private EJobStatus status;
+    private String erstelltVon;
+    private long gesamt;
+    private long verarbeitet;
+    private long fehlgeschlagen;
+    private int fortschrittProzent;
+    private String fehlerMeldung;
+    private LocalDateTime erstelltAm;
+    private LocalDateTime gestartetAm;
+    private LocalDateTime beendetAm;
+
+    public BulkJobResponse(BulkJob job) {
+        this.id = job.getId();
+        this.typ = job.getTyp();
+        this.status = job.getStatus();
+        this.erstelltVon = job.getErstelltVon();
+        this.gesamt = job.getGesamt();
+        this.verarbeitet = job.getVerarbeitet();
+        this.fehlgeschlagen = job.getFehlgeschlagen();
+        long erledigt = job.getVerarbeitet() + job.getFehlgeschlagen();
+        if (job.getStatus() == EJobStatus.FERTIG) {
+            this.fortschrittProzent = 100;
+        } else if (job.getGesamt() > 0) {
+            this.fortschrittProzent = (int) Math.min(99, erledigt * 100 / job.getGesamt());
+        }
+        this.fehlerMeldung = job.getFehlerMeldung();
+        this.erstelltAm = job.getErstelltAm();
+        this.gestartetAm = job.getGestartetAm();
+        this.beendetAm = job.getBeendetAm();
+    }
+}
@@ -4,20 +4,27 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.springboot.model.NachweisAuditLog;
 import org.example.springboot.repository.NachweisAuditLogRepository;
+import org.example.springboot.service.audit.AuditExportService;
 import org.example.springboot.service.nachweis.NachweisSecurityService;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import org.example.springboot.controller.nachweisController.dto.AuditPageResponse;
 import org.example.springboot.controller.nachweisController.dto.NachweisAuditDto;
+import java.io.IOException;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -45,6 +52,7 @@ import java.util.UUID;
  * erstellt, wann wurde er eingereicht, wer hat ihn genehmigt oder abgelehnt und
  * welche
  * Daten haben sich dabei geändert (vorher/nachher Vergleich).
+ * - /export**: Kompletter Dump als NDJSON oder CSV, gestreamt (für Compliance).
  *
  * Ultra wichtig für die Nachvollziehbarkeit und wenn's mal Diskussionen gibt.
  */
@@ -59,6 +67,7 @@ public class NachweisAuditController {
     private final NachweisAuditLogRepository auditRepository;
     private final NachweisSecurityService nachweisSecurityService;
     private final ObjectMapper objectMapper;
+    private final AuditExportService auditExportService;
 
     /**
      * Gibt die Audit-Einträge für einen bestimmten Nachweis zurück (paginiert).
@@ -147,4 +156,36 @@ public class NachweisAuditController {
                 audits.getTotalPages(), audits.getTotalElements());
         return ResponseEntity.ok(resp);
     }
+
+    /**
+     * Streamt alle Nachweis-Audit-Einträge (optional im Zeitraum) als NDJSON
+     * oder CSV. Konstanter Speicher, ein einziger Durchlauf.
+     *
+     * @param format "ndjson" (Standard) oder "csv"
+     * @param von    inklusive (ISO-8601, z.B. 2024-01-01T00:00:00Z)
+     * @param bis    exklusiv
+     * @param response
+     */
+    @Operation(summary = "Nachweis-Audit exportieren", description = "Streamt den kompletten Audit-Trail als NDJSON oder CSV. Nur für Admins.")
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void exportAudit(@RequestParam(value = "format", defaultValue = "ndjson") String format,
+            @RequestParam(value = "von", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant von,
+            @RequestParam(value = "bis", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant bis,
+            HttpServletResponse response) throws IOException {
+        AuditExportService.ExportFormat exportFormat;
+        try {
+            exportFormat = AuditExportService.ExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Unbekanntes Format: " + format);
+            return;
+        }
+
+        boolean csv = exportFormat == AuditExportService.ExportFormat.CSV;
+        response.setContentType(csv ? "text/csv" : "application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"nachweis_audit." + (csv ? "csv" : "ndjson") + "\"");
+        auditExportService.exportiereNachweisAudit(exportFormat, von, bis, response.getOutputStream());
+    }
 }
@@ -9,19 +9,28 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.springboot.controller.nachweisController.dto.AusbilderDashboardDto;
 import org.example.springboot.controller.nachweisController.dto.CreateNachweisRequest;
+import org.example.springboot.controller.nachweisController.dto.NachweisListDto;
 import org.example.springboot.controller.nachweisController.dto.NachweisStatusUpdateRequest;
+import org.example.springboot.controller.nachweisController.dto.PatchNachweisRequest;
 import org.example.springboot.controller.nachweisController.dto.BatchRequest;
 import org.example.springboot.controller.nachweisController.dto.BatchDeleteResponse;
 import org.example.springboot.controller.nachweisController.dto.BatchStatusUpdateRequest;
 import org.example.springboot.controller.nachweisController.dto.BatchStatusUpdateResponse;
+import org.example.springboot.controller.jobController.dto.BulkJobResponse;
 import org.example.springboot.exception.ResourceNotFoundException;
+import org.example.springboot.model.BulkJob;
 import org.example.springboot.model.enums.EStatus;
 import org.springframework.data.domain.Page;
 import org.example.springboot.model.Nachweis;
 import org.example.springboot.repository.NachweisRepository;
+import org.example.springboot.service.nachweis.AusbilderDashboardService;
 import org.example.springboot.service.nachweis.NachweisService;
+import org.example.springboot.service.nachweis.NachweisSucheService;
+import org.example.springboot.service.nachweis.NachweisPdfAblage;
 import org.example.springboot.service.nachweis.PdfExportService;
+import org.example.springboot.service.job.BulkJobService;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.http.HttpHeaders;
@@ -34,9 +43,9 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.format.DateTimeParseException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -59,7 +68,8 @@ import java.util.UUID;
  * filtern (z.B. nur die offenen) und seitenweise durchblättern.
  * - **GET /{id}/pdf**: Holt das generierte PDF für einen Nachweis. Safe, dass
  * nur der
- * Besitzer oder ein Admin das kann.
+ * Besitzer oder ein Admin das kann. Fehlt es noch oder ist es älter als der
+ * Nachweis, wird es direkt hier erzeugt.
  * - **PUT /{id}**: Azubi kann einen Nachweis bearbeiten (z.B. nach Feedback vom
  * Ausbilder).
  * - **PUT /{id}/status**: Admin/Ausbilder gibt dem Nachweis seinen Segen
@@ -78,7 +88,11 @@ import java.util.UUID;
 public class NachweisController {
 
     private final NachweisService nachweisService;
+    private final AusbilderDashboardService ausbilderDashboardService;
+    private final NachweisSucheService nachweisSucheService;
+    private final BulkJobService bulkJobService;
     private final PdfExportService pdfExportService;
+    private final NachweisPdfAblage nachweisPdfAblage;
     private final NachweisRepository nachweisRepository;
 
     private final Path rootLocation = Paths.get("generated_pdfs");
@@ -119,18 +133,44 @@ public class NachweisController {
     @Operation(summary = "Ruft alle Nachweise für den aktuell angemeldeten Azubi ab, mit optionaler Filterung, Pagination und Sortierung.", description = "Gibt eine Liste aller Nachweise zurück, die dem aktuell authentifizierten Azubi gehören. Kann nach Status gefiltert, paginiert und sortiert werden.")
     @ApiResponse(responseCode = "200", description = "Liste der Nachweise erfolgreich abgerufen.")
     @ApiResponse(responseCode = "403", description = "Zugriff verweigert, wenn der Benutzer nicht authentifiziert ist.")
-    public ResponseEntity<Page<Nachweis>> getMyNachweise(
+    public ResponseEntity<Page<NachweisListDto>> getMyNachweise(
             @AuthenticationPrincipal UserDetails userDetails,
             @RequestParam(required = false) EStatus status,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "datumStart") String sortBy,
             @RequestParam(defaultValue = "asc") String sortDir) {
-        Page<Nachweis> nachweise = nachweisService.kriegeNachweiseVonAzubiBenutzernameMitFilterUndPagination(
+        Page<NachweisListDto> nachweise = nachweisService.kriegeNachweiseVonAzubiBenutzernameMitFilterUndPagination(
                 userDetails.getUsername(), status, page, size, sortBy, sortDir);
         return ResponseEntity.ok(nachweise);
     }
 
+    /**
+     * Eigene Nachweise mit Keyset-Pagination.
+     * Statt einer Seitennummer wird das {@code nextCursor} der vorherigen Antwort
+     * mitgeschickt - die Antwortzeit hängt nicht davon ab, wie weit gescrollt
+     * wurde.
+     */
+    @GetMapping("/my-nachweise/cursor")
+    @Operation(summary = "Eigene Nachweise mit Cursor-Pagination.", description = "Keyset-Pagination über (Sortierfeld, ID). sortBy: datumStart, datumEnde oder nummer. Gesamtanzahl nur mit mitAnzahl=true.")
+    @ApiResponse(responseCode = "200", description = "Seite erfolgreich abgerufen.")
+    @ApiResponse(responseCode = "400", description = "Ungültiger Cursor oder nicht unterstützte Sortierung.")
+    public ResponseEntity<?> getMyNachweiseMitCursor(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) EStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "datumStart") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean mitAnzahl) {
+        try {
+            return ResponseEntity.ok(nachweisService.kriegeEigeneNachweiseMitCursor(userDetails.getUsername(), status,
+                    sortBy, sortDir, cursor, Math.min(Math.max(size, 1), 100), mitAnzahl));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     /**
      * Prüft, ob ein Nachweis mit der angegebenen Nummer für den aktuellen Benutzer
      * bereits existiert.
@@ -184,16 +224,17 @@ public class NachweisController {
     @Operation(summary = "Holt ein Nachweis-PDF anhand seiner ID.", description = "Ruft das PDF eines bestimmten Nachweises ab. Nur für den Besitzer oder einen Admin zugänglich.")
     @ApiResponse(responseCode = "200", description = "PDF gefunden und zurückgegeben.")
     @ApiResponse(responseCode = "403", description = "Verboten - Sie sind nicht der Besitzer dieses Nachweises.")
-    @ApiResponse(responseCode = "404", description = "Nachweis oder PDF nicht gefunden.")
+    @ApiResponse(responseCode = "404", description = "Nachweis nicht gefunden (ein fehlendes PDF wird erzeugt).")
     @PreAuthorize("hasRole('ADMIN') or @nachweisSecurityService.isOwner(authentication, #id)")
     public ResponseEntity<Resource> getNachweisPdf(@PathVariable UUID id) {
-        Nachweis nachweis = nachweisRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Nachweis not found")); // Should be a proper exception
+        // Mit Activities - fehlt das PDF oder ist es veraltet, wird hier gerendert
+        Nachweis nachweis = nachweisRepository.findWithActivitiesById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Nachweis not found"));
 
         try {
-            String userVollerName = nachweis.getAzubi().getName().toLowerCase().replaceAll(" ", "_");
-            Path userDirectory = rootLocation.resolve(userVollerName + "_" + nachweis.getAzubi().getId().toString());
-            Path file = userDirectory.resolve(nachweis.getId().toString() + ".pdf");
+            // Das PDF entsteht asynchron nach dem Commit - direkt nach dem
+            // Speichern fehlt es evtl. noch oder zeigt den alten Stand
+            Path file = nachweisPdfAblage.aktuellesPdf(nachweis);
             Resource resource = new UrlResource(file.toUri());
 
             if (resource.exists() || resource.isReadable()) {
@@ -204,7 +245,7 @@ public class NachweisController {
             } else {
                 throw new RuntimeException("Could not read the file!");
             }
-        } catch (MalformedURLException e) {
+        } catch (IOException e) {
             throw new RuntimeException("Error: " + e.getMessage());
         }
     }
@@ -228,31 +269,32 @@ public class NachweisController {
     /**
      * Löscht alle Nachweise und zugehörige PDFs.
      * Nur Administratoren können alle Nachweise löschen.
-     * 
+     * Läuft als Hintergrund-Job in Chunks - der Fortschritt ist unter
+     * /api/jobs/{jobId} abrufbar.
      */
     @DeleteMapping("/all")
-    @Operation(summary = "Löscht alle Nachweise und zugehörige PDFs.", description = "Löscht alle Nachweise aus der Datenbank und alle generierten PDF-Dateien. Nur für Administratoren zugänglich.")
-    @ApiResponse(responseCode = "204", description = "Alle Nachweise und PDFs erfolgreich gelöscht.")
+    @Operation(summary = "Löscht alle Nachweise und zugehörige PDFs.", description = "Startet einen Hintergrund-Job, der alle Nachweise chunkweise aus der Datenbank löscht und die PDF-Dateien nach jedem Chunk entfernt. Nur für Administratoren zugänglich.")
+    @ApiResponse(responseCode = "202", description = "Lösch-Job gestartet. Fortschritt unter /api/jobs/{jobId}.")
     @ApiResponse(responseCode = "403", description = "Verboten - Nur Administratoren können alle Nachweise löschen.")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Void> deleteAllNachweise() {
-        nachweisService.loescheAlleNachweise();
-        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    public ResponseEntity<BulkJobResponse> deleteAllNachweise(@AuthenticationPrincipal UserDetails userDetails) {
+        BulkJob job = bulkJobService.starteLoescheAlle(userDetails.getUsername());
+        return ResponseEntity.accepted().body(new BulkJobResponse(job));
     }
 
     /**
      * Löscht alle Nachweise und zugehörige PDFs des aktuell angemeldeten Azubis.
      * Nur der Azubi selbst kann seine Nachweise löschen.
-     * 
+     * Läuft als Hintergrund-Job in Chunks.
      */
     @DeleteMapping("/my-nachweise/all")
-    @Operation(summary = "Löscht alle Nachweise und zugehörige PDFs des aktuell angemeldeten Azubis.", description = "Löscht alle Nachweise aus der Datenbank und alle generierten PDF-Dateien, die dem aktuell authentifizierten Azubi gehören.")
-    @ApiResponse(responseCode = "204", description = "Alle Nachweise und PDFs des Azubis erfolgreich gelöscht.")
+    @Operation(summary = "Löscht alle Nachweise und zugehörige PDFs des aktuell angemeldeten Azubis.", description = "Startet einen Hintergrund-Job, der alle Nachweise des aktuell authentifizierten Azubis chunkweise löscht, inklusive der PDF-Dateien.")
+    @ApiResponse(responseCode = "202", description = "Lösch-Job gestartet. Fortschritt unter /api/jobs/{jobId}.")
     @ApiResponse(responseCode = "403", description = "Verboten - Zugriff verweigert, wenn der Benutzer nicht authentifiziert ist.")
     @PreAuthorize("hasRole('USER')") // Assuming 'USER' role for regular users
-    public ResponseEntity<Void> deleteAllMyNachweise(@AuthenticationPrincipal UserDetails userDetails) {
-        nachweisService.loescheAlleNachweiseVonAzubi(userDetails.getUsername());
-        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    public ResponseEntity<BulkJobResponse> deleteAllMyNachweise(@AuthenticationPrincipal UserDetails userDetails) {
+        BulkJob job = bulkJobService.starteLoescheAlleVonAzubi(userDetails.getUsername());
+        return ResponseEntity.accepted().body(new BulkJobResponse(job));
     }
 
     /**
@@ -267,18 +309,108 @@ public class NachweisController {
     @ApiResponse(responseCode = "200", description = "Liste aller Nachweise erfolgreich abgerufen.")
     @ApiResponse(responseCode = "403", description = "Verboten - Nur Administratoren können alle Nachweise abrufen.")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Page<Nachweis>> getAllNachweise(
+    public ResponseEntity<Page<NachweisListDto>> getAllNachweise(
             @RequestParam(required = false) EStatus status,
             @RequestParam(required = false) UUID ausbilderId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "datumStart") String sortBy,
             @RequestParam(defaultValue = "asc") String sortDir) {
-        Page<Nachweis> nachweise = nachweisService.kriegeAlleNachweiseMitFilterUndPagination(status, ausbilderId, page,
+        Page<NachweisListDto> nachweise = nachweisService.kriegeAlleNachweiseMitFilterUndPagination(status, ausbilderId, page,
                 size, sortBy, sortDir);
         return ResponseEntity.ok(nachweise);
     }
 
+    /**
+     * Alle Nachweise (Admin) mit Keyset-Pagination.
+     * Ohne Filter ist die Gesamtanzahl nur eine Schätzung aus der
+     * Planner-Statistik.
+     */
+    @GetMapping("/admin/all/cursor")
+    @Operation(summary = "Alle Nachweise (Admin) mit Cursor-Pagination.", description = "Keyset-Pagination über (Sortierfeld, ID), optional gefiltert nach Status und Ausbilder. Gesamtanzahl nur mit mitAnzahl=true, ohne Filter geschätzt.")
+    @ApiResponse(responseCode = "200", description = "Seite erfolgreich abgerufen.")
+    @ApiResponse(responseCode = "400", description = "Ungültiger Cursor oder nicht unterstützte Sortierung.")
+    @ApiResponse(responseCode = "403", description = "Verboten - Nur Administratoren können alle Nachweise abrufen.")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getAllNachweiseMitCursor(
+            @RequestParam(required = false) EStatus status,
+            @RequestParam(required = false) UUID ausbilderId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "datumStart") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean mitAnzahl) {
+        try {
+            return ResponseEntity.ok(nachweisService.kriegeNachweiseMitCursor(null, status, ausbilderId, sortBy,
+                    sortDir, cursor, Math.min(Math.max(size, 1), 100), mitAnzahl));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Volltextsuche in den eigenen Nachweisen.
+     * Durchsucht die Activity-Beschreibungen (deutsches Stemming), sortiert nach
+     * Relevanz, geblättert wird über {@code nextCursor}.
+     */
+    @GetMapping("/my-nachweise/suche")
+    @Operation(summary = "Volltextsuche in den eigenen Nachweisen.", description = "Sucht in den Beschreibungen und Sektionen der Activities. Websuche-Syntax: \"Phrase\", OR, -ausschließen. Sortiert nach Relevanz, Keyset-Pagination über nextCursor.")
+    @ApiResponse(responseCode = "200", description = "Treffer erfolgreich abgerufen.")
+    @ApiResponse(responseCode = "400", description = "Leerer Suchbegriff oder ungültiger Cursor.")
+    public ResponseEntity<?> sucheInMeinenNachweisen(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            return ResponseEntity.ok(nachweisSucheService.sucheEigene(userDetails.getUsername(), q, cursor,
+                    Math.min(Math.max(size, 1), 100)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Volltextsuche über alle Nachweise (Admin-Zugriff), optional auf einen
+     * Azubi oder Ausbilder eingeschränkt.
+     */
+    @GetMapping("/admin/suche")
+    @Operation(summary = "Volltextsuche über alle Nachweise (Admin-Zugriff).", description = "Sucht in den Beschreibungen und Sektionen der Activities, optional gefiltert nach Azubi und Ausbilder. Sortiert nach Relevanz, Keyset-Pagination über nextCursor.")
+    @ApiResponse(responseCode = "200", description = "Treffer erfolgreich abgerufen.")
+    @ApiResponse(responseCode = "400", description = "Leerer Suchbegriff oder ungültiger Cursor.")
+    @ApiResponse(responseCode = "403", description = "Verboten - Nur Administratoren können alle Nachweise durchsuchen.")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> sucheInAllenNachweisen(
+            @RequestParam String q,
+            @RequestParam(required = false) UUID azubiId,
+            @RequestParam(required = false) UUID ausbilderId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            return ResponseEntity.ok(nachweisSucheService.suchen(q, azubiId, ausbilderId, cursor,
+                    Math.min(Math.max(size, 1), 100)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Dashboard eines Ausbilders (Admin-Zugriff): offene, angenommene und
+     * abgelehnte Nachweise pro Azubi. Ohne ausbilderId das Dashboard des
+     * angemeldeten Ausbilders.
+     */
+    @GetMapping("/admin/dashboard")
+    @Operation(summary = "Status-Zahlen pro Azubi für einen Ausbilder (Admin-Zugriff).", description = "Anzahl der Nachweise pro Azubi und Status für die Startseite eines Ausbilders. Ohne ausbilderId wird der angemeldete Benutzer verwendet. Das Ergebnis wird kurz gecacht und bei Status-Änderungen verworfen.")
+    @ApiResponse(responseCode = "200", description = "Dashboard erfolgreich abgerufen.")
+    @ApiResponse(responseCode = "403", description = "Verboten - Nur Administratoren können das Dashboard abrufen.")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AusbilderDashboardDto> getAusbilderDashboard(
+            @RequestParam(required = false) UUID ausbilderId,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        UUID id = ausbilderId != null ? ausbilderId : ausbilderDashboardService.ausbilderId(userDetails.getUsername());
+        return ResponseEntity.ok(ausbilderDashboardService.fuerAusbilder(id));
+    }
+
     /**
      * Lädt alle Nachweise des angemeldeten Azubis als ZIP-Archiv herunter.
      * Sammelt alle vorhandenen Nachweis-PDFs des aktuellen Benutzers und packt sie
@@ -317,14 +449,14 @@ public class NachweisController {
     @ApiResponse(responseCode = "403", description = "Verboten - Nur Administratoren können Nachweise für andere Benutzer abrufen.")
     @ApiResponse(responseCode = "404", description = "Benutzer nicht gefunden oder keine Nachweise vorhanden.")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Page<Nachweis>> getNachweiseByUserId(
+    public ResponseEntity<Page<NachweisListDto>> getNachweiseByUserId(
             @PathVariable UUID userId,
             @RequestParam(required = false) EStatus status,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "datumStart") String sortBy,
             @RequestParam(defaultValue = "asc") String sortDir) {
-        Page<Nachweis> nachweise = nachweisService.findNachweiseByUserIdMitFilterUndPagination(userId, status, page,
+        Page<NachweisListDto> nachweise = nachweisService.findNachweiseByUserIdMitFilterUndPagination(userId, status, page,
                 size, sortBy, sortDir);
         if (nachweise.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
@@ -332,6 +464,31 @@ public class NachweisController {
         return ResponseEntity.ok(nachweise);
     }
 
+    /**
+     * Nachweise eines Benutzers (Admin) mit Keyset-Pagination.
+     */
+    @GetMapping("/admin/user/{userId}/cursor")
+    @Operation(summary = "Nachweise eines Benutzers (Admin) mit Cursor-Pagination.", description = "Keyset-Pagination über (Sortierfeld, ID), optional gefiltert nach Status.")
+    @ApiResponse(responseCode = "200", description = "Seite erfolgreich abgerufen.")
+    @ApiResponse(responseCode = "400", description = "Ungültiger Cursor oder nicht unterstützte Sortierung.")
+    @ApiResponse(responseCode = "403", description = "Verboten - Nur Administratoren können Nachweise für andere Benutzer abrufen.")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getNachweiseByUserIdMitCursor(
+            @PathVariable UUID userId,
+            @RequestParam(required = false) EStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "datumStart") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean mitAnzahl) {
+        try {
+            return ResponseEntity.ok(nachweisService.kriegeNachweiseMitCursor(userId, status, null, sortBy, sortDir,
+                    cursor, Math.min(Math.max(size, 1), 100), mitAnzahl));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     /**
      * Aktualisiert den Status eines Nachweises (Admin-Zugriff).
      * Ermöglicht Administratoren, den Status eines Nachweises auf ANGENOMMEN oder
@@ -372,6 +529,23 @@ public class NachweisController {
         return ResponseEntity.ok(updatedNachweis);
     }
 
+    /**
+     * Teil-Update eines Nachweises durch den Azubi (z.B. Autosave).
+     * Nur gesetzte Felder und genannte Slots werden geändert.
+     */
+    @PatchMapping("/{id}")
+    @Operation(summary = "Teil-Update eines Nachweises durch den Azubi.", description = "Übernimmt nur die gesetzten Felder; Activities werden über Wochentag + Slot abgeglichen. Das PDF wird nur neu erzeugt, wenn sich gedruckter Inhalt geändert hat.")
+    @ApiResponse(responseCode = "200", description = "Nachweis erfolgreich aktualisiert (oder keine Änderung).")
+    @ApiResponse(responseCode = "400", description = "Ungültige Anfrage.")
+    @ApiResponse(responseCode = "403", description = "Verboten - Sie sind nicht der Besitzer dieses Nachweises.")
+    @ApiResponse(responseCode = "404", description = "Nachweis nicht gefunden.")
+    @PreAuthorize("@nachweisSecurityService.isOwner(authentication, #id)")
+    public ResponseEntity<Nachweis> patchNachweisByAzubi(@PathVariable UUID id,
+            @Valid @RequestBody PatchNachweisRequest request, @AuthenticationPrincipal UserDetails userDetails) {
+        Nachweis updatedNachweis = nachweisService.patcheNachweisDurchAzubi(id, request, userDetails.getUsername());
+        return ResponseEntity.ok(updatedNachweis);
+    }
+
     /**
      * Batch-PDF-Export: Lädt ausgewählte Nachweise als ZIP-Archiv herunter.
      * Sammelt die angegebenen Nachweis-PDFs und packt sie in ein ZIP-Archiv.
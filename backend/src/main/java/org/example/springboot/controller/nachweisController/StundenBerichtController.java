@@ -0,0 +1,79 @@
+package org.example.springboot.controller.nachweisController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.example.springboot.repository.projection.StundenJahrgang;
+import org.example.springboot.repository.projection.StundenProSektion;
+import org.example.springboot.repository.projection.StundenProTag;
+import org.example.springboot.service.nachweis.StundenSummeService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 📊 **Was geht hier ab?**
+ * Stunden-Berichte aus der Summen-Tabelle - pro Azubi (nach Sektion oder
+ * Wochentag) und pro Jahrgang. Keiner der Endpunkte lädt Nachweise oder
+ * Activities.
+ */
+@RestController
+@RequestMapping("/api/berichte/stunden")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Berichte", description = "Stunden-Auswertungen pro Azubi und Jahrgang")
+public class StundenBerichtController {
+
+    private final StundenSummeService stundenSummeService;
+
+    @GetMapping("/meine")
+    @Operation(summary = "Eigene Stunden pro Ausbildungsjahr und Sektion")
+    @ApiResponse(responseCode = "200", description = "Summen, sortiert nach Ausbildungsjahr und Sektion.")
+    public ResponseEntity<List<StundenProSektion>> meineStunden(@AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(stundenSummeService.proSektionFuerBenutzer(userDetails.getUsername()));
+    }
+
+    @GetMapping("/azubi/{azubiId}")
+    @Operation(summary = "Stunden eines Azubis pro Ausbildungsjahr und Sektion (Admin)")
+    @ApiResponse(responseCode = "200", description = "Summen, sortiert nach Ausbildungsjahr und Sektion.")
+    @ApiResponse(responseCode = "403", description = "Verboten - Nur Administratoren.")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<StundenProSektion>> stundenProSektion(@PathVariable UUID azubiId) {
+        return ResponseEntity.ok(stundenSummeService.proSektionFuerAzubi(azubiId));
+    }
+
+    @GetMapping("/azubi/{azubiId}/wochentage")
+    @Operation(summary = "Stunden eines Azubis pro Wochentag (Admin)", description = "Optional auf ein Ausbildungsjahr eingeschränkt.")
+    @ApiResponse(responseCode = "200", description = "Summen von Montag bis Sonntag.")
+    @ApiResponse(responseCode = "403", description = "Verboten - Nur Administratoren.")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<StundenProTag>> stundenProTag(@PathVariable UUID azubiId,
+            @RequestParam(required = false) String ausbildungsjahr) {
+        return ResponseEntity.ok(stundenSummeService.proTagFuerAzubi(azubiId, ausbildungsjahr));
+    }
+
+    @GetMapping("/jahrgang")
+    @Operation(summary = "Stunden eines Jahrgangs pro Sektion (Admin)", description = "Summe und Anzahl der Azubis pro Sektion für ein Ausbildungsjahr.")
+    @ApiResponse(responseCode = "200", description = "Summen pro Sektion.")
+    @ApiResponse(responseCode = "400", description = "Ausbildungsjahr fehlt.")
+    @ApiResponse(responseCode = "403", description = "Verboten - Nur Administratoren.")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<StundenJahrgang>> stundenJahrgang(@RequestParam String ausbildungsjahr) {
+        try {
+            return ResponseEntity.ok(stundenSummeService.proSektionFuerJahrgang(ausbildungsjahr));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.example.springboot.controller.nachweisController.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -27,6 +28,7 @@ public class ActivityDTO {
 
     @NotNull(message = "Stunden dürfen nicht null sein")
     @DecimalMin(value = "0.1", message = "Stunden müssen größer als 0 sein")
+    @Digits(integer = 2, fraction = 2, message = "Stunden: höchstens 2 Vor- und 2 Nachkommastellen")
     @Schema(description = "Stunden, die für die Aktivität aufgewendet wurden", example = "8.0")
     private BigDecimal hours;
 
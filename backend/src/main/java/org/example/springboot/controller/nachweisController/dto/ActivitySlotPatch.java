@@ -0,0 +1,43 @@
+package org.example.springboot.controller.nachweisController.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import org.example.springboot.model.enums.Weekday;
+
+import java.math.BigDecimal;
+
+/**
+ * Änderung an genau einem Slot (Wochentag + Slot). Felder, die null sind,
+ * bleiben wie sie sind.
+ */
+@Data
+public class ActivitySlotPatch {
+    @NotNull(message = "Wochentag darf nicht null sein")
+    @Schema(description = "Wochentag des Slots", example = "MONDAY")
+    private Weekday day;
+
+    @NotNull(message = "Slot darf nicht null sein")
+    @Min(value = 1, message = "Slot muss mindestens 1 sein")
+    @Schema(description = "Slot-Nummer am Tag", example = "1")
+    private Integer slot;
+
+    @Size(max = 2000, message = "Beschreibung darf maximal 2000 Zeichen lang sein")
+    @Schema(description = "Neue Beschreibung (null = unverändert)", example = "Schule")
+    private String description;
+
+    @DecimalMin(value = "0.1", message = "Stunden müssen größer als 0 sein")
+    @Digits(integer = 2, fraction = 2, message = "Stunden: höchstens 2 Vor- und 2 Nachkommastellen")
+    @Schema(description = "Neue Stunden (null = unverändert)", example = "8.0")
+    private BigDecimal hours;
+
+    @Schema(description = "Neue Sektion (null = unverändert)", example = "Theorie")
+    private String section;
+
+    @Schema(description = "true = Slot löschen, alle anderen Felder werden ignoriert", example = "false")
+    private boolean entfernen;
+}
@@ -0,0 +1,36 @@
+package org.example.springboot.controller.nachweisController.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 📊 Dashboard eines Ausbilders - offene, angenommene und abgelehnte
+ * Nachweise pro Azubi plus Gesamtsummen. Wird in Redis gecacht, deshalb
+ * nur einfache, mit Jackson (de)serialisierbare Typen.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AusbilderDashboardDto {
+    private UUID ausbilderId;
+    private long inBearbeitung;
+    private long angenommen;
+    private long abgelehnt;
+    private List<AzubiZeile> azubis = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AzubiZeile {
+        private UUID azubiId;
+        private String azubiName;
+        private long inBearbeitung;
+        private long angenommen;
+        private long abgelehnt;
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.springboot.controller.nachweisController.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.springboot.model.enums.EStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 📋 Zeile für Nachweis-Listen - genau die Felder, die die Übersichten
+ * anzeigen. Wird direkt per JPQL-Konstruktor befüllt (eine Query pro Seite,
+ * keine Activities, keine Trainer-/Rollen-Ketten).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NachweisListDto {
+    private UUID id;
+    private String name;
+    private LocalDate datumStart;
+    private LocalDate datumEnde;
+    private int nummer;
+    private String ausbildungsjahr;
+    private EStatus status;
+    private String comment;
+    private Person azubi;
+    private Person ausbilder;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Person {
+        private UUID id;
+        private String name;
+        private String profileImageUrl;
+    }
+
+    /**
+     * Konstruktor für die JPQL-Projektion (flache Spalten, LEFT JOINs auf
+     * azubi/ausbilder)
+     */
+    public NachweisListDto(UUID id, String name, LocalDate datumStart, LocalDate datumEnde, int nummer,
+            String ausbildungsjahr, EStatus status, String comment,
+            UUID azubiId, String azubiName, String azubiBild,
+            UUID ausbilderId, String ausbilderName, String ausbilderBild) {
+        this.id = id;
+        this.name = name;
+        this.datumStart = datumStart;
+        this.datumEnde = datumEnde;
+        this.nummer = nummer;
+        this.ausbildungsjahr = ausbildungsjahr;
+        this.status = status;
+        this.comment = comment;
+        this.azubi = azubiId != null ? new Person(azubiId, azubiName, azubiBild) : null;
+        this.ausbilder = ausbilderId != null ? new Person(ausbilderId, ausbilderName, ausbilderBild) : null;
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.springboot.controller.nachweisController.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.springboot.model.enums.EStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 🔍 Treffer der Volltextsuche - welche Woche, welcher Azubi, wie gut passt
+ * es. Die Activities selbst werden nicht mitgeladen.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NachweisTrefferDto {
+    private UUID id;
+    private int nummer;
+    private LocalDate datumStart;
+    private LocalDate datumEnde;
+    private String ausbildungsjahr;
+    private EStatus status;
+    private UUID azubiId;
+    private String azubiName;
+    private float rang;
+}
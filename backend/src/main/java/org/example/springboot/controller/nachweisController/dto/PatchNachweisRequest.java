@@ -0,0 +1,49 @@
+package org.example.springboot.controller.nachweisController.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Teil-Update eines Nachweises (z.B. Autosave aus dem Formular). Nur
+ * gesetzte Felder werden übernommen; Activities werden slot-genau über
+ * Wochentag + Slot abgeglichen.
+ */
+@Data
+public class PatchNachweisRequest {
+    @Schema(description = "Neues Startdatum (null = unverändert)", example = "2025-11-24")
+    private LocalDate datumStart;
+
+    @Schema(description = "Neues Enddatum (null = unverändert)", example = "2025-11-28")
+    private LocalDate datumEnde;
+
+    @Min(value = 1, message = "Nummer muss mindestens 1 sein")
+    @Schema(description = "Neue Nummer (null = unverändert)", example = "42")
+    private Integer nummer;
+
+    @Schema(description = "Neuer Ausbilder (null = unverändert)", example = "e27590d3-657d-4feb-bd4e-1ffca3d7a884")
+    private UUID ausbilderId;
+
+    @Size(max = 50, message = "Ausbildungsjahr darf maximal 50 Zeichen lang sein")
+    @Schema(description = "Neues Ausbildungsjahr (null = unverändert)", example = "2. Ausbildungsjahr")
+    private String ausbildungsjahr;
+
+    @Schema(description = "Neue Bemerkung (null = unverändert)", example = "optional")
+    private String bemerkung;
+
+    @Schema(description = "Datum Azubi (null = unverändert)", example = "2024-05-03")
+    private LocalDate datumAzubi;
+
+    @Schema(description = "Signatur Azubi (null = unverändert)", example = "Vu Quy Le")
+    private String signaturAzubi;
+
+    @Valid
+    @Schema(description = "Geänderte Slots - nicht genannte Slots bleiben unverändert")
+    private List<ActivitySlotPatch> activities;
+}
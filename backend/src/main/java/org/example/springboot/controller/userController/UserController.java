@@ -6,11 +6,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.springboot.controller.userController.dto.BenutzerVorschlag;
 import org.example.springboot.controller.userController.dto.ChangePasswordRequest;
 import org.example.springboot.controller.userController.dto.RevokeAdminResponse;
 import org.example.springboot.controller.userController.dto.UserResponse;
 import org.example.springboot.controller.userController.dto.UserUpdateRequest;
 import org.example.springboot.model.User;
+import org.example.springboot.service.auth.BenutzerPrefixIndex;
 import org.example.springboot.service.auth.UserService;
 import org.example.springboot.service.nachweis.NachweisSecurityService;
 import org.springframework.http.MediaType;
@@ -62,6 +64,7 @@ public class UserController {
 
     private final UserService userService;
     private final NachweisSecurityService nachweisSecurityService;
+    private final BenutzerPrefixIndex benutzerPrefixIndex;
 
     /**
      * Ändert das Passwort des aktuell angemeldeten Users.
@@ -350,19 +353,62 @@ public class UserController {
             Pageable pageable) {
         // Validate and sanitize Pageable to prevent invalid sort properties
         try {
-            Page<User> users = userService.findAllWithFilters(search, team, ausbildungsjahr, rolle, pageable);
-            Page<UserResponse> userResponsePage = users.map(UserResponse::new);
+            Page<UserResponse> userResponsePage = userService.findAllWithFilters(search, team, ausbildungsjahr, rolle, pageable);
             return ResponseEntity.ok(userResponsePage);
         } catch (org.springframework.data.mapping.PropertyReferenceException e) {
             log.warn("Invalid sort property requested: {}", e.getMessage());
             // Retry with unsorted pageable
             Pageable unsortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
-            Page<User> users = userService.findAllWithFilters(search, team, ausbildungsjahr, rolle, unsortedPageable);
-            Page<UserResponse> userResponsePage = users.map(UserResponse::new);
+            Page<UserResponse> userResponsePage = userService.findAllWithFilters(search, team, ausbildungsjahr, rolle, unsortedPageable);
             return ResponseEntity.ok(userResponsePage);
         }
     }
 
+    /**
+     * Ruft alle Benutzer mit Keyset-Pagination ab (sortiert nach Benutzername).
+     * Nur für Administratoren zugänglich.
+     *
+     * @param cursor    nextCursor der vorherigen Seite (leer = erste Seite).
+     * @param mitAnzahl Gesamtanzahl mitliefern (kostet ein COUNT).
+     * @return Seite mit Benutzerantworten und nextCursor.
+     */
+    @GetMapping("/users/cursor")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Ruft alle Benutzer mit Cursor-Pagination ab", description = "Keyset-Pagination über (username, id) mit denselben Filtern wie /users. Die Antwortzeit hängt nicht davon ab, wie weit geblättert wird.")
+    public ResponseEntity<?> getAllUsersMitCursor(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String team,
+            @RequestParam(required = false) Integer ausbildungsjahr,
+            @RequestParam(required = false) String rolle,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean mitAnzahl) {
+        try {
+            return ResponseEntity.ok(userService.findAllWithFiltersMitCursor(search, team, ausbildungsjahr, rolle,
+                    sortDir, cursor, Math.min(Math.max(size, 1), 100), mitAnzahl));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Autocomplete für die Benutzersuche - Präfix auf Benutzername, Name oder
+     * einzelne Namensteile. Nur für Administratoren zugänglich.
+     *
+     * @param q     Eingegebener Präfix.
+     * @param limit Maximale Anzahl Vorschläge (1-50).
+     * @return Passende Benutzer (ID, Benutzername, Name).
+     */
+    @GetMapping("/users/autocomplete")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Benutzer-Autocomplete", description = "Präfix-Suche auf Benutzername und Name für Eingabefelder. Läuft über einen In-Memory-Index (falls aktiviert) oder die Präfix-Indizes der Datenbank.")
+    public ResponseEntity<List<BenutzerVorschlag>> autocompleteUsers(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(benutzerPrefixIndex.vorschlaege(q, Math.min(Math.max(limit, 1), 50)));
+    }
+
     /*
      * Aktualisiert das Profil eines bestimmten Benutzers durch einen Administrator.
      * 
@@ -0,0 +1,19 @@
+package org.example.springboot.controller.userController.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 🔍 Autocomplete-Eintrag - nur was das Dropdown anzeigt
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BenutzerVorschlag {
+    private UUID id;
+    private String username;
+    private String name;
+}
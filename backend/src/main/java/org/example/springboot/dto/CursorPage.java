@@ -0,0 +1,38 @@
+package org.example.springboot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 🔖 CursorPage DTO
+ *
+ * Seite einer Keyset-Pagination. Statt Seitennummer gibt's ein
+ * {@code nextCursor}, das beim nächsten Request mitgeschickt wird. Die
+ * Gesamtanzahl gibt's nur auf Wunsch (und ggf. nur geschätzt).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private String nextCursor; // null = letzte Seite
+    private boolean hasNext;
+    private int size;
+    private Long totalElements; // nur mit mitAnzahl=true
+    private boolean totalGeschaetzt;
+
+    /**
+     * Baut die Seite aus size + 1 geladenen Zeilen: gibt es die Extra-Zeile,
+     * gibt es eine nächste Seite.
+     */
+    public static <T> CursorPage<T> aus(List<T> geladen, int size, Function<T, String> cursorVon) {
+        boolean weitere = geladen.size() > size;
+        List<T> inhalt = weitere ? geladen.subList(0, size) : geladen;
+        String naechster = weitere && !inhalt.isEmpty() ? cursorVon.apply(inhalt.get(inhalt.size() - 1)) : null;
+        return new CursorPage<>(inhalt, naechster, weitere, size, null, false);
+    }
+}
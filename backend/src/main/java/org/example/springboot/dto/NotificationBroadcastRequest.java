@@ -0,0 +1,35 @@
+package org.example.springboot.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.springboot.model.Notification;
+import org.example.springboot.model.enums.ERole;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 📢 NotificationBroadcastRequest DTO
+ *
+ * Empfänger: explizite User-IDs, eine Rolle und/oder die Azubis eines
+ * Ausbilders (Vereinigung, falls mehreres gesetzt ist)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationBroadcastRequest {
+    private List<UUID> userIds;
+    private ERole rolle;
+    private UUID trainerId;
+
+    @NotBlank
+    private String title;
+    private String message;
+    private Notification.NotificationType type = Notification.NotificationType.INFO;
+    private UUID nachweisId;
+    private String actionUrl;
+
+    private boolean async; // true = sofort 202, Verteilung im Hintergrund
+}
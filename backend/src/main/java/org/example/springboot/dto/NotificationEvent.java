@@ -0,0 +1,33 @@
+package org.example.springboot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 📡 NotificationEvent DTO
+ *
+ * Delta, das per SSE an den Client geht (und zwischen den Nodes über Redis
+ * verteilt wird). Der aktuelle Unread-Count wird erst auf dem Node
+ * eingetragen, an dem der User wirklich verbunden ist.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationEvent {
+
+    public enum Typ {
+        NEU, // neue Benachrichtigung, steckt in "notification"
+        GELESEN, // eine Benachrichtigung gelesen
+        ALLE_GELESEN,
+        GELOESCHT
+    }
+
+    private UUID userId;
+    private Typ typ;
+    private UUID notificationId;
+    private NotificationResponse notification;
+    private Long unreadCount;
+}
@@ -26,6 +26,16 @@ public class NotificationResponse {
     private LocalDateTime readAt;
     private String actionUrl;
 
+    /**
+     * Konstruktor für die JPQL-Projektion (Enums direkt aus der Query)
+     */
+    public NotificationResponse(UUID id, String title, String message, Notification.NotificationType type,
+            Notification.NotificationStatus status, UUID nachweisId, LocalDateTime createdAt, LocalDateTime readAt,
+            String actionUrl) {
+        this(id, title, message, type != null ? type.toString() : null, status != null ? status.toString() : null,
+                nachweisId, createdAt, readAt, actionUrl);
+    }
+
     /**
      * Konvertiere Entity zu DTO
      */
@@ -0,0 +1,63 @@
+package org.example.springboot.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.springboot.model.enums.Weekday;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * 📦 **Was geht hier ab?**
+ * Eine Activity als Eintrag im {@code activities_json}-Dokument des
+ * Nachweises - dieselben Felder wie {@link Activity}, aber ohne eigene ID und
+ * ohne FK. Die ganze Woche liegt so in einer Spalte statt in bis zu 35 Zeilen.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityEintrag {
+    private Weekday day;
+    private Integer slot;
+    private String description;
+    private BigDecimal hours;
+    private String section;
+
+    public static ActivityEintrag von(Activity activity) {
+        return new ActivityEintrag(activity.getDay(), activity.getSlot(), activity.getDescription(),
+                activity.getHours(), activity.getSection());
+    }
+
+    /**
+     * Inhaltlich gleich? Anders als {@link #equals(Object)} zählen Stunden mit
+     * anderer Skala gleich ({@code 8} vs. {@code 8.00}) - sonst wäre ein
+     * Autosave mit unverändertem Slot eine Änderung.
+     */
+    public boolean gleicherInhalt(ActivityEintrag andere) {
+        if (andere == null) {
+            return false;
+        }
+        boolean gleicheStunden = hours == null || andere.hours == null
+                ? hours == andere.hours
+                : hours.compareTo(andere.hours) == 0;
+        return gleicheStunden
+                && day == andere.day
+                && Objects.equals(slot, andere.slot)
+                && Objects.equals(description, andere.description)
+                && Objects.equals(section, andere.section);
+    }
+
+    /**
+     * Nicht verwaltete Activity (ID null) - nur zum Lesen, z.B. fürs PDF.
+     */
+    public Activity alsActivity() {
+        Activity activity = new Activity();
+        activity.setDay(day);
+        activity.setSlot(slot);
+        activity.setDescription(description);
+        activity.setHours(hours);
+        activity.setSection(section);
+        return activity;
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.springboot.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 📦 Ein archivierter Audit-Monat.
+ * Die Partition ist aus der heißen Tabelle abgehängt, die Zeilen liegen als
+ * NDJSON.gz unter {@code dateiPfad}.
+ */
+@Entity
+@Table(name = "audit_archiv", uniqueConstraints = {
+        @UniqueConstraint(name = "uc_audit_archiv_tabelle_monat", columnNames = { "tabelle", "monat" })
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuditArchiv {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String tabelle; // "nachweis_audit_log" oder "role_audit"
+
+    @Column(nullable = false)
+    private LocalDate monat; // immer der Monatserste
+
+    @Column(name = "datei_pfad", nullable = false, length = 1024)
+    private String dateiPfad;
+
+    @Column(name = "anzahl_zeilen", nullable = false)
+    private long anzahlZeilen;
+
+    @Column(name = "archiviert_am", nullable = false)
+    private LocalDateTime archiviertAm;
+}
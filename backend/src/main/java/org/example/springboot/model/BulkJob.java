@@ -0,0 +1,75 @@
+package org.example.springboot.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.springboot.model.enums.EJobStatus;
+import org.example.springboot.model.enums.EStatus;
+import org.example.springboot.model.enums.EJobTyp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * ⚙️ Ein Hintergrund-Job (z.B. "alle Nachweise löschen").
+ * Fortschritt und Cursor werden nach jedem Chunk committed, damit der Job
+ * nach einem Neustart weiterlaufen kann.
+ */
+@Entity
+@Table(name = "bulk_job")
+@Data
+@NoArgsConstructor
+public class BulkJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private EJobTyp typ;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EJobStatus status;
+
+    @Column(name = "erstellt_von", nullable = false)
+    private String erstelltVon;
+
+    @Column(name = "azubi_id")
+    private UUID azubiId; // nur bei LOESCHE_ALLE_VON_AZUBI
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "ziel_status", length = 20)
+    private EStatus zielStatus; // nur bei BATCH_STATUS
+
+    @Column(columnDefinition = "TEXT")
+    private String kommentar; // nur bei BATCH_STATUS
+
+    @Column(nullable = false)
+    private long gesamt;
+
+    @Column(nullable = false)
+    private long verarbeitet;
+
+    @Column(nullable = false)
+    private long fehlgeschlagen;
+
+    @Column(name = "cursor_id")
+    private UUID cursorId; // letzte verarbeitete ID (Keyset)
+
+    @Column(name = "fehler_meldung", length = 2048)
+    private String fehlerMeldung;
+
+    @Column(name = "erstellt_am", nullable = false)
+    private LocalDateTime erstelltAm;
+
+    @Column(name = "gestartet_am")
+    private LocalDateTime gestartetAm;
+
+    @Column(name = "beendet_am")
+    private LocalDateTime beendetAm;
+
+    @Column(name = "aktualisiert_am", nullable = false)
+    private LocalDateTime aktualisiertAm; // Heartbeat, wird pro Chunk gesetzt
+}
@@ -0,0 +1,49 @@
+package org.example.springboot.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.springboot.model.enums.EJobEintragStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 📋 Ein Nachweis innerhalb eines Batch-Jobs - inkl. Ergebnis, sobald sein
+ * Chunk durch ist.
+ */
+@Entity
+@Table(name = "bulk_job_eintrag", uniqueConstraints = {
+        @UniqueConstraint(name = "uc_bulk_job_eintrag_job_nachweis", columnNames = { "job_id", "nachweis_id" })
+})
+@Data
+@NoArgsConstructor
+public class BulkJobEintrag {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bulk_job_eintrag_seq")
+    @SequenceGenerator(name = "bulk_job_eintrag_seq", sequenceName = "bulk_job_eintrag_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private UUID jobId;
+
+    @Column(name = "nachweis_id", nullable = false)
+    private UUID nachweisId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EJobEintragStatus status;
+
+    @Column(length = 1024)
+    private String meldung;
+
+    @Column(name = "bearbeitet_am")
+    private LocalDateTime bearbeitetAm;
+
+    public BulkJobEintrag(UUID jobId, UUID nachweisId) {
+        this.jobId = jobId;
+        this.nachweisId = nachweisId;
+        this.status = EJobEintragStatus.OFFEN;
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.springboot.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 🧹 Ein ausstehender Datei-Löschauftrag (z.B. das PDF eines gelöschten
+ * Nachweises). Wird nach dem Commit abgearbeitet und bei Fehlern mit Backoff
+ * erneut versucht.
+ */
+@Entity
+@Table(name = "datei_cleanup_auftrag")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DateiCleanupAuftrag {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "datei_cleanup_auftrag_seq")
+    @SequenceGenerator(name = "datei_cleanup_auftrag_seq", sequenceName = "datei_cleanup_auftrag_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 1024)
+    private String pfad;
+
+    @Column(nullable = false)
+    private int versuche;
+
+    @Column(name = "naechster_versuch", nullable = false)
+    private LocalDateTime naechsterVersuch;
+
+    @Column(name = "letzter_fehler", length = 1024)
+    private String letzterFehler;
+
+    @Column(name = "erstellt_am", nullable = false)
+    private LocalDateTime erstelltAm;
+
+    public DateiCleanupAuftrag(String pfad) {
+        this.pfad = pfad;
+        this.erstelltAm = LocalDateTime.now();
+        this.naechsterVersuch = this.erstelltAm;
+    }
+}
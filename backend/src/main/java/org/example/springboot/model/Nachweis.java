@@ -1,19 +1,28 @@
 package org.example.springboot.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import org.example.springboot.model.enums.EStatus;
 import org.example.springboot.model.enums.Weekday;
+import org.example.springboot.model.id.UuidV7;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Entity
 @Data
@@ -23,7 +32,7 @@ import java.util.UUID;
 })
 public class Nachweis {
         @Id
-        @GeneratedValue(strategy = GenerationType.UUID)
+        @UuidV7
         private UUID id;
 
         @Column(nullable = false)
@@ -61,6 +70,22 @@ public class Nachweis {
         @OneToMany(mappedBy = "nachweis", cascade = CascadeType.ALL, orphanRemoval = true)
         private List<Activity> activities = new ArrayList<>();
 
+        // Kompakte Speicherung: die ganze Woche als ein jsonb-Dokument.
+        // null = Activities liegen (noch) in der activity-Tabelle.
+        @JsonIgnore
+        @JdbcTypeCode(SqlTypes.JSON)
+        @Column(name = "activities_json")
+        private List<ActivityEintrag> activitiesJson;
+
+        // Summe aller Stunden - wird in beiden Modi gepflegt und ist indiziert
+        @Column(name = "stunden_gesamt", precision = 6, scale = 2)
+        private BigDecimal stundenGesamt;
+
+        // Letzte Änderung am gedruckten Inhalt - ein älteres PDF wird beim Download neu erzeugt
+        @JsonIgnore
+        @Column(name = "druck_stand")
+        private Instant druckStand;
+
         // Kopierkonstruktor für Audit-Zwecke
         public Nachweis(Nachweis other) {
                 this.id = other.id;
@@ -77,7 +102,14 @@ public class Nachweis {
                 this.signaturAzubi = other.signaturAzubi;
                 this.signaturAusbilder = other.signaturAusbilder;
                 this.bemerkung = other.bemerkung;
+                this.stundenGesamt = other.stundenGesamt;
+                this.druckStand = other.druckStand;
                 this.activities = new ArrayList<>(); // Neue Liste für Aktivitäten
+                if (other.activitiesJson != null) {
+                        // Einträge sind Werte - eine flache Kopie der Liste reicht
+                        this.activitiesJson = new ArrayList<>(other.activitiesJson);
+                        return;
+                }
                 for (Activity activity : other.activities) {
                         Activity newActivity = new Activity(activity); // Annahme: Activity hat auch einen
                                                                        // Kopierkonstruktor
@@ -86,6 +118,139 @@ public class Nachweis {
                 }
         }
 
+        /**
+         * Activities unabhängig vom Speichermodus. Im JSON-Modus ist das eine
+         * frisch gebaute, nicht verwaltete Liste - ändern nur über
+         * {@link #setzeActivities(List, boolean)}.
+         */
+        public List<Activity> getActivities() {
+                if (activitiesJson == null) {
+                        return activities;
+                }
+                List<Activity> liste = new ArrayList<>(activitiesJson.size());
+                for (ActivityEintrag eintrag : activitiesJson) {
+                        Activity activity = eintrag.alsActivity();
+                        activity.setNachweis(this);
+                        liste.add(activity);
+                }
+                return liste;
+        }
+
+        /**
+         * Ersetzt alle Activities der Woche.
+         *
+         * @param alsJson true = als jsonb-Dokument in dieser Zeile (ein UPDATE),
+         *                false = klassisch als Zeilen in der activity-Tabelle.
+         *                Ein Nachweis wechselt beim Speichern in den jeweiligen Modus.
+         */
+        public void setzeActivities(List<Activity> neue, boolean alsJson) {
+                // Im JSON-Modus gibt es keine Tabellenzeilen - die Collection
+                // dann gar nicht erst laden
+                if (activitiesJson == null) {
+                        activities.clear();
+                }
+                if (alsJson) {
+                        activitiesJson = neue.stream()
+                                        .map(ActivityEintrag::von)
+                                        .collect(Collectors.toCollection(ArrayList::new));
+                } else {
+                        activitiesJson = null;
+                        neue.forEach(this::addActivity);
+                }
+                stundenNeuBerechnen();
+        }
+
+        /**
+         * Inhalt eines Slots als Wert (unabhängig vom Modus) oder null, wenn
+         * der Slot nicht belegt ist.
+         */
+        public ActivityEintrag slotLesen(Weekday day, int slot) {
+                if (activitiesJson != null) {
+                        int index = slotIndex(activitiesJson, day, slot);
+                        return index < 0 ? null : activitiesJson.get(index);
+                }
+                return activities.stream()
+                                .filter(a -> a.getDay() == day && Objects.equals(a.getSlot(), slot))
+                                .findFirst()
+                                .map(ActivityEintrag::von)
+                                .orElse(null);
+        }
+
+        /**
+         * Legt einen Slot an oder überschreibt ihn. Im Tabellen-Modus wird die
+         * bestehende Activity-Zeile geändert (ein UPDATE), nicht neu angelegt.
+         */
+        public void slotSchreiben(ActivityEintrag eintrag) {
+                if (activitiesJson != null) {
+                        // Neue Liste statt Änderung in-place - Dirty-Checking vergleicht mit dem Snapshot
+                        List<ActivityEintrag> neu = new ArrayList<>(activitiesJson);
+                        int index = slotIndex(neu, eintrag.getDay(), eintrag.getSlot());
+                        if (index < 0) {
+                                neu.add(eintrag);
+                        } else {
+                                neu.set(index, eintrag);
+                        }
+                        activitiesJson = neu;
+                } else {
+                        Activity vorhanden = activities.stream()
+                                        .filter(a -> a.getDay() == eintrag.getDay()
+                                                        && Objects.equals(a.getSlot(), eintrag.getSlot()))
+                                        .findFirst()
+                                        .orElse(null);
+                        if (vorhanden == null) {
+                                addActivity(eintrag.alsActivity());
+                        } else {
+                                vorhanden.setDescription(eintrag.getDescription());
+                                vorhanden.setHours(eintrag.getHours());
+                                vorhanden.setSection(eintrag.getSection());
+                        }
+                }
+                stundenNeuBerechnen();
+        }
+
+        /**
+         * @return false, wenn der Slot gar nicht belegt war
+         */
+        public boolean slotEntfernen(Weekday day, int slot) {
+                boolean entfernt;
+                if (activitiesJson != null) {
+                        List<ActivityEintrag> neu = new ArrayList<>(activitiesJson);
+                        entfernt = neu.removeIf(e -> e.getDay() == day && Objects.equals(e.getSlot(), slot));
+                        activitiesJson = neu;
+                } else {
+                        // orphanRemoval löscht die Zeile
+                        entfernt = activities.removeIf(a -> a.getDay() == day && Objects.equals(a.getSlot(), slot));
+                }
+                stundenNeuBerechnen();
+                return entfernt;
+        }
+
+        /**
+         * Gedruckter Inhalt hat sich geändert - das abgelegte PDF ist ab jetzt
+         * veraltet. Millisekunden reichen, genauer speichert kaum ein
+         * Dateisystem die Änderungszeit.
+         */
+        public void druckInhaltGeaendert() {
+                this.druckStand = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        }
+
+        private static int slotIndex(List<ActivityEintrag> eintraege, Weekday day, Integer slot) {
+                for (int i = 0; i < eintraege.size(); i++) {
+                        ActivityEintrag e = eintraege.get(i);
+                        if (e.getDay() == day && Objects.equals(e.getSlot(), slot)) {
+                                return i;
+                        }
+                }
+                return -1;
+        }
+
+        private void stundenNeuBerechnen() {
+                stundenGesamt = getActivities().stream()
+                                .map(Activity::getHours)
+                                .filter(Objects::nonNull)
+                                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        }
+
         public void addActivity(Activity activity) {
                 if (activity == null)
                         return;
@@ -93,8 +258,22 @@ public class Nachweis {
                 this.activities.add(activity);
         }
 
+        /**
+         * Stunden pro Wochentag in einem Durchlauf (statt {@link #totalForDay}
+         * für jeden Tag einzeln). Tage ohne Activities fehlen in der Map.
+         */
+        public Map<Weekday, BigDecimal> stundenProTag() {
+                Map<Weekday, BigDecimal> summen = new EnumMap<>(Weekday.class);
+                for (Activity activity : getActivities()) {
+                        if (activity.getDay() != null && activity.getHours() != null) {
+                                summen.merge(activity.getDay(), activity.getHours(), BigDecimal::add);
+                        }
+                }
+                return summen;
+        }
+
         public BigDecimal totalForDay(Weekday day) {
-                return activities.stream()
+                return getActivities().stream()
                                 .filter(a -> a.getDay() == day)
                                 .map(Activity::getHours)
                                 .filter(Objects::nonNull)
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.example.springboot.model.id.UuidV7;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -18,7 +19,7 @@ import java.util.UUID;
 public class NachweisAuditLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @Column(name = "nachweis_id", nullable = false)
@@ -0,0 +1,31 @@
+package org.example.springboot.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 🔢 Zuletzt vergebene Nachweis-Nummer eines Azubis. Wird nur über
+ * {@link org.example.springboot.service.nachweis.NachweisNummerService}
+ * hochgezählt.
+ */
+@Entity
+@Table(name = "nachweis_nummer_zaehler")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NachweisNummerZaehler {
+
+    @Id
+    @Column(name = "azubi_id")
+    private UUID azubiId;
+
+    @Column(name = "letzte_nummer", nullable = false)
+    private int letzteNummer;
+}
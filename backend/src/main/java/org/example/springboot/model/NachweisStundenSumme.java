@@ -0,0 +1,55 @@
+package org.example.springboot.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.springboot.model.enums.Weekday;
+import org.example.springboot.model.id.UuidV7;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * 📊 Stunden eines Nachweises pro Wochentag und Sektion. Wird beim Speichern
+ * des Nachweises über
+ * {@link org.example.springboot.service.nachweis.StundenSummeService}
+ * nachgezogen; Azubi und Ausbildungsjahr sind mit abgelegt, damit Berichte
+ * ohne Join auf {@code nachweis} auskommen.
+ */
+@Entity
+@Table(name = "nachweis_stunden_summe")
+@Data
+@NoArgsConstructor
+public class NachweisStundenSumme {
+
+    // Ersatz für "keine Sektion" - Teil des Unique-Keys, darf nicht NULL sein
+    public static final String OHNE_SEKTION = "";
+
+    @Id
+    @UuidV7
+    private UUID id;
+
+    @Column(name = "nachweis_id", nullable = false)
+    private UUID nachweisId;
+
+    @Column(name = "azubi_id", nullable = false)
+    private UUID azubiId;
+
+    @Column(name = "ausbildungsjahr", length = 50)
+    private String ausbildungsjahr;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "day", nullable = false, length = 20)
+    private Weekday day;
+
+    @Column(name = "section", nullable = false)
+    private String section;
+
+    @Column(name = "stunden", nullable = false, precision = 6, scale = 2)
+    private BigDecimal stunden;
+}
@@ -4,6 +4,10 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.example.springboot.model.enums.ERole;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.util.UUID;
 
@@ -11,11 +15,16 @@ import java.util.UUID;
 @Data
 @Table(name = "roles")
 @NoArgsConstructor
+// 💾 Referenzdaten: im L2-Cache, findByName über den Natural-ID-Cache
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
+@NaturalIdCache
 public class Role {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    @NaturalId
     @Enumerated(EnumType.STRING)
     @Column(length = 20)
     private ERole name;
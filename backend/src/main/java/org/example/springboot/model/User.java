@@ -4,7 +4,13 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.example.springboot.service.auth.BenutzerAenderungListener;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -19,11 +25,30 @@ import java.util.ArrayList;
 
 @Entity
 @Table(name = "app_user")
+@EntityListeners(BenutzerAenderungListener.class)
+// 💾 Ändert sich selten, wird aber ständig per ID nachgeladen (azubi, ausbilder,
+// trainer) - im L2-Cache, auf anderen Nodes per Redis invalidiert
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
+@NamedEntityGraphs({
+        // 🔐 Pro Request im JwtAuthenticationFilter: nur User + Rollen
+        @NamedEntityGraph(name = User.GRAPH_AUTH, attributeNodes = @NamedAttributeNode("roles")),
+        // 👤 Profilseite: Rollen + Trainer (aber nicht dessen Trainer/Rollen)
+        @NamedEntityGraph(name = User.GRAPH_PROFIL, attributeNodes = { @NamedAttributeNode("roles"),
+                @NamedAttributeNode("trainer") }),
+        // 📋 Admin-Liste: Trainer im selben Select, Rollen gebündelt per @BatchSize
+        // (Collection-Fetch + Pagination würde im Speicher paginieren)
+        @NamedEntityGraph(name = User.GRAPH_ADMIN_LISTE, attributeNodes = @NamedAttributeNode("trainer"))
+})
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties({ "roles", "todos", "password", "authorities", "accountNonExpired", "accountNonLocked",
         "credentialsNonExpired", "enabled", "nachweiseAlsAzubi", "nachweiseAlsAusbilder" })
 public class User implements UserDetails {
+    public static final String GRAPH_AUTH = "User.auth";
+    public static final String GRAPH_PROFIL = "User.profil";
+    public static final String GRAPH_ADMIN_LISTE = "User.adminListe";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -35,9 +60,11 @@ public class User implements UserDetails {
     private Integer ausbildungsjahr;
     private String telefonnummer;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "trainer_id")
     @JsonIgnore // Prevent circular reference in JSON (trainer has trainer...)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private User trainer;
 
     @Column(nullable = false)
@@ -57,7 +84,8 @@ public class User implements UserDetails {
     @Column(name = "is_email_verified", columnDefinition = "boolean default false")
     private boolean isEmailVerified = false;
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    @ManyToMany(fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     @JoinTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id"), inverseJoinColumns = @JoinColumn(name = "role_id"))
     private Set<Role> roles = new HashSet<>();
 
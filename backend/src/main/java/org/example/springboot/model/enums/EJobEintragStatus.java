@@ -0,0 +1,7 @@
+package org.example.springboot.model.enums;
+
+public enum EJobEintragStatus {
+    OFFEN,
+    ERFOLGREICH,
+    FEHLGESCHLAGEN
+}
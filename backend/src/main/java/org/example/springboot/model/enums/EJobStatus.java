@@ -0,0 +1,8 @@
+package org.example.springboot.model.enums;
+
+public enum EJobStatus {
+    WARTEND,
+    LAEUFT,
+    FERTIG,
+    FEHLGESCHLAGEN
+}
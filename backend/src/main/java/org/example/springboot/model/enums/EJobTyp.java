@@ -0,0 +1,8 @@
+package org.example.springboot.model.enums;
+
+public enum EJobTyp {
+    LOESCHE_ALLE,
+    LOESCHE_ALLE_VON_AZUBI,
+    BATCH_STATUS,
+    BATCH_LOESCHEN
+}
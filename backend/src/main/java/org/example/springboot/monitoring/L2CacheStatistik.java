@@ -0,0 +1,72 @@
+package org.example.springboot.monitoring;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.CacheableDataStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 💾 **L2-Cache Statistiken**
+ *
+ * Hit/Miss/Put pro gecachter Entity (und ihrer Natural-ID-Region) aus den
+ * Hibernate-Statistiken. Dieselben Zahlen gibt's pro Region auch als
+ * Micrometer-Metrik {@code hibernate.second.level.cache.requests}.
+ */
+@Component
+public class L2CacheStatistik {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public L2CacheStatistik(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    public Map<String, Object> getStats() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        Statistics statistics = sessionFactory.getStatistics();
+
+        Map<String, Object> antwort = new LinkedHashMap<>();
+        antwort.put("aktiv", sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled());
+        antwort.put("statistikAktiv", statistics.isStatisticsEnabled());
+        antwort.put("hits", statistics.getSecondLevelCacheHitCount());
+        antwort.put("misses", statistics.getSecondLevelCacheMissCount());
+        antwort.put("puts", statistics.getSecondLevelCachePutCount());
+        antwort.put("hitRate", hitRate(statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount()));
+
+        Map<String, Object> entities = new TreeMap<>();
+        for (String entityName : statistics.getEntityNames()) {
+            EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(entityName);
+            if (!persister.canReadFromCache()) {
+                continue;
+            }
+            Map<String, Object> eintrag = new LinkedHashMap<>(zahlen(statistics.getEntityStatistics(entityName)));
+            if (persister.hasNaturalIdCache()) {
+                eintrag.put("naturalId", zahlen(statistics.getNaturalIdStatistics(entityName)));
+            }
+            entities.put(persister.getMappedClass().getSimpleName(), eintrag);
+        }
+        antwort.put("entities", entities);
+        return antwort;
+    }
+
+    private static Map<String, Object> zahlen(CacheableDataStatistics stats) {
+        Map<String, Object> zahlen = new LinkedHashMap<>();
+        zahlen.put("hits", stats.getCacheHitCount());
+        zahlen.put("misses", stats.getCacheMissCount());
+        zahlen.put("puts", stats.getCachePutCount());
+        zahlen.put("hitRate", hitRate(stats.getCacheHitCount(), stats.getCacheMissCount()));
+        return zahlen;
+    }
+
+    private static String hitRate(long hits, long misses) {
+        long gesamt = hits + misses;
+        return String.format("%.2f%%", gesamt > 0 ? (double) hits / gesamt * 100 : 0);
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.springboot.monitoring;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 🔢 **Was geht hier ab?**
+ * Zählt pro Thread, wie viele SQL-Statements, Entity-Loads und
+ * Collection-Fetches Hibernate macht. Die globalen Hibernate Statistics
+ * helfen uns pro Request nicht weiter (die laufen über alle Threads), darum
+ * hängen wir uns mit {@link QueryZaehlerHibernateConfig} direkt an den
+ * StatementInspector und die Load-Events.
+ *
+ * Gezählt wird nur zwischen {@link #starten()} und {@link #beenden()} - also
+ * im HTTP-Request ({@link QueryZaehlerFilter}) oder im Test (QueryBudget).
+ * Hintergrund-Threads ohne Messung kosten nur einen ThreadLocal-Lookup.
+ */
+public final class QueryZaehler {
+
+    private static final ThreadLocal<Zaehlung> AKTUELL = new ThreadLocal<>();
+
+    private QueryZaehler() {
+    }
+
+    /**
+     * Ergebnis einer Messung.
+     */
+    public record Messung(long statements, long entityLoads, long collectionFetches) {
+
+        @Override
+        public String toString() {
+            return "statements=" + statements + ", entityLoads=" + entityLoads
+                    + ", collectionFetches=" + collectionFetches;
+        }
+    }
+
+    /**
+     * Startet eine neue Messung für den aktuellen Thread (eine laufende wird
+     * verworfen).
+     */
+    public static void starten() {
+        AKTUELL.set(new Zaehlung(false));
+    }
+
+    /**
+     * Wie {@link #starten()}, merkt sich aber zusätzlich jedes SQL - nur für
+     * Tests, die den Fetch-Plan festnageln.
+     */
+    public static void startenMitSql() {
+        AKTUELL.set(new Zaehlung(true));
+    }
+
+    /**
+     * Mitgeschnittene SQL-Statements der laufenden Messung (leer ohne
+     * {@link #startenMitSql()}).
+     */
+    public static List<String> sqlProtokoll() {
+        Zaehlung z = AKTUELL.get();
+        return z == null || z.sql == null ? List.of() : List.copyOf(z.sql);
+    }
+
+    /**
+     * Beendet die Messung und liefert das Ergebnis (alles 0, wenn keine lief).
+     */
+    public static Messung beenden() {
+        Messung messung = aktuell();
+        AKTUELL.remove();
+        return messung;
+    }
+
+    /**
+     * Zwischenstand der laufenden Messung, ohne sie zu beenden.
+     */
+    public static Messung aktuell() {
+        Zaehlung z = AKTUELL.get();
+        return z == null ? new Messung(0, 0, 0) : new Messung(z.statements, z.entityLoads, z.collectionFetches);
+    }
+
+    static void statement(String sql) {
+        Zaehlung z = AKTUELL.get();
+        if (z != null) {
+            z.statements++;
+            if (z.sql != null) {
+                z.sql.add(sql);
+            }
+        }
+    }
+
+    static void entityGeladen() {
+        Zaehlung z = AKTUELL.get();
+        if (z != null) {
+            z.entityLoads++;
+        }
+    }
+
+    static void collectionGeladen() {
+        Zaehlung z = AKTUELL.get();
+        if (z != null) {
+            z.collectionFetches++;
+        }
+    }
+
+    private static final class Zaehlung {
+        private long statements;
+        private long entityLoads;
+        private long collectionFetches;
+        private final List<String> sql;
+
+        private Zaehlung(boolean mitSql) {
+            this.sql = mitSql ? new ArrayList<>() : null;
+        }
+    }
+}
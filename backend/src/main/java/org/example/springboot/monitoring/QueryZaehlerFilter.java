@@ -0,0 +1,136 @@
+package org.example.springboot.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 🕵️ **Was geht hier ab?**
+ * Misst für jeden HTTP-Request, wie viele Queries er verursacht hat - inklusive
+ * JWT-Filter, Controller und Jackson-Serialisierung (Lazy-Loads!).
+ *
+ * - Metriken: {@code http.server.requests.queries} pro URI-Pattern und Art
+ * (statements, entities, collections) - gesampelt über
+ * {@code app.query-zaehler.sample-rate}
+ * - Warnung im Log, wenn ein Request mehr als
+ * {@code app.query-zaehler.warn-schwelle} Statements braucht (typisch N+1)
+ * - Debug-Header {@code X-Query-Count}, wenn
+ * {@code app.query-zaehler.header-aktiv=true} (nicht in Produktion!)
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class QueryZaehlerFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Query-Count";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean headerAktiv;
+    private final long warnSchwelle;
+    private final double sampleRate;
+
+    public QueryZaehlerFilter(MeterRegistry meterRegistry,
+            @Value("${app.query-zaehler.header-aktiv:false}") boolean headerAktiv,
+            @Value("${app.query-zaehler.warn-schwelle:50}") long warnSchwelle,
+            @Value("${app.query-zaehler.sample-rate:1.0}") double sampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.headerAktiv = headerAktiv;
+        this.warnSchwelle = warnSchwelle;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return path.startsWith("/swagger-ui") ||
+                path.startsWith("/v3/api-docs") ||
+                path.startsWith("/webjars/") ||
+                path.startsWith("/uploads/") ||
+                path.endsWith("/stream");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryZaehler.starten();
+        HttpServletResponse antwort = headerAktiv ? new HeaderSetzenderResponse(response) : response;
+        try {
+            filterChain.doFilter(request, antwort);
+        } finally {
+            if (headerAktiv && !response.isCommitted()) {
+                setzeHeader(response, QueryZaehler.aktuell());
+            }
+            QueryZaehler.Messung messung = QueryZaehler.beenden();
+            auswerten(request, messung);
+        }
+    }
+
+    private void auswerten(HttpServletRequest request, QueryZaehler.Messung messung) {
+        String uri = uriPattern(request);
+        if (messung.statements() > warnSchwelle) {
+            log.warn("🐌 {} {} hat {} Queries gebraucht ({}) - N+1?", request.getMethod(), uri,
+                    messung.statements(), messung);
+        }
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        erfassen(uri, "statements", messung.statements());
+        erfassen(uri, "entities", messung.entityLoads());
+        erfassen(uri, "collections", messung.collectionFetches());
+    }
+
+    private void erfassen(String uri, String art, long wert) {
+        DistributionSummary.builder("http.server.requests.queries")
+                .description("Hibernate-Arbeit pro HTTP-Request")
+                .tag("uri", uri)
+                .tag("art", art)
+                .register(meterRegistry)
+                .record(wert);
+    }
+
+    /**
+     * Nur das gematchte Pattern (z.B. /api/nachweise/{id}) als Tag - rohe URIs
+     * würden die Metrik-Kardinalität sprengen.
+     */
+    private static String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    private static void setzeHeader(HttpServletResponse response, QueryZaehler.Messung messung) {
+        response.setHeader(HEADER, String.valueOf(messung.statements()));
+        response.setHeader(HEADER + "-Entities", String.valueOf(messung.entityLoads()));
+        response.setHeader(HEADER + "-Collections", String.valueOf(messung.collectionFetches()));
+    }
+
+    /**
+     * Setzt den Header im letzten Moment, bevor die Antwort rausgeht - sonst
+     * wären Queries während der Serialisierung nicht mitgezählt bzw. der
+     * Header käme zu spät.
+     */
+    private static final class HeaderSetzenderResponse extends OnCommittedResponseWrapper {
+
+        HeaderSetzenderResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            setzeHeader((HttpServletResponse) getResponse(), QueryZaehler.aktuell());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.springboot.monitoring;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 🔌 **Was geht hier ab?**
+ * Hängt den {@link QueryZaehler} an Hibernate:
+ * - StatementInspector: sieht jedes SQL, bevor es vorbereitet wird
+ * - POST_LOAD: jede materialisierte Entity (auch EAGER-Nachladen wie
+ * User.trainer)
+ * - INIT_COLLECTION: jede nachgeladene Lazy-Collection (auch über
+ * enable_lazy_load_no_trans)
+ */
+@Slf4j
+@Configuration
+public class QueryZaehlerHibernateConfig {
+
+    @Bean
+    public static HibernatePropertiesCustomizer queryZaehlerStatementInspector() {
+        StatementInspector inspector = sql -> {
+            QueryZaehler.statement(sql);
+            return sql;
+        };
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+    }
+
+    @Bean
+    public SmartInitializingSingleton queryZaehlerListenerRegistrieren(EntityManagerFactory entityManagerFactory) {
+        return () -> {
+            EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                    .getServiceRegistry()
+                    .getService(EventListenerRegistry.class);
+            registry.appendListeners(EventType.POST_LOAD, (PostLoadEventListener) event -> QueryZaehler.entityGeladen());
+            registry.appendListeners(EventType.INIT_COLLECTION,
+                    (InitializeCollectionEventListener) event -> QueryZaehler.collectionGeladen());
+            log.info("🔢 Query-Zähler an Hibernate registriert");
+        };
+    }
+}
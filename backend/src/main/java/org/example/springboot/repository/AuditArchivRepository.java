@@ -0,0 +1,17 @@
+package org.example.springboot.repository;
+
+import org.example.springboot.model.AuditArchiv;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AuditArchivRepository extends JpaRepository<AuditArchiv, Long> {
+
+    List<AuditArchiv> findAllByTabelleOrderByMonatDesc(String tabelle);
+
+    Optional<AuditArchiv> findByTabelleAndMonat(String tabelle, LocalDate monat);
+}
@@ -0,0 +1,42 @@
+package org.example.springboot.repository;
+
+import org.example.springboot.model.BulkJobEintrag;
+import org.example.springboot.model.enums.EJobEintragStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface BulkJobEintragRepository extends JpaRepository<BulkJobEintrag, Long> {
+
+    /**
+     * 🚀 Nächster Chunk offener Nachweise eines Jobs (nur IDs)
+     */
+    @Query("SELECT e.nachweisId FROM BulkJobEintrag e " +
+            "WHERE e.jobId = :jobId AND e.status = :status ORDER BY e.id")
+    List<UUID> findNachweisIdsByStatus(@Param("jobId") UUID jobId, @Param("status") EJobEintragStatus status,
+            Pageable limit);
+
+    Page<BulkJobEintrag> findAllByJobId(UUID jobId, Pageable pageable);
+
+    Page<BulkJobEintrag> findAllByJobIdAndStatus(UUID jobId, EJobEintragStatus status, Pageable pageable);
+
+    /**
+     * 🚀 Ergebnis für einen ganzen Chunk in einem UPDATE setzen
+     */
+    @Modifying
+    @Query("UPDATE BulkJobEintrag e SET e.status = :status, e.meldung = :meldung, e.bearbeitetAm = :jetzt " +
+            "WHERE e.jobId = :jobId AND e.nachweisId IN :nachweisIds")
+    int setzeErgebnis(@Param("jobId") UUID jobId, @Param("nachweisIds") Collection<UUID> nachweisIds,
+            @Param("status") EJobEintragStatus status, @Param("meldung") String meldung,
+            @Param("jetzt") LocalDateTime jetzt);
+}
@@ -0,0 +1,37 @@
+package org.example.springboot.repository;
+
+import org.example.springboot.model.BulkJob;
+import org.example.springboot.model.enums.EJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface BulkJobRepository extends JpaRepository<BulkJob, UUID> {
+
+    /**
+     * Jobs, die wartend oder laufend sind, aber seit {@code vor} keinen
+     * Heartbeat mehr hatten (z.B. weil die Instanz abgestürzt ist)
+     */
+    @Query("SELECT j.id FROM BulkJob j WHERE j.status IN :status AND j.aktualisiertAm < :vor")
+    List<UUID> findLiegengebliebeneIds(@Param("status") Collection<EJobStatus> status,
+            @Param("vor") LocalDateTime vor);
+
+    /**
+     * Job für diese Instanz beanspruchen. Klappt nur, wenn er noch wartet oder
+     * sein letzter Heartbeat älter als {@code stale} ist - so läuft ein Job nie
+     * doppelt.
+     */
+    @Modifying
+    @Query("UPDATE BulkJob j SET j.status = :laeuft, j.aktualisiertAm = :jetzt " +
+            "WHERE j.id = :id AND (j.status = :wartend OR (j.status = :laeuft AND j.aktualisiertAm < :stale))")
+    int beanspruchen(@Param("id") UUID id, @Param("laeuft") EJobStatus laeuft, @Param("wartend") EJobStatus wartend,
+            @Param("jetzt") LocalDateTime jetzt, @Param("stale") LocalDateTime stale);
+}
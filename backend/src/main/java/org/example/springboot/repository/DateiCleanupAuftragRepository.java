@@ -0,0 +1,30 @@
+package org.example.springboot.repository;
+
+import org.example.springboot.model.DateiCleanupAuftrag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface DateiCleanupAuftragRepository extends JpaRepository<DateiCleanupAuftrag, Long> {
+
+    /**
+     * 🚀 Fällige Aufträge sperren - SKIP LOCKED, damit mehrere Instanzen sich
+     * nicht gegenseitig blockieren
+     */
+    @Query(value = "SELECT * FROM datei_cleanup_auftrag " +
+            "WHERE naechster_versuch <= :jetzt AND versuche < :maxVersuche " +
+            "ORDER BY naechster_versuch LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<DateiCleanupAuftrag> findFaelligeZumVerarbeiten(@Param("jetzt") LocalDateTime jetzt,
+            @Param("maxVersuche") int maxVersuche, @Param("limit") int limit);
+
+    /**
+     * 📊 Aufträge, die maxVersuche erreicht haben - die fasst der Scheduler
+     * nicht mehr an, jemand muss sie sich ansehen
+     */
+    long countByVersucheGreaterThanEqual(int maxVersuche);
+}
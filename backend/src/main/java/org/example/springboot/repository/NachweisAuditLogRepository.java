@@ -1,14 +1,35 @@
 package org.example.springboot.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.springboot.model.NachweisAuditLog;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface NachweisAuditLogRepository extends JpaRepository<NachweisAuditLog, Long> {
     Page<NachweisAuditLog> findAllByNachweisId(UUID nachweisId, Pageable pageable);
+
+    /**
+     * 🚀 Server-seitiger Cursor für den Export - muss innerhalb einer
+     * Transaktion konsumiert und geschlossen werden.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT a FROM NachweisAuditLog a " +
+            "WHERE a.aktionsZeit >= :von AND a.aktionsZeit < :bis " +
+            "ORDER BY a.aktionsZeit")
+    Stream<NachweisAuditLog> streamByZeitraum(@Param("von") Instant von, @Param("bis") Instant bis);
 }
@@ -0,0 +1,24 @@
+package org.example.springboot.repository;
+
+import org.example.springboot.controller.nachweisController.dto.NachweisListDto;
+import org.example.springboot.model.enums.EStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 🔖 Keyset-Listen für Nachweise (Fragment von {@link NachweisRepository})
+ */
+public interface NachweisListeRepository {
+
+    /**
+     * 🚀 Optimiert - Seek statt OFFSET: lädt maximal {@code limit} Zeilen nach
+     * (sortWert, id) der letzten Zeile, ohne COUNT.
+     *
+     * @param sortBy     datumStart, datumEnde oder nummer
+     * @param sortWert   Wert der letzten Zeile (null = erste Seite)
+     * @param nachId     ID der letzten Zeile (null = erste Seite)
+     */
+    List<NachweisListDto> findListeKeyset(UUID azubiId, EStatus status, UUID ausbilderId, String sortBy,
+            boolean aufsteigend, Object sortWert, UUID nachId, int limit);
+}
@@ -0,0 +1,71 @@
+package org.example.springboot.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.example.springboot.controller.nachweisController.dto.NachweisListDto;
+import org.example.springboot.model.enums.EStatus;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+class NachweisListeRepositoryImpl implements NachweisListeRepository {
+
+    // Nur diese Felder sind als Keyset erlaubt - landen 1:1 im JPQL
+    private static final Map<String, String> SORT_SPALTEN = Map.of(
+            "datumStart", "n.datumStart",
+            "datumEnde", "n.datumEnde",
+            "nummer", "n.nummer");
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<NachweisListDto> findListeKeyset(UUID azubiId, EStatus status, UUID ausbilderId, String sortBy,
+            boolean aufsteigend, Object sortWert, UUID nachId, int limit) {
+        String spalte = SORT_SPALTEN.get(sortBy);
+        if (spalte == null) {
+            throw new IllegalArgumentException("Sortierung nach '" + sortBy + "' wird nicht unterstützt");
+        }
+        String vergleich = aufsteigend ? ">" : "<";
+        String richtung = aufsteigend ? "ASC" : "DESC";
+
+        StringBuilder jpql = new StringBuilder(
+                "SELECT new org.example.springboot.controller.nachweisController.dto.NachweisListDto(" +
+                        "n.id, n.name, n.datumStart, n.datumEnde, n.nummer, n.ausbildungsjahr, n.status, n.comment, " +
+                        "az.id, az.name, az.profileImageUrl, au.id, au.name, au.profileImageUrl) " +
+                        "FROM Nachweis n LEFT JOIN n.azubi az LEFT JOIN n.ausbilder au WHERE 1 = 1");
+        if (azubiId != null) {
+            jpql.append(" AND az.id = :azubiId");
+        }
+        if (status != null) {
+            jpql.append(" AND n.status = :status");
+        }
+        if (ausbilderId != null) {
+            jpql.append(" AND au.id = :ausbilderId");
+        }
+        if (nachId != null) {
+            // Row-Value-Vergleich statt "a > x OR (a = x AND id > y)" - nur so wird er
+            // in PostgreSQL zum Startpunkt des Index-Range-Scans
+            jpql.append(" AND (").append(spalte).append(", n.id) ").append(vergleich).append(" (:sortWert, :nachId)");
+        }
+        jpql.append(" ORDER BY ").append(spalte).append(' ').append(richtung).append(", n.id ").append(richtung);
+
+        TypedQuery<NachweisListDto> query = entityManager.createQuery(jpql.toString(), NachweisListDto.class);
+        if (azubiId != null) {
+            query.setParameter("azubiId", azubiId);
+        }
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        if (ausbilderId != null) {
+            query.setParameter("ausbilderId", ausbilderId);
+        }
+        if (nachId != null) {
+            query.setParameter("sortWert", sortWert);
+            query.setParameter("nachId", nachId);
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.springboot.repository;
+
+import org.example.springboot.model.NachweisNummerZaehler;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface NachweisNummerZaehlerRepository extends JpaRepository<NachweisNummerZaehler, UUID> {
+
+    /**
+     * 🚀 Zählt um eins hoch und hält die Row-Lock bis zum Commit
+     *
+     * @return 0, wenn es für den Azubi noch keinen Zähler gibt
+     */
+    @Modifying
+    @Query("UPDATE NachweisNummerZaehler z SET z.letzteNummer = z.letzteNummer + 1 WHERE z.azubiId = :azubiId")
+    int hochzaehlen(@Param("azubiId") UUID azubiId);
+
+    /**
+     * 🚀 Zieht den Zähler nach, wenn eine Nummer von Hand vergeben wurde
+     */
+    @Modifying
+    @Query("UPDATE NachweisNummerZaehler z SET z.letzteNummer = :nummer WHERE z.azubiId = :azubiId AND z.letzteNummer < :nummer")
+    int mindestensAuf(@Param("azubiId") UUID azubiId, @Param("nummer") int nummer);
+
+    @Query("SELECT z.letzteNummer FROM NachweisNummerZaehler z WHERE z.azubiId = :azubiId")
+    Optional<Integer> findLetzteNummer(@Param("azubiId") UUID azubiId);
+
+    /**
+     * Legt den Zähler aus dem Bestand an (für Azubis ohne Zeile, z.B. neu
+     * angelegt). Nur unter {@link #sperreAzubi(UUID)} aufrufen.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO nachweis_nummer_zaehler (azubi_id, letzte_nummer) "
+            + "SELECT :azubiId, COALESCE(MAX(nummer), 0) FROM nachweis WHERE azubi_id = :azubiId", nativeQuery = true)
+    int anlegenAusBestand(@Param("azubiId") UUID azubiId);
+
+    /**
+     * Sperrt die Zähler-Zeile, damit {@link #aufBestandZuruecksetzen(UUID)}
+     * danach mit frischem Snapshot auch gerade committete Nachweise sieht.
+     */
+    @Query(value = "SELECT letzte_nummer FROM nachweis_nummer_zaehler WHERE azubi_id = :azubiId FOR UPDATE",
+            nativeQuery = true)
+    Integer sperreZaehler(@Param("azubiId") UUID azubiId);
+
+    /**
+     * 🚀 Setzt den Zähler auf die höchste noch vorhandene Nummer zurück (wie
+     * früher {@code MAX(nummer)}) - nach dem Löschen von Nachweisen
+     */
+    @Modifying
+    @Query(value = "UPDATE nachweis_nummer_zaehler SET letzte_nummer = "
+            + "(SELECT COALESCE(MAX(n.nummer), 0) FROM nachweis n WHERE n.azubi_id = :azubiId) "
+            + "WHERE azubi_id = :azubiId", nativeQuery = true)
+    int aufBestandZuruecksetzen(@Param("azubiId") UUID azubiId);
+
+    /**
+     * Sperrt die User-Zeile - serialisiert das erstmalige Anlegen des Zählers.
+     */
+    @Query(value = "SELECT 1 FROM app_user WHERE id = :azubiId FOR UPDATE", nativeQuery = true)
+    Integer sperreAzubi(@Param("azubiId") UUID azubiId);
+}
@@ -1,22 +1,28 @@
 package org.example.springboot.repository;
 
+import org.example.springboot.controller.nachweisController.dto.NachweisListDto;
 import org.example.springboot.model.Nachweis;
 import org.example.springboot.model.enums.EStatus;
+import org.example.springboot.repository.projection.AzubiStatusAnzahl;
+import org.example.springboot.repository.projection.NachweisPdfRef;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface NachweisRepository extends JpaRepository<Nachweis, UUID>, JpaSpecificationExecutor<Nachweis> {
+public interface NachweisRepository extends JpaRepository<Nachweis, UUID>, JpaSpecificationExecutor<Nachweis>,
+        NachweisListeRepository, NachweisSucheRepository {
 
     /**
      * 🚀 Optimiert - Eager loads azubi, ausbilder und activities
@@ -48,13 +54,114 @@ public interface NachweisRepository extends JpaRepository<Nachweis, UUID>, JpaSp
     @EntityGraph(attributePaths = { "azubi", "ausbilder" })
     Page<Nachweis> findAllByStatus(EStatus status, Pageable pageable);
 
+    /**
+     * 🚀 Optimiert - Listen-Projektion für einen Azubi (eine Query pro Seite,
+     * Status optional)
+     */
+    @Query(value = "SELECT new org.example.springboot.controller.nachweisController.dto.NachweisListDto(" +
+            "n.id, n.name, n.datumStart, n.datumEnde, n.nummer, n.ausbildungsjahr, n.status, n.comment, " +
+            "az.id, az.name, az.profileImageUrl, au.id, au.name, au.profileImageUrl) " +
+            "FROM Nachweis n LEFT JOIN n.azubi az LEFT JOIN n.ausbilder au " +
+            "WHERE az.id = :azubiId AND (:status IS NULL OR n.status = :status)",
+            countQuery = "SELECT COUNT(n) FROM Nachweis n " +
+                    "WHERE n.azubi.id = :azubiId AND (:status IS NULL OR n.status = :status)")
+    Page<NachweisListDto> findListeByAzubiId(@Param("azubiId") UUID azubiId, @Param("status") EStatus status,
+            Pageable pageable);
+
+    /**
+     * 🚀 Optimiert - Listen-Projektion für die Admin-Übersicht (Status und
+     * Ausbilder optional)
+     */
+    @Query(value = "SELECT new org.example.springboot.controller.nachweisController.dto.NachweisListDto(" +
+            "n.id, n.name, n.datumStart, n.datumEnde, n.nummer, n.ausbildungsjahr, n.status, n.comment, " +
+            "az.id, az.name, az.profileImageUrl, au.id, au.name, au.profileImageUrl) " +
+            "FROM Nachweis n LEFT JOIN n.azubi az LEFT JOIN n.ausbilder au " +
+            "WHERE (:status IS NULL OR n.status = :status) AND (:ausbilderId IS NULL OR au.id = :ausbilderId)",
+            countQuery = "SELECT COUNT(n) FROM Nachweis n " +
+                    "WHERE (:status IS NULL OR n.status = :status) " +
+                    "AND (:ausbilderId IS NULL OR n.ausbilder.id = :ausbilderId)")
+    Page<NachweisListDto> findListeGefiltert(@Param("status") EStatus status, @Param("ausbilderId") UUID ausbilderId,
+            Pageable pageable);
+
+    @Query("SELECT COUNT(n) FROM Nachweis n WHERE (:azubiId IS NULL OR n.azubi.id = :azubiId) " +
+            "AND (:status IS NULL OR n.status = :status) AND (:ausbilderId IS NULL OR n.ausbilder.id = :ausbilderId)")
+    long countGefiltert(@Param("azubiId") UUID azubiId, @Param("status") EStatus status,
+            @Param("ausbilderId") UUID ausbilderId);
+
+    /**
+     * 🚀 Geschätzte Gesamtanzahl aus der Planner-Statistik (kein Full Scan)
+     */
+    @Query(value = "SELECT GREATEST(reltuples, 0)::bigint FROM pg_class WHERE oid = 'nachweis'::regclass",
+            nativeQuery = true)
+    long schaetzeAnzahl();
+
     boolean existsByAusbilderUsername(String username);
 
     boolean existsByNummerAndAzubiId(int nummer, UUID azubiId);
 
     /**
-     * 🚀 Optimiert - COUNT Query (efficient, keine N+1)
+     * 🚀 Batch - Lädt eine ganze Auswahl inkl. Azubi, Ausbilder und Activities
+     * in einer Query
+     */
+    @Query("SELECT DISTINCT n FROM Nachweis n " +
+            "LEFT JOIN FETCH n.azubi " +
+            "LEFT JOIN FETCH n.ausbilder " +
+            "LEFT JOIN FETCH n.activities " +
+            "WHERE n.id IN :ids")
+    List<Nachweis> findAllWithDetailsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * 🚀 Batch - Status und Kommentar für alle IDs in einem UPDATE setzen
+     */
+    @Modifying
+    @Query("UPDATE Nachweis n SET n.status = :status, n.comment = :comment WHERE n.id IN :ids")
+    int updateStatusForIds(@Param("ids") Collection<UUID> ids, @Param("status") EStatus status,
+            @Param("comment") String comment);
+
+    /**
+     * 🚀 Batch - Activities aller IDs in einem DELETE entfernen
+     */
+    @Modifying
+    @Query("DELETE FROM Activity a WHERE a.nachweis.id IN :ids")
+    int deleteActivitiesByNachweisIds(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * 🚀 Batch - Nachweise in einem DELETE entfernen (Activities vorher löschen!)
+     */
+    @Modifying
+    @Query("DELETE FROM Nachweis n WHERE n.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * 🔍 Welche der IDs gibt es noch? (für das Aufräumen verwaister PDFs)
+     */
+    @Query("SELECT n.id FROM Nachweis n WHERE n.id IN :ids")
+    List<UUID> findVorhandeneIds(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * 🚀 Keyset-Chunk über alle Nachweise (nach ID sortiert) - nur IDs und
+     * PDF-Infos, keine Entities
+     */
+    @Query("SELECT n.id AS id, a.id AS azubiId, a.name AS azubiName FROM Nachweis n LEFT JOIN n.azubi a " +
+            "WHERE n.id > :nachId ORDER BY n.id")
+    List<NachweisPdfRef> findPdfRefsNachId(@Param("nachId") UUID nachId, Pageable limit);
+
+    /**
+     * 🚀 Keyset-Chunk über die Nachweise eines Azubis
+     */
+    @Query("SELECT n.id AS id, a.id AS azubiId, a.name AS azubiName FROM Nachweis n JOIN n.azubi a " +
+            "WHERE a.id = :azubiId AND n.id > :nachId ORDER BY n.id")
+    List<NachweisPdfRef> findPdfRefsVonAzubiNachId(@Param("azubiId") UUID azubiId, @Param("nachId") UUID nachId,
+            Pageable limit);
+
+    long countByAzubiId(UUID azubiId);
+
+    /**
+     * 🚀 Optimiert - Dashboard eines Ausbilders: eine GROUP BY-Query statt
+     * mehrerer paginierter Listen pro Status (Index idx_nachweis_ausbilder_azubi_status)
      */
-    @Query("SELECT COALESCE(MAX(n.nummer), 0) FROM Nachweis n WHERE n.azubi.id = :azubiId")
-    Integer findMaxNummerByAzubiId(@Param("azubiId") UUID azubiId);
+    @Query("SELECT a.id AS azubiId, a.name AS azubiName, n.status AS status, COUNT(n) AS anzahl " +
+            "FROM Nachweis n JOIN n.azubi a WHERE n.ausbilder.id = :ausbilderId " +
+            "GROUP BY a.id, a.name, n.status ORDER BY a.name")
+    List<AzubiStatusAnzahl> zaehleProAzubiUndStatus(@Param("ausbilderId") UUID ausbilderId);
 }
@@ -0,0 +1,45 @@
+package org.example.springboot.repository;
+
+import org.example.springboot.model.NachweisStundenSumme;
+import org.example.springboot.repository.projection.StundenJahrgang;
+import org.example.springboot.repository.projection.StundenProSektion;
+import org.example.springboot.repository.projection.StundenProTag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface NachweisStundenSummeRepository extends JpaRepository<NachweisStundenSumme, UUID> {
+
+    List<NachweisStundenSumme> findByNachweisId(UUID nachweisId);
+
+    /**
+     * 🚀 Optimiert - Index (azubi_id, ausbildungsjahr, section) statt alle
+     * Activities des Azubis zu laden
+     */
+    @Query("SELECT s.ausbildungsjahr AS ausbildungsjahr, s.section AS section, SUM(s.stunden) AS stunden "
+            + "FROM NachweisStundenSumme s WHERE s.azubiId = :azubiId "
+            + "GROUP BY s.ausbildungsjahr, s.section ORDER BY s.ausbildungsjahr, s.section")
+    List<StundenProSektion> summeProSektionFuerAzubi(@Param("azubiId") UUID azubiId);
+
+    /**
+     * 🚀 Optimiert - gleicher Index, ausbildungsjahr = null heißt alle Jahre
+     */
+    @Query("SELECT s.day AS day, SUM(s.stunden) AS stunden FROM NachweisStundenSumme s "
+            + "WHERE s.azubiId = :azubiId AND (:ausbildungsjahr IS NULL OR s.ausbildungsjahr = :ausbildungsjahr) "
+            + "GROUP BY s.day")
+    List<StundenProTag> summeProTagFuerAzubi(@Param("azubiId") UUID azubiId,
+            @Param("ausbildungsjahr") String ausbildungsjahr);
+
+    /**
+     * 🚀 Optimiert - Index (ausbildungsjahr, section) über den ganzen Jahrgang
+     */
+    @Query("SELECT s.section AS section, SUM(s.stunden) AS stunden, COUNT(DISTINCT s.azubiId) AS azubis "
+            + "FROM NachweisStundenSumme s WHERE s.ausbildungsjahr = :ausbildungsjahr "
+            + "GROUP BY s.section ORDER BY s.section")
+    List<StundenJahrgang> summeProSektionFuerJahrgang(@Param("ausbildungsjahr") String ausbildungsjahr);
+}
@@ -0,0 +1,28 @@
+package org.example.springboot.repository;
+
+import org.example.springboot.controller.nachweisController.dto.NachweisTrefferDto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 🔍 Volltextsuche über {@code nachweis.suchtext} (native, weil tsvector)
+ */
+public interface NachweisSucheRepository {
+
+    /**
+     * Setzt den Suchtext eines Nachweises (deutsches Stemming).
+     */
+    void suchtextSetzen(UUID nachweisId, String beschreibungen, String sektionen);
+
+    /**
+     * 🚀 Optimiert - Treffer nach Relevanz (rang, id) absteigend, Keyset statt
+     * OFFSET. Die Suche geht über den GIN-Index idx_nachweis_suchtext.
+     *
+     * @param suche   Suchbegriffe in Websuche-Syntax ("phrase", OR, -wort)
+     * @param rang    Rang der letzten Zeile (null = erste Seite)
+     * @param nachId  ID der letzten Zeile (null = erste Seite)
+     */
+    List<NachweisTrefferDto> sucheVolltext(String suche, UUID azubiId, UUID ausbilderId, Float rang, UUID nachId,
+            int limit);
+}
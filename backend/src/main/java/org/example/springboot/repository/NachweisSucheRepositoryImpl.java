@@ -0,0 +1,86 @@
+package org.example.springboot.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
+import org.example.springboot.controller.nachweisController.dto.NachweisTrefferDto;
+import org.example.springboot.model.Nachweis;
+import org.example.springboot.model.enums.EStatus;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+class NachweisSucheRepositoryImpl implements NachweisSucheRepository {
+
+    private static final String SUCHTEXT = "setweight(to_tsvector('german', :beschreibungen), 'A') || " +
+            "setweight(to_tsvector('german', :sektionen), 'B')";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public void suchtextSetzen(UUID nachweisId, String beschreibungen, String sektionen) {
+        entityManager.createNativeQuery("UPDATE nachweis SET suchtext = " + SUCHTEXT + " WHERE id = :id")
+                .unwrap(NativeQuery.class)
+                // nur Nachweis-Inserts vorher flushen, keine anderen Caches verwerfen
+                .addSynchronizedEntityClass(Nachweis.class)
+                .setParameter("beschreibungen", beschreibungen)
+                .setParameter("sektionen", sektionen)
+                .setParameter("id", nachweisId)
+                .executeUpdate();
+    }
+
+    @Override
+    public List<NachweisTrefferDto> sucheVolltext(String suche, UUID azubiId, UUID ausbilderId, Float rang,
+            UUID nachId, int limit) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT n.id, n.nummer, n.datum_start, n.datum_ende, n.ausbildungsjahr, n.status, " +
+                        "az.id AS azubi_id, az.name AS azubi_name, t.rang " +
+                        "FROM (SELECT n0.id, ts_rank(n0.suchtext, q) AS rang " +
+                        "FROM nachweis n0, websearch_to_tsquery('german', :suche) q " +
+                        "WHERE n0.suchtext @@ q");
+        if (azubiId != null) {
+            sql.append(" AND n0.azubi_id = :azubiId");
+        }
+        if (ausbilderId != null) {
+            sql.append(" AND n0.ausbilder_id = :ausbilderId");
+        }
+        sql.append(") t JOIN nachweis n ON n.id = t.id LEFT JOIN app_user az ON az.id = n.azubi_id");
+        if (nachId != null) {
+            sql.append(" WHERE (t.rang, t.id) < (CAST(:rang AS real), :nachId)");
+        }
+        sql.append(" ORDER BY t.rang DESC, t.id DESC LIMIT :limit");
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        query.setParameter("suche", suche);
+        if (azubiId != null) {
+            query.setParameter("azubiId", azubiId);
+        }
+        if (ausbilderId != null) {
+            query.setParameter("ausbilderId", ausbilderId);
+        }
+        if (nachId != null) {
+            query.setParameter("rang", rang);
+            query.setParameter("nachId", nachId);
+        }
+        query.setParameter("limit", limit);
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> zeilen = query.getResultList();
+        List<NachweisTrefferDto> treffer = new ArrayList<>(zeilen.size());
+        for (Object[] z : zeilen) {
+            treffer.add(new NachweisTrefferDto((UUID) z[0], ((Number) z[1]).intValue(), datum(z[2]), datum(z[3]),
+                    (String) z[4], z[5] != null ? EStatus.valueOf((String) z[5]) : null, (UUID) z[6],
+                    (String) z[7], ((Number) z[8]).floatValue()));
+        }
+        return treffer;
+    }
+
+    private static LocalDate datum(Object wert) {
+        return wert instanceof Date d ? d.toLocalDate() : (LocalDate) wert;
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.springboot.repository;
 
+import org.example.springboot.dto.NotificationResponse;
 import org.example.springboot.model.Notification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -18,7 +19,6 @@ import java.util.UUID;
  * Queries für Notification Management (Nachweis-fokussiert)
  * - Ungelesene Benachrichtigungen abrufen
  * - Benachrichtigungen markieren als gelesen
- * - Alte Benachrichtigungen löschen
  */
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, UUID> {
@@ -39,6 +39,56 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
             "ORDER BY n.createdAt DESC")
     Page<Notification> findByUserId(@Param("userId") UUID userId, Pageable pageable);
 
+    /**
+     * 🚀 Optimiert - Ungelesene als DTO-Projektion (kein recipient, keine
+     * User-Ladekette beim Serialisieren)
+     */
+    @Query(value = "SELECT new org.example.springboot.dto.NotificationResponse(" +
+            "n.id, n.title, n.message, n.type, n.status, n.nachweisId, n.createdAt, n.readAt, n.actionUrl) " +
+            "FROM Notification n WHERE n.recipient.id = :userId AND n.status = 'UNREAD' " +
+            "ORDER BY n.createdAt DESC",
+            countQuery = "SELECT COUNT(n) FROM Notification n " +
+                    "WHERE n.recipient.id = :userId AND n.status = 'UNREAD'")
+    Page<NotificationResponse> findUnreadResponsesByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    /**
+     * 🚀 Optimiert - Alle als DTO-Projektion
+     */
+    @Query(value = "SELECT new org.example.springboot.dto.NotificationResponse(" +
+            "n.id, n.title, n.message, n.type, n.status, n.nachweisId, n.createdAt, n.readAt, n.actionUrl) " +
+            "FROM Notification n WHERE n.recipient.id = :userId " +
+            "ORDER BY n.createdAt DESC",
+            countQuery = "SELECT COUNT(n) FROM Notification n WHERE n.recipient.id = :userId")
+    Page<NotificationResponse> findResponsesByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    /**
+     * 🚀 Optimiert - Keyset auf (createdAt, id) absteigend: erste Seite
+     */
+    @Query("SELECT new org.example.springboot.dto.NotificationResponse(" +
+            "n.id, n.title, n.message, n.type, n.status, n.nachweisId, n.createdAt, n.readAt, n.actionUrl) " +
+            "FROM Notification n WHERE n.recipient.id = :userId " +
+            "AND (:nurUngelesen = false OR n.status = 'UNREAD') " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationResponse> findErsteSeiteKeyset(@Param("userId") UUID userId,
+            @Param("nurUngelesen") boolean nurUngelesen, Pageable limit);
+
+    /**
+     * 🚀 Optimiert - Keyset auf (createdAt, id) absteigend: nach der letzten
+     * Zeile weiter
+     */
+    @Query("SELECT new org.example.springboot.dto.NotificationResponse(" +
+            "n.id, n.title, n.message, n.type, n.status, n.nachweisId, n.createdAt, n.readAt, n.actionUrl) " +
+            "FROM Notification n WHERE n.recipient.id = :userId " +
+            "AND (:nurUngelesen = false OR n.status = 'UNREAD') " +
+            "AND (n.createdAt, n.id) < (:vorZeit, :vorId) " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationResponse> findSeiteNachKeyset(@Param("userId") UUID userId,
+            @Param("nurUngelesen") boolean nurUngelesen, @Param("vorZeit") LocalDateTime vorZeit,
+            @Param("vorId") UUID vorId, Pageable limit);
+
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.recipient.id = :userId")
+    long countByUserId(@Param("userId") UUID userId);
+
     /**
      * Zähle ungelesene Benachrichtigungen
      */
@@ -46,6 +96,14 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
             "WHERE n.recipient.id = :userId AND n.status = 'UNREAD'")
     long countUnreadByUserId(@Param("userId") UUID userId);
 
+    /**
+     * 🚀 Optimiert - Ungelesene für viele User in einer Query (Zähler-Abgleich)
+     */
+    @Query("SELECT n.recipient.id, COUNT(n) FROM Notification n " +
+            "WHERE n.recipient.id IN :userIds AND n.status = 'UNREAD' " +
+            "GROUP BY n.recipient.id")
+    List<Object[]> countUnreadGroupedByUserIds(@Param("userIds") java.util.Collection<UUID> userIds);
+
     /**
      * Markiere alle Benachrichtigungen als gelesen
      */
@@ -56,18 +114,12 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
 
     /**
      * Markiere spezifische Benachrichtigung als gelesen
+     * (0 = nicht gefunden oder war schon gelesen)
      */
     @Modifying
     @Query("UPDATE Notification n SET n.status = 'READ', n.readAt = CURRENT_TIMESTAMP " +
-            "WHERE n.id = :id AND n.recipient.id = :userId")
-    void markAsRead(@Param("id") UUID id, @Param("userId") UUID userId);
-
-    /**
-     * Lösche alte Benachrichtigungen (älter als X Tage)
-     */
-    @Modifying
-    @Query("DELETE FROM Notification n WHERE n.createdAt < :beforeDate")
-    void deleteOlderThan(@Param("beforeDate") LocalDateTime beforeDate);
+            "WHERE n.id = :id AND n.recipient.id = :userId AND n.status = 'UNREAD'")
+    int markAsRead(@Param("id") UUID id, @Param("userId") UUID userId);
 
     /**
      * Finde Benachrichtigungen nach Nachweis ID
@@ -1,10 +1,31 @@
 package org.example.springboot.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.springboot.model.RoleAudit;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
 @Repository
 public interface RoleAuditRepository extends JpaRepository<RoleAudit, Long> {
 
+    /**
+     * 🚀 Server-seitiger Cursor für den Export - muss innerhalb einer
+     * Transaktion konsumiert und geschlossen werden.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT r FROM RoleAudit r " +
+            "WHERE r.performedAt >= :von AND r.performedAt < :bis " +
+            "ORDER BY r.performedAt")
+    Stream<RoleAudit> streamByZeitraum(@Param("von") LocalDateTime von, @Param("bis") LocalDateTime bis);
 }
@@ -0,0 +1,17 @@
+package org.example.springboot.repository;
+
+import org.example.springboot.model.Role;
+import org.example.springboot.model.enums.ERole;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 💾 Rollen-Lookup über die Natural ID statt per JPQL - eine abgeleitete
+ * Query ginge immer an die DB, so kommt die Rolle aus dem L2-Cache.
+ */
+public interface RoleNaturalIdRepository {
+
+    @Transactional(readOnly = true)
+    Optional<Role> findByName(ERole name);
+}
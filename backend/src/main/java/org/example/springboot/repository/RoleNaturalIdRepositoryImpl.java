@@ -0,0 +1,20 @@
+package org.example.springboot.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.example.springboot.model.Role;
+import org.example.springboot.model.enums.ERole;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+@RequiredArgsConstructor
+class RoleNaturalIdRepositoryImpl implements RoleNaturalIdRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Optional<Role> findByName(ERole name) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(Role.class).loadOptional(name);
+    }
+}
@@ -1,15 +1,12 @@
 package org.example.springboot.repository;
 
 import org.example.springboot.model.Role;
-import org.example.springboot.model.enums.ERole;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface RoleRepository extends JpaRepository<Role, UUID> {
-    Optional<Role> findByName(ERole name);
+public interface RoleRepository extends JpaRepository<Role, UUID>, RoleNaturalIdRepository {
 }
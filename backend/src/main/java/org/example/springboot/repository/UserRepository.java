@@ -1,37 +1,63 @@
 package org.example.springboot.repository;
 
+import org.example.springboot.controller.userController.dto.BenutzerVorschlag;
 import org.example.springboot.model.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.example.springboot.model.enums.ERole;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID>, JpaSpecificationExecutor<User> {
 
     /**
-     * 🚀 Optimiert für Authentication - lädt Roles eager
+     * 🚀 Optimiert für Authentication - lädt Roles, aber keinen Trainer
      */
-    @EntityGraph(attributePaths = { "roles" })
+    @EntityGraph(User.GRAPH_AUTH)
     Optional<User> findByUsername(String username);
 
+    /**
+     * 🚀 Optimiert für Profil-Anzeige - User, Roles und Trainer in einem Select
+     */
+    @EntityGraph(User.GRAPH_PROFIL)
+    Optional<User> findProfilByUsername(String username);
+
     Boolean existsByUsername(String username);
 
+    /**
+     * 🚀 Nur die ID - wenn der Rest des Users gar nicht gebraucht wird
+     */
+    @Query("SELECT u.id FROM User u WHERE u.username = :username")
+    Optional<UUID> findIdByUsername(@Param("username") String username);
+
     Boolean existsByEmail(String email);
 
     /**
      * 🚀 Optimiert für Login - lädt Roles eager um LazyInitializationException zu
-     * vermeiden
+     * vermeiden. Läuft bei jedem Request (JwtAuthenticationFilter) - darum
+     * bewusst ohne Trainer.
      */
-    @EntityGraph(attributePaths = { "roles" })
+    @EntityGraph(User.GRAPH_AUTH)
     Optional<User> findByEmail(String email);
 
+    /**
+     * 🚀 Optimiert für die Admin-Liste - Trainer per Join, Roles gebündelt
+     */
+    @Override
+    @EntityGraph(User.GRAPH_ADMIN_LISTE)
+    Page<User> findAll(Specification<User> spec, Pageable pageable);
+
     // Count users that have a role with the given enum name
     long countByRoles_Name(ERole roleName);
 
@@ -47,4 +73,40 @@ public interface UserRepository extends JpaRepository<User, UUID>, JpaSpecificat
     @Query(value = "SELECT u FROM User u LEFT JOIN FETCH u.roles WHERE u.trainer = :trainer")
     List<User> findAllByTrainer(User trainer);
 
+    /**
+     * 🚀 Optimiert für Fan-out - nur IDs, keine User-Entities
+     */
+    @Query("SELECT u.id FROM User u JOIN u.roles r WHERE r.name = :roleName")
+    List<UUID> findIdsByRoleName(@Param("roleName") ERole roleName);
+
+    @Query("SELECT u.id FROM User u WHERE u.trainer.id = :trainerId")
+    List<UUID> findIdsByTrainerId(@Param("trainerId") UUID trainerId);
+
+    /**
+     * 🚀 Filtert eine ID-Liste auf existierende User (eine Query statt N x
+     * findById)
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * 🚀 Optimiert - Autocomplete ohne In-Memory-Index: Präfix auf
+     * lower(username) / lower(name), Indizes idx_app_user_*_praefix
+     */
+    @Query("SELECT new org.example.springboot.controller.userController.dto.BenutzerVorschlag(u.id, u.username, u.name) " +
+            "FROM User u WHERE lower(u.username) LIKE :praefix ESCAPE '\\' OR lower(u.name) LIKE :praefix ESCAPE '\\' " +
+            "ORDER BY u.username")
+    List<BenutzerVorschlag> findVorschlaegeNachPraefix(@Param("praefix") String praefix, Pageable limit);
+
+    /**
+     * 🚀 Nur id, username und name aller User (Aufbau des Präfix-Index)
+     */
+    @Query("SELECT new org.example.springboot.controller.userController.dto.BenutzerVorschlag(u.id, u.username, u.name) " +
+            "FROM User u")
+    List<BenutzerVorschlag> findAlleVorschlaege();
+
+    @Query("SELECT new org.example.springboot.controller.userController.dto.BenutzerVorschlag(u.id, u.username, u.name) " +
+            "FROM User u WHERE u.id = :id")
+    Optional<BenutzerVorschlag> findVorschlagById(@Param("id") UUID id);
+
 }
@@ -0,0 +1,18 @@
+package org.example.springboot.repository.projection;
+
+import org.example.springboot.model.enums.EStatus;
+
+import java.util.UUID;
+
+/**
+ * 📊 Anzahl Nachweise pro Azubi und Status (Ausbilder-Dashboard)
+ */
+public interface AzubiStatusAnzahl {
+    UUID getAzubiId();
+
+    String getAzubiName();
+
+    EStatus getStatus();
+
+    long getAnzahl();
+}
@@ -0,0 +1,15 @@
+package org.example.springboot.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * 🚀 Schlanke Projektion: nur das, was man braucht, um das PDF eines
+ * Nachweises zu finden (ohne Activities und User-Entities zu laden)
+ */
+public interface NachweisPdfRef {
+    UUID getId();
+
+    UUID getAzubiId();
+
+    String getAzubiName();
+}
@@ -0,0 +1,15 @@
+package org.example.springboot.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * 📊 Stunden pro Sektion über einen ganzen Jahrgang, mit Anzahl der Azubis
+ * (für den Schnitt pro Kopf)
+ */
+public interface StundenJahrgang {
+    String getSection();
+
+    BigDecimal getStunden();
+
+    long getAzubis();
+}
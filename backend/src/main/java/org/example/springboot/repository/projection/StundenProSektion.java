@@ -0,0 +1,14 @@
+package org.example.springboot.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * 📊 Stunden-Summe pro Ausbildungsjahr und Sektion (ein Azubi)
+ */
+public interface StundenProSektion {
+    String getAusbildungsjahr();
+
+    String getSection();
+
+    BigDecimal getStunden();
+}
@@ -0,0 +1,14 @@
+package org.example.springboot.repository.projection;
+
+import org.example.springboot.model.enums.Weekday;
+
+import java.math.BigDecimal;
+
+/**
+ * 📊 Stunden-Summe pro Wochentag
+ */
+public interface StundenProTag {
+    Weekday getDay();
+
+    BigDecimal getStunden();
+}
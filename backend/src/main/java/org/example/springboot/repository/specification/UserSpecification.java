@@ -1,28 +1,56 @@
 package org.example.springboot.repository.specification;
 
+import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
 import org.example.springboot.model.User;
 import org.example.springboot.model.enums.ERole;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.Locale;
+import java.util.UUID;
+
 public class UserSpecification {
 
+    public static final char LIKE_ESCAPE = '\\';
+
+    /**
+     * Suchbegriffe kürzer als das matchen nur als Präfix - ein Trigramm-Index
+     * kann '%ab%' nicht eingrenzen, 'ab%' geht über den B-Tree.
+     */
+    public static final int TRIGRAMM_MIN_LAENGE = 3;
+
+    /**
+     * 🔍 Suche in username und name. Die Prädikate ({@code lower(spalte) LIKE})
+     * passen auf die Ausdrucks-Indizes aus V21 - ab {@link #TRIGRAMM_MIN_LAENGE}
+     * Zeichen Teilstring über Trigramme, darunter Präfix über text_pattern_ops.
+     */
     public static Specification<User> searchByTerm(String searchTerm) {
         return (root, query, criteriaBuilder) -> {
             if (searchTerm == null || searchTerm.isBlank()) {
                 return criteriaBuilder.conjunction();
             }
 
-            String lowerCaseSearchTerm = searchTerm.toLowerCase();
-            String likePattern = "%" + lowerCaseSearchTerm + "%";
+            String begriff = likeEscapen(searchTerm.strip().toLowerCase(Locale.ROOT));
+            String likePattern = searchTerm.strip().length() < TRIGRAMM_MIN_LAENGE
+                    ? begriff + "%"
+                    : "%" + begriff + "%";
 
-            Predicate usernamePredicate = criteriaBuilder.like(criteriaBuilder.lower(root.get("username")), likePattern);
-            Predicate namePredicate = criteriaBuilder.like(criteriaBuilder.lower(root.get("name")), likePattern);
+            Predicate usernamePredicate = criteriaBuilder.like(criteriaBuilder.lower(root.get("username")), likePattern,
+                    LIKE_ESCAPE);
+            Predicate namePredicate = criteriaBuilder.like(criteriaBuilder.lower(root.get("name")), likePattern,
+                    LIKE_ESCAPE);
 
             return criteriaBuilder.or(usernamePredicate, namePredicate);
         };
     }
 
+    /**
+     * % und _ aus Benutzereingaben sind Text, keine Platzhalter
+     */
+    public static String likeEscapen(String begriff) {
+        return begriff.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
     public static Specification<User> hasTeam(String team) {
         return (root, query, criteriaBuilder) ->
             team == null ? criteriaBuilder.conjunction() : criteriaBuilder.equal(root.get("team"), team);
@@ -52,4 +80,44 @@ public class UserSpecification {
             }
         };
     }
+
+    /**
+     * 🔖 Keyset-Bedingung: alles nach (username, id) der letzten Zeile.
+     * Ohne Cursor (nachId == null) keine Einschränkung. Criteria kennt keinen
+     * Row-Value-Vergleich, deshalb steht {@code username >= :u} zusätzlich
+     * vorne - daran kann PostgreSQL den Index-Scan starten, das OR filtert
+     * nur noch die paar Zeilen mit gleichem Username.
+     */
+    public static Specification<User> nachKeyset(String username, UUID nachId, boolean aufsteigend) {
+        return (root, query, criteriaBuilder) -> {
+            if (nachId == null) {
+                return criteriaBuilder.conjunction();
+            }
+            if (aufsteigend) {
+                return criteriaBuilder.and(
+                        criteriaBuilder.greaterThanOrEqualTo(root.get("username"), username),
+                        criteriaBuilder.or(
+                                criteriaBuilder.greaterThan(root.get("username"), username),
+                                criteriaBuilder.greaterThan(root.get("id"), nachId)));
+            }
+            return criteriaBuilder.and(
+                    criteriaBuilder.lessThanOrEqualTo(root.get("username"), username),
+                    criteriaBuilder.or(
+                            criteriaBuilder.lessThan(root.get("username"), username),
+                            criteriaBuilder.lessThan(root.get("id"), nachId)));
+        };
+    }
+
+    /**
+     * 🚀 Trainer im selben Select mitladen (nur für Listen-Queries, nicht für
+     * COUNT).
+     */
+    public static Specification<User> mitTrainer() {
+        return (root, query, criteriaBuilder) -> {
+            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
+                root.fetch("trainer", JoinType.LEFT);
+            }
+            return criteriaBuilder.conjunction();
+        };
+    }
 }
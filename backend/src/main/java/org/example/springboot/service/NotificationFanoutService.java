@@ -0,0 +1,126 @@
+package org.example.springboot.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.example.springboot.model.Notification;
+import org.example.springboot.model.enums.ERole;
+import org.example.springboot.repository.UserRepository;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 📢 **Was geht hier ab?**
+ * Eine Ankündigung an alle Azubis eines Ausbilders oder gleich an alle User
+ * war bisher N x findById + N x save. Hier läuft das so:
+ *
+ * - Empfänger werden nur als IDs aufgelöst (explizite Liste, Rolle oder
+ * Azubis eines Ausbilders) - keine User-Entities.
+ * - Die Benachrichtigungen referenzieren den User per getReferenceById und
+ * gehen chunkweise als JDBC-Batch-Insert raus, ein Chunk = eine Transaktion.
+ * - Zähler und Push passieren pro Chunk gesammelt nach dem Commit.
+ * - Optional asynchron über den {@code notificationFanoutExecutor}.
+ */
+@Slf4j
+@Service
+public class NotificationFanoutService {
+
+    private final NotificationService notificationService;
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor executor;
+    private final int chunkGroesse;
+
+    public NotificationFanoutService(NotificationService notificationService,
+            UserRepository userRepository,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("notificationFanoutExecutor") TaskExecutor executor,
+            @Value("${notification.fanout.chunk-groesse:500}") int chunkGroesse) {
+        this.notificationService = notificationService;
+        this.userRepository = userRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = executor;
+        this.chunkGroesse = Math.max(1, chunkGroesse);
+    }
+
+    /**
+     * 🎯 Empfänger auflösen. Genau eine Quelle sollte gesetzt sein - werden
+     * mehrere angegeben, wird die Vereinigung genommen.
+     */
+    public List<UUID> empfaengerAufloesen(Collection<UUID> userIds, ERole rolle, UUID trainerId) {
+        LinkedHashSet<UUID> empfaenger = new LinkedHashSet<>();
+        if (userIds != null && !userIds.isEmpty()) {
+            List<UUID> ids = new ArrayList<>(new LinkedHashSet<>(userIds));
+            for (int i = 0; i < ids.size(); i += chunkGroesse) {
+                // Unbekannte IDs fliegen raus, sonst knallt der Fremdschlüssel im Batch
+                empfaenger.addAll(userRepository.findExistingIds(ids.subList(i, Math.min(i + chunkGroesse,
+                        ids.size()))));
+            }
+        }
+        if (rolle != null) {
+            empfaenger.addAll(userRepository.findIdsByRoleName(rolle));
+        }
+        if (trainerId != null) {
+            empfaenger.addAll(userRepository.findIdsByTrainerId(trainerId));
+        }
+        return new ArrayList<>(empfaenger);
+    }
+
+    /**
+     * 📢 Benachrichtigung an alle Empfänger schreiben (synchron)
+     *
+     * @return Anzahl erstellter Benachrichtigungen
+     */
+    public int verteilen(List<UUID> empfaenger, String title, String message, Notification.NotificationType type,
+            UUID nachweisId, String actionUrl) {
+        long start = System.currentTimeMillis();
+        int erstellt = 0;
+        for (int i = 0; i < empfaenger.size(); i += chunkGroesse) {
+            List<UUID> chunk = empfaenger.subList(i, Math.min(i + chunkGroesse, empfaenger.size()));
+            Integer anzahl = transactionTemplate.execute(status -> {
+                // Ganzer Chunk in möglichst wenigen Roundtrips statt der globalen 20er-Batches
+                entityManager.unwrap(Session.class).setJdbcBatchSize(chunk.size());
+                List<Notification> notifications = new ArrayList<>(chunk.size());
+                for (UUID userId : chunk) {
+                    notifications.add(notificationService.buildNotification(userId, title, message, type,
+                            nachweisId, actionUrl));
+                }
+                int gespeichert = notificationService.createNotifications(notifications).size();
+                entityManager.flush();
+                entityManager.clear();
+                return gespeichert;
+            });
+            erstellt += anzahl != null ? anzahl : 0;
+        }
+        log.info("📢 Fan-out '{}' an {} Empfänger in {} ms", title, erstellt, System.currentTimeMillis() - start);
+        return erstellt;
+    }
+
+    /**
+     * 📢 Wie {@link #verteilen}, aber im Hintergrund
+     */
+    public CompletableFuture<Integer> verteilenAsync(List<UUID> empfaenger, String title, String message,
+            Notification.NotificationType type, UUID nachweisId, String actionUrl) {
+        return CompletableFuture.supplyAsync(
+                () -> verteilen(empfaenger, title, message, type, nachweisId, actionUrl), executor)
+                .whenComplete((anzahl, e) -> {
+                    if (e != null) {
+                        log.error("❌ Fan-out '{}' fehlgeschlagen: {}", title, e.getMessage(), e);
+                    }
+                });
+    }
+}
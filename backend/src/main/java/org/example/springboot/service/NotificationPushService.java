@@ -0,0 +1,236 @@
+package org.example.springboot.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.springboot.dto.NotificationEvent;
+import org.example.springboot.dto.NotificationResponse;
+import org.example.springboot.model.Notification;
+import org.example.springboot.util.TransaktionsHelfer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * 📡 **Was geht hier ab?**
+ * Statt dass jedes Frontend alle paar Sekunden /count und /notifications
+ * pollt (2 Queries pro User, auch wenn sich nix getan hat), hält jeder
+ * eingeloggte User eine SSE-Verbindung offen. Passiert was, bekommt er das
+ * Delta plus den aktuellen Unread-Count gepusht.
+ *
+ * - **verbinden()**: Neuer Stream für den User, erstes Event = aktueller Count.
+ * - **veroeffentlichen()**: Wird vom {@link NotificationService} aufgerufen,
+ * schickt das Event erst nach dem Commit über Redis Pub/Sub an alle Nodes.
+ * - **onMessage()**: Jeder Node liefert nur an seine lokal verbundenen
+ * Emitter aus. Der Count kommt aus dem {@link NotificationZaehlerService}.
+ */
+@Slf4j
+@Service
+public class NotificationPushService implements MessageListener {
+
+    static final String KANAL = "notifications:push";
+
+    private final NotificationZaehlerService zaehlerService;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final long timeoutMs;
+    private final int maxVerbindungenProUser;
+
+    private final Map<UUID, Set<SseEmitter>> emitter = new ConcurrentHashMap<>();
+
+    public NotificationPushService(NotificationZaehlerService zaehlerService,
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            ObjectMapper objectMapper,
+            @Value("${notification.stream.timeout-ms:1800000}") long timeoutMs,
+            @Value("${notification.stream.max-verbindungen-pro-user:5}") int maxVerbindungenProUser) {
+        this.zaehlerService = zaehlerService;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.timeoutMs = timeoutMs;
+        this.maxVerbindungenProUser = maxVerbindungenProUser;
+    }
+
+    @PostConstruct
+    void abonnieren() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(KANAL));
+    }
+
+    /**
+     * 🔌 Neuen SSE-Stream für einen User öffnen
+     */
+    public SseEmitter verbinden(UUID userId) {
+        SseEmitter neu = new SseEmitter(timeoutMs);
+        List<SseEmitter> rausgeworfen = new ArrayList<>();
+        // Rauswerfen und Hinzufügen atomar - sonst kann entfernen() das Set
+        // dazwischen aus der Map nehmen und der neue Tab landet im Nirvana
+        Set<SseEmitter> verbindungen = emitter.compute(userId, (id, vorhanden) -> {
+            Set<SseEmitter> set = vorhanden != null ? vorhanden : new CopyOnWriteArraySet<>();
+            // Zu viele offene Tabs? Die ältesten rauswerfen
+            Iterator<SseEmitter> aelteste = set.iterator();
+            while (set.size() >= Math.max(1, maxVerbindungenProUser) && aelteste.hasNext()) {
+                SseEmitter aeltester = aelteste.next();
+                set.remove(aeltester);
+                rausgeworfen.add(aeltester);
+            }
+            set.add(neu);
+            return set;
+        });
+        // complete() erst außerhalb von compute - der Callback ruft entfernen() auf
+        rausgeworfen.forEach(SseEmitter::complete);
+
+        neu.onCompletion(() -> entfernen(userId, neu));
+        neu.onTimeout(() -> entfernen(userId, neu));
+        neu.onError(e -> entfernen(userId, neu));
+
+        NotificationEvent init = new NotificationEvent(userId, null, null, null,
+                zaehlerService.anzahl(userId));
+        senden(userId, neu, "init", init);
+        log.debug("📡 SSE-Stream geöffnet für User {} ({} Verbindungen)", userId, verbindungen.size());
+        return neu;
+    }
+
+    /**
+     * 📨 Event nach dem Commit an alle Nodes verteilen. Ohne laufende
+     * Transaktion geht es sofort raus.
+     */
+    public void veroeffentlichen(UUID userId, NotificationEvent.Typ typ, Notification notification) {
+        NotificationEvent event = new NotificationEvent(userId, typ,
+                notification != null ? notification.getId() : null,
+                notification != null ? NotificationResponse.fromEntity(notification) : null,
+                null);
+        TransaktionsHelfer.nachCommit(() -> publizieren(event));
+    }
+
+    /**
+     * 📦 Viele neue Benachrichtigungen (Fan-out) in einem Pipeline-Roundtrip
+     * veröffentlichen
+     */
+    public void veroeffentlichenAlle(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        List<NotificationEvent> events = notifications.stream()
+                .map(n -> new NotificationEvent(n.getRecipient().getId(), NotificationEvent.Typ.NEU, n.getId(),
+                        NotificationResponse.fromEntity(n), null))
+                .toList();
+        Runnable publizierenAlle = () -> {
+            try {
+                byte[] kanal = KANAL.getBytes(StandardCharsets.UTF_8);
+                List<byte[]> nachrichten = new ArrayList<>(events.size());
+                for (NotificationEvent event : events) {
+                    nachrichten.add(objectMapper.writeValueAsBytes(event));
+                }
+                redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    nachrichten.forEach(nachricht -> connection.publish(kanal, nachricht));
+                    return null;
+                });
+            } catch (Exception e) {
+                log.warn("⚠️ Redis Pub/Sub nicht erreichbar, liefere nur lokal aus: {}", e.getMessage());
+                events.forEach(this::lokalAusliefern);
+            }
+        };
+        TransaktionsHelfer.nachCommit(publizierenAlle);
+    }
+
+    public void veroeffentlichen(UUID userId, NotificationEvent.Typ typ, UUID notificationId) {
+        NotificationEvent event = new NotificationEvent(userId, typ, notificationId, null, null);
+        TransaktionsHelfer.nachCommit(() -> publizieren(event));
+    }
+
+    /**
+     * 📥 Event aus Redis - nur ausliefern, wenn der User hier verbunden ist
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            NotificationEvent event = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), NotificationEvent.class);
+            lokalAusliefern(event);
+        } catch (Exception e) {
+            log.error("Konnte Notification-Event nicht verarbeiten: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 💓 Kommentar-Ping, damit Proxies/Load Balancer die Verbindung nicht
+     * wegen Inaktivität kappen - und tote Emitter aufgeräumt werden.
+     */
+    @Scheduled(fixedRateString = "${notification.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        emitter.forEach((userId, verbindungen) -> {
+            for (SseEmitter e : verbindungen) {
+                try {
+                    e.send(SseEmitter.event().comment("ping"));
+                } catch (IOException | IllegalStateException ex) {
+                    entfernen(userId, e);
+                }
+            }
+        });
+    }
+
+    public int anzahlVerbindungen() {
+        return emitter.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void publizieren(NotificationEvent event) {
+        try {
+            redisTemplate.convertAndSend(KANAL, objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            log.error("Konnte Notification-Event nicht serialisieren: {}", e.getMessage());
+        } catch (Exception e) {
+            // Redis weg? Dann wenigstens die lokal verbundenen User bedienen
+            log.warn("⚠️ Redis Pub/Sub nicht erreichbar, liefere nur lokal aus: {}", e.getMessage());
+            lokalAusliefern(event);
+        }
+    }
+
+    private void lokalAusliefern(NotificationEvent event) {
+        Set<SseEmitter> verbindungen = emitter.get(event.getUserId());
+        if (verbindungen == null || verbindungen.isEmpty()) {
+            return;
+        }
+        event.setUnreadCount(zaehlerService.anzahl(event.getUserId()));
+        String name = event.getTyp().name().toLowerCase();
+        for (SseEmitter e : verbindungen) {
+            senden(event.getUserId(), e, name, event);
+        }
+    }
+
+    private void senden(UUID userId, SseEmitter e, String name, NotificationEvent event) {
+        try {
+            e.send(SseEmitter.event().name(name).data(event, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException ex) {
+            entfernen(userId, e);
+        }
+    }
+
+    private void entfernen(UUID userId, SseEmitter e) {
+        emitter.computeIfPresent(userId, (id, verbindungen) -> {
+            verbindungen.remove(e);
+            return verbindungen.isEmpty() ? null : verbindungen;
+        });
+    }
+}
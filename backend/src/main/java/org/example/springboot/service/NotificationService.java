@@ -2,15 +2,23 @@ package org.example.springboot.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.springboot.dto.CursorPage;
+import org.example.springboot.dto.NotificationEvent;
+import org.example.springboot.dto.NotificationResponse;
 import org.example.springboot.model.Notification;
 import org.example.springboot.model.User;
 import org.example.springboot.repository.NotificationRepository;
 import org.example.springboot.repository.UserRepository;
+import org.example.springboot.util.KeysetCursor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.Optional;
 
@@ -21,7 +29,7 @@ import java.util.Optional;
  * - Neue Benachrichtigungen für Nachweise erstellen
  * - Benachrichtigungen abrufen (paginiert)
  * - Status updaten
- * - Cleanup alter Benachrichtigungen
+ * - Cleanup alter Benachrichtigungen: siehe RetentionService
  */
 @Service
 @Transactional
@@ -31,6 +39,8 @@ public class NotificationService {
 
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
+    private final NotificationZaehlerService zaehlerService;
+    private final NotificationPushService pushService;
 
     /**
      * 📨 Neue Benachrichtigung für Nachweis erstellen und speichern
@@ -55,10 +65,51 @@ public class NotificationService {
         notification.setCreatedAt(LocalDateTime.now());
 
         Notification saved = notificationRepository.save(notification);
+        zaehlerService.erhoehen(userId, 1);
+        pushService.veroeffentlichen(userId, NotificationEvent.Typ.NEU, saved);
         log.info("✅ Notification erstellt für User {}: {}", userId, title);
         return saved;
     }
 
+    /**
+     * 🧱 Baut eine Benachrichtigung ohne sie zu speichern - der Empfänger wird
+     * nur als Referenz gesetzt (kein SELECT pro User). Für Batch-Inserts über
+     * {@link #createNotifications(List)}.
+     */
+    public Notification buildNotification(UUID userId, String title, String message,
+            Notification.NotificationType type,
+            UUID nachweisId, String actionUrl) {
+        Notification notification = new Notification();
+        notification.setRecipient(userRepository.getReferenceById(userId));
+        notification.setTitle(title);
+        notification.setMessage(message);
+        notification.setType(type);
+        notification.setStatus(Notification.NotificationStatus.UNREAD);
+        notification.setNachweisId(nachweisId);
+        notification.setActionUrl(actionUrl);
+        notification.setCreatedAt(LocalDateTime.now());
+        return notification;
+    }
+
+    /**
+     * 📦 Viele Benachrichtigungen auf einmal speichern (ein saveAll statt N x
+     * findById + save, JDBC-Batching über hibernate.jdbc.batch_size)
+     */
+    public List<Notification> createNotifications(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return notifications;
+        }
+        List<Notification> saved = notificationRepository.saveAll(notifications);
+        Map<UUID, Long> proEmpfaenger = new HashMap<>();
+        for (Notification n : saved) {
+            proEmpfaenger.merge(n.getRecipient().getId(), 1L, Long::sum);
+        }
+        zaehlerService.erhoehenAlle(proEmpfaenger);
+        pushService.veroeffentlichenAlle(saved);
+        log.info("✅ {} Notifications im Batch erstellt", saved.size());
+        return saved;
+    }
+
     /**
      * 🔔 Schnelle Notification-Erstellung mit Defaults
      */
@@ -71,31 +122,60 @@ public class NotificationService {
      * 📋 Alle ungelesenen Benachrichtigungen abrufen (paginiert)
      */
     @Transactional(readOnly = true)
-    public Page<Notification> getUnreadNotifications(UUID userId, Pageable pageable) {
-        return notificationRepository.findUnreadByUserId(userId, pageable);
+    public Page<NotificationResponse> getUnreadNotifications(UUID userId, Pageable pageable) {
+        return notificationRepository.findUnreadResponsesByUserId(userId, pageable);
     }
 
     /**
      * 📋 Alle Benachrichtigungen abrufen (paginiert)
      */
     @Transactional(readOnly = true)
-    public Page<Notification> getAllNotifications(UUID userId, Pageable pageable) {
-        return notificationRepository.findByUserId(userId, pageable);
+    public Page<NotificationResponse> getAllNotifications(UUID userId, Pageable pageable) {
+        return notificationRepository.findResponsesByUserId(userId, pageable);
     }
 
     /**
-     * 📊 Zähle ungelesene Benachrichtigungen
+     * 🔖 Benachrichtigungen mit Keyset-Pagination (neueste zuerst)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<NotificationResponse> getNotificationsMitCursor(UUID userId, boolean nurUngelesen,
+            String cursor, int size, boolean mitAnzahl) {
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<NotificationResponse> geladen;
+        if (cursor == null || cursor.isBlank()) {
+            geladen = notificationRepository.findErsteSeiteKeyset(userId, nurUngelesen, limit);
+        } else {
+            String[] teile = KeysetCursor.decode(cursor, 2);
+            geladen = notificationRepository.findSeiteNachKeyset(userId, nurUngelesen,
+                    LocalDateTime.parse(teile[0]), UUID.fromString(teile[1]), limit);
+        }
+        CursorPage<NotificationResponse> seite = CursorPage.aus(geladen, size,
+                n -> KeysetCursor.encode(n.getCreatedAt().toString(), n.getId().toString()));
+        if (mitAnzahl) {
+            // Ungelesene kommen aus dem Redis-Zähler, alle nur auf Wunsch per COUNT
+            seite.setTotalElements(nurUngelesen ? zaehlerService.anzahl(userId)
+                    : notificationRepository.countByUserId(userId));
+        }
+        return seite;
+    }
+
+    /**
+     * 📊 Zähle ungelesene Benachrichtigungen (Redis-Zähler, DB nur beim ersten
+     * Mal)
      */
     @Transactional(readOnly = true)
     public long getUnreadCount(UUID userId) {
-        return notificationRepository.countUnreadByUserId(userId);
+        return zaehlerService.anzahl(userId);
     }
 
     /**
      * ✅ Markiere Benachrichtigung als gelesen
      */
     public void markAsRead(UUID notificationId, UUID userId) {
-        notificationRepository.markAsRead(notificationId, userId);
+        if (notificationRepository.markAsRead(notificationId, userId) > 0) {
+            zaehlerService.verringern(userId);
+        }
+        pushService.veroeffentlichen(userId, NotificationEvent.Typ.GELESEN, notificationId);
         log.debug("Notification {} als gelesen markiert", notificationId);
     }
 
@@ -104,6 +184,8 @@ public class NotificationService {
      */
     public void markAllAsRead(UUID userId) {
         notificationRepository.markAllAsRead(userId);
+        zaehlerService.zuruecksetzen(userId);
+        pushService.veroeffentlichen(userId, NotificationEvent.Typ.ALLE_GELESEN, (UUID) null);
         log.info("Alle Notifications für User {} als gelesen markiert", userId);
     }
 
@@ -115,22 +197,16 @@ public class NotificationService {
         Optional<Notification> notification = notificationRepository.findById(notificationId);
         if (notification.isPresent() && notification.get().getRecipient().getId().equals(userId)) {
             notificationRepository.delete(notification.get());
+            if (notification.get().getStatus() == Notification.NotificationStatus.UNREAD) {
+                zaehlerService.verringern(userId);
+            }
+            pushService.veroeffentlichen(userId, NotificationEvent.Typ.GELOESCHT, notificationId);
             log.info("Notification {} gelöscht", notificationId);
         } else {
             log.warn("Unauthorized delete attempt für Notification {}", notificationId);
         }
     }
 
-    /**
-     * 🧹 Cleanup: Lösche Benachrichtigungen älter als X Tage
-     * Sollte als Scheduled Task aufgerufen werden
-     */
-    public void deleteOldNotifications(int daysToKeep) {
-        LocalDateTime beforeDate = LocalDateTime.now().minusDays(daysToKeep);
-        notificationRepository.deleteOlderThan(beforeDate);
-        log.info("✅ Alte Benachrichtigungen (vor {}) gelöscht", beforeDate);
-    }
-
     /**
      * 🎯 Finde Benachrichtigungen nach Nachweis ID
      */
@@ -0,0 +1,202 @@
+package org.example.springboot.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.springboot.repository.NotificationRepository;
+import org.example.springboot.util.TransaktionsHelfer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 🔢 **Was geht hier ab?**
+ * Der Badge-Count war bisher ein COUNT über die notifications-Tabelle - bei
+ * jedem Refresh. Jetzt liegt pro User ein Zähler in Redis:
+ *
+ * - **anzahl()**: ein GET. Fehlt der Key (neuer User, abgelaufen, Redis
+ * geleert), wird einmal aus der DB gezählt und der Key gesetzt.
+ * - **erhoehen()/verringern()**: atomar per Lua-Skript, erst nach dem
+ * Commit. Existiert der Key nicht, wird nix angelegt - das macht der
+ * nächste Lesezugriff mit dem echten Wert. **zuruecksetzen()** löscht den Key.
+ * - **abgleichen()**: Ein Scheduler vergleicht alle vorhandenen Zähler
+ * gruppiert mit der DB und repariert Drift (z.B. durch den Cleanup alter
+ * Benachrichtigungen oder einen Redis-Ausfall zwischen Commit und INCR).
+ *
+ * Ist Redis nicht erreichbar, wird einfach wieder aus der DB gezählt.
+ */
+@Slf4j
+@Service
+public class NotificationZaehlerService {
+
+    static final String PREFIX = "notifications:unread:";
+    private static final int ABGLEICH_BATCH = 500;
+
+    // Nur anfassen, wenn der Key existiert - und nie unter 0
+    private static final String AENDERN_LUA = "if redis.call('EXISTS', KEYS[1]) == 0 then return nil end "
+            + "local v = redis.call('INCRBY', KEYS[1], ARGV[1]) "
+            + "if v < 0 then redis.call('SET', KEYS[1], 0, 'KEEPTTL') v = 0 end "
+            + "return v";
+    private static final RedisScript<Long> AENDERN = new DefaultRedisScript<>(AENDERN_LUA, Long.class);
+
+    private final NotificationRepository notificationRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public NotificationZaehlerService(NotificationRepository notificationRepository,
+            StringRedisTemplate redisTemplate,
+            @Value("${notification.zaehler.ttl-stunden:24}") long ttlStunden) {
+        this.notificationRepository = notificationRepository;
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofHours(ttlStunden);
+    }
+
+    /**
+     * 📊 Ungelesene Benachrichtigungen eines Users - im Normalfall ein GET
+     */
+    public long anzahl(UUID userId) {
+        String key = PREFIX + userId;
+        try {
+            String wert = redisTemplate.opsForValue().get(key);
+            if (wert != null) {
+                return Long.parseLong(wert);
+            }
+            long anzahl = notificationRepository.countUnreadByUserId(userId);
+            redisTemplate.opsForValue().setIfAbsent(key, Long.toString(anzahl), ttl);
+            return anzahl;
+        } catch (Exception e) {
+            log.warn("⚠️ Unread-Zähler für User {} nicht lesbar, zähle in der DB: {}", userId, e.getMessage());
+            return notificationRepository.countUnreadByUserId(userId);
+        }
+    }
+
+    public void erhoehen(UUID userId, long delta) {
+        TransaktionsHelfer.nachCommit(() -> aendern(userId, delta));
+    }
+
+    /**
+     * 📦 Viele Zähler auf einmal erhöhen (Fan-out) - ein Pipeline-Roundtrip
+     * statt einem pro Empfänger
+     */
+    public void erhoehenAlle(Map<UUID, Long> deltaProUser) {
+        if (deltaProUser.isEmpty()) {
+            return;
+        }
+        TransaktionsHelfer.nachCommit(() -> {
+            byte[] skript = AENDERN_LUA.getBytes(StandardCharsets.UTF_8);
+            try {
+                redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    // Skript einmal pro Pipeline laden (idempotent), danach nur noch EVALSHA -
+                    // der Skript-Text geht nicht mehr pro Empfänger über die Leitung
+                    connection.scriptingCommands().scriptLoad(skript);
+                    deltaProUser.forEach((userId, delta) -> connection.scriptingCommands().evalSha(
+                            AENDERN.getSha1(), ReturnType.INTEGER, 1,
+                            (PREFIX + userId).getBytes(StandardCharsets.UTF_8),
+                            Long.toString(delta).getBytes(StandardCharsets.UTF_8)));
+                    return null;
+                });
+            } catch (Exception e) {
+                log.warn("⚠️ {} Unread-Zähler nicht aktualisiert: {}", deltaProUser.size(), e.getMessage());
+                deltaProUser.keySet().forEach(this::loeschen);
+            }
+        });
+    }
+
+    public void verringern(UUID userId) {
+        TransaktionsHelfer.nachCommit(() -> aendern(userId, -1));
+    }
+
+    /**
+     * Alles gelesen: Key löschen statt auf 0 setzen - ein SET würde
+     * Erhöhungen überschreiben, die zwischen Commit und SET reinkommen. Der
+     * nächste {@link #anzahl(UUID)} zählt frisch aus der DB.
+     */
+    public void zuruecksetzen(UUID userId) {
+        TransaktionsHelfer.nachCommit(() -> loeschen(userId));
+    }
+
+    /**
+     * 🩺 Vergleicht alle Zähler in Redis mit der DB und korrigiert Abweichungen.
+     *
+     * @return Anzahl korrigierter Zähler
+     */
+    @Scheduled(fixedDelayString = "${notification.zaehler.abgleich-intervall-ms:600000}", initialDelay = 60000)
+    public int abgleichen() {
+        int korrigiert = 0;
+        try (Cursor<String> keys = redisTemplate.scan(ScanOptions.scanOptions()
+                .match(PREFIX + "*").count(ABGLEICH_BATCH).build())) {
+            List<UUID> batch = new ArrayList<>(ABGLEICH_BATCH);
+            while (keys.hasNext()) {
+                try {
+                    batch.add(UUID.fromString(keys.next().substring(PREFIX.length())));
+                } catch (IllegalArgumentException e) {
+                    // fremder Key, ignorieren
+                }
+                if (batch.size() == ABGLEICH_BATCH) {
+                    korrigiert += abgleichen(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                korrigiert += abgleichen(batch);
+            }
+        } catch (Exception e) {
+            log.error("Fehler beim Abgleich der Unread-Zähler: {}", e.getMessage(), e);
+        }
+        if (korrigiert > 0) {
+            log.info("🩺 {} Unread-Zähler korrigiert", korrigiert);
+        }
+        return korrigiert;
+    }
+
+    private int abgleichen(List<UUID> userIds) {
+        Map<UUID, Long> echt = new HashMap<>();
+        for (Object[] zeile : notificationRepository.countUnreadGroupedByUserIds(userIds)) {
+            echt.put((UUID) zeile[0], (Long) zeile[1]);
+        }
+        List<String> keys = userIds.stream().map(id -> PREFIX + id).toList();
+        List<String> werte = redisTemplate.opsForValue().multiGet(keys);
+
+        int korrigiert = 0;
+        for (int i = 0; i < userIds.size(); i++) {
+            String soll = Long.toString(echt.getOrDefault(userIds.get(i), 0L));
+            String ist = werte != null ? werte.get(i) : null;
+            if (ist != null && !ist.equals(soll)) {
+                redisTemplate.opsForValue().set(keys.get(i), soll, ttl);
+                korrigiert++;
+            }
+        }
+        return korrigiert;
+    }
+
+    private void aendern(UUID userId, long delta) {
+        try {
+            redisTemplate.execute(AENDERN, List.of(PREFIX + userId), Long.toString(delta));
+        } catch (Exception e) {
+            // Lieber einmal neu zählen als falsch weiterzählen
+            log.warn("⚠️ Unread-Zähler für User {} nicht aktualisiert: {}", userId, e.getMessage());
+            loeschen(userId);
+        }
+    }
+
+    private void loeschen(UUID userId) {
+        try {
+            redisTemplate.delete(PREFIX + userId);
+        } catch (Exception ignored) {
+            // Redis komplett weg - der Abgleich bzw. die TTL räumt später auf
+        }
+    }
+}
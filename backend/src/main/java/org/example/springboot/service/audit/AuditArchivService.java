@@ -0,0 +1,449 @@
+package org.example.springboot.service.audit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.springboot.exception.ResourceNotFoundException;
+import org.example.springboot.model.AuditArchiv;
+import org.example.springboot.repository.AuditArchivRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 🗂️ **Was geht hier ab?**
+ * Die Audit-Tabellen ({@code nachweis_audit_log} und {@code role_audit}) sind
+ * seit V10 nach Monaten partitioniert. Dieser Service kümmert sich um den
+ * Lebenszyklus der Partitionen:
+ *
+ * - **partitionenVorbereiten()**: Legt die Partitionen für die nächsten Monate
+ * an, damit nix in der DEFAULT-Partition landet.
+ * - **archiviereAlteMonate()**: Alles, was älter als die Retention ist, wird
+ * als NDJSON.gz exportiert, in {@code audit_archiv} eingetragen und dann aus
+ * der heißen Tabelle abgehängt und gelöscht. Alte Monate, die noch in der
+ * DEFAULT-Partition liegen, bekommen vorher eine eigene Partition.
+ * - **sucheImArchiv()**: Wenn doch mal jemand wissen will, was vor drei Jahren
+ * passiert ist, wird die Archivdatei on demand durchsucht.
+ *
+ * Läuft nachts per Scheduler. Ein Advisory-Lock sorgt dafür, dass bei mehreren
+ * Instanzen nur eine archiviert.
+ */
+@Slf4j
+@Service
+public class AuditArchivService {
+
+    public static final String NACHWEIS_AUDIT = "nachweis_audit_log";
+    public static final String ROLE_AUDIT = "role_audit";
+
+    private static final Map<String, String> ZEIT_SPALTEN = Map.of(
+            NACHWEIS_AUDIT, "aktions_zeit",
+            ROLE_AUDIT, "performed_at");
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final long ARCHIV_LOCK_KEY = 0x4175_6469_7441_7263L; // "AuditArc"
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditArchivRepository auditArchivRepository;
+    private final ObjectMapper objectMapper;
+    private final Path archivVerzeichnis;
+    private final int retentionMonate;
+    private final int vorlaufMonate;
+
+    public AuditArchivService(JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            AuditArchivRepository auditArchivRepository,
+            ObjectMapper objectMapper,
+            @Value("${audit.archiv.verzeichnis:audit_archiv}") String archivVerzeichnis,
+            @Value("${audit.archiv.retention-monate:12}") int retentionMonate,
+            @Value("${audit.archiv.vorlauf-monate:3}") int vorlaufMonate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.auditArchivRepository = auditArchivRepository;
+        this.objectMapper = objectMapper;
+        this.archivVerzeichnis = Paths.get(archivVerzeichnis);
+        this.retentionMonate = Math.max(1, retentionMonate);
+        this.vorlaufMonate = Math.max(1, vorlaufMonate);
+    }
+
+    /**
+     * ⏰ Nächtlicher Lauf: erst Partitionen vorbereiten, dann alte Monate
+     * archivieren.
+     */
+    @Scheduled(cron = "${audit.archiv.cron:0 30 3 * * *}")
+    public void geplanterLauf() {
+        try {
+            partitionenVorbereiten();
+            archiviereAlteMonate();
+        } catch (Exception e) {
+            log.error("❌ Audit-Archivierung fehlgeschlagen: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 📅 Partitionen für den aktuellen und die nächsten Monate anlegen
+     * (idempotent).
+     */
+    public void partitionenVorbereiten() {
+        YearMonth aktuell = YearMonth.now();
+        for (String tabelle : ZEIT_SPALTEN.keySet()) {
+            for (int i = 0; i <= vorlaufMonate; i++) {
+                LocalDate monat = aktuell.plusMonths(i).atDay(1);
+                jdbcTemplate.queryForObject("SELECT audit_partition_anlegen(?, ?)", String.class, tabelle, monat);
+            }
+        }
+    }
+
+    /**
+     * 📦 Alle Monats-Partitionen vor der Retention-Grenze archivieren.
+     *
+     * @return Anzahl der archivierten Partitionen
+     */
+    public int archiviereAlteMonate() {
+        YearMonth grenze = YearMonth.now().minusMonths(retentionMonate);
+        liegengebliebeneVeroeffentlichen();
+        nachzueglerEinsortieren(grenze);
+        int archiviert = 0;
+        for (String tabelle : ZEIT_SPALTEN.keySet()) {
+            for (Map.Entry<YearMonth, String> partition : findeMonatsPartitionen(tabelle).entrySet()) {
+                if (!partition.getKey().isBefore(grenze)) {
+                    continue;
+                }
+                if (archivierePartition(tabelle, partition.getKey(), partition.getValue())) {
+                    archiviert++;
+                }
+            }
+        }
+        if (archiviert > 0) {
+            log.info("✅ {} Audit-Partition(en) archiviert (Retention: {} Monate)", archiviert, retentionMonate);
+        }
+        return archiviert;
+    }
+
+    /**
+     * 🧹 Alte Monate, die noch (ganz oder teilweise) in der DEFAULT-Partition
+     * liegen, bekommen eine eigene Partition - {@code audit_partition_anlegen}
+     * zieht die Zeilen dabei aus DEFAULT um. Ohne das würden sie nie
+     * archiviert.
+     */
+    private void nachzueglerEinsortieren(YearMonth grenze) {
+        for (Map.Entry<String, String> tabelle : ZEIT_SPALTEN.entrySet()) {
+            String defaultPartition = tabelle.getKey() + "_default";
+            if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL",
+                    Boolean.class, defaultPartition))) {
+                continue;
+            }
+            List<LocalDate> monate = jdbcTemplate.queryForList(
+                    "SELECT DISTINCT date_trunc('month', " + tabelle.getValue() + ")::date FROM " + defaultPartition
+                            + " WHERE " + tabelle.getValue() + " < ?",
+                    LocalDate.class, grenze.atDay(1));
+            for (LocalDate monat : monate) {
+                String partition = jdbcTemplate.queryForObject("SELECT audit_partition_anlegen(?, ?)", String.class,
+                        tabelle.getKey(), monat);
+                log.info("🧹 Alte Audit-Zeilen aus {} nach {} verschoben", defaultPartition, partition);
+            }
+        }
+    }
+
+    /**
+     * 🔁 Staging-Dateien, die ein früherer Lauf nicht mehr an ihren Platz
+     * schieben konnte. Ist die Partition schon weg und steht der Monat im
+     * Archiv-Verzeichnis, wurde committet - dann ist die Staging-Datei die
+     * einzige Kopie und wird jetzt veröffentlicht. Sonst ist sie ein Rest
+     * eines abgebrochenen Laufs und wird verworfen.
+     */
+    private void liegengebliebeneVeroeffentlichen() {
+        transactionTemplate.executeWithoutResult(status -> {
+            // Unter dem Archiv-Lock - sonst träfen wir die Staging-Datei eines laufenden Exports
+            Boolean lock = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class,
+                    ARCHIV_LOCK_KEY);
+            if (!Boolean.TRUE.equals(lock)) {
+                return;
+            }
+            for (String tabelle : ZEIT_SPALTEN.keySet()) {
+                Path verzeichnis = archivVerzeichnis.resolve(tabelle);
+                if (!Files.isDirectory(verzeichnis)) {
+                    continue;
+                }
+                Map<YearMonth, String> partitionen = findeMonatsPartitionen(tabelle);
+                try (DirectoryStream<Path> dateien = Files.newDirectoryStream(verzeichnis, "*.ndjson.gz.tmp")) {
+                    for (Path staging : dateien) {
+                        stagingAufloesen(tabelle, staging, partitionen);
+                    }
+                } catch (IOException e) {
+                    log.error("❌ Archiv-Verzeichnis {} konnte nicht gelesen werden: {}", verzeichnis,
+                            e.getMessage());
+                }
+            }
+        });
+    }
+
+    private void stagingAufloesen(String tabelle, Path staging, Map<YearMonth, String> partitionen)
+            throws IOException {
+        String suffix = staging.getFileName().toString().replace(".ndjson.gz.tmp", "");
+        if (!suffix.startsWith(tabelle + "_") || !suffix.substring(tabelle.length() + 1).matches("\\d{4}_\\d{2}")) {
+            return;
+        }
+        YearMonth monat = YearMonth.parse(suffix.substring(tabelle.length() + 1), PARTITION_SUFFIX);
+        Path ziel = archivDatei(tabelle, monat);
+        boolean committet = !partitionen.containsKey(monat) && auditArchivRepository
+                .findByTabelleAndMonat(tabelle, monat.atDay(1))
+                .filter(eintrag -> ziel.toString().equals(eintrag.getDateiPfad()))
+                .isPresent();
+        if (committet) {
+            Files.move(staging, ziel, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.warn("🔁 Liegengebliebenes Archiv {} nachträglich veröffentlicht", ziel);
+        } else {
+            Files.deleteIfExists(staging);
+            log.info("🗑️ Staging-Datei {} eines abgebrochenen Laufs verworfen", staging);
+        }
+    }
+
+    /**
+     * Exportiert eine Partition, trägt sie ins Archiv-Verzeichnis ein und hängt
+     * sie ab. Alles in einer Transaktion: schlägt irgendwas fehl, bleibt die
+     * Partition in der heißen Tabelle und die alte Archivdatei unangetastet.
+     * Die neue Datei wird erst nach dem Commit an ihren Platz geschoben.
+     */
+    private boolean archivierePartition(String tabelle, YearMonth monat, String partitionName) {
+        Boolean ergebnis = transactionTemplate.execute(status -> {
+            Boolean lock = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class,
+                    ARCHIV_LOCK_KEY);
+            if (!Boolean.TRUE.equals(lock)) {
+                log.info("⏭️ Audit-Archivierung läuft bereits auf einer anderen Instanz, überspringe {}",
+                        partitionName);
+                return false;
+            }
+
+            Path ziel = archivDatei(tabelle, monat);
+            Path staging = ziel.resolveSibling(ziel.getFileName() + ".tmp");
+            nachCommitVeroeffentlichen(staging, ziel);
+            long zeilen = exportiere(partitionName, tabelle, ziel, staging);
+
+            AuditArchiv eintrag = auditArchivRepository.findByTabelleAndMonat(tabelle, monat.atDay(1))
+                    .orElseGet(AuditArchiv::new);
+            eintrag.setTabelle(tabelle);
+            eintrag.setMonat(monat.atDay(1));
+            eintrag.setDateiPfad(ziel.toString());
+            // Gesamtzahl der Datei, nicht aufaddieren - ein wiederholter Lauf zählt sonst doppelt
+            eintrag.setAnzahlZeilen(zeilen);
+            eintrag.setArchiviertAm(LocalDateTime.now());
+            auditArchivRepository.saveAndFlush(eintrag);
+
+            jdbcTemplate.execute("ALTER TABLE " + tabelle + " DETACH PARTITION " + partitionName);
+            jdbcTemplate.execute("DROP TABLE " + partitionName);
+            log.info("📦 Partition {} archiviert ({} Zeilen) -> {}", partitionName, zeilen, ziel);
+            return true;
+        });
+        return Boolean.TRUE.equals(ergebnis);
+    }
+
+    /**
+     * Streamt die Partition zeilenweise als NDJSON in eine gzip-Staging-Datei.
+     *
+     * @return Anzahl der Zeilen in der Staging-Datei (inkl. übernommenem Archiv)
+     */
+    private long exportiere(String partitionName, String tabelle, Path ziel, Path staging) {
+        try {
+            Files.createDirectories(ziel.getParent());
+            long[] zeilen = { 0 };
+            try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(staging)), StandardCharsets.UTF_8))) {
+                // Falls schon ein Archiv für den Monat existiert (Nachzügler aus der
+                // DEFAULT-Partition), wird es übernommen statt überschrieben.
+                if (Files.exists(ziel)) {
+                    try (BufferedReader alt = oeffneArchiv(ziel)) {
+                        String zeile;
+                        while ((zeile = alt.readLine()) != null) {
+                            writer.write(zeile);
+                            writer.newLine();
+                            zeilen[0]++;
+                        }
+                    }
+                }
+                String sql = "SELECT * FROM " + partitionName + " ORDER BY " + ZEIT_SPALTEN.get(tabelle);
+                jdbcTemplate.query(con -> {
+                    PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                            ResultSet.CONCUR_READ_ONLY);
+                    ps.setFetchSize(500);
+                    return ps;
+                }, (RowCallbackHandler) rs -> {
+                    try {
+                        writer.write(objectMapper.writeValueAsString(zeileAlsMap(rs)));
+                        writer.newLine();
+                        zeilen[0]++;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+            return zeilen[0];
+        } catch (IOException e) {
+            throw new UncheckedIOException("Export von " + partitionName + " fehlgeschlagen", e);
+        }
+    }
+
+    /**
+     * Schiebt die Staging-Datei nach dem Commit atomar an ihren Platz. Bei
+     * Rollback wird sie verworfen - der nächste Lauf exportiert die (noch
+     * vorhandene) Partition einfach neu.
+     */
+    private void nachCommitVeroeffentlichen(Path staging, Path ziel) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        Files.move(staging, ziel, StandardCopyOption.REPLACE_EXISTING,
+                                StandardCopyOption.ATOMIC_MOVE);
+                    } else {
+                        Files.deleteIfExists(staging);
+                    }
+                } catch (IOException e) {
+                    // Partition ist schon weg - die Staging-Datei ist jetzt die einzige Kopie,
+                    // der nächste Lauf schiebt sie nach (liegengebliebeneVeroeffentlichen)
+                    log.error("❌ Archiv {} konnte nicht veröffentlicht werden, Daten liegen in {}: {}",
+                            ziel, staging, e.getMessage(), e);
+                }
+            }
+        });
+    }
+
+    private Map<String, Object> zeileAlsMap(ResultSet rs) throws java.sql.SQLException {
+        ResultSetMetaData meta = rs.getMetaData();
+        Map<String, Object> zeile = new LinkedHashMap<>();
+        for (int i = 1; i <= meta.getColumnCount(); i++) {
+            Object wert = rs.getObject(i);
+            if (wert instanceof Timestamp ts) {
+                wert = ts.toLocalDateTime().toString();
+            } else if (wert != null && !(wert instanceof Number) && !(wert instanceof Boolean)) {
+                wert = wert.toString();
+            }
+            zeile.put(meta.getColumnLabel(i), wert);
+        }
+        return zeile;
+    }
+
+    /**
+     * 🔎 Durchsucht einen archivierten Monat.
+     *
+     * @param tabelle     "nachweis_audit_log" oder "role_audit"
+     * @param monat       der archivierte Monat
+     * @param suchbegriff optionaler Freitext (case-insensitive, über die ganze
+     *                    Zeile)
+     * @param nachweisId  optionaler Filter auf nachweis_id
+     * @param limit       maximale Anzahl Treffer
+     */
+    public List<JsonNode> sucheImArchiv(String tabelle, YearMonth monat, String suchbegriff, String nachweisId,
+            int limit) {
+        pruefeTabelle(tabelle);
+        AuditArchiv eintrag = auditArchivRepository.findByTabelleAndMonat(tabelle, monat.atDay(1))
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Kein Archiv für " + tabelle + " im Monat " + monat + " gefunden"));
+
+        String begriff = suchbegriff != null && !suchbegriff.isBlank()
+                ? suchbegriff.toLowerCase(Locale.ROOT)
+                : null;
+        List<JsonNode> treffer = new ArrayList<>();
+        try (BufferedReader reader = oeffneArchiv(Paths.get(eintrag.getDateiPfad()))) {
+            String zeile;
+            while ((zeile = reader.readLine()) != null && treffer.size() < limit) {
+                // Günstiger Vorfilter auf dem Rohtext, JSON wird nur für Kandidaten geparst
+                if (begriff != null && !zeile.toLowerCase(Locale.ROOT).contains(begriff)) {
+                    continue;
+                }
+                if (nachweisId != null && !zeile.contains(nachweisId)) {
+                    continue;
+                }
+                JsonNode node = objectMapper.readTree(zeile);
+                if (nachweisId != null && !nachweisId.equals(node.path("nachweis_id").asText())) {
+                    continue;
+                }
+                treffer.add(node);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Archiv " + eintrag.getDateiPfad() + " konnte nicht gelesen werden", e);
+        }
+        return treffer;
+    }
+
+    /**
+     * 📋 Alle archivierten Monate einer Tabelle (neueste zuerst).
+     */
+    public List<AuditArchiv> listeArchive(String tabelle) {
+        pruefeTabelle(tabelle);
+        return auditArchivRepository.findAllByTabelleOrderByMonatDesc(tabelle);
+    }
+
+    /**
+     * Liest die Monats-Partitionen einer Tabelle aus dem Katalog. Die
+     * DEFAULT-Partition wird ignoriert.
+     */
+    private Map<YearMonth, String> findeMonatsPartitionen(String tabelle) {
+        List<String> namen = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i " +
+                        "JOIN pg_class c ON c.oid = i.inhrelid " +
+                        "JOIN pg_class p ON p.oid = i.inhparent " +
+                        "WHERE p.relname = ? ORDER BY c.relname",
+                String.class, tabelle);
+        Map<YearMonth, String> partitionen = new LinkedHashMap<>();
+        String prefix = tabelle + "_";
+        for (String name : namen) {
+            String suffix = name.substring(Math.min(prefix.length(), name.length()));
+            if (!name.startsWith(prefix) || !suffix.matches("\\d{4}_\\d{2}")) {
+                continue;
+            }
+            partitionen.put(YearMonth.parse(suffix, PARTITION_SUFFIX), name);
+        }
+        return partitionen;
+    }
+
+    private Path archivDatei(String tabelle, YearMonth monat) {
+        return archivVerzeichnis.resolve(tabelle).resolve(tabelle + "_" + monat.format(PARTITION_SUFFIX) + ".ndjson.gz");
+    }
+
+    private BufferedReader oeffneArchiv(Path datei) throws IOException {
+        return new BufferedReader(new InputStreamReader(new GZIPInputStream(Files.newInputStream(datei)),
+                StandardCharsets.UTF_8));
+    }
+
+    private void pruefeTabelle(String tabelle) {
+        if (!ZEIT_SPALTEN.containsKey(tabelle)) {
+            throw new IllegalArgumentException("Unbekannte Audit-Tabelle: " + tabelle);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.springboot.service.auth;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.example.springboot.model.User;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA-Listener am {@link User}: meldet Änderungen an den
+ * {@link BenutzerPrefixIndex}. Der Index wird erst beim Aufruf geholt - beim
+ * Hochfahren der EntityManagerFactory gibt es ihn (und das UserRepository)
+ * noch nicht.
+ */
+@Component
+public class BenutzerAenderungListener {
+
+    private final ObjectProvider<BenutzerPrefixIndex> prefixIndex;
+
+    public BenutzerAenderungListener(ObjectProvider<BenutzerPrefixIndex> prefixIndex) {
+        this.prefixIndex = prefixIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void geaendert(User user) {
+        prefixIndex.ifAvailable(index -> index.geaendert(user.getId(), user.getUsername(), user.getName()));
+    }
+
+    @PostRemove
+    public void entfernt(User user) {
+        prefixIndex.ifAvailable(index -> index.entfernt(user.getId()));
+    }
+}
@@ -0,0 +1,250 @@
+package org.example.springboot.service.auth;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.springboot.controller.userController.dto.BenutzerVorschlag;
+import org.example.springboot.repository.UserRepository;
+import org.example.springboot.repository.specification.UserSpecification;
+import org.example.springboot.util.TransaktionsHelfer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 🔍 **Was geht hier ab?**
+ * Autocomplete für die Benutzersuche ("vu" → "Vu Quy Le", "vuducle").
+ *
+ * Ist {@code app.benutzer.prefix-index.enabled} an, liegen username und name
+ * (komplett und pro Namensteil) kleingeschrieben in einer sortierten Map im
+ * Speicher - ein Präfix ist dann ein {@code subMap}, ganz ohne DB. Ohne Index
+ * geht es per Präfix-Query über die B-Tree-Indizes aus V21.
+ *
+ * Aktuell gehalten wird der Index so:
+ * - {@link BenutzerAenderungListener} meldet jede Änderung an User-Entities,
+ * die ID geht nach dem Commit über Redis Pub/Sub an alle Nodes, jeder Node
+ * lädt den einen User neu
+ * - Bulk-Updates an Hibernate vorbei holt der periodische Abgleich nach
+ */
+@Slf4j
+@Service
+public class BenutzerPrefixIndex implements MessageListener {
+
+    static final String KANAL = "benutzer:prefix-index";
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final boolean aktiv;
+
+    private volatile Stand stand = new Stand();
+
+    public BenutzerPrefixIndex(UserRepository userRepository,
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${app.benutzer.prefix-index.enabled:false}") boolean aktiv) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.aktiv = aktiv;
+    }
+
+    @PostConstruct
+    void abonnieren() {
+        if (aktiv) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(KANAL));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void beimStart() {
+        if (aktiv) {
+            neuAufbauen();
+        }
+    }
+
+    /**
+     * 🔄 Abgleich für Änderungen, die an den Entity-Listenern vorbei laufen
+     */
+    @Scheduled(fixedDelayString = "${app.benutzer.prefix-index.abgleich-intervall-ms:600000}", initialDelay = 600000)
+    public void abgleichen() {
+        if (aktiv) {
+            neuAufbauen();
+        }
+    }
+
+    /**
+     * Vorschläge für einen Präfix, höchstens {@code limit} Stück.
+     */
+    public List<BenutzerVorschlag> vorschlaege(String praefix, int limit) {
+        if (praefix == null || praefix.isBlank()) {
+            return List.of();
+        }
+        String schluessel = normalisieren(praefix);
+        if (!aktiv) {
+            return userRepository.findVorschlaegeNachPraefix(UserSpecification.likeEscapen(schluessel) + "%",
+                    PageRequest.of(0, limit));
+        }
+
+        Stand aktuell = stand;
+        Set<UUID> ids = new LinkedHashSet<>();
+        for (Set<UUID> treffer : aktuell.schluessel.subMap(schluessel, true, schluessel + Character.MAX_VALUE, false)
+                .values()) {
+            for (UUID id : treffer) {
+                ids.add(id);
+                if (ids.size() >= limit) {
+                    return eintraege(aktuell, ids);
+                }
+            }
+        }
+        return eintraege(aktuell, ids);
+    }
+
+    /**
+     * Ein User wurde angelegt oder geändert. Ändert sich weder username noch
+     * name (z.B. Login-Zähler), passiert nichts.
+     */
+    public void geaendert(UUID id, String username, String name) {
+        if (!aktiv || id == null) {
+            return;
+        }
+        BenutzerVorschlag bisher = stand.eintraege.get(id);
+        if (bisher != null && Objects.equals(bisher.getUsername(), username)
+                && Objects.equals(bisher.getName(), name)) {
+            return;
+        }
+        TransaktionsHelfer.nachCommit(() -> publizieren(id));
+    }
+
+    public void entfernt(UUID id) {
+        if (aktiv && id != null) {
+            TransaktionsHelfer.nachCommit(() -> publizieren(id));
+        }
+    }
+
+    public boolean istAktiv() {
+        return aktiv;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            neuLaden(UUID.fromString(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            log.warn("⚠️ Präfix-Index: Nachricht nicht verarbeitet: {}", e.getMessage());
+        }
+    }
+
+    private void publizieren(UUID id) {
+        try {
+            redisTemplate.convertAndSend(KANAL, id.toString());
+        } catch (Exception e) {
+            // Redis weg? Dann wenigstens den eigenen Index nachziehen
+            log.warn("⚠️ Redis Pub/Sub nicht erreichbar, Präfix-Index nur lokal aktualisiert: {}", e.getMessage());
+            neuLaden(id);
+        }
+    }
+
+    private void neuLaden(UUID id) {
+        BenutzerVorschlag neu = userRepository.findVorschlagById(id).orElse(null);
+        synchronized (this) {
+            Stand aktuell = stand;
+            BenutzerVorschlag alt = neu != null ? aktuell.eintraege.put(id, neu) : aktuell.eintraege.remove(id);
+            if (alt != null) {
+                aktuell.austragen(alt);
+            }
+            if (neu != null) {
+                aktuell.eintragen(neu);
+            }
+        }
+    }
+
+    private void neuAufbauen() {
+        long start = System.currentTimeMillis();
+        Stand neu = new Stand();
+        for (BenutzerVorschlag vorschlag : userRepository.findAlleVorschlaege()) {
+            neu.eintraege.put(vorschlag.getId(), vorschlag);
+            neu.eintragen(vorschlag);
+        }
+        synchronized (this) {
+            stand = neu;
+        }
+        log.info("🔍 Präfix-Index aufgebaut: {} User, {} Schlüssel in {} ms", neu.eintraege.size(),
+                neu.schluessel.size(), System.currentTimeMillis() - start);
+    }
+
+    private static List<BenutzerVorschlag> eintraege(Stand stand, Set<UUID> ids) {
+        List<BenutzerVorschlag> ergebnis = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            BenutzerVorschlag vorschlag = stand.eintraege.get(id);
+            if (vorschlag != null) {
+                ergebnis.add(vorschlag);
+            }
+        }
+        return ergebnis;
+    }
+
+    private static String normalisieren(String text) {
+        return text.strip().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Schlüssel → User-IDs plus die Einträge selbst. Wird beim Abgleich
+     * komplett ersetzt, einzelne Änderungen laufen unter dem Lock.
+     */
+    private static final class Stand {
+        final ConcurrentSkipListMap<String, Set<UUID>> schluessel = new ConcurrentSkipListMap<>();
+        final Map<UUID, BenutzerVorschlag> eintraege = new ConcurrentHashMap<>();
+
+        void eintragen(BenutzerVorschlag vorschlag) {
+            for (String s : schluesselVon(vorschlag)) {
+                schluessel.computeIfAbsent(s, k -> ConcurrentHashMap.newKeySet()).add(vorschlag.getId());
+            }
+        }
+
+        void austragen(BenutzerVorschlag vorschlag) {
+            for (String s : schluesselVon(vorschlag)) {
+                schluessel.computeIfPresent(s, (k, ids) -> {
+                    ids.remove(vorschlag.getId());
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+
+        private static Set<String> schluesselVon(BenutzerVorschlag vorschlag) {
+            Set<String> schluessel = new LinkedHashSet<>();
+            if (vorschlag.getUsername() != null) {
+                schluessel.add(normalisieren(vorschlag.getUsername()));
+            }
+            if (vorschlag.getName() != null) {
+                String name = normalisieren(vorschlag.getName());
+                schluessel.add(name);
+                for (String teil : name.split("\\s+")) {
+                    if (!teil.isEmpty()) {
+                        schluessel.add(teil);
+                    }
+                }
+            }
+            return schluessel;
+        }
+    }
+}
@@ -2,7 +2,9 @@ package org.example.springboot.service.auth;
 
 import lombok.extern.slf4j.Slf4j;
 import org.example.springboot.controller.userController.dto.RevokeAdminResponse;
+import org.example.springboot.controller.userController.dto.UserResponse;
 import org.example.springboot.controller.userController.dto.UserUpdateRequest;
+import org.example.springboot.dto.CursorPage;
 import org.example.springboot.model.User;
 import org.example.springboot.repository.specification.UserSpecification;
 import org.example.springboot.service.audit.RoleAuditService;
@@ -13,6 +15,7 @@ import org.example.springboot.model.enums.ERole;
 import org.example.springboot.service.nachweis.NachweisService;
 import org.example.springboot.service.nachweis.EmailService;
 import org.example.springboot.model.EmailVerificationToken;
+import org.example.springboot.util.KeysetCursor;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -48,6 +51,7 @@ import javax.imageio.stream.ImageOutputStream;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 /**
  * 👑 **Was geht hier ab?**
@@ -122,19 +126,21 @@ public class UserService implements UserDetailsService {
         }
     }
 
-    @Transactional
+    /**
+     * Bewusst ohne umschließende Transaktion: die Nachweise werden in eigenen
+     * Chunk-Transaktionen gelöscht. Erst wenn das komplett durch ist, geht der
+     * User selbst - schlägt das Löschen der Nachweise fehl, fliegt die
+     * Exception und der User bleibt stehen. Ein erneuter Aufruf macht beim
+     * Rest weiter.
+     */
     public void deleteUser(String username, String performedBy) {
         User user = findByUsername(username);
 
         log.info("AUDIT: Benutzer '{}' wird von '{}' gelöscht.", username, performedBy);
 
         // Delete Nachweise
-        try {
-            nachweisService.loescheAlleNachweiseVonAzubi(username);
-            log.info("Alle Nachweise für Benutzer '{}' gelöscht.", username);
-        } catch (Exception e) {
-            log.error("Konnte Nachweise für Benutzer '{}' nicht vollständig löschen: {}", username, e.getMessage());
-        }
+        nachweisService.loescheAlleNachweiseVonAzubi(username);
+        log.info("Alle Nachweise für Benutzer '{}' gelöscht.", username);
 
         // Delete Profile Image
         try {
@@ -144,7 +150,7 @@ public class UserService implements UserDetailsService {
             log.error("Konnte Profilbild für Benutzer '{}' nicht löschen: {}", username, e.getMessage());
         }
 
-        userRepository.delete(user);
+        userRepository.deleteById(user.getId());
         log.info("Benutzer '{}' erfolgreich aus der Datenbank gelöscht.", username);
     }
 
@@ -319,14 +325,55 @@ public class UserService implements UserDetailsService {
         return userRepository.findAll();
     }
 
-    public Page<User> findAllWithFilters(String search, String team, Integer ausbildungsjahr, String rolle,
+    /**
+     * 📋 Admin-Liste: Mapping passiert noch in der Transaktion, damit die Rollen
+     * der ganzen Seite gebündelt (@BatchSize) statt pro User nachgeladen werden.
+     */
+    @Transactional(readOnly = true)
+    public Page<UserResponse> findAllWithFilters(String search, String team, Integer ausbildungsjahr, String rolle,
             Pageable pageable) {
         Specification<User> spec = UserSpecification.searchByTerm(search)
                 .and(UserSpecification.hasTeam(team))
                 .and(UserSpecification
                         .hasAusbildungsjahr(ausbildungsjahr))
                 .and(UserSpecification.hasRole(rolle));
-        return userRepository.findAll(spec, pageable);
+        return userRepository.findAll(spec, pageable).map(UserResponse::new);
+    }
+
+    /**
+     * 🔖 Benutzerliste mit Keyset-Pagination auf (username, id) - gleiche
+     * Filter wie {@link #findAllWithFilters}, aber ohne OFFSET und COUNT.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<UserResponse> findAllWithFiltersMitCursor(String search, String team, Integer ausbildungsjahr,
+            String rolle, String sortDir, String cursor, int size, boolean mitAnzahl) {
+        boolean aufsteigend = !"desc".equalsIgnoreCase(sortDir);
+        String nachUsername = null;
+        UUID nachId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] teile = KeysetCursor.decode(cursor, 2);
+            nachUsername = teile[0];
+            nachId = UUID.fromString(teile[1]);
+        }
+
+        Specification<User> filter = UserSpecification.searchByTerm(search)
+                .and(UserSpecification.hasTeam(team))
+                .and(UserSpecification.hasAusbildungsjahr(ausbildungsjahr))
+                .and(UserSpecification.hasRole(rolle));
+        Sort.Direction richtung = aufsteigend ? Sort.Direction.ASC : Sort.Direction.DESC;
+        List<User> geladen = userRepository.findBy(
+                filter.and(UserSpecification.nachKeyset(nachUsername, nachId, aufsteigend))
+                        .and(UserSpecification.mitTrainer()),
+                q -> q.sortBy(Sort.by(richtung, "username").and(Sort.by(richtung, "id"))).limit(size + 1).all());
+
+        CursorPage<User> seite = CursorPage.aus(geladen, size,
+                u -> KeysetCursor.encode(u.getUsername(), u.getId().toString()));
+        CursorPage<UserResponse> antwort = new CursorPage<>(seite.getContent().stream().map(UserResponse::new)
+                .toList(), seite.getNextCursor(), seite.isHasNext(), size, null, false);
+        if (mitAnzahl) {
+            antwort.setTotalElements(userRepository.count(filter));
+        }
+        return antwort;
     }
 
     public List<String> listUsernamesByRole(ERole role) {
@@ -355,15 +402,9 @@ public class UserService implements UserDetailsService {
     @Cacheable(value = "users", key = "#username")
     @Transactional(readOnly = true)
     public User findByUsername(String username) {
-        User user = userRepository.findByUsername(username)
+        // Trainer bleibt bewusst lazy - ist eh @JsonIgnore und damit nicht im Cache
+        return userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
-
-        // Force-load trainer to avoid LazyInitializationException after cache retrieval
-        if (user.getTrainer() != null) {
-            user.getTrainer().getName(); // Access a property to initialize proxy
-        }
-
-        return user;
     }
 
     /**
@@ -373,15 +414,8 @@ public class UserService implements UserDetailsService {
      */
     @Transactional(readOnly = true)
     public User getUserProfileWithTrainer(String username) {
-        User user = userRepository.findByUsername(username)
+        return userRepository.findProfilByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
-
-        // Force-load trainer
-        if (user.getTrainer() != null) {
-            user.getTrainer().getName();
-        }
-
-        return user;
     }
 
     @Transactional
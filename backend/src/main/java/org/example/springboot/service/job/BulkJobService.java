@@ -0,0 +1,365 @@
+package org.example.springboot.service.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.springboot.exception.ResourceNotFoundException;
+import org.example.springboot.exception.UnauthorizedActionException;
+import org.example.springboot.model.BulkJob;
+import org.example.springboot.model.BulkJobEintrag;
+import org.example.springboot.model.User;
+import org.example.springboot.model.enums.EJobEintragStatus;
+import org.example.springboot.model.enums.EJobStatus;
+import org.example.springboot.model.enums.EJobTyp;
+import org.example.springboot.model.enums.EStatus;
+import org.example.springboot.repository.BulkJobEintragRepository;
+import org.example.springboot.repository.BulkJobRepository;
+import org.example.springboot.repository.NachweisRepository;
+import org.example.springboot.repository.UserRepository;
+import org.example.springboot.service.nachweis.NachweisService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * ⚙️ **Was geht hier ab?**
+ * "Alle Nachweise löschen" bei 100k Nachweisen in einem Request und einer
+ * Transaktion? Nope. Dieser Service macht daraus Hintergrund-Jobs:
+ *
+ * - **starte...()**: Legt einen {@link BulkJob} an und gibt ihn sofort zurück
+ * (202 Accepted), die Arbeit läuft im {@code bulkJobExecutor}.
+ * - Der Job arbeitet sich in Keyset-Chunks (nach ID sortiert) durch. Jeder
+ * Chunk ist eine eigene, kurze Transaktion - inklusive Fortschritt und Cursor.
+ * - Die PDFs eines Chunks werden nach dessen Commit parallel gelöscht, am
+ * Ende zusätzlich alle verwaisten PDFs im betroffenen Verzeichnis.
+ * - **Batch-Jobs** (Status ändern / Löschen einer Auswahl): Die ausgewählten
+ * IDs landen als {@link BulkJobEintrag} in der DB, jeder Chunk bekommt sein
+ * Ergebnis pro Nachweis. Ein kaputter Chunk reißt nur sich selbst mit.
+ * - **liegengebliebeneJobsFortsetzen()**: Stirbt die Instanz mitten im Job,
+ * nimmt der Scheduler ihn anhand des Heartbeats wieder auf und macht beim
+ * letzten Cursor weiter.
+ */
+@Slf4j
+@Service
+public class BulkJobService {
+
+    private static final Duration STALE_NACH = Duration.ofMinutes(5);
+
+    private final BulkJobRepository jobRepository;
+    private final BulkJobEintragRepository eintragRepository;
+    private final NachweisRepository nachweisRepository;
+    private final UserRepository userRepository;
+    private final NachweisService nachweisService;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor executor;
+    private final int chunkGroesse;
+
+    public BulkJobService(BulkJobRepository jobRepository,
+            BulkJobEintragRepository eintragRepository,
+            NachweisRepository nachweisRepository,
+            UserRepository userRepository,
+            NachweisService nachweisService,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("bulkJobExecutor") TaskExecutor executor,
+            @Value("${bulk-job.chunk-groesse:500}") int chunkGroesse) {
+        this.jobRepository = jobRepository;
+        this.eintragRepository = eintragRepository;
+        this.nachweisRepository = nachweisRepository;
+        this.userRepository = userRepository;
+        this.nachweisService = nachweisService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = executor;
+        this.chunkGroesse = chunkGroesse;
+    }
+
+    /**
+     * 🗑️ Job: alle Nachweise im System löschen
+     */
+    public BulkJob starteLoescheAlle(String username) {
+        BulkJob job = neuerJob(EJobTyp.LOESCHE_ALLE, username);
+        job.setGesamt(nachweisRepository.count());
+        return einreichen(job);
+    }
+
+    /**
+     * 🗑️ Job: alle Nachweise eines Azubis löschen
+     */
+    public BulkJob starteLoescheAlleVonAzubi(String username) {
+        User azubi = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("Benutzer nicht gefunden: " + username));
+        BulkJob job = neuerJob(EJobTyp.LOESCHE_ALLE_VON_AZUBI, username);
+        job.setAzubiId(azubi.getId());
+        job.setGesamt(nachweisRepository.countByAzubiId(azubi.getId()));
+        return einreichen(job);
+    }
+
+    /**
+     * 📋 Job: Status einer Auswahl von Nachweisen ändern (Admin)
+     */
+    public BulkJob starteBatchStatus(List<UUID> nachweisIds, EStatus status, String comment, String username) {
+        BulkJob job = neuerJob(EJobTyp.BATCH_STATUS, username);
+        job.setZielStatus(status);
+        job.setKommentar(comment);
+        return einreichenMitEintraegen(job, nachweisIds);
+    }
+
+    /**
+     * 🗑️ Job: eine Auswahl von Nachweisen löschen
+     */
+    public BulkJob starteBatchLoeschen(List<UUID> nachweisIds, String username) {
+        return einreichenMitEintraegen(neuerJob(EJobTyp.BATCH_LOESCHEN, username), nachweisIds);
+    }
+
+    /**
+     * 📊 Job-Status abfragen - nur für den Ersteller oder Admins
+     */
+    public BulkJob getJob(UUID jobId, String username, boolean isAdmin) {
+        BulkJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job nicht gefunden: " + jobId));
+        if (!isAdmin && !job.getErstelltVon().equals(username)) {
+            throw new UnauthorizedActionException("Keine Berechtigung für diesen Job.");
+        }
+        return job;
+    }
+
+    /**
+     * 📋 Ergebnisse pro Nachweis eines Batch-Jobs, optional nach Status gefiltert
+     */
+    public Page<BulkJobEintrag> getEintraege(UUID jobId, EJobEintragStatus status, Pageable pageable,
+            String username, boolean isAdmin) {
+        getJob(jobId, username, isAdmin);
+        return status != null
+                ? eintragRepository.findAllByJobIdAndStatus(jobId, status, pageable)
+                : eintragRepository.findAllByJobId(jobId, pageable);
+    }
+
+    /**
+     * ⏰ Nimmt Jobs wieder auf, deren Heartbeat abgelaufen ist (Instanz
+     * abgestürzt / neu gestartet).
+     */
+    @Scheduled(fixedDelayString = "${bulk-job.fortsetzen-intervall-ms:60000}", initialDelay = 20000)
+    public void liegengebliebeneJobsFortsetzen() {
+        try {
+            List<UUID> ids = jobRepository.findLiegengebliebeneIds(
+                    List.of(EJobStatus.WARTEND, EJobStatus.LAEUFT), LocalDateTime.now().minus(STALE_NACH));
+            for (UUID id : ids) {
+                log.info("🔁 Setze liegengebliebenen Job {} fort", id);
+                anstossen(id);
+            }
+        } catch (Exception e) {
+            log.error("Fehler beim Fortsetzen liegengebliebener Jobs: {}", e.getMessage(), e);
+        }
+    }
+
+    private BulkJob neuerJob(EJobTyp typ, String username) {
+        LocalDateTime jetzt = LocalDateTime.now();
+        BulkJob job = new BulkJob();
+        job.setTyp(typ);
+        job.setStatus(EJobStatus.WARTEND);
+        job.setErstelltVon(username);
+        job.setErstelltAm(jetzt);
+        job.setAktualisiertAm(jetzt);
+        return job;
+    }
+
+    private BulkJob einreichen(BulkJob job) {
+        BulkJob gespeichert = jobRepository.save(job);
+        log.info("⚙️ Job {} ({}) eingereicht von {} - {} Einträge", gespeichert.getId(), gespeichert.getTyp(),
+                gespeichert.getErstelltVon(), gespeichert.getGesamt());
+        anstossen(gespeichert.getId());
+        return gespeichert;
+    }
+
+    /**
+     * Job + alle Einträge in einer Transaktion speichern, damit der Job nie
+     * ohne seine Auswahl sichtbar wird.
+     */
+    private BulkJob einreichenMitEintraegen(BulkJob job, List<UUID> nachweisIds) {
+        Set<UUID> eindeutig = new LinkedHashSet<>(nachweisIds);
+        job.setGesamt(eindeutig.size());
+        BulkJob gespeichert = transactionTemplate.execute(status -> {
+            BulkJob j = jobRepository.save(job);
+            List<BulkJobEintrag> eintraege = new ArrayList<>(eindeutig.size());
+            for (UUID nachweisId : eindeutig) {
+                eintraege.add(new BulkJobEintrag(j.getId(), nachweisId));
+            }
+            eintragRepository.saveAll(eintraege);
+            return j;
+        });
+        log.info("⚙️ Job {} ({}) eingereicht von {} - {} Einträge", gespeichert.getId(), gespeichert.getTyp(),
+                gespeichert.getErstelltVon(), gespeichert.getGesamt());
+        anstossen(gespeichert.getId());
+        return gespeichert;
+    }
+
+    private void anstossen(UUID jobId) {
+        try {
+            executor.execute(() -> ausfuehren(jobId));
+        } catch (TaskRejectedException e) {
+            // Queue voll - bleibt WARTEND und wird vom Scheduler aufgenommen
+            log.warn("Job-Executor ausgelastet, Job {} wartet auf den nächsten Lauf", jobId);
+        }
+    }
+
+    private void ausfuehren(UUID jobId) {
+        LocalDateTime start = LocalDateTime.now();
+        Integer beansprucht = transactionTemplate.execute(status -> jobRepository.beanspruchen(jobId,
+                EJobStatus.LAEUFT, EJobStatus.WARTEND, start, start.minus(STALE_NACH)));
+        if (beansprucht == null || beansprucht == 0) {
+            return; // läuft schon woanders oder ist fertig
+        }
+
+        try {
+            BulkJob job = jobRepository.findById(jobId).orElse(null);
+            EJobTyp typ = job != null ? job.getTyp() : null;
+            if (typ == EJobTyp.BATCH_STATUS || typ == EJobTyp.BATCH_LOESCHEN) {
+                while (batchChunk(jobId) > 0) {
+                    // weiter, bis keine offenen Einträge mehr da sind
+                }
+                abschliessen(jobId, EJobStatus.FERTIG, null);
+                return;
+            }
+
+            boolean nachzueglerRunde = false;
+            while (true) {
+                int anzahl = loescheChunk(jobId);
+                if (anzahl == chunkGroesse) {
+                    continue;
+                }
+                // Ende erreicht. Eine letzte Runde ab Anfang fängt Nachweise ein, die während
+                // des Jobs mit einer kleineren ID als dem Cursor angelegt wurden.
+                if (nachzueglerRunde) {
+                    break;
+                }
+                nachzueglerRunde = true;
+                transactionTemplate.executeWithoutResult(status -> jobRepository.findById(jobId)
+                        .ifPresent(j -> j.setCursorId(null)));
+            }
+            // PDFs ohne Nachweis (alte Verzeichnisse, abgebrochene Läufe) gleich mit wegräumen
+            nachweisService.verwaistePdfsEinreihen(typ == EJobTyp.LOESCHE_ALLE_VON_AZUBI ? job.getAzubiId() : null);
+            abschliessen(jobId, EJobStatus.FERTIG, null);
+        } catch (Exception e) {
+            log.error("❌ Job {} fehlgeschlagen: {}", jobId, e.getMessage(), e);
+            abschliessen(jobId, EJobStatus.FEHLGESCHLAGEN, e.getMessage());
+        }
+    }
+
+    /**
+     * Ein Chunk = eine Transaktion: Nachweise löschen, Datei-Aufträge einreihen,
+     * Fortschritt + Cursor + Heartbeat speichern.
+     */
+    private int loescheChunk(UUID jobId) {
+        Integer anzahl = transactionTemplate.execute(status -> {
+            BulkJob job = jobRepository.findById(jobId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Job nicht gefunden: " + jobId));
+            if (job.getGestartetAm() == null) {
+                job.setGestartetAm(LocalDateTime.now());
+            }
+            UUID cursor = job.getCursorId() != null ? job.getCursorId() : NachweisService.KEYSET_START;
+            UUID azubiId = job.getTyp() == EJobTyp.LOESCHE_ALLE_VON_AZUBI ? job.getAzubiId() : null;
+
+            List<UUID> geloescht = nachweisService.loescheNaechstenChunk(azubiId, cursor, chunkGroesse);
+            if (!geloescht.isEmpty()) {
+                job.setCursorId(geloescht.get(geloescht.size() - 1));
+                job.setVerarbeitet(job.getVerarbeitet() + geloescht.size());
+            }
+            job.setAktualisiertAm(LocalDateTime.now());
+            return geloescht.size();
+        });
+        return anzahl != null ? anzahl : 0;
+    }
+
+    /**
+     * Ein Batch-Chunk: die nächsten offenen Einträge über den NachweisService
+     * abarbeiten und das Ergebnis pro Nachweis in derselben Transaktion
+     * festhalten. Wirft der Chunk, wird er komplett als fehlgeschlagen markiert
+     * (eigene Transaktion) und der Job läuft mit dem nächsten weiter.
+     *
+     * @return Anzahl abgearbeiteter Einträge, 0 = nichts mehr offen
+     */
+    private int batchChunk(UUID jobId) {
+        BulkJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job nicht gefunden: " + jobId));
+        List<UUID> ids = eintragRepository.findNachweisIdsByStatus(jobId, EJobEintragStatus.OFFEN,
+                PageRequest.of(0, chunkGroesse));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<String, Object> ergebnis = job.getTyp() == EJobTyp.BATCH_STATUS
+                        ? nachweisService.aktualisiereStatusVonMehrerenNachweisen(ids, job.getZielStatus(),
+                                job.getKommentar(), job.getErstelltVon())
+                        : nachweisService.loescheMehrerNachweise(ids, job.getErstelltVon());
+
+                @SuppressWarnings("unchecked")
+                Collection<UUID> fehlerIds = (Collection<UUID>) ergebnis.get("failedIds");
+                Set<UUID> fehlgeschlagen = new HashSet<>(fehlerIds);
+                List<UUID> erfolgreich = ids.stream().filter(id -> !fehlgeschlagen.contains(id)).toList();
+                verbucheChunk(jobId, erfolgreich, fehlgeschlagen,
+                        "Nicht gefunden oder keine Berechtigung");
+            });
+        } catch (Exception e) {
+            log.error("❌ Chunk von Job {} fehlgeschlagen ({} Einträge): {}", jobId, ids.size(), e.getMessage());
+            String meldung = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            transactionTemplate.executeWithoutResult(status -> verbucheChunk(jobId, List.of(), ids,
+                    meldung.length() > 1024 ? meldung.substring(0, 1024) : meldung));
+        }
+        return ids.size();
+    }
+
+    private void verbucheChunk(UUID jobId, Collection<UUID> erfolgreich, Collection<UUID> fehlgeschlagen,
+            String fehlerMeldung) {
+        LocalDateTime jetzt = LocalDateTime.now();
+        if (!erfolgreich.isEmpty()) {
+            eintragRepository.setzeErgebnis(jobId, erfolgreich, EJobEintragStatus.ERFOLGREICH, null, jetzt);
+        }
+        if (!fehlgeschlagen.isEmpty()) {
+            eintragRepository.setzeErgebnis(jobId, fehlgeschlagen, EJobEintragStatus.FEHLGESCHLAGEN,
+                    fehlerMeldung, jetzt);
+        }
+        jobRepository.findById(jobId).ifPresent(job -> {
+            if (job.getGestartetAm() == null) {
+                job.setGestartetAm(jetzt);
+            }
+            job.setVerarbeitet(job.getVerarbeitet() + erfolgreich.size());
+            job.setFehlgeschlagen(job.getFehlgeschlagen() + fehlgeschlagen.size());
+            job.setAktualisiertAm(jetzt);
+        });
+    }
+
+    private void abschliessen(UUID jobId, EJobStatus endStatus, String fehler) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> jobRepository.findById(jobId).ifPresent(job -> {
+                LocalDateTime jetzt = LocalDateTime.now();
+                job.setStatus(endStatus);
+                job.setFehlerMeldung(fehler != null && fehler.length() > 2048 ? fehler.substring(0, 2048) : fehler);
+                job.setBeendetAm(jetzt);
+                job.setAktualisiertAm(jetzt);
+                // Nachzügler können "gesamt" überholen
+                job.setGesamt(Math.max(job.getGesamt(), job.getVerarbeitet() + job.getFehlgeschlagen()));
+                log.info("✅ Job {} beendet mit Status {} ({} verarbeitet)", jobId, endStatus, job.getVerarbeitet());
+            }));
+        } catch (Exception e) {
+            log.error("Konnte Status von Job {} nicht speichern: {}", jobId, e.getMessage());
+        }
+    }
+}
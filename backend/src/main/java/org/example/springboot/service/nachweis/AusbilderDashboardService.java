@@ -0,0 +1,104 @@
+package org.example.springboot.service.nachweis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.springboot.controller.nachweisController.dto.AusbilderDashboardDto;
+import org.example.springboot.exception.ResourceNotFoundException;
+import org.example.springboot.model.User;
+import org.example.springboot.repository.NachweisRepository;
+import org.example.springboot.repository.UserRepository;
+import org.example.springboot.repository.projection.AzubiStatusAnzahl;
+import org.example.springboot.service.nachweis.event.AusbilderDashboardVeraltetEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 📊 **Was geht hier ab?**
+ * Zahlen für die Startseite eines Ausbilders: wie viele Nachweise pro Azubi
+ * offen, angenommen oder abgelehnt sind. Eine GROUP BY-Query über den Index
+ * (ausbilder_id, azubi_id, status), das Ergebnis liegt pro Ausbilder kurz in
+ * Redis (Cache "ausbilderDashboard", TTL siehe CacheConfig/RedisConfig).
+ *
+ * Ändert sich ein Status, verwirft {@link #beiVeraltet} den Eintrag nach dem
+ * Commit - die TTL ist nur das Sicherheitsnetz für Wege ohne Event (z.B.
+ * Chunk-Löschungen).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AusbilderDashboardService {
+
+    public static final String CACHE = "ausbilderDashboard";
+
+    private final NachweisRepository nachweisRepository;
+    private final UserRepository userRepository;
+    private final CacheManager cacheManager;
+
+    // Bewusst nicht readOnly - das ginge an die Replika, und direkt nach dem
+    // Evict landete dort evtl. noch der alte Stand wieder im Cache
+    @Cacheable(value = CACHE, key = "#ausbilderId")
+    @Transactional
+    public AusbilderDashboardDto fuerAusbilder(UUID ausbilderId) {
+        AusbilderDashboardDto dashboard = new AusbilderDashboardDto();
+        dashboard.setAusbilderId(ausbilderId);
+
+        // Zeilen kommen nach Azubi-Name sortiert - LinkedHashMap hält die Reihenfolge
+        Map<UUID, AusbilderDashboardDto.AzubiZeile> proAzubi = new LinkedHashMap<>();
+        for (AzubiStatusAnzahl zeile : nachweisRepository.zaehleProAzubiUndStatus(ausbilderId)) {
+            if (zeile.getStatus() == null) {
+                continue;
+            }
+            AusbilderDashboardDto.AzubiZeile azubi = proAzubi.computeIfAbsent(zeile.getAzubiId(),
+                    id -> new AusbilderDashboardDto.AzubiZeile(id, zeile.getAzubiName(), 0, 0, 0));
+            long anzahl = zeile.getAnzahl();
+            switch (zeile.getStatus()) {
+                case IN_BEARBEITUNG -> {
+                    azubi.setInBearbeitung(anzahl);
+                    dashboard.setInBearbeitung(dashboard.getInBearbeitung() + anzahl);
+                }
+                case ANGENOMMEN -> {
+                    azubi.setAngenommen(anzahl);
+                    dashboard.setAngenommen(dashboard.getAngenommen() + anzahl);
+                }
+                case ABGELEHNT -> {
+                    azubi.setAbgelehnt(anzahl);
+                    dashboard.setAbgelehnt(dashboard.getAbgelehnt() + anzahl);
+                }
+            }
+        }
+        dashboard.getAzubis().addAll(proAzubi.values());
+
+        log.debug("📊 Dashboard für Ausbilder {} neu berechnet ({} Azubis)", ausbilderId, proAzubi.size());
+        return dashboard;
+    }
+
+    @Transactional(readOnly = true)
+    public UUID ausbilderId(String username) {
+        return userRepository.findByUsername(username)
+                .map(User::getId)
+                .orElseThrow(() -> new ResourceNotFoundException("Benutzer nicht gefunden: " + username));
+    }
+
+    @TransactionalEventListener
+    public void beiVeraltet(AusbilderDashboardVeraltetEvent event) {
+        Cache cache = cacheManager.getCache(CACHE);
+        if (cache == null) {
+            return;
+        }
+        try {
+            event.ausbilderIds().forEach(cache::evict);
+        } catch (RuntimeException e) {
+            // Commit ist schon durch - dann greift eben die TTL
+            log.warn("⚠️ Dashboard-Cache für {} konnte nicht geleert werden: {}", event.ausbilderIds(),
+                    e.getMessage());
+        }
+    }
+}
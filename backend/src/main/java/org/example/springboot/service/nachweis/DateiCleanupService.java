@@ -0,0 +1,191 @@
+package org.example.springboot.service.nachweis;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.springboot.model.DateiCleanupAuftrag;
+import org.example.springboot.repository.DateiCleanupAuftragRepository;
+import org.example.springboot.util.TransaktionsHelfer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 🧹 **Was geht hier ab?**
+ * Dateien (PDFs) dürfen erst weg, wenn das Löschen in der Datenbank wirklich
+ * committed ist. Sonst hat man nach einem Rollback Nachweise, deren PDF schon
+ * im Nirvana ist.
+ *
+ * Deshalb läuft das so:
+ * - **einreihen()**: Schreibt die Pfade in {@code datei_cleanup_auftrag} - in
+ * derselben Transaktion wie das eigentliche Löschen. Rollback = Aufträge weg.
+ * - Nach dem Commit wird die Queue direkt im {@code dateiCleanupExecutor}
+ * abgearbeitet.
+ * - Was schiefgeht (Datei gesperrt, Storage weg, App-Crash), holt der
+ * Scheduler mit exponentiellem Backoff nach.
+ * - Nach {@code maxVersuche} gibt er auf. Wie viele Aufträge so liegen
+ * bleiben, zeigt die Metrik {@code datei.cleanup.aufgegeben}.
+ */
+@Slf4j
+@Service
+public class DateiCleanupService {
+
+    private static final int BATCH_GROESSE = 200;
+
+    private final DateiCleanupAuftragRepository auftragRepository;
+    private final TaskExecutor executor;
+    private final TaskExecutor loeschExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxVersuche;
+    private final AtomicLong aufgegeben = new AtomicLong();
+
+    public DateiCleanupService(DateiCleanupAuftragRepository auftragRepository,
+            @Qualifier("dateiCleanupExecutor") TaskExecutor executor,
+            @Qualifier("dateiLoeschExecutor") TaskExecutor loeschExecutor,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${datei.cleanup.max-versuche:10}") int maxVersuche) {
+        this.auftragRepository = auftragRepository;
+        this.executor = executor;
+        this.loeschExecutor = loeschExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxVersuche = maxVersuche;
+        meterRegistry.gauge("datei.cleanup.aufgegeben", aufgegeben);
+    }
+
+    /**
+     * 📥 Dateien zum Löschen vormerken. Muss innerhalb der Transaktion aufgerufen
+     * werden, die auch die Datenbank-Zeilen löscht.
+     */
+    public void einreihen(Collection<Path> dateien) {
+        if (dateien.isEmpty()) {
+            return;
+        }
+        List<DateiCleanupAuftrag> auftraege = new ArrayList<>(dateien.size());
+        for (Path datei : dateien) {
+            auftraege.add(new DateiCleanupAuftrag(datei.toString()));
+        }
+        auftragRepository.saveAll(auftraege);
+        log.debug("{} Datei(en) zum Löschen vorgemerkt", auftraege.size());
+
+        TransaktionsHelfer.nachCommit(this::anstossen);
+    }
+
+    /**
+     * ⏰ Retry-Lauf für alles, was beim direkten Abarbeiten nicht geklappt hat.
+     */
+    @Scheduled(fixedDelayString = "${datei.cleanup.intervall-ms:60000}", initialDelay = 30000)
+    public void geplanterLauf() {
+        abarbeiten();
+        try {
+            aufgegeben.set(auftragRepository.countByVersucheGreaterThanEqual(maxVersuche));
+        } catch (Exception e) {
+            log.debug("Aufgegebene Datei-Cleanup-Aufträge konnten nicht gezählt werden: {}", e.getMessage());
+        }
+    }
+
+    private void anstossen() {
+        try {
+            executor.execute(this::abarbeiten);
+        } catch (TaskRejectedException e) {
+            // Pool voll - der Scheduler holt's nach
+            log.debug("Datei-Cleanup-Pool ausgelastet, Aufträge bleiben für den nächsten Lauf liegen");
+        }
+    }
+
+    /**
+     * Arbeitet die fälligen Aufträge in Häppchen ab, bis nichts mehr fällig ist.
+     */
+    public void abarbeiten() {
+        try {
+            int verarbeitet;
+            do {
+                Integer anzahl = transactionTemplate.execute(status -> verarbeiteBatch());
+                verarbeitet = anzahl != null ? anzahl : 0;
+            } while (verarbeitet == BATCH_GROESSE);
+        } catch (Exception e) {
+            log.error("❌ Fehler beim Abarbeiten der Datei-Cleanup-Queue: {}", e.getMessage(), e);
+        }
+    }
+
+    private int verarbeiteBatch() {
+        LocalDateTime jetzt = LocalDateTime.now();
+        List<DateiCleanupAuftrag> faellig = auftragRepository.findFaelligeZumVerarbeiten(jetzt, maxVersuche,
+                BATCH_GROESSE);
+
+        // Dateisystem-Arbeit parallel, die DB-Updates danach im Transaktions-Thread
+        Map<Long, IOException> fehler = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> loeschungen = new ArrayList<>(faellig.size());
+        for (DateiCleanupAuftrag auftrag : faellig) {
+            loeschungen.add(CompletableFuture.runAsync(() -> {
+                Path datei = Paths.get(auftrag.getPfad());
+                try {
+                    Files.deleteIfExists(datei);
+                    loescheLeeresVerzeichnis(datei.getParent());
+                } catch (IOException e) {
+                    fehler.put(auftrag.getId(), e);
+                }
+            }, loeschExecutor));
+        }
+        CompletableFuture.allOf(loeschungen.toArray(new CompletableFuture[0])).join();
+
+        List<DateiCleanupAuftrag> erledigt = new ArrayList<>();
+        for (DateiCleanupAuftrag auftrag : faellig) {
+            IOException e = fehler.get(auftrag.getId());
+            if (e == null) {
+                erledigt.add(auftrag);
+                continue;
+            }
+            int versuche = auftrag.getVersuche() + 1;
+            auftrag.setVersuche(versuche);
+            // 2, 4, 8 ... Sekunden, gedeckelt bei einer Stunde
+            long backoff = Math.min(3600L, 1L << Math.min(versuche, 12));
+            auftrag.setNaechsterVersuch(jetzt.plusSeconds(backoff));
+            auftrag.setLetzterFehler(e.toString());
+            if (versuche >= maxVersuche) {
+                log.error("❌ Datei {} konnte nach {} Versuchen nicht gelöscht werden: {}", auftrag.getPfad(),
+                        versuche, e.getMessage());
+            } else {
+                log.warn("Löschen von {} fehlgeschlagen (Versuch {}), nächster Versuch in {}s", auftrag.getPfad(),
+                        versuche, backoff);
+            }
+        }
+
+        auftragRepository.deleteAllInBatch(erledigt);
+        if (!erledigt.isEmpty()) {
+            log.info("🧹 {} Datei(en) nach Commit gelöscht", erledigt.size());
+        }
+        return faellig.size();
+    }
+
+    private void loescheLeeresVerzeichnis(Path verzeichnis) {
+        if (verzeichnis == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(verzeichnis);
+        } catch (DirectoryNotEmptyException ignored) {
+            // Es liegen noch andere PDFs drin - passt
+        } catch (IOException e) {
+            log.debug("Verzeichnis {} konnte nicht gelöscht werden: {}", verzeichnis, e.getMessage());
+        }
+    }
+}
@@ -10,6 +10,8 @@ import org.example.springboot.model.NachweisAuditLog;
 import org.example.springboot.repository.NachweisAuditLogRepository;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -33,6 +35,8 @@ public class NachweisAuditService {
 
     private final NachweisAuditLogRepository nachweisAuditLogRepository;
     private final ObjectMapper objectMapper;
+    // Deltas sind klein und kommen oft (Autosave) - kompakt ohne Einrückung
+    private final ObjectMapper deltaObjectMapper;
 
     public NachweisAuditService(NachweisAuditLogRepository nachweisAuditLogRepository) {
         this.nachweisAuditLogRepository = nachweisAuditLogRepository;
@@ -43,6 +47,7 @@ public class NachweisAuditService {
         objectMapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
         // Make stored JSON human-readable
         objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+        this.deltaObjectMapper = objectMapper.copy().disable(SerializationFeature.INDENT_OUTPUT);
     }
 
     public void loggeNachweisAktion(UUID nachweisId, String aktion, String benutzerName, Nachweis alterNachweis,
@@ -91,4 +96,67 @@ public class NachweisAuditService {
             throw new RuntimeException("Fehler beim Speichern des Nachweis Audit-Logs", e); // Exzeption weiterwerfen
         }
     }
+
+    /**
+     * Wie {@link #loggeNachweisAktion}, aber nur mit den geänderten Feldern
+     * statt zwei kompletten Snapshots - für Teil-Updates (PATCH/Autosave).
+     * Geänderte Activities stehen unter "activities", über day + slot
+     * zuzuordnen.
+     */
+    public void loggeNachweisDelta(UUID nachweisId, String aktion, String benutzerName, Map<String, Object> vorher,
+            Map<String, Object> nachher) {
+        NachweisAuditLog auditLog;
+        try {
+            auditLog = new NachweisAuditLog(null, nachweisId, aktion, java.time.Instant.now(), benutzerName,
+                    deltaObjectMapper.writeValueAsString(vorher), deltaObjectMapper.writeValueAsString(nachher));
+        } catch (JsonProcessingException e) {
+            log.error("Fehler bei der JSON-Serialisierung des Deltas für Audit-Log (Nachweis-ID: {}): {}",
+                    nachweisId, e.getMessage());
+            throw new RuntimeException("Fehler bei der JSON-Serialisierung für Audit-Log", e);
+        }
+        try {
+            nachweisAuditLogRepository.save(auditLog);
+            log.debug("Nachweis Delta-Audit-Log gespeichert für Nachweis-ID: {} ({} Felder)", nachweisId,
+                    nachher.size());
+        } catch (Exception e) {
+            log.error("Fehler beim Speichern des Nachweis Audit-Logs (Nachweis-ID: {}): {}", nachweisId,
+                    e.getMessage());
+            throw new RuntimeException("Fehler beim Speichern des Nachweis Audit-Logs", e);
+        }
+    }
+
+    /**
+     * Serialisiert einen Nachweis im gleichen Format wie
+     * {@link #loggeNachweisAktion}. Für Batch-Operationen, die die Audit-Einträge
+     * selbst zusammenbauen.
+     */
+    public String serialisiere(Nachweis nachweis) {
+        if (nachweis == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(nachweis);
+        } catch (JsonProcessingException e) {
+            log.error("Fehler bei der JSON-Serialisierung des Nachweises für Audit-Log (Nachweis-ID: {}): {}",
+                    nachweis.getId(), e.getMessage());
+            throw new RuntimeException("Fehler bei der JSON-Serialisierung für Audit-Log", e);
+        }
+    }
+
+    /**
+     * 📦 Batch - speichert viele Audit-Einträge mit einem saveAll (JDBC-Batching
+     * statt ein INSERT-Roundtrip pro Eintrag).
+     */
+    public void loggeNachweisAktionen(List<NachweisAuditLog> auditLogs) {
+        if (auditLogs.isEmpty()) {
+            return;
+        }
+        try {
+            nachweisAuditLogRepository.saveAll(auditLogs);
+            log.debug("{} Nachweis Audit-Logs im Batch gespeichert", auditLogs.size());
+        } catch (Exception e) {
+            log.error("Fehler beim Speichern von {} Nachweis Audit-Logs: {}", auditLogs.size(), e.getMessage());
+            throw new RuntimeException("Fehler beim Speichern der Nachweis Audit-Logs", e);
+        }
+    }
 }
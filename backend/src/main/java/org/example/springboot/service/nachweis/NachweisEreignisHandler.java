@@ -0,0 +1,651 @@
+package org.example.springboot.service.nachweis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.springboot.model.Nachweis;
+import org.example.springboot.model.Notification;
+import org.example.springboot.model.User;
+import org.example.springboot.model.enums.EStatus;
+import org.example.springboot.repository.NachweisRepository;
+import org.example.springboot.service.NotificationService;
+import org.example.springboot.service.nachweis.event.NachweisAktualisiertEvent;
+import org.example.springboot.service.nachweis.event.NachweisEingereichtEvent;
+import org.example.springboot.service.nachweis.event.NachweisStatusGeaendertEvent;
+import org.example.springboot.service.nachweis.event.NachweiseStatusGeaendertEvent;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 📬 **Was geht hier ab?**
+ * Alles, was nach einer Nachweis-Änderung außerhalb der Datenbank passiert:
+ * PDF rendern und ablegen ({@link NachweisPdfAblage}), E-Mails,
+ * In-App-Benachrichtigungen.
+ *
+ * Der {@link NachweisService} veröffentlicht dafür nur ein Event mit der ID.
+ * Die Handler hier laufen erst nach dem Commit im
+ * {@code nachweisEreignisExecutor}:
+ * - die Transaktion hält keine Connection und keine Row-Locks mehr, während
+ * wir auf Platte schreiben oder mit dem Mailserver reden
+ * - nach einem Rollback passiert gar nichts (keine Mail für einen Nachweis,
+ * den es nicht gibt)
+ *
+ * Jeder Handler lädt den Nachweis in einer eigenen, kurzen Transaktion neu.
+ */
+@Slf4j
+@Component
+public class NachweisEreignisHandler {
+
+    private static final int LADE_CHUNK_GROESSE = 500;
+
+    private final NachweisRepository nachweisRepository;
+    private final NachweisPdfAblage pdfAblage;
+    private final EmailService emailService;
+    private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate eigeneTransaktion;
+
+    public NachweisEreignisHandler(NachweisRepository nachweisRepository, NachweisPdfAblage pdfAblage,
+            EmailService emailService, NotificationService notificationService,
+            PlatformTransactionManager transactionManager) {
+        this.nachweisRepository = nachweisRepository;
+        this.pdfAblage = pdfAblage;
+        this.emailService = emailService;
+        this.notificationService = notificationService;
+        // Bewusst nicht readOnly - das ginge an die Replika, die den gerade
+        // committeten Stand evtl. noch nicht hat
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eigeneTransaktion = new TransactionTemplate(transactionManager);
+        this.eigeneTransaktion.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Async("nachweisEreignisExecutor")
+    @TransactionalEventListener
+    public void beiEingereicht(NachweisEingereichtEvent event) {
+        Nachweis savedNachweis = laden(event.nachweisId());
+        if (savedNachweis == null) {
+            return;
+        }
+        User user = savedNachweis.getAzubi();
+        User ausbilder = savedNachweis.getAusbilder();
+
+        try {
+            byte[] pdfBytes = pdfAblage.ablegen(savedNachweis);
+            UUID nachweisId = savedNachweis.getId();
+
+            // Send email if ausbilder has an email
+            String ausbilderEmail = ausbilder.getEmail();
+            log.debug("Evaluating email sending for Nachweis {}. Ausbilder Email from user object: {}",
+                    savedNachweis.getId(), ausbilderEmail);
+            if (ausbilderEmail != null && !ausbilderEmail.isEmpty()) {
+                String ausbilderName = ausbilder.getName();
+                String azubiName = user.getName();
+                String nachweisNummer = String.valueOf(savedNachweis.getNummer());
+                String datumStartFormatted = "N/A";
+                String datumEndeFormatted = "N/A";
+                String ausbildungsjahr = "N/A";
+
+                if (savedNachweis.getDatumStart() != null) {
+                    datumStartFormatted = savedNachweis.getDatumStart()
+                            .format(java.time.format.DateTimeFormatter.ofPattern("dd.MM.yyyy"));
+                } else {
+                    log.warn("DatumStart is null for Nachweis ID: {}", savedNachweis.getId());
+                }
+
+                if (savedNachweis.getDatumEnde() != null) {
+                    datumEndeFormatted = savedNachweis.getDatumEnde()
+                            .format(java.time.format.DateTimeFormatter.ofPattern("dd.MM.yyyy"));
+                } else {
+                    log.warn("DatumEnde is null for Nachweis ID: {}", savedNachweis.getId());
+                }
+
+                if (savedNachweis.getAusbildungsjahr() != null && !savedNachweis.getAusbildungsjahr().isEmpty()) {
+                    ausbildungsjahr = savedNachweis.getAusbildungsjahr();
+                } else {
+                    log.warn("Ausbildungsjahr is null or empty for Nachweis ID: {}", savedNachweis.getId());
+                }
+
+                String subject = "Neuer Ausbildungsnachweis von " + azubiName;
+                String body = "<html>"
+                        + "<head>"
+                        + "<meta charset='utf-8'/>"
+                        + "<style>"
+                        + "body { font-family: -apple-system, BlinkMacSystemFont, 'Segoe UI', Roboto, 'Helvetica Neue', Arial; color: #0f172a; line-height:1.5;}"
+                        + ".container { max-width:640px; margin:0 auto; padding:20px; border-radius:12px; background:#fff; box-shadow:0 6px 20px rgba(16,24,40,0.06);}"
+                        + ".header { background: linear-gradient(90deg,#1DB954 0%,#16a34a 100%); color:#fff; padding:18px; text-align:center; border-radius:10px 10px 0 0;}"
+                        + ".content { padding:20px; color:#0f172a;}"
+                        + ".muted { color:#64748b; font-size:0.9em; }"
+                        + ".btn { display:inline-block; background:#1DB954; color:#fff; padding:10px 16px; border-radius:999px; text-decoration:none; font-weight:600; }"
+                        + "ul { margin:8px 0 12px 18px; }"
+                        + "</style>"
+                        + "</head>"
+                        + "<body>"
+                        + "<div class='container'>"
+                        + "<div class='header'>"
+                        + "<h2 style='margin:0;font-size:18px;'>Neuer Nachweis eingereicht</h2>"
+                        + "</div>"
+                        + "<div class='content'>"
+                        + "<p>Hey " + ausbilderName + " 👋</p>"
+                        + "<p>Dein Azubi <strong>" + azubiName
+                        + "</strong> hat einen neuen Ausbildungsnachweis eingereicht.</p>"
+                        + "<p><strong>Kurzinfo</strong></p>"
+                        + "<ul>"
+                        + "<li><strong>Nummer:</strong> " + nachweisNummer + "</li>"
+                        + "<li><strong>Zeitraum:</strong> " + datumStartFormatted + " - " + datumEndeFormatted + "</li>"
+                        + "<li><strong>Ausbildungsjahr:</strong> " + ausbildungsjahr + "</li>"
+                        + "</ul>"
+                        + "<p class='muted'>Den kompletten Nachweis findest du als PDF im Anhang.</p>"
+                        + "<p>Danke & beste Grüße,<br/>" + azubiName + "</p>"
+                        + "</div>"
+                        + "<div style='padding:12px;text-align:center;color:#94a3b8;font-size:12px;'>"
+                        + "Automatisch generierte Nachricht — bitte nicht direkt antworten."
+                        + "<p style='text-align:center;margin:14px 0;'><a class='btn' href='https://github.com/vuducle/javaSpringBootApp/' target='_blank' rel='noopener'>Quellcode ansehen</a></p>"
+                        + "<p>Mit viel Liebe mit Java gecodet ❤\uFE0F\uD83C\uDDEE\uD83C\uDDE9\uD83C\uDDFB\uD83C\uDDF3☕\uFE0F</p>"
+                        + "</div>"
+                        + "</div>"
+                        + "</body>"
+                        + "</html>";
+                emailService.sendEmailWithAttachment(
+                        ausbilderEmail,
+                        subject,
+                        body,
+                        pdfBytes,
+                        "Ausbildungsnachweis_" + nachweisId + ".pdf",
+                        "application/pdf");
+            }
+
+            // Create in-app notification for Ausbilder about new Nachweis submission
+            try {
+                if (ausbilder != null && ausbilder.getId() != null) {
+                    inEigenerTransaktion(() -> notificationService.createNotification(
+                            ausbilder.getId(),
+                            "Neuer Nachweis eingereicht",
+                            "Der Azubi " + user.getName() + " hat einen neuen Nachweis Nr. " + savedNachweis.getNummer()
+                                    + " eingereicht",
+                            Notification.NotificationType.INFO,
+                            nachweisId,
+                            "/nachweis/" + nachweisId));
+                    log.info("Notification created for Ausbilder {} - New Nachweis {} submitted by {}",
+                            ausbilder.getId(), nachweisId, user.getName());
+                }
+            } catch (Exception e) {
+                log.error("Fehler beim Erstellen der Benachrichtigung für Ausbilder zu Nachweis {}: {}", nachweisId,
+                        e.getMessage(), e);
+                // Continue - notification failure should not break the main flow
+            }
+        } catch (IOException e) {
+            // Der Nachweis ist trotzdem gespeichert - das PDF entsteht beim nächsten Speichern neu
+            log.error("Fehler bei der PDF-Generierung oder Speicherung für Nachweis {}: {}", savedNachweis.getId(),
+                    e.getMessage());
+        }
+    }
+
+    @Async("nachweisEreignisExecutor")
+    @TransactionalEventListener
+    public void beiAktualisiert(NachweisAktualisiertEvent event) {
+        Nachweis updatedNachweis = laden(event.nachweisId());
+        if (updatedNachweis == null) {
+            return;
+        }
+        User azubi = updatedNachweis.getAzubi();
+
+        if (event.pdfNeu()) {
+            try {
+                pdfAblage.ablegen(updatedNachweis);
+            } catch (IOException e) {
+                log.error("Fehler bei der PDF-Generierung oder Speicherung für Nachweis {}: {}",
+                        updatedNachweis.getId(), e.getMessage());
+            }
+        }
+        if (!event.ausbilderBenachrichtigen()) {
+            return;
+        }
+
+        // Send email to Ausbilder about the update
+        User nachweisAusbilder = updatedNachweis.getAusbilder();
+        if (nachweisAusbilder != null && nachweisAusbilder.getEmail() != null
+                && !nachweisAusbilder.getEmail().isEmpty()) {
+            String subject = "Nachweis aktualisiert: Nr. " + updatedNachweis.getNummer() + " von "
+                    + azubi.getName();
+            String body = "<html>"
+                    + "<head>"
+                    + "<meta charset='utf-8'/>"
+                    + "<style>"
+                    + "body { font-family: -apple-system, BlinkMacSystemFont, 'Segoe UI', Roboto, 'Helvetica Neue', Arial; line-height: 1.5; color: #0f172a; }"
+                    + ".container { max-width: 640px; margin: 0 auto; padding: 20px; border-radius: 12px; background-color: #ffffff; box-shadow: 0 6px 20px rgba(16,24,40,0.06); }"
+                    + ".header { background: linear-gradient(90deg, #1DB954 0%, #16a34a 100%); color: #ffffff; padding: 18px; text-align: center; border-radius: 10px 10px 0 0; }"
+                    + ".content { padding: 20px; color: #0f172a; }"
+                    + ".note { background: #f1fdf6; color: #064e3b; padding: 12px; border-radius: 8px; margin: 12px 0; }"
+                    + ".footer { text-align: center; font-size: 0.85em; color: #64748b; margin-top: 16px; }"
+                    + "p { margin: 0 0 12px 0; }"
+                    + "</style>"
+                    + "</head>"
+                    + "<body>"
+                    + "<div class='container'>"
+                    + "<div class='header'>"
+                    + "<h2 style='margin:0;font-size:18px;'>Ausbildungsnachweis aktualisiert — bitte prüfen</h2>"
+                    + "</div>"
+                    + "<div class='content'>"
+                    + "<p>Hi " + nachweisAusbilder.getName() + " 👋</p>"
+                    + "<p>Der Nachweis <strong>Nr. " + updatedNachweis.getNummer() + "</strong> von <strong>"
+                    + azubi.getName() + "</strong> wurde aktualisiert und ist wieder zur Prüfung bereit.</p>"
+                    + (EStatus.IN_BEARBEITUNG != null
+                            ? "<p class='note'>Status: <strong>" + EStatus.IN_BEARBEITUNG.toString()
+                                    + "</strong></p>"
+                            : "")
+                    + "<p>Kurz checken, kurz freigeben — danke! 🙏</p>"
+                    + "<p>Beste Grüße,<br/>" + azubi.getName() + "</p>"
+                    + "</div>"
+                    + "<div class='footer'>"
+                    + "<p style='text-align:center;margin:14px 0;'><a class='btn' href='https://github.com/vuducle/javaSpringBootApp/tree/main/src/main/java' target='_blank' rel='noopener'>Quellcode ansehen</a></p>"
+                    + "<p>Mit viel Liebe mit Java gecodet ❤\uFE0F\uD83C\uDDEE\uD83C\uDDE9\uD83C\uDDFB\uD83C\uDDF3☕\uFE0F</p>"
+                    + "<p>Automatisch generierte Nachricht — Antworten werden nicht überwacht.</p>"
+                    + "</div>"
+                    + "</div>"
+                    + "</body>"
+                    + "</html>";
+            emailService.sendEmail(nachweisAusbilder.getEmail(), subject, body);
+        }
+
+        // Create in-app notification for Ausbilder about updated Nachweis
+        try {
+            if (nachweisAusbilder != null && nachweisAusbilder.getId() != null) {
+                inEigenerTransaktion(() -> notificationService.createNotification(
+                        nachweisAusbilder.getId(),
+                        "Nachweis aktualisiert",
+                        "Der Azubi " + azubi.getName() + " hat den Nachweis Nr. " + updatedNachweis.getNummer()
+                                + " aktualisiert",
+                        Notification.NotificationType.INFO,
+                        updatedNachweis.getId(),
+                        "/nachweis/" + updatedNachweis.getId()));
+                log.info("Notification created for Ausbilder {} - Nachweis {} updated by {}",
+                        nachweisAusbilder.getId(), updatedNachweis.getId(), azubi.getName());
+            }
+        } catch (Exception e) {
+            log.error("Fehler beim Erstellen der Benachrichtigung für Ausbilder zu aktualisiertem Nachweis {}: {}",
+                    updatedNachweis.getId(), e.getMessage(), e);
+            // Continue - notification failure should not break the main flow
+        }
+    }
+
+    @Async("nachweisEreignisExecutor")
+    @TransactionalEventListener
+    public void beiStatusGeaendert(NachweisStatusGeaendertEvent event) {
+        Nachweis updatedNachweis = laden(event.nachweisId());
+        if (updatedNachweis == null) {
+            return;
+        }
+        UUID nachweisId = event.nachweisId();
+        EStatus neuerStatus = event.neuerStatus();
+        String comment = event.comment();
+
+        // Send email to Azubi about status update
+        User azubi = updatedNachweis.getAzubi();
+        if (azubi != null && azubi.getEmail() != null && !azubi.getEmail().isEmpty()) {
+            if (neuerStatus == EStatus.ANGENOMMEN) {
+                // Send an acceptance email and attach the generated PDF if available
+                String subject = "Dein Ausbildungsnachweis Nr. " + updatedNachweis.getNummer() + " wurde angenommen";
+                String body = "<html>"
+                        + "<head>"
+                        + "<meta charset='utf-8'/>"
+                        + "<style>"
+                        + "body { font-family: -apple-system, BlinkMacSystemFont, 'Segoe UI', Roboto, 'Helvetica Neue', Arial; line-height: 1.5; color: #0f172a; }"
+                        + ".container { max-width: 640px; margin: 0 auto; padding: 20px; border-radius: 12px; background-color: #ffffff; box-shadow: 0 6px 20px rgba(16,24,40,0.06); }"
+                        + ".header { background: linear-gradient(90deg, #1DB954 0%, #16a34a 100%); color: #ffffff; padding: 20px; text-align: center; border-radius: 10px 10px 0 0; }"
+                        + ".content { padding: 22px; color: #0f172a; }"
+                        + ".footer { text-align: center; font-size: 0.85em; color: #64748b; margin-top: 18px; }"
+                        + ".cta { display: inline-block; padding: 10px 18px; background: #1DB954; color: #fff; border-radius: 999px; text-decoration: none; font-weight: 600; }"
+                        + ".btn { display:inline-block; background:#1DB954; color:#fff; padding:10px 16px; border-radius:999px; text-decoration:none; font-weight:600; }"
+                        + "p { margin: 0 0 12px 0; }"
+                        + "</style>"
+                        + "</head>"
+                        + "<body>"
+                        + "<div class='container'>"
+                        + "<div class='header'>"
+                        + "<h2 style='margin:0;font-size:20px;'>Nice — dein Nachweis ist angenommen 🎉</h2>"
+                        + "</div>"
+                        + "<div class='content'>"
+                        + "<p>Hallo " + azubi.getName() + ",</p>"
+                        + "<p>dein Ausbildungsnachweis Nr. <strong>" + updatedNachweis.getNummer()
+                        + "</strong> wurde von deinem Ausbilder angenommen.</p>"
+                        + "<p>Herzlichen Glückwunsch! Du findest den Nachweis im Anhang dieser E-Mail.</p>"
+                        + "<p>Mit freundlichen Grüßen,</p>"
+                        + "<p>Dein Ausbilder/in " + updatedNachweis.getAusbilder().getName() + "</p>"
+                        + "</div>"
+                        + "<div class='footer'>"
+                        + "<p>Dies ist eine automatisch generierte E-Mail. Bitte antworte nicht direkt auf diese Nachricht.</p>"
+                        + "<p style='text-align:center;margin:14px 0;'><a class='btn' href='https://github.com/vuducle/javaSpringBootApp/' target='_blank' rel='noopener'>Quellcode ansehen</a></p>"
+                        + "<p>Mit viel Liebe mit Java gecodet ❤\uFE0F\uD83C\uDDEE\uD83C\uDDE9\uD83C\uDDFB\uD83C\uDDF3☕\uFE0F</p>"
+                        + "</div>"
+                        + "</div>"
+                        + "</body>"
+                        + "</html>";
+
+                // Try to attach the PDF if it exists
+                try {
+                    // Direkt nach einer Änderung kann das abgelegte PDF noch veraltet sein
+                    Path file = pdfAblage.aktuellesPdf(updatedNachweis);
+                    if (Files.exists(file) && Files.isReadable(file)) {
+                        byte[] pdfBytes = Files.readAllBytes(file);
+                        emailService.sendEmailWithAttachment(
+                                azubi.getEmail(),
+                                subject,
+                                body,
+                                pdfBytes,
+                                "Ausbildungsnachweis_" + updatedNachweis.getId() + ".pdf",
+                                "application/pdf");
+                    } else {
+                        log.warn("PDF for Nachweis {} not found to attach to acceptance email: {}",
+                                updatedNachweis.getId(), file);
+                        emailService.sendEmail(azubi.getEmail(), subject, body);
+                    }
+                } catch (IOException e) {
+                    log.error("Fehler beim Lesen der PDF für Nachweis {}: {}", updatedNachweis.getId(), e.getMessage());
+                    // Fallback to sending email without attachment
+                    emailService.sendEmail(azubi.getEmail(), subject, body);
+                }
+            } else {
+                String subject = "Update zu deinem Ausbildungsnachweis Nr. " + updatedNachweis.getNummer();
+                String body = "<html>"
+                        + "<head>"
+                        + "<meta charset='utf-8'/>"
+                        + "<style>"
+                        + "body { font-family: -apple-system, BlinkMacSystemFont, 'Segoe UI', Roboto, 'Helvetica Neue', Arial; line-height: 1.5; color: #0f172a; }"
+                        + ".container { max-width: 640px; margin: 0 auto; padding: 20px; border-radius: 12px; background-color: #ffffff; box-shadow: 0 6px 20px rgba(16,24,40,0.06); }"
+                        + ".header { background: linear-gradient(90deg, #1DB954 0%, #16a34a 100%); color: #ffffff; padding: 20px; text-align: center; border-radius: 10px 10px 0 0; }"
+                        + ".content { padding: 22px; color: #0f172a; }"
+                        + ".footer { text-align: center; font-size: 0.85em; color: #64748b; margin-top: 18px; }"
+                        + "p { margin: 0 0 12px 0; }"
+                        + "strong { color: #065f46; }"
+                        + "</style>"
+                        + "</head>"
+                        + "<body>"
+                        + "<div class='container'>"
+                        + "<div class='header'>"
+                        + "<h2 style='margin:0;font-size:20px;'>Update zu deinem Nachweis</h2>"
+                        + "</div>"
+                        + "<div class='content'>"
+                        + "<p>Hallo " + azubi.getName() + ",</p>"
+                        + "<p>der Status deines Ausbildungsnachweises Nr. <strong>" + updatedNachweis.getNummer()
+                        + "</strong> wurde aktualisiert.</p>"
+                        + "<p>Neuer Status: <strong>" + neuerStatus.toString() + "</strong></p>"
+                        + (comment != null && !comment.isEmpty()
+                                ? "<p>Kommentar deines Ausbilders: <em>" + comment + "</em></p>"
+                                : "")
+                        + "<p>Mit freundlichen Grüßen,</p>"
+                        + "<p>Dein Ausbilder/in " + updatedNachweis.getAusbilder().getName() + "</p>"
+                        + "</div>"
+                        + "<div class='footer'>"
+                        + "<p>Dies ist eine automatisch generierte E-Mail. Bitte antworten Sie nicht direkt auf diese Nachricht.</p>"
+                        + "<p style='text-align:center;margin:14px 0;'><a class='btn' href='https://github.com/vuducle/javaSpringBootApp/' target='_blank' rel='noopener'>Quellcode ansehen</a></p>"
+                        + "<p>Mit viel Liebe mit Java gecodet ❤\uFE0F\uD83C\uDDEE\uD83C\uDDE9\uD83C\uDDFB\uD83C\uDDF3☕\uFE0F</p>"
+                        + "</div>"
+                        + "</div>"
+                        + "</body>"
+                        + "</html>";
+                emailService.sendEmail(azubi.getEmail(), subject, body);
+            }
+        }
+
+        // Create in-app notification for Azubi about status change
+        try {
+            if (azubi != null && azubi.getId() != null) {
+                if (neuerStatus == EStatus.ANGENOMMEN) {
+                    inEigenerTransaktion(() -> notificationService.createNotification(
+                            azubi.getId(),
+                            "Nachweis angenommen",
+                            "Dein Ausbildungsnachweis Nr. " + updatedNachweis.getNummer() + " wurde angenommen",
+                            Notification.NotificationType.SUCCESS,
+                            nachweisId,
+                            "/nachweis/" + nachweisId));
+                    log.info("Notification created for Azubi {} - Nachweis {} accepted", azubi.getId(), nachweisId);
+                } else if (neuerStatus == EStatus.ABGELEHNT) {
+                    String notificationMessage = "Dein Ausbildungsnachweis Nr. " + updatedNachweis.getNummer()
+                            + " wurde abgelehnt"
+                            + (comment != null && !comment.isEmpty() ? ": " + comment : "");
+                    inEigenerTransaktion(() -> notificationService.createNotification(
+                            azubi.getId(),
+                            "Nachweis abgelehnt",
+                            notificationMessage,
+                            Notification.NotificationType.WARNING,
+                            nachweisId,
+                            "/nachweis/" + nachweisId));
+                    log.info("Notification created for Azubi {} - Nachweis {} rejected", azubi.getId(), nachweisId);
+                } else {
+                    // For other status changes (like IN_BEARBEITUNG), create an INFO notification
+                    inEigenerTransaktion(() -> notificationService.createNotification(
+                            azubi.getId(),
+                            "Nachweis aktualisiert",
+                            "Der Status deines Ausbildungsnachweises Nr. " + updatedNachweis.getNummer()
+                                    + " wurde aktualisiert",
+                            Notification.NotificationType.INFO,
+                            nachweisId,
+                            "/nachweis/" + nachweisId));
+                    log.info("Notification created for Azubi {} - Nachweis {} status changed to {}", azubi.getId(),
+                            nachweisId, neuerStatus);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Fehler beim Erstellen der Benachrichtigung für Nachweis {}: {}", nachweisId, e.getMessage(), e);
+            // Continue - notification failure should not break the main flow
+        }
+    }
+
+    @Async("nachweisEreignisExecutor")
+    @TransactionalEventListener
+    public void beiStatusBatch(NachweiseStatusGeaendertEvent event) {
+        EStatus neuerStatus = event.neuerStatus();
+        String comment = event.comment();
+        List<UUID> ids = event.nachweisIds();
+        List<Nachweis> aktualisiert = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i += LADE_CHUNK_GROESSE) {
+            List<UUID> chunk = ids.subList(i, Math.min(i + LADE_CHUNK_GROESSE, ids.size()));
+            aktualisiert.addAll(
+                    transactionTemplate.execute(status -> nachweisRepository.findAllWithDetailsByIdIn(chunk)));
+        }
+
+        try {
+            List<Notification> notifications = new ArrayList<>();
+            for (Nachweis nachweis : aktualisiert) {
+                if (nachweis.getAzubi() != null && nachweis.getAzubi().getId() != null) {
+                    notifications.add(baueStatusNotification(nachweis, neuerStatus, comment));
+                }
+            }
+            inEigenerTransaktion(() -> notificationService.createNotifications(notifications));
+        } catch (Exception e) {
+            log.error("Fehler beim Erstellen der Batch-Benachrichtigungen: {}", e.getMessage(), e);
+            // Continue - notification failure should not break the main flow
+        }
+
+        for (Nachweis nachweis : aktualisiert) {
+            User azubi = nachweis.getAzubi();
+            if (azubi != null && azubi.getEmail() != null && !azubi.getEmail().isEmpty()) {
+                try {
+                    sendStatusUpdateEmail(nachweis, azubi, neuerStatus);
+                } catch (Exception e) {
+                    log.error("Fehler beim Senden der E-Mail für Nachweis {}: {}", nachweis.getId(),
+                            e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Benachrichtigungen immer in einer eigenen Transaktion schreiben. Läuft
+     * ein Handler per CallerRunsPolicy direkt im afterCommit des Aufrufers,
+     * würde REQUIRED an dessen schon committete Transaktion andocken - ein
+     * geschluckter Fehler markiert die trotzdem rollback-only und der
+     * Aufrufer bekommt eine UnexpectedRollbackException.
+     */
+    private void inEigenerTransaktion(Runnable aktion) {
+        eigeneTransaktion.executeWithoutResult(status -> aktion.run());
+    }
+
+    /**
+     * Lädt den Nachweis samt Azubi, Ausbilder und Activities; danach ist die
+     * Transaktion wieder zu.
+     */
+    private Nachweis laden(UUID nachweisId) {
+        Nachweis nachweis = transactionTemplate
+                .execute(status -> nachweisRepository.findWithActivitiesById(nachweisId).orElse(null));
+        if (nachweis == null) {
+            log.warn("📬 Nachweis {} nach dem Commit nicht mehr gefunden - Event verworfen", nachweisId);
+        }
+        return nachweis;
+    }
+
+    /**
+     * Baut die In-App-Benachrichtigung für einen Statuswechsel (ohne zu
+     * speichern)
+     */
+    private Notification baueStatusNotification(Nachweis nachweis, EStatus neuerStatus, String comment) {
+        UUID nachweisId = nachweis.getId();
+        if (neuerStatus == EStatus.ANGENOMMEN) {
+            return notificationService.buildNotification(
+                    nachweis.getAzubi().getId(),
+                    "Nachweis angenommen",
+                    "Dein Ausbildungsnachweis Nr. " + nachweis.getNummer() + " wurde angenommen",
+                    Notification.NotificationType.SUCCESS,
+                    nachweisId,
+                    "/nachweis/" + nachweisId);
+        } else if (neuerStatus == EStatus.ABGELEHNT) {
+            String notificationMessage = "Dein Ausbildungsnachweis Nr. " + nachweis.getNummer()
+                    + " wurde abgelehnt";
+            if (comment != null && !comment.isEmpty()) {
+                notificationMessage += ": " + comment;
+            }
+            return notificationService.buildNotification(
+                    nachweis.getAzubi().getId(),
+                    "Nachweis abgelehnt",
+                    notificationMessage,
+                    Notification.NotificationType.WARNING,
+                    nachweisId,
+                    "/nachweis/" + nachweisId);
+        }
+        return notificationService.buildNotification(
+                nachweis.getAzubi().getId(),
+                "Nachweis aktualisiert",
+                "Der Status deines Ausbildungsnachweises Nr. " + nachweis.getNummer() + " wurde aktualisiert",
+                Notification.NotificationType.INFO,
+                nachweisId,
+                "/nachweis/" + nachweisId);
+    }
+
+    /**
+     * Hilfsmethode zum Senden von Status-Update-E-Mails
+     */
+    private void sendStatusUpdateEmail(Nachweis nachweis, User azubi, EStatus status) {
+        if (status == EStatus.ANGENOMMEN) {
+            String subject = "Dein Ausbildungsnachweis Nr. " + nachweis.getNummer() + " wurde angenommen";
+            String body = buildAcceptedEmailBody(nachweis, azubi);
+
+            // Try to attach PDF
+            try {
+                Path file = pdfAblage.aktuellesPdf(nachweis);
+                if (Files.exists(file) && Files.isReadable(file)) {
+                    byte[] pdfBytes = Files.readAllBytes(file);
+                    emailService.sendEmailWithAttachment(
+                            azubi.getEmail(),
+                            subject,
+                            body,
+                            pdfBytes,
+                            "Nachweis_" + nachweis.getNummer() + ".pdf",
+                            "application/pdf");
+                } else {
+                    emailService.sendEmail(azubi.getEmail(), subject, body);
+                }
+            } catch (IOException e) {
+                log.error("Fehler beim Laden des PDFs für E-Mail: {}", e.getMessage());
+                emailService.sendEmail(azubi.getEmail(), subject, body);
+            }
+        } else if (status == EStatus.ABGELEHNT) {
+            String subject = "Dein Ausbildungsnachweis Nr. " + nachweis.getNummer() + " wurde abgelehnt";
+            String body = buildRejectedEmailBody(nachweis, azubi);
+            emailService.sendEmail(azubi.getEmail(), subject, body);
+        }
+    }
+
+    private String buildAcceptedEmailBody(Nachweis nachweis, User azubi) {
+        return "<html>"
+                + "<head>"
+                + "<meta charset='utf-8'/>"
+                + "<style>"
+                + "body { font-family: -apple-system, BlinkMacSystemFont, 'Segoe UI', Roboto, 'Helvetica Neue', Arial; line-height: 1.5; color: #0f172a; }"
+                + ".container { max-width: 640px; margin: 0 auto; padding: 20px; border-radius: 12px; background-color: #ffffff; box-shadow: 0 6px 20px rgba(16,24,40,0.06); }"
+                + ".header { background: linear-gradient(90deg, #1DB954 0%, #16a34a 100%); color: #ffffff; padding: 20px; text-align: center; border-radius: 10px 10px 0 0; }"
+                + ".content { padding: 22px; color: #0f172a; }"
+                + ".footer { text-align: center; font-size: 0.85em; color: #64748b; margin-top: 18px; }"
+                + ".btn { display:inline-block; background:#1DB954; color:#fff; padding:10px 16px; border-radius:999px; text-decoration:none; font-weight:600; }"
+                + "p { margin: 0 0 12px 0; }"
+                + "</style>"
+                + "</head>"
+                + "<body>"
+                + "<div class='container'>"
+                + "<div class='header'>"
+                + "<h2 style='margin:0;font-size:20px;'>Nice — dein Nachweis ist angenommen 🎉</h2>"
+                + "</div>"
+                + "<div class='content'>"
+                + "<p>Hallo " + azubi.getName() + ",</p>"
+                + "<p>dein Ausbildungsnachweis Nr. <strong>" + nachweis.getNummer()
+                + "</strong> wurde von deinem Ausbilder angenommen.</p>"
+                + "<p>Herzlichen Glückwunsch! Du findest den Nachweis im Anhang dieser E-Mail.</p>"
+                + "<p>Mit freundlichen Grüßen,</p>"
+                + "<p>Dein Ausbilder/in " + nachweis.getAusbilder().getName() + "</p>"
+                + "</div>"
+                + "<div class='footer'>"
+                + "<p>Dies ist eine automatisch generierte E-Mail. Bitte antworte nicht direkt auf diese Nachricht.</p>"
+                + "<p>Mit viel Liebe mit Java gecodet ❤️🇮🇩🇻🇳☕️</p>"
+                + "</div>"
+                + "</div>"
+                + "</body>"
+                + "</html>";
+    }
+
+    private String buildRejectedEmailBody(Nachweis nachweis, User azubi) {
+        return "<html>"
+                + "<head>"
+                + "<meta charset='utf-8'/>"
+                + "<style>"
+                + "body { font-family: -apple-system, BlinkMacSystemFont, 'Segoe UI', Roboto, 'Helvetica Neue', Arial; line-height: 1.5; color: #0f172a; }"
+                + ".container { max-width: 640px; margin: 0 auto; padding: 20px; border-radius: 12px; background-color: #ffffff; box-shadow: 0 6px 20px rgba(16,24,40,0.06); }"
+                + ".header { background: linear-gradient(90deg, #ef4444 0%, #dc2626 100%); color: #ffffff; padding: 20px; text-align: center; border-radius: 10px 10px 0 0; }"
+                + ".content { padding: 22px; color: #0f172a; }"
+                + ".footer { text-align: center; font-size: 0.85em; color: #64748b; margin-top: 18px; }"
+                + ".note { background-color: #fef2f2; border-left: 4px solid #ef4444; padding: 12px; margin: 12px 0; }"
+                + "p { margin: 0 0 12px 0; }"
+                + "</style>"
+                + "</head>"
+                + "<body>"
+                + "<div class='container'>"
+                + "<div class='header'>"
+                + "<h2 style='margin:0;font-size:20px;'>Nachweis wurde abgelehnt</h2>"
+                + "</div>"
+                + "<div class='content'>"
+                + "<p>Hallo " + azubi.getName() + ",</p>"
+                + "<p>dein Ausbildungsnachweis Nr. <strong>" + nachweis.getNummer()
+                + "</strong> wurde leider abgelehnt.</p>"
+                + (nachweis.getComment() != null && !nachweis.getComment().isEmpty()
+                        ? "<div class='note'><strong>Kommentar:</strong><br/>" + nachweis.getComment() + "</div>"
+                        : "")
+                + "<p>Bitte überarbeite den Nachweis und reiche ihn erneut ein.</p>"
+                + "<p>Mit freundlichen Grüßen,</p>"
+                + "<p>Dein Ausbilder/in " + nachweis.getAusbilder().getName() + "</p>"
+                + "</div>"
+                + "<div class='footer'>"
+                + "<p>Dies ist eine automatisch generierte E-Mail. Bitte antworte nicht direkt auf diese Nachricht.</p>"
+                + "<p>Mit viel Liebe mit Java gecodet ❤️🇮🇩🇻🇳☕️</p>"
+                + "</div>"
+                + "</div>"
+                + "</body>"
+                + "</html>";
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.springboot.service.nachweis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.springboot.repository.NachweisNummerZaehlerRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * 🔢 **Was geht hier ab?**
+ * Vergibt die fortlaufende Nachweis-Nummer pro Azubi. Früher war das
+ * {@code MAX(nummer) + 1} - zwei gleichzeitige Einreichungen haben dieselbe
+ * Nummer gezogen und eine ist am Unique-Constraint gescheitert.
+ *
+ * Jetzt zählt ein UPDATE die Zähler-Zeile des Azubis hoch. Die Row-Lock hält
+ * bis zum Commit der aufrufenden Transaktion, d.h. parallele Einreichungen
+ * warten kurz aufeinander statt zu kollidieren. Rollt der Nachweis zurück,
+ * rollt auch der Zähler zurück - keine Lücken.
+ *
+ * Wie beim alten {@code MAX(nummer) + 1} werden Nummern wiederverwendet, wenn
+ * der neueste (oder jeder) Nachweis gelöscht wird - siehe
+ * {@link #nachLoeschen(Collection)}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NachweisNummerService {
+
+    private final NachweisNummerZaehlerRepository zaehlerRepository;
+
+    /**
+     * Zieht die nächste Nummer. Muss in der Transaktion laufen, die den
+     * Nachweis speichert.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int naechsteNummer(UUID azubiId) {
+        if (zaehlerRepository.hochzaehlen(azubiId) == 0) {
+            zaehlerAnlegen(azubiId);
+            zaehlerRepository.hochzaehlen(azubiId);
+        }
+        return zaehlerRepository.findLetzteNummer(azubiId)
+                .orElseThrow(() -> new IllegalStateException("Nummern-Zähler fehlt für Azubi " + azubiId));
+    }
+
+    /**
+     * Von Hand vergebene Nummer: Zähler nachziehen, damit die automatische
+     * Vergabe nicht später dieselbe Nummer zieht.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void nummerVergeben(UUID azubiId, int nummer) {
+        if (zaehlerRepository.mindestensAuf(azubiId, nummer) == 0
+                && zaehlerRepository.findLetzteNummer(azubiId).isEmpty()) {
+            zaehlerAnlegen(azubiId);
+            zaehlerRepository.mindestensAuf(azubiId, nummer);
+        }
+    }
+
+    /**
+     * Nach dem Löschen von Nachweisen: Zähler der betroffenen Azubis auf die
+     * höchste verbliebene Nummer zurücksetzen. Muss in der Transaktion laufen,
+     * die gelöscht hat (Deletes schon geflusht).
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void nachLoeschen(Collection<UUID> azubiIds) {
+        // feste Sperr-Reihenfolge - zwei Bulk-Löschungen blockieren sich nicht gegenseitig
+        for (UUID azubiId : new TreeSet<>(azubiIds)) {
+            if (zaehlerRepository.sperreZaehler(azubiId) != null) {
+                zaehlerRepository.aufBestandZuruecksetzen(azubiId);
+            }
+        }
+    }
+
+    /**
+     * Vorschau fürs Formular - ein PK-Lookup statt MAX-Aggregat. Reserviert
+     * nichts.
+     */
+    @Transactional(readOnly = true)
+    public int vorschau(UUID azubiId) {
+        return zaehlerRepository.findLetzteNummer(azubiId).orElse(0) + 1;
+    }
+
+    private void zaehlerAnlegen(UUID azubiId) {
+        // Zwei erste Einreichungen gleichzeitig: die zweite wartet hier und
+        // sieht danach den Zähler der ersten
+        zaehlerRepository.sperreAzubi(azubiId);
+        if (zaehlerRepository.findLetzteNummer(azubiId).isEmpty()) {
+            zaehlerRepository.anlegenAusBestand(azubiId);
+            log.debug("🔢 Nummern-Zähler für Azubi {} angelegt", azubiId);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.springboot.service.nachweis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.springboot.model.Nachweis;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * 📄 **Was geht hier ab?**
+ * Legt die Nachweis-PDFs unter {@code generated_pdfs} ab. Der
+ * {@link NachweisEreignisHandler} rendert nach dem Commit asynchron - ein
+ * Download direkt danach kann also noch kein oder ein altes PDF finden.
+ *
+ * Deshalb bekommt die Datei als Änderungszeit den
+ * {@link Nachweis#getDruckStand() Druck-Stand}, aus dem sie gerendert wurde.
+ * Ist die Datei älter als der aktuelle Stand (oder fehlt sie), rendert der
+ * Download sie selbst neu.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NachweisPdfAblage {
+
+    private final PdfExportService pdfExportService;
+
+    private final Path rootLocation = Paths.get("generated_pdfs");
+
+    public Path pfad(Nachweis nachweis) {
+        String userVollerName = nachweis.getAzubi().getName().toLowerCase().replaceAll(" ", "_");
+        return rootLocation.resolve(userVollerName + "_" + nachweis.getAzubi().getId().toString())
+                .resolve(nachweis.getId().toString() + ".pdf");
+    }
+
+    /**
+     * Gibt es ein PDF, das mindestens den aktuellen Druck-Stand zeigt? Ohne
+     * Stand (Bestand vor der Spalte) zählt jede vorhandene Datei.
+     */
+    public boolean istAktuell(Nachweis nachweis) throws IOException {
+        Path datei = pfad(nachweis);
+        if (!Files.isReadable(datei)) {
+            return false;
+        }
+        return nachweis.getDruckStand() == null
+                || !Files.getLastModifiedTime(datei).toInstant().isBefore(nachweis.getDruckStand());
+    }
+
+    /**
+     * Rendert das PDF und legt es ab. Erst in eine temporäre Datei, dann
+     * verschieben - Handler und Download können gleichzeitig schreiben, ein
+     * Leser sieht nie eine halbe Datei.
+     *
+     * @return die gerenderten Bytes (z.B. als Mail-Anhang)
+     */
+    public byte[] ablegen(Nachweis nachweis) throws IOException {
+        byte[] pdfBytes = pdfExportService.generateAusbildungsnachweisPdf(nachweis);
+        Path ziel = pfad(nachweis);
+        Files.createDirectories(ziel.getParent());
+
+        Path temp = Files.createTempFile(ziel.getParent(), nachweis.getId().toString(), ".tmp");
+        try {
+            Files.write(temp, pdfBytes);
+            if (nachweis.getDruckStand() != null) {
+                Files.setLastModifiedTime(temp, FileTime.from(nachweis.getDruckStand()));
+            }
+            Files.move(temp, ziel, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        log.debug("📄 PDF für Nachweis {} abgelegt (Stand {})", nachweis.getId(), nachweis.getDruckStand());
+        return pdfBytes;
+    }
+
+    /**
+     * Fürs Herunterladen: vorhandenes PDF, wenn es aktuell ist - sonst jetzt
+     * rendern.
+     */
+    public Path aktuellesPdf(Nachweis nachweis) throws IOException {
+        if (istAktuell(nachweis)) {
+            return pfad(nachweis);
+        }
+        log.info("📄 PDF für Nachweis {} fehlt oder ist veraltet - wird beim Download neu erzeugt", nachweis.getId());
+        ablegen(nachweis);
+        return pfad(nachweis);
+    }
+}
@@ -1,28 +1,45 @@
 package org.example.springboot.service.nachweis;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.springboot.controller.nachweisController.dto.ActivityDTO;
+import org.example.springboot.controller.nachweisController.dto.ActivitySlotPatch;
 import org.example.springboot.controller.nachweisController.dto.CreateNachweisRequest;
+import org.example.springboot.controller.nachweisController.dto.NachweisListDto;
+import org.example.springboot.controller.nachweisController.dto.PatchNachweisRequest;
+import org.example.springboot.dto.CursorPage;
 import org.example.springboot.exception.ResourceNotFoundException;
 import org.example.springboot.exception.UnauthorizedActionException;
 import org.example.springboot.model.Activity;
+import org.example.springboot.model.ActivityEintrag;
 import org.example.springboot.model.Nachweis;
-import org.example.springboot.model.Notification;
+import org.example.springboot.model.NachweisAuditLog;
 import org.example.springboot.model.User;
+import org.example.springboot.model.enums.ERole;
 import org.example.springboot.model.enums.EStatus;
 import org.example.springboot.model.enums.Weekday;
 import org.example.springboot.repository.NachweisRepository;
 import org.example.springboot.repository.UserRepository;
-import org.example.springboot.service.NotificationService;
+import org.example.springboot.repository.projection.NachweisPdfRef;
+import org.example.springboot.util.KeysetCursor;
+import org.example.springboot.service.nachweis.event.AusbilderDashboardVeraltetEvent;
+import org.example.springboot.service.nachweis.event.NachweisAktualisiertEvent;
+import org.example.springboot.service.nachweis.event.NachweisEingereichtEvent;
+import org.example.springboot.service.nachweis.event.NachweisStatusGeaendertEvent;
+import org.example.springboot.service.nachweis.event.NachweiseStatusGeaendertEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.PageRequest;
 
-import org.example.springboot.repository.specification.NachweisSpecification;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -30,12 +47,22 @@ import java.math.BigDecimal;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.zip.ZipEntry;
+import java.util.stream.Stream;
 import java.util.zip.ZipOutputStream;
 
 /**
@@ -69,6 +96,10 @@ import java.util.zip.ZipOutputStream;
  * Status
  * zurückgesetzt, das PDF neu generiert und der Ausbilder wieder benachrichtigt.
  *
+ * PDF, Mails und Benachrichtigungen laufen dabei nicht mehr in der
+ * Transaktion: hier wird nur ein Event veröffentlicht, die eigentliche Arbeit
+ * macht der {@link NachweisEreignisHandler} nach dem Commit.
+ *
  * Kurz: Der heftigste Service hier, der das Kern-Feature der App rockt.
  */
 @Slf4j
@@ -78,13 +109,31 @@ public class NachweisService {
 
     private final NachweisRepository nachweisRepository;
     private final UserRepository userRepository;
-    private final EmailService emailService; // Inject EmailService
-    private final PdfExportService pdfExportService; // Inject PdfExportService
     private final NachweisAuditService nachweisAuditService; // Inject NachweisAuditService
-    private final NotificationService notificationService; // Inject NotificationService
+    private final EntityManager entityManager;
+    private final DateiCleanupService dateiCleanupService;
+    private final NachweisNummerService nachweisNummerService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StundenSummeService stundenSummeService;
+    private final NachweisSucheService nachweisSucheService;
+    private final PlatformTransactionManager transactionManager;
+
+    // Activities als ein jsonb-Dokument am Nachweis speichern statt als eigene
+    // Zeilen. Bestehende Nachweise wechseln beim nächsten Speichern.
+    @Value("${app.nachweis.activities-als-json:false}")
+    private boolean activitiesAlsJson;
 
     private final Path rootLocation = Paths.get("generated_pdfs");
 
+    // Felder, die nicht im PDF landen - Änderungen daran brauchen kein neues PDF
+    private static final Set<String> NICHT_GEDRUCKT = Set.of("bemerkung");
+
+    // Max. IDs pro IN-Query bei Batch-Operationen
+    private static final int BATCH_CHUNK_GROESSE = 500;
+
+    // Kleinste UUID - Startpunkt für Keyset-Chunks
+    public static final UUID KEYSET_START = new UUID(0L, 0L);
+
     @Transactional
     public Nachweis erstelleNachweis(CreateNachweisRequest request, String username) {
         User user = userRepository.findByUsername(username)
@@ -99,11 +148,11 @@ public class NachweisService {
         nachweis.setDatumEnde(request.getDatumEnde());
 
         if (request.getNummer() == 0) {
-            // Auto-increment the nummer if it's not provided
-            Integer maxNummer = nachweisRepository.findMaxNummerByAzubiId(user.getId());
-            nachweis.setNummer(maxNummer + 1);
+            // Auto-increment the nummer if it's not provided (Zähler-Zeile statt MAX + 1)
+            nachweis.setNummer(nachweisNummerService.naechsteNummer(user.getId()));
         } else {
             nachweis.setNummer(request.getNummer());
+            nachweisNummerService.nummerVergeben(user.getId(), request.getNummer());
         }
 
         nachweis.setAusbildungsjahr(request.getAusbildungsjahr());
@@ -116,157 +165,19 @@ public class NachweisService {
         nachweis.setBemerkung(request.getBemerkung());
         nachweis.setDatumAzubi(request.getDatumAzubi());
 
-        if (request.getActivities() == null || request.getActivities().isEmpty()) {
-            // Create default activities
-            nachweis.addActivity(createActivity(Weekday.MONDAY, 1, "Schule", new BigDecimal("8.0"), "Theorie"));
-            nachweis.addActivity(createActivity(Weekday.TUESDAY, 1, "Teambesprechung mit Triesnha Ameilya",
-                    new BigDecimal("1.0"), "Meeting"));
-            nachweis.addActivity(
-                    createActivity(Weekday.TUESDAY, 2, "Coding mit Vergil", new BigDecimal("7.0"), "Entwicklung"));
-            nachweis.addActivity(createActivity(Weekday.WEDNESDAY, 1, "Layoutdesign mit Armin Wache",
-                    new BigDecimal("4.0"), "Design"));
-            nachweis.addActivity(createActivity(Weekday.WEDNESDAY, 2, "Vibe coding mit Vu Quy Le",
-                    new BigDecimal("4.0"), "Entwicklung"));
-            nachweis.addActivity(
-                    createActivity(Weekday.THURSDAY, 1, "Coding mit Vergil", new BigDecimal("8.0"), "Entwicklung"));
-            nachweis.addActivity(
-                    createActivity(Weekday.FRIDAY, 1, "Coding mit Vergil", new BigDecimal("7.0"), "Entwicklung"));
-            nachweis.addActivity(createActivity(Weekday.FRIDAY, 2, "Code Review", new BigDecimal("1.0"), "QA"));
-        } else {
-            request.getActivities().forEach(activityDTO -> {
-                Activity activity = new Activity();
-                activity.setDay(activityDTO.getDay());
-                activity.setSlot(activityDTO.getSlot());
-                activity.setDescription(activityDTO.getDescription());
-                activity.setHours(activityDTO.getHours());
-                activity.setSection(activityDTO.getSection());
-                nachweis.addActivity(activity);
-            });
-        }
+        nachweis.setzeActivities(activitiesAusRequest(request.getActivities()), activitiesAlsJson);
+        nachweis.druckInhaltGeaendert();
 
         Nachweis savedNachweis = nachweisRepository.save(nachweis); // Save first to get ID
         nachweisAuditService.loggeNachweisAktion(savedNachweis.getId(), "ERSTELLT", username, null, savedNachweis);
+        stundenSummeService.aktualisieren(savedNachweis);
+        nachweisSucheService.indexieren(savedNachweis);
 
-        try {
-            byte[] pdfBytes = pdfExportService.generateAusbildungsnachweisPdf(savedNachweis);
-            UUID userId = savedNachweis.getAzubi().getId();
-            String userVollerName = savedNachweis.getAzubi().getName()
-                    .toLowerCase()
-                    .replaceAll(" ", "_");
-            UUID nachweisId = savedNachweis.getId();
-
-            Path userDirectory = rootLocation.resolve(userVollerName + "_" + userId.toString());
-            Files.createDirectories(userDirectory);
-            Path destinationFile = userDirectory.resolve(nachweisId.toString() + ".pdf");
-            Files.write(destinationFile, pdfBytes);
-
-            // Send email if ausbilder has an email
-            String ausbilderEmail = ausbilder.getEmail();
-            log.debug("Evaluating email sending for Nachweis {}. Ausbilder Email from user object: {}",
-                    savedNachweis.getId(), ausbilderEmail);
-            if (ausbilderEmail != null && !ausbilderEmail.isEmpty()) {
-                String ausbilderName = ausbilder.getName();
-                String azubiName = user.getName();
-                String nachweisNummer = String.valueOf(savedNachweis.getNummer());
-                String datumStartFormatted = "N/A";
-                String datumEndeFormatted = "N/A";
-                String ausbildungsjahr = "N/A";
-
-                if (savedNachweis.getDatumStart() != null) {
-                    datumStartFormatted = savedNachweis.getDatumStart()
-                            .format(java.time.format.DateTimeFormatter.ofPattern("dd.MM.yyyy"));
-                } else {
-                    log.warn("DatumStart is null for Nachweis ID: {}", savedNachweis.getId());
-                }
-
-                if (savedNachweis.getDatumEnde() != null) {
-                    datumEndeFormatted = savedNachweis.getDatumEnde()
-                            .format(java.time.format.DateTimeFormatter.ofPattern("dd.MM.yyyy"));
-                } else {
-                    log.warn("DatumEnde is null for Nachweis ID: {}", savedNachweis.getId());
-                }
-
-                if (savedNachweis.getAusbildungsjahr() != null && !savedNachweis.getAusbildungsjahr().isEmpty()) {
-                    ausbildungsjahr = savedNachweis.getAusbildungsjahr();
-                } else {
-                    log.warn("Ausbildungsjahr is null or empty for Nachweis ID: {}", savedNachweis.getId());
-                }
-
-                String subject = "Neuer Ausbildungsnachweis von " + azubiName;
-                String body = "<html>"
-                        + "<head>"
-                        + "<meta charset='utf-8'/>"
-                        + "<style>"
-                        + "body { font-family: -apple-system, BlinkMacSystemFont, 'Segoe UI', Roboto, 'Helvetica Neue', Arial; color: #0f172a; line-height:1.5;}"
-                        + ".container { max-width:640px; margin:0 auto; padding:20px; border-radius:12px; background:#fff; box-shadow:0 6px 20px rgba(16,24,40,0.06);}"
-                        + ".header { background: linear-gradient(90deg,#1DB954 0%,#16a34a 100%); color:#fff; padding:18px; text-align:center; border-radius:10px 10px 0 0;}"
-                        + ".content { padding:20px; color:#0f172a;}"
-                        + ".muted { color:#64748b; font-size:0.9em; }"
-                        + ".btn { display:inline-block; background:#1DB954; color:#fff; padding:10px 16px; border-radius:999px; text-decoration:none; font-weight:600; }"
-                        + "ul { margin:8px 0 12px 18px; }"
-                        + "</style>"
-                        + "</head>"
-                        + "<body>"
-                        + "<div class='container'>"
-                        + "<div class='header'>"
-                        + "<h2 style='margin:0;font-size:18px;'>Neuer Nachweis eingereicht</h2>"
-                        + "</div>"
-                        + "<div class='content'>"
-                        + "<p>Hey " + ausbilderName + " 👋</p>"
-                        + "<p>Dein Azubi <strong>" + azubiName
-                        + "</strong> hat einen neuen Ausbildungsnachweis eingereicht.</p>"
-                        + "<p><strong>Kurzinfo</strong></p>"
-                        + "<ul>"
-                        + "<li><strong>Nummer:</strong> " + nachweisNummer + "</li>"
-                        + "<li><strong>Zeitraum:</strong> " + datumStartFormatted + " - " + datumEndeFormatted + "</li>"
-                        + "<li><strong>Ausbildungsjahr:</strong> " + ausbildungsjahr + "</li>"
-                        + "</ul>"
-                        + "<p class='muted'>Den kompletten Nachweis findest du als PDF im Anhang.</p>"
-                        + "<p>Danke & beste Grüße,<br/>" + azubiName + "</p>"
-                        + "</div>"
-                        + "<div style='padding:12px;text-align:center;color:#94a3b8;font-size:12px;'>"
-                        + "Automatisch generierte Nachricht — bitte nicht direkt antworten."
-                        + "<p style='text-align:center;margin:14px 0;'><a class='btn' href='https://github.com/vuducle/javaSpringBootApp/' target='_blank' rel='noopener'>Quellcode ansehen</a></p>"
-                        + "<p>Mit viel Liebe mit Java gecodet ❤\uFE0F\uD83C\uDDEE\uD83C\uDDE9\uD83C\uDDFB\uD83C\uDDF3☕\uFE0F</p>"
-                        + "</div>"
-                        + "</div>"
-                        + "</body>"
-                        + "</html>";
-                emailService.sendEmailWithAttachment(
-                        ausbilderEmail,
-                        subject,
-                        body,
-                        pdfBytes,
-                        "Ausbildungsnachweis_" + nachweisId + ".pdf",
-                        "application/pdf");
-            }
+        // PDF, E-Mail und Benachrichtigung erst nach dem Commit (NachweisEreignisHandler)
+        eventPublisher.publishEvent(new NachweisEingereichtEvent(savedNachweis.getId()));
+        dashboardVeraltet(ausbilder);
 
-            // Create in-app notification for Ausbilder about new Nachweis submission
-            try {
-                if (ausbilder != null && ausbilder.getId() != null) {
-                    notificationService.createNotification(
-                            ausbilder.getId(),
-                            "Neuer Nachweis eingereicht",
-                            "Der Azubi " + user.getName() + " hat einen neuen Nachweis Nr. " + savedNachweis.getNummer()
-                                    + " eingereicht",
-                            Notification.NotificationType.INFO,
-                            nachweisId,
-                            "/nachweis/" + nachweisId);
-                    log.info("Notification created for Ausbilder {} - New Nachweis {} submitted by {}",
-                            ausbilder.getId(), nachweisId, user.getName());
-                }
-            } catch (Exception e) {
-                log.error("Fehler beim Erstellen der Benachrichtigung für Ausbilder zu Nachweis {}: {}", nachweisId,
-                        e.getMessage(), e);
-                // Continue - notification failure should not break the main flow
-            }
-
-            return savedNachweis;
-        } catch (IOException e) {
-            log.error("Fehler bei der PDF-Generierung oder Speicherung für Nachweis {}: {}", savedNachweis.getId(),
-                    e.getMessage());
-            throw new RuntimeException("Fehler bei der PDF-Generierung oder Speicherung", e);
-        }
+        return savedNachweis;
     }
 
     public Page<Nachweis> kriegeNachweiseVonAzubiBenutzername(String username, int page, int size) {
@@ -286,40 +197,86 @@ public class NachweisService {
         return nachweisRepository.findAllByAzubiId(userId, pageable);
     }
 
-    public Page<Nachweis> kriegeNachweiseVonAzubiBenutzernameMitFilterUndPagination(String username, EStatus status,
-            int page, int size, String sortBy, String sortDir) {
-        User azubi = userRepository.findByUsername(username)
+    /**
+     * 📋 Eigene Nachweise als Listen-Projektion (DTO statt Entity, eine Query
+     * pro Seite + COUNT)
+     */
+    @Transactional(readOnly = true)
+    public Page<NachweisListDto> kriegeNachweiseVonAzubiBenutzernameMitFilterUndPagination(String username,
+            EStatus status, int page, int size, String sortBy, String sortDir) {
+        UUID azubiId = userRepository.findIdByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("Benutzer nicht gefunden: " + username));
         Sort sort = Sort.by(sortDir.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC, sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
+        return nachweisRepository.findListeByAzubiId(azubiId, status, PageRequest.of(page, size, sort));
+    }
 
-        if (status != null) {
-            return nachweisRepository.findAllByAzubiIdAndStatus(azubi.getId(), status, pageable);
-        } else {
-            return nachweisRepository.findAllByAzubiId(azubi.getId(), pageable);
-        }
+    @Transactional(readOnly = true)
+    public Page<NachweisListDto> kriegeAlleNachweiseMitFilterUndPagination(EStatus status, UUID ausbilderId,
+            int page, int size, String sortBy, String sortDir) {
+        Sort sort = Sort.by(sortDir.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC, sortBy);
+        return nachweisRepository.findListeGefiltert(status, ausbilderId, PageRequest.of(page, size, sort));
     }
 
-    public Page<Nachweis> kriegeAlleNachweiseMitFilterUndPagination(EStatus status, UUID ausbilderId, int page,
+    @Transactional(readOnly = true)
+    public Page<NachweisListDto> findNachweiseByUserIdMitFilterUndPagination(UUID userId, EStatus status, int page,
             int size, String sortBy, String sortDir) {
         Sort sort = Sort.by(sortDir.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC, sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
+        return nachweisRepository.findListeByAzubiId(userId, status, PageRequest.of(page, size, sort));
+    }
 
-        Specification<Nachweis> spec = Specification.where(NachweisSpecification.hasStatus(status))
-                .and(NachweisSpecification.hasAusbilderId(ausbilderId));
+    /**
+     * 🔖 Nachweis-Liste mit Keyset-Pagination. Die Antwortzeit bleibt gleich,
+     * egal wie weit gescrollt wird - kein OFFSET, kein COUNT (außer auf
+     * Wunsch; ohne Filter nur geschätzt).
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<NachweisListDto> kriegeNachweiseMitCursor(UUID azubiId, EStatus status, UUID ausbilderId,
+            String sortBy, String sortDir, String cursor, int size, boolean mitAnzahl) {
+        boolean aufsteigend = sortDir.equalsIgnoreCase("asc");
+        Object sortWert = null;
+        UUID nachId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] teile = KeysetCursor.decode(cursor, 4);
+            if (!teile[0].equals(sortBy) || !teile[1].equalsIgnoreCase(sortDir)) {
+                throw new IllegalArgumentException("Cursor passt nicht zur Sortierung");
+            }
+            sortWert = sortBy.equals("nummer") ? (Object) Integer.valueOf(teile[2]) : LocalDate.parse(teile[2]);
+            nachId = UUID.fromString(teile[3]);
+        }
 
-        return nachweisRepository.findAll(spec, pageable);
-    }
+        List<NachweisListDto> geladen = nachweisRepository.findListeKeyset(azubiId, status, ausbilderId, sortBy,
+                aufsteigend, sortWert, nachId, size + 1);
+        CursorPage<NachweisListDto> seite = CursorPage.aus(geladen, size, n -> KeysetCursor.encode(sortBy,
+                sortDir.toLowerCase(), String.valueOf(sortWertVon(n, sortBy)), n.getId().toString()));
 
-    public Page<Nachweis> findNachweiseByUserIdMitFilterUndPagination(UUID userId, EStatus status, int page, int size,
-            String sortBy, String sortDir) {
-        Sort sort = Sort.by(sortDir.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC, sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
-        if (status != null) {
-            return nachweisRepository.findAllByAzubiIdAndStatus(userId, status, pageable);
-        } else {
-            return nachweisRepository.findAllByAzubiId(userId, pageable);
+        if (mitAnzahl) {
+            if (azubiId == null && status == null && ausbilderId == null) {
+                seite.setTotalElements(nachweisRepository.schaetzeAnzahl());
+                seite.setTotalGeschaetzt(true);
+            } else {
+                seite.setTotalElements(nachweisRepository.countGefiltert(azubiId, status, ausbilderId));
+            }
         }
+        return seite;
+    }
+
+    /**
+     * 🔖 Wie {@link #kriegeNachweiseMitCursor}, für die eigenen Nachweise
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<NachweisListDto> kriegeEigeneNachweiseMitCursor(String username, EStatus status,
+            String sortBy, String sortDir, String cursor, int size, boolean mitAnzahl) {
+        UUID azubiId = userRepository.findIdByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("Benutzer nicht gefunden: " + username));
+        return kriegeNachweiseMitCursor(azubiId, status, null, sortBy, sortDir, cursor, size, mitAnzahl);
+    }
+
+    private static Object sortWertVon(NachweisListDto n, String sortBy) {
+        return switch (sortBy) {
+            case "datumEnde" -> n.getDatumEnde();
+            case "nummer" -> n.getNummer();
+            default -> n.getDatumStart();
+        };
     }
 
     @Transactional
@@ -329,12 +286,38 @@ public class NachweisService {
 
         nachweisAuditService.loggeNachweisAktion(nachweis.getId(), "GELOESCHT", username, nachweis, null);
 
-        String userVollerName = nachweis.getAzubi().getName().toLowerCase().replaceAll(" ", "_");
-        Path userDirectory = rootLocation.resolve(userVollerName + "_" + nachweis.getAzubi().getId().toString());
-        Path fileToDelete = userDirectory.resolve(nachweis.getId().toString() + ".pdf");
-        deletePdfFile(fileToDelete, nachweis.getId());
+        nachweisRepository.delete(nachweis);
+        if (nachweis.getAzubi() != null) {
+            entityManager.flush();
+            nachweisNummerService.nachLoeschen(List.of(nachweis.getAzubi().getId()));
+        }
 
-        nachweisRepository.deleteById(id);
+        // PDF erst nach dem Commit löschen
+        dateiCleanupService.einreihen(List.of(pdfPfad(nachweis.getAzubi(), nachweis.getId())));
+        dashboardVeraltet(nachweis.getAusbilder());
+    }
+
+    private List<Activity> activitiesAusRequest(List<ActivityDTO> dtos) {
+        if (dtos == null || dtos.isEmpty()) {
+            return standardActivities();
+        }
+        return dtos.stream().map(activityDTO -> createActivity(activityDTO.getDay(), activityDTO.getSlot(),
+                activityDTO.getDescription(), activityDTO.getHours(), activityDTO.getSection())).toList();
+    }
+
+    private List<Activity> standardActivities() {
+        return List.of(
+                createActivity(Weekday.MONDAY, 1, "Schule", new BigDecimal("8.0"), "Theorie"),
+                createActivity(Weekday.TUESDAY, 1, "Teambesprechung mit Triesnha Ameilya",
+                        new BigDecimal("1.0"), "Meeting"),
+                createActivity(Weekday.TUESDAY, 2, "Coding mit Vergil", new BigDecimal("7.0"), "Entwicklung"),
+                createActivity(Weekday.WEDNESDAY, 1, "Layoutdesign mit Armin Wache",
+                        new BigDecimal("4.0"), "Design"),
+                createActivity(Weekday.WEDNESDAY, 2, "Vibe coding mit Vu Quy Le",
+                        new BigDecimal("4.0"), "Entwicklung"),
+                createActivity(Weekday.THURSDAY, 1, "Coding mit Vergil", new BigDecimal("8.0"), "Entwicklung"),
+                createActivity(Weekday.FRIDAY, 1, "Coding mit Vergil", new BigDecimal("7.0"), "Entwicklung"),
+                createActivity(Weekday.FRIDAY, 2, "Code Review", new BigDecimal("1.0"), "QA"));
     }
 
     private Activity createActivity(Weekday day, Integer slot, String description, BigDecimal hours, String section) {
@@ -347,90 +330,134 @@ public class NachweisService {
         return activity;
     }
 
-    private void deletePdfFile(Path filePath, UUID nachweisId) {
-        try {
-            if (Files.exists(filePath)) {
-                Files.delete(filePath);
-                log.info("PDF-Datei für Nachweis {} erfolgreich gelöscht: {}", nachweisId, filePath);
-            } else {
-                log.warn("PDF-Datei für Nachweis {} nicht gefunden, konnte nicht gelöscht werden: {}", nachweisId,
-                        filePath);
-            }
-        } catch (IOException e) {
-            log.error("Fehler beim Löschen der PDF-Datei für Nachweis {}: {} - {}", nachweisId, filePath,
-                    e.getMessage());
-            // Optional: throw a custom exception or rethrow as a more specific runtime
-            // exception
-            // throw new PdfDeletionException("Failed to delete PDF for Nachweis " +
-            // nachweisId, e);
-        }
-    }
-
+    /**
+     * Löscht den nächsten Keyset-Chunk (nach ID sortiert) - entweder über alle
+     * Nachweise oder nur die eines Azubis. Es werden nur IDs geladen, keine
+     * Entities; die PDFs werden über den {@link DateiCleanupService} nach dem
+     * Commit (parallel) gelöscht.
+     *
+     * @param azubiId null = alle Nachweise
+     * @param nachId  Keyset-Cursor, {@link #KEYSET_START} für den Anfang
+     * @return gelöschte IDs in aufsteigender Reihenfolge (leer = nichts mehr da)
+     */
     @Transactional
-    public void loescheAlleNachweise() {
-        List<Nachweis> allNachweise = nachweisRepository.findAll();
-        for (Nachweis nachweis : allNachweise) {
-            String userVollerName = nachweis.getAzubi().getName().toLowerCase().replaceAll(" ", "_");
-            Path userDirectory = rootLocation.resolve(userVollerName + "_" + nachweis.getAzubi().getId().toString());
-            Path fileToDelete = userDirectory.resolve(nachweis.getId().toString() + ".pdf");
-            deletePdfFile(fileToDelete, nachweis.getId());
+    public List<UUID> loescheNaechstenChunk(UUID azubiId, UUID nachId, int groesse) {
+        Pageable limit = PageRequest.of(0, groesse);
+        List<NachweisPdfRef> refs = azubiId == null
+                ? nachweisRepository.findPdfRefsNachId(nachId, limit)
+                : nachweisRepository.findPdfRefsVonAzubiNachId(azubiId, nachId, limit);
+        if (refs.isEmpty()) {
+            return List.of();
         }
-        try {
-            if (Files.exists(rootLocation)) {
-                Files.walk(rootLocation)
-                        .sorted(java.util.Comparator.reverseOrder())
-                        .map(Path::toFile)
-                        .forEach(file -> {
-                            try {
-                                Files.delete(file.toPath());
-                                log.debug("Gelöschte Datei/Verzeichnis: {}", file.toPath());
-                            } catch (IOException e) {
-                                log.error("Fehler beim Löschen von Datei/Verzeichnis {}: {}", file.toPath(),
-                                        e.getMessage());
-                            }
-                        });
-                log.info("Alle PDF-Dateien und Verzeichnisse unter {} erfolgreich gelöscht.", rootLocation);
-            } else {
-                log.info("Verzeichnis {} existiert nicht, keine PDF-Dateien zu löschen.", rootLocation);
+
+        List<UUID> ids = new ArrayList<>(refs.size());
+        List<Path> pdfDateien = new ArrayList<>(refs.size());
+        Set<UUID> azubiIds = new HashSet<>();
+        for (NachweisPdfRef ref : refs) {
+            ids.add(ref.getId());
+            if (ref.getAzubiId() != null) {
+                azubiIds.add(ref.getAzubiId());
+                if (ref.getAzubiName() != null) {
+                    pdfDateien.add(pdfPfad(ref.getAzubiName(), ref.getAzubiId(), ref.getId()));
+                }
             }
-        } catch (IOException e) {
-            log.error("Fehler beim Löschen des Verzeichnisses {}: {}", rootLocation, e.getMessage());
         }
-        nachweisRepository.deleteAll();
+
+        nachweisRepository.deleteActivitiesByNachweisIds(ids);
+        nachweisRepository.deleteAllByIdIn(ids);
+        nachweisNummerService.nachLoeschen(azubiIds);
+        dateiCleanupService.einreihen(pdfDateien);
+        return ids;
     }
 
-    @Transactional
+    /**
+     * Löscht alle Nachweise eines Azubis synchron (z.B. beim Löschen des Users),
+     * aber in Keyset-Chunks - es liegen nie mehr als {@link #BATCH_CHUNK_GROESSE}
+     * IDs im Speicher. Jeder Chunk committet in einer eigenen Transaktion (auch
+     * wenn der Aufrufer selbst eine offen hat), danach werden verwaiste PDFs im
+     * Verzeichnis des Azubis mit eingereiht.
+     */
     public void loescheAlleNachweiseVonAzubi(String username) {
         User azubi = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("Benutzer nicht gefunden: " + username));
-        List<Nachweis> nachweise = nachweisRepository.findAllByAzubiId(azubi.getId());
+        TransactionTemplate chunkTransaktion = new TransactionTemplate(transactionManager);
+        chunkTransaktion.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        UUID cursor = KEYSET_START;
+        long geloescht = 0;
+        List<UUID> chunk;
+        do {
+            UUID nachId = cursor;
+            chunk = chunkTransaktion.execute(
+                    status -> loescheNaechstenChunk(azubi.getId(), nachId, BATCH_CHUNK_GROESSE));
+            if (!chunk.isEmpty()) {
+                cursor = chunk.get(chunk.size() - 1);
+                geloescht += chunk.size();
+            }
+        } while (chunk.size() == BATCH_CHUNK_GROESSE);
+        verwaistePdfsEinreihen(azubi.getId());
 
-        if (nachweise.isEmpty()) {
+        if (geloescht == 0) {
             log.info("Keine Nachweise für Benutzer '{}' zum Löschen gefunden.", username);
-            return;
+        } else {
+            log.info("{} Nachweise von Benutzer '{}' gelöscht.", geloescht, username);
         }
+    }
 
-        // Define user directory path based on the first Nachweis (should be consistent)
-        String userVollerName = azubi.getName().toLowerCase().replaceAll(" ", "_");
-        Path userDirectory = rootLocation.resolve(userVollerName + "_" + azubi.getId().toString());
-
-        for (Nachweis nachweis : nachweise) {
-            Path fileToDelete = userDirectory.resolve(nachweis.getId().toString() + ".pdf");
-            deletePdfFile(fileToDelete, nachweis.getId());
+    /**
+     * 🧹 Reiht PDFs zum Löschen ein, zu denen es keinen Nachweis mehr gibt -
+     * z.B. aus dem alten Verzeichnis nach einer Namensänderung oder von
+     * abgebrochenen Läufen. Dateien, deren Name keine Nachweis-ID ist, bleiben
+     * liegen.
+     *
+     * @param azubiId null = alle Verzeichnisse unter generated_pdfs
+     * @return Anzahl eingereihter Dateien
+     */
+    public int verwaistePdfsEinreihen(UUID azubiId) {
+        if (!Files.isDirectory(rootLocation)) {
+            return 0;
         }
-
-        // After deleting all files, delete the directory
-        try {
-            if (Files.exists(userDirectory)) {
-                Files.delete(userDirectory);
-                log.info("Benutzerverzeichnis für '{}' erfolgreich gelöscht: {}", username, userDirectory);
+        Map<UUID, Path> kandidaten = new HashMap<>();
+        try (Stream<Path> verzeichnisse = Files.list(rootLocation)) {
+            for (Path verzeichnis : verzeichnisse.filter(Files::isDirectory)
+                    .filter(v -> azubiId == null || v.getFileName().toString().endsWith("_" + azubiId))
+                    .toList()) {
+                try (Stream<Path> dateien = Files.list(verzeichnis)) {
+                    dateien.filter(Files::isRegularFile).forEach(datei -> {
+                        UUID nachweisId = nachweisIdAusDatei(datei);
+                        if (nachweisId != null) {
+                            kandidaten.put(nachweisId, datei);
+                        }
+                    });
+                }
             }
         } catch (IOException e) {
-            log.error("Fehler beim Löschen des Benutzerverzeichnisses {}: {}", userDirectory, e.getMessage());
-            // Decide if this should throw an exception or just be logged
+            log.warn("Verwaiste PDFs unter {} konnten nicht gesucht werden: {}", rootLocation, e.getMessage());
+            return 0;
+        }
+
+        List<UUID> ids = new ArrayList<>(kandidaten.keySet());
+        for (int i = 0; i < ids.size(); i += BATCH_CHUNK_GROESSE) {
+            nachweisRepository.findVorhandeneIds(ids.subList(i, Math.min(i + BATCH_CHUNK_GROESSE, ids.size())))
+                    .forEach(kandidaten::remove);
+        }
+        dateiCleanupService.einreihen(kandidaten.values());
+        if (!kandidaten.isEmpty()) {
+            log.info("🧹 {} verwaiste PDF(s) zum Löschen eingereiht", kandidaten.size());
         }
+        return kandidaten.size();
+    }
 
-        nachweisRepository.deleteAll(nachweise);
+    private static UUID nachweisIdAusDatei(Path datei) {
+        String name = datei.getFileName().toString();
+        if (!name.endsWith(".pdf")) {
+            return null;
+        }
+        try {
+            return UUID.fromString(name.substring(0, name.length() - ".pdf".length()));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
     }
 
     @Transactional
@@ -449,159 +476,9 @@ public class NachweisService {
         nachweisAuditService.loggeNachweisAktion(updatedNachweis.getId(), "STATUS_AKTUALISIERT", username,
                 alterNachweisKopie, updatedNachweis);
 
-        // Send email to Azubi about status update
-        User azubi = updatedNachweis.getAzubi();
-        if (azubi != null && azubi.getEmail() != null && !azubi.getEmail().isEmpty()) {
-            if (neuerStatus == EStatus.ANGENOMMEN) {
-                // Send an acceptance email and attach the generated PDF if available
-                String subject = "Dein Ausbildungsnachweis Nr. " + updatedNachweis.getNummer() + " wurde angenommen";
-                String body = "<html>"
-                        + "<head>"
-                        + "<meta charset='utf-8'/>"
-                        + "<style>"
-                        + "body { font-family: -apple-system, BlinkMacSystemFont, 'Segoe UI', Roboto, 'Helvetica Neue', Arial; line-height: 1.5; color: #0f172a; }"
-                        + ".container { max-width: 640px; margin: 0 auto; padding: 20px; border-radius: 12px; background-color: #ffffff; box-shadow: 0 6px 20px rgba(16,24,40,0.06); }"
-                        + ".header { background: linear-gradient(90deg, #1DB954 0%, #16a34a 100%); color: #ffffff; padding: 20px; text-align: center; border-radius: 10px 10px 0 0; }"
-                        + ".content { padding: 22px; color: #0f172a; }"
-                        + ".footer { text-align: center; font-size: 0.85em; color: #64748b; margin-top: 18px; }"
-                        + ".cta { display: inline-block; padding: 10px 18px; background: #1DB954; color: #fff; border-radius: 999px; text-decoration: none; font-weight: 600; }"
-                        + ".btn { display:inline-block; background:#1DB954; color:#fff; padding:10px 16px; border-radius:999px; text-decoration:none; font-weight:600; }"
-                        + "p { margin: 0 0 12px 0; }"
-                        + "</style>"
-                        + "</head>"
-                        + "<body>"
-                        + "<div class='container'>"
-                        + "<div class='header'>"
-                        + "<h2 style='margin:0;font-size:20px;'>Nice — dein Nachweis ist angenommen 🎉</h2>"
-                        + "</div>"
-                        + "<div class='content'>"
-                        + "<p>Hallo " + azubi.getName() + ",</p>"
-                        + "<p>dein Ausbildungsnachweis Nr. <strong>" + updatedNachweis.getNummer()
-                        + "</strong> wurde von deinem Ausbilder angenommen.</p>"
-                        + "<p>Herzlichen Glückwunsch! Du findest den Nachweis im Anhang dieser E-Mail.</p>"
-                        + "<p>Mit freundlichen Grüßen,</p>"
-                        + "<p>Dein Ausbilder/in " + updatedNachweis.getAusbilder().getName() + "</p>"
-                        + "</div>"
-                        + "<div class='footer'>"
-                        + "<p>Dies ist eine automatisch generierte E-Mail. Bitte antworte nicht direkt auf diese Nachricht.</p>"
-                        + "<p style='text-align:center;margin:14px 0;'><a class='btn' href='https://github.com/vuducle/javaSpringBootApp/' target='_blank' rel='noopener'>Quellcode ansehen</a></p>"
-                        + "<p>Mit viel Liebe mit Java gecodet ❤\uFE0F\uD83C\uDDEE\uD83C\uDDE9\uD83C\uDDFB\uD83C\uDDF3☕\uFE0F</p>"
-                        + "</div>"
-                        + "</div>"
-                        + "</body>"
-                        + "</html>";
-
-                // Try to attach the PDF if it exists
-                try {
-                    String userVollerName = azubi.getName().toLowerCase().replaceAll(" ", "_");
-                    Path userDirectory = rootLocation.resolve(userVollerName + "_" + azubi.getId().toString());
-                    Path file = userDirectory.resolve(updatedNachweis.getId().toString() + ".pdf");
-                    if (Files.exists(file) && Files.isReadable(file)) {
-                        byte[] pdfBytes = Files.readAllBytes(file);
-                        emailService.sendEmailWithAttachment(
-                                azubi.getEmail(),
-                                subject,
-                                body,
-                                pdfBytes,
-                                "Ausbildungsnachweis_" + updatedNachweis.getId() + ".pdf",
-                                "application/pdf");
-                    } else {
-                        log.warn("PDF for Nachweis {} not found to attach to acceptance email: {}",
-                                updatedNachweis.getId(), file);
-                        emailService.sendEmail(azubi.getEmail(), subject, body);
-                    }
-                } catch (IOException e) {
-                    log.error("Fehler beim Lesen der PDF für Nachweis {}: {}", updatedNachweis.getId(), e.getMessage());
-                    // Fallback to sending email without attachment
-                    emailService.sendEmail(azubi.getEmail(), subject, body);
-                }
-            } else {
-                String subject = "Update zu deinem Ausbildungsnachweis Nr. " + updatedNachweis.getNummer();
-                String body = "<html>"
-                        + "<head>"
-                        + "<meta charset='utf-8'/>"
-                        + "<style>"
-                        + "body { font-family: -apple-system, BlinkMacSystemFont, 'Segoe UI', Roboto, 'Helvetica Neue', Arial; line-height: 1.5; color: #0f172a; }"
-                        + ".container { max-width: 640px; margin: 0 auto; padding: 20px; border-radius: 12px; background-color: #ffffff; box-shadow: 0 6px 20px rgba(16,24,40,0.06); }"
-                        + ".header { background: linear-gradient(90deg, #1DB954 0%, #16a34a 100%); color: #ffffff; padding: 20px; text-align: center; border-radius: 10px 10px 0 0; }"
-                        + ".content { padding: 22px; color: #0f172a; }"
-                        + ".footer { text-align: center; font-size: 0.85em; color: #64748b; margin-top: 18px; }"
-                        + "p { margin: 0 0 12px 0; }"
-                        + "strong { color: #065f46; }"
-                        + "</style>"
-                        + "</head>"
-                        + "<body>"
-                        + "<div class='container'>"
-                        + "<div class='header'>"
-                        + "<h2 style='margin:0;font-size:20px;'>Update zu deinem Nachweis</h2>"
-                        + "</div>"
-                        + "<div class='content'>"
-                        + "<p>Hallo " + azubi.getName() + ",</p>"
-                        + "<p>der Status deines Ausbildungsnachweises Nr. <strong>" + updatedNachweis.getNummer()
-                        + "</strong> wurde aktualisiert.</p>"
-                        + "<p>Neuer Status: <strong>" + neuerStatus.toString() + "</strong></p>"
-                        + (comment != null && !comment.isEmpty()
-                                ? "<p>Kommentar deines Ausbilders: <em>" + comment + "</em></p>"
-                                : "")
-                        + "<p>Mit freundlichen Grüßen,</p>"
-                        + "<p>Dein Ausbilder/in " + updatedNachweis.getAusbilder().getName() + "</p>"
-                        + "</div>"
-                        + "<div class='footer'>"
-                        + "<p>Dies ist eine automatisch generierte E-Mail. Bitte antworten Sie nicht direkt auf diese Nachricht.</p>"
-                        + "<p style='text-align:center;margin:14px 0;'><a class='btn' href='https://github.com/vuducle/javaSpringBootApp/' target='_blank' rel='noopener'>Quellcode ansehen</a></p>"
-                        + "<p>Mit viel Liebe mit Java gecodet ❤\uFE0F\uD83C\uDDEE\uD83C\uDDE9\uD83C\uDDFB\uD83C\uDDF3☕\uFE0F</p>"
-                        + "</div>"
-                        + "</div>"
-                        + "</body>"
-                        + "</html>";
-                emailService.sendEmail(azubi.getEmail(), subject, body);
-            }
-        }
-
-        // Create in-app notification for Azubi about status change
-        try {
-            if (azubi != null && azubi.getId() != null) {
-                if (neuerStatus == EStatus.ANGENOMMEN) {
-                    notificationService.createNotification(
-                            azubi.getId(),
-                            "Nachweis angenommen",
-                            "Dein Ausbildungsnachweis Nr. " + updatedNachweis.getNummer() + " wurde angenommen",
-                            Notification.NotificationType.SUCCESS,
-                            nachweisId,
-                            "/nachweis/" + nachweisId);
-                    log.info("Notification created for Azubi {} - Nachweis {} accepted", azubi.getId(), nachweisId);
-                } else if (neuerStatus == EStatus.ABGELEHNT) {
-                    String notificationMessage = "Dein Ausbildungsnachweis Nr. " + updatedNachweis.getNummer()
-                            + " wurde abgelehnt";
-                    if (comment != null && !comment.isEmpty()) {
-                        notificationMessage += ": " + comment;
-                    }
-                    notificationService.createNotification(
-                            azubi.getId(),
-                            "Nachweis abgelehnt",
-                            notificationMessage,
-                            Notification.NotificationType.WARNING,
-                            nachweisId,
-                            "/nachweis/" + nachweisId);
-                    log.info("Notification created for Azubi {} - Nachweis {} rejected", azubi.getId(), nachweisId);
-                } else {
-                    // For other status changes (like IN_BEARBEITUNG), create an INFO notification
-                    notificationService.createNotification(
-                            azubi.getId(),
-                            "Nachweis aktualisiert",
-                            "Der Status deines Ausbildungsnachweises Nr. " + updatedNachweis.getNummer()
-                                    + " wurde aktualisiert",
-                            Notification.NotificationType.INFO,
-                            nachweisId,
-                            "/nachweis/" + nachweisId);
-                    log.info("Notification created for Azubi {} - Nachweis {} status changed to {}", azubi.getId(),
-                            nachweisId, neuerStatus);
-                }
-            }
-        } catch (Exception e) {
-            log.error("Fehler beim Erstellen der Benachrichtigung für Nachweis {}: {}", nachweisId, e.getMessage(), e);
-            // Continue - notification failure should not break the main flow
-        }
+        // E-Mail und Benachrichtigung an den Azubi erst nach dem Commit (NachweisEreignisHandler)
+        eventPublisher.publishEvent(new NachweisStatusGeaendertEvent(updatedNachweis.getId(), neuerStatus, comment));
+        dashboardVeraltet(updatedNachweis.getAusbilder());
 
         return updatedNachweis;
     }
@@ -625,128 +502,174 @@ public class NachweisService {
         alterNachweis.setDatumStart(request.getDatumStart());
         alterNachweis.setDatumEnde(request.getDatumEnde());
         alterNachweis.setNummer(request.getNummer());
+        nachweisNummerService.nummerVergeben(azubi.getId(), request.getNummer());
         alterNachweis.setAusbildungsjahr(request.getAusbildungsjahr());
         alterNachweis.setAusbilder(ausbilder);
         alterNachweis.setStatus(EStatus.IN_BEARBEITUNG); // Reset status to IN_BEARBEITUNG
 
-        // Clear existing activities and add new ones
-        alterNachweis.getActivities().clear();
-        if (request.getActivities() != null && !request.getActivities().isEmpty()) {
-            request.getActivities().forEach(activityDTO -> {
-                Activity activity = new Activity();
-                activity.setDay(activityDTO.getDay());
-                activity.setSlot(activityDTO.getSlot());
-                activity.setDescription(activityDTO.getDescription());
-                activity.setHours(activityDTO.getHours());
-                activity.setSection(activityDTO.getSection());
-                alterNachweis.addActivity(activity);
-            });
-        } else {
-            // Re-add default activities if none provided
-            alterNachweis.addActivity(createActivity(Weekday.MONDAY, 1, "Schule", new BigDecimal("8.0"), "Theorie"));
-            alterNachweis.addActivity(createActivity(Weekday.TUESDAY, 1, "Teambesprechung mit Triesnha Ameilya",
-                    new BigDecimal("1.0"), "Meeting"));
-            alterNachweis.addActivity(
-                    createActivity(Weekday.TUESDAY, 2, "Coding mit Vergil", new BigDecimal("7.0"), "Entwicklung"));
-            alterNachweis.addActivity(createActivity(Weekday.WEDNESDAY, 1, "Layoutdesign mit Armin Wache",
-                    new BigDecimal("4.0"), "Design"));
-            alterNachweis.addActivity(createActivity(Weekday.WEDNESDAY, 2, "Vibe coding mit Vu Quy Le",
-                    new BigDecimal("4.0"), "Entwicklung"));
-            alterNachweis.addActivity(
-                    createActivity(Weekday.THURSDAY, 1, "Coding mit Vergil", new BigDecimal("8.0"), "Entwicklung"));
-            alterNachweis.addActivity(
-                    createActivity(Weekday.FRIDAY, 1, "Coding mit Vergil", new BigDecimal("7.0"), "Entwicklung"));
-            alterNachweis.addActivity(createActivity(Weekday.FRIDAY, 2, "Code Review", new BigDecimal("1.0"), "QA"));
-        }
+        // Activities komplett ersetzen - im JSON-Modus ein UPDATE dieser Zeile
+        // statt DELETE + INSERT pro Activity
+        alterNachweis.setzeActivities(activitiesAusRequest(request.getActivities()), activitiesAlsJson);
+        alterNachweis.druckInhaltGeaendert();
 
         Nachweis updatedNachweis = nachweisRepository.save(alterNachweis);
         nachweisAuditService.loggeNachweisAktion(updatedNachweis.getId(), "AKTUALISIERT_AZUBI", username,
                 alterNachweisKopie, updatedNachweis);
+        stundenSummeService.aktualisieren(updatedNachweis);
+        nachweisSucheService.indexieren(updatedNachweis);
 
-        try {
-            byte[] pdfBytes = pdfExportService.generateAusbildungsnachweisPdf(updatedNachweis);
-            UUID userId = updatedNachweis.getAzubi().getId();
-            String userVollerName = updatedNachweis.getAzubi().getName().toLowerCase().replaceAll(" ", "_");
-            UUID nachweisIdPdf = updatedNachweis.getId();
-
-            Path userDirectory = rootLocation.resolve(userVollerName + "_" + userId.toString());
-            Files.createDirectories(userDirectory);
-            Path destinationFile = userDirectory.resolve(nachweisIdPdf.toString() + ".pdf");
-            Files.write(destinationFile, pdfBytes);
-
-            // Send email to Ausbilder about the update
-            User nachweisAusbilder = updatedNachweis.getAusbilder();
-            if (nachweisAusbilder != null && nachweisAusbilder.getEmail() != null
-                    && !nachweisAusbilder.getEmail().isEmpty()) {
-                String subject = "Nachweis aktualisiert: Nr. " + updatedNachweis.getNummer() + " von "
-                        + azubi.getName();
-                String body = "<html>"
-                        + "<head>"
-                        + "<meta charset='utf-8'/>"
-                        + "<style>"
-                        + "body { font-family: -apple-system, BlinkMacSystemFont, 'Segoe UI', Roboto, 'Helvetica Neue', Arial; line-height: 1.5; color: #0f172a; }"
-                        + ".container { max-width: 640px; margin: 0 auto; padding: 20px; border-radius: 12px; background-color: #ffffff; box-shadow: 0 6px 20px rgba(16,24,40,0.06); }"
-                        + ".header { background: linear-gradient(90deg, #1DB954 0%, #16a34a 100%); color: #ffffff; padding: 18px; text-align: center; border-radius: 10px 10px 0 0; }"
-                        + ".content { padding: 20px; color: #0f172a; }"
-                        + ".note { background: #f1fdf6; color: #064e3b; padding: 12px; border-radius: 8px; margin: 12px 0; }"
-                        + ".footer { text-align: center; font-size: 0.85em; color: #64748b; margin-top: 16px; }"
-                        + "p { margin: 0 0 12px 0; }"
-                        + "</style>"
-                        + "</head>"
-                        + "<body>"
-                        + "<div class='container'>"
-                        + "<div class='header'>"
-                        + "<h2 style='margin:0;font-size:18px;'>Ausbildungsnachweis aktualisiert — bitte prüfen</h2>"
-                        + "</div>"
-                        + "<div class='content'>"
-                        + "<p>Hi " + nachweisAusbilder.getName() + " 👋</p>"
-                        + "<p>Der Nachweis <strong>Nr. " + updatedNachweis.getNummer() + "</strong> von <strong>"
-                        + azubi.getName() + "</strong> wurde aktualisiert und ist wieder zur Prüfung bereit.</p>"
-                        + (EStatus.IN_BEARBEITUNG != null
-                                ? "<p class='note'>Status: <strong>" + EStatus.IN_BEARBEITUNG.toString()
-                                        + "</strong></p>"
-                                : "")
-                        + "<p>Kurz checken, kurz freigeben — danke! 🙏</p>"
-                        + "<p>Beste Grüße,<br/>" + azubi.getName() + "</p>"
-                        + "</div>"
-                        + "<div class='footer'>"
-                        + "<p style='text-align:center;margin:14px 0;'><a class='btn' href='https://github.com/vuducle/javaSpringBootApp/tree/main/src/main/java' target='_blank' rel='noopener'>Quellcode ansehen</a></p>"
-                        + "<p>Mit viel Liebe mit Java gecodet ❤\uFE0F\uD83C\uDDEE\uD83C\uDDE9\uD83C\uDDFB\uD83C\uDDF3☕\uFE0F</p>"
-                        + "<p>Automatisch generierte Nachricht — Antworten werden nicht überwacht.</p>"
-                        + "</div>"
-                        + "</div>"
-                        + "</body>"
-                        + "</html>";
-                emailService.sendEmail(nachweisAusbilder.getEmail(), subject, body);
-            }
+        // PDF, E-Mail und Benachrichtigung erst nach dem Commit (NachweisEreignisHandler)
+        eventPublisher.publishEvent(new NachweisAktualisiertEvent(updatedNachweis.getId(), true, true));
+        dashboardVeraltet(alterNachweisKopie.getAusbilder(), ausbilder);
 
-            // Create in-app notification for Ausbilder about updated Nachweis
-            try {
-                if (nachweisAusbilder != null && nachweisAusbilder.getId() != null) {
-                    notificationService.createNotification(
-                            nachweisAusbilder.getId(),
-                            "Nachweis aktualisiert",
-                            "Der Azubi " + azubi.getName() + " hat den Nachweis Nr. " + updatedNachweis.getNummer()
-                                    + " aktualisiert",
-                            Notification.NotificationType.INFO,
-                            updatedNachweis.getId(),
-                            "/nachweis/" + updatedNachweis.getId());
-                    log.info("Notification created for Ausbilder {} - Nachweis {} updated by {}",
-                            nachweisAusbilder.getId(), updatedNachweis.getId(), azubi.getName());
-                }
-            } catch (Exception e) {
-                log.error("Fehler beim Erstellen der Benachrichtigung für Ausbilder zu aktualisiertem Nachweis {}: {}",
-                        updatedNachweis.getId(), e.getMessage(), e);
-                // Continue - notification failure should not break the main flow
-            }
-        } catch (IOException e) {
-            log.error("Fehler bei der PDF-Generierung oder Speicherung für Nachweis {}: {}", updatedNachweis.getId(),
-                    e.getMessage());
-            throw new RuntimeException("Fehler bei der PDF-Generierung oder Speicherung", e);
+        return updatedNachweis;
+
+    }
+
+    /**
+     * ✏️ Teil-Update durch den Azubi (PATCH, z.B. Autosave). Anders als
+     * {@link #aktualisiereNachweisDurchAzubi} wird nichts neu aufgebaut:
+     * - nur gesetzte Felder werden übernommen, Activities slot-genau über day + slot
+     * - ins Audit-Log kommt nur das Delta
+     * - das PDF wird nur neu erzeugt, wenn sich gedruckter Inhalt geändert hat
+     * - der Ausbilder wird nur benachrichtigt, wenn der Nachweis dadurch wieder
+     *   auf IN_BEARBEITUNG fällt - nicht bei jedem Autosave
+     */
+    @Transactional
+    public Nachweis patcheNachweisDurchAzubi(UUID nachweisId, PatchNachweisRequest request, String username) {
+        Nachweis nachweis = nachweisRepository.findById(nachweisId)
+                .orElseThrow(
+                        () -> new ResourceNotFoundException("Nachweis mit der ID " + nachweisId + " nicht gefunden."));
+        User azubi = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("Benutzer nicht gefunden: " + username));
+        if (!nachweis.getAzubi().getId().equals(azubi.getId())) {
+            throw new UnauthorizedActionException("Sie sind nicht berechtigt, diesen Nachweis zu aktualisieren.");
         }
 
-        return updatedNachweis;
+        Map<String, Object> vorher = new LinkedHashMap<>();
+        Map<String, Object> nachher = new LinkedHashMap<>();
+
+        feldPatchen("datumStart", nachweis.getDatumStart(), request.getDatumStart(), nachweis::setDatumStart,
+                vorher, nachher);
+        feldPatchen("datumEnde", nachweis.getDatumEnde(), request.getDatumEnde(), nachweis::setDatumEnde,
+                vorher, nachher);
+        feldPatchen("ausbildungsjahr", nachweis.getAusbildungsjahr(), request.getAusbildungsjahr(),
+                nachweis::setAusbildungsjahr, vorher, nachher);
+        feldPatchen("bemerkung", nachweis.getBemerkung(), request.getBemerkung(), nachweis::setBemerkung,
+                vorher, nachher);
+        feldPatchen("datumAzubi", nachweis.getDatumAzubi(), request.getDatumAzubi(), nachweis::setDatumAzubi,
+                vorher, nachher);
+        feldPatchen("signaturAzubi", nachweis.getSignaturAzubi(), request.getSignaturAzubi(),
+                nachweis::setSignaturAzubi, vorher, nachher);
+        if (request.getNummer() != null && request.getNummer() != nachweis.getNummer()) {
+            vorher.put("nummer", nachweis.getNummer());
+            nachher.put("nummer", request.getNummer());
+            nachweis.setNummer(request.getNummer());
+            nachweisNummerService.nummerVergeben(azubi.getId(), request.getNummer());
+        }
+        User bisherigerAusbilder = nachweis.getAusbilder();
+        UUID bisherigerAusbilderId = bisherigerAusbilder != null ? bisherigerAusbilder.getId() : null;
+        if (request.getAusbilderId() != null && !request.getAusbilderId().equals(bisherigerAusbilderId)) {
+            User ausbilder = userRepository.findById(request.getAusbilderId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Ausbilder nicht gefunden."));
+            vorher.put("ausbilderId", bisherigerAusbilderId);
+            nachher.put("ausbilderId", ausbilder.getId());
+            nachweis.setAusbilder(ausbilder);
+        }
+        slotsPatchen(nachweis, request.getActivities(), vorher, nachher);
+
+        if (nachher.isEmpty()) {
+            // Autosave ohne Änderung - kein UPDATE, kein Audit, kein PDF
+            log.debug("✏️ PATCH ohne Änderungen für Nachweis {}", nachweisId);
+            return nachweis;
+        }
+
+        boolean druckInhaltGeaendert = nachher.keySet().stream().anyMatch(feld -> !NICHT_GEDRUCKT.contains(feld));
+        boolean zurueckInBearbeitung = druckInhaltGeaendert && nachweis.getStatus() != EStatus.IN_BEARBEITUNG;
+        if (druckInhaltGeaendert) {
+            nachweis.druckInhaltGeaendert();
+        }
+        if (zurueckInBearbeitung) {
+            vorher.put("status", nachweis.getStatus());
+            nachher.put("status", EStatus.IN_BEARBEITUNG);
+            nachweis.setStatus(EStatus.IN_BEARBEITUNG);
+        }
+
+        nachweisAuditService.loggeNachweisDelta(nachweisId, "TEILAKTUALISIERT_AZUBI", username, vorher, nachher);
+        if (nachher.containsKey("activities") || nachher.containsKey("ausbildungsjahr")) {
+            stundenSummeService.aktualisieren(nachweis);
+        }
+        if (nachher.containsKey("activities")) {
+            nachweisSucheService.indexieren(nachweis);
+        }
+
+        // PDF und Benachrichtigung erst nach dem Commit (NachweisEreignisHandler)
+        eventPublisher.publishEvent(
+                new NachweisAktualisiertEvent(nachweisId, druckInhaltGeaendert, zurueckInBearbeitung));
+        if (zurueckInBearbeitung || nachher.containsKey("ausbilderId")) {
+            dashboardVeraltet(bisherigerAusbilder, nachweis.getAusbilder());
+        }
+
+        log.debug("✏️ Nachweis {} gepatcht: {}", nachweisId, nachher.keySet());
+        return nachweis;
+    }
 
+    private static <T> void feldPatchen(String feld, T bisher, T neu, Consumer<T> setter,
+            Map<String, Object> vorher, Map<String, Object> nachher) {
+        if (neu == null || neu.equals(bisher)) {
+            return;
+        }
+        vorher.put(feld, bisher);
+        nachher.put(feld, neu);
+        setter.accept(neu);
+    }
+
+    /**
+     * Wendet die Slot-Änderungen an. Unveränderte Slots (Autosave schickt
+     * gern alles nochmal) werden übersprungen, d.h. es wird nur geschrieben,
+     * was sich wirklich geändert hat.
+     */
+    private void slotsPatchen(Nachweis nachweis, List<ActivitySlotPatch> patches, Map<String, Object> vorher,
+            Map<String, Object> nachher) {
+        if (patches == null || patches.isEmpty()) {
+            return;
+        }
+        List<ActivityEintrag> alt = new ArrayList<>();
+        List<ActivityEintrag> neu = new ArrayList<>();
+        for (ActivitySlotPatch patch : patches) {
+            ActivityEintrag bisher = nachweis.slotLesen(patch.getDay(), patch.getSlot());
+            if (patch.isEntfernen()) {
+                if (nachweis.slotEntfernen(patch.getDay(), patch.getSlot())) {
+                    alt.add(bisher);
+                }
+                continue;
+            }
+            ActivityEintrag ziel = bisher == null
+                    ? new ActivityEintrag(patch.getDay(), patch.getSlot(), null, null, null)
+                    : new ActivityEintrag(bisher.getDay(), bisher.getSlot(), bisher.getDescription(),
+                            bisher.getHours(), bisher.getSection());
+            if (patch.getDescription() != null) {
+                ziel.setDescription(patch.getDescription());
+            }
+            if (patch.getHours() != null) {
+                ziel.setHours(patch.getHours());
+            }
+            if (patch.getSection() != null) {
+                ziel.setSection(patch.getSection());
+            }
+            if (ziel.gleicherInhalt(bisher)) {
+                continue;
+            }
+            nachweis.slotSchreiben(ziel);
+            if (bisher != null) {
+                alt.add(bisher);
+            }
+            neu.add(ziel);
+        }
+        if (!alt.isEmpty() || !neu.isEmpty()) {
+            vorher.put("activities", alt);
+            nachher.put("activities", neu);
+        }
     }
 
     public boolean checkIfNummerExistsForUser(int nummer, String username) {
@@ -762,8 +685,7 @@ public class NachweisService {
     public int getNextNachweisNummerForUser(String username) {
         User azubi = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("Benutzer nicht gefunden: " + username));
-        Integer maxNummer = nachweisRepository.findMaxNummerByAzubiId(azubi.getId());
-        return maxNummer + 1;
+        return nachweisNummerService.vorschau(azubi.getId());
     }
 
     public byte[] erstelleZipArchivFuerBenutzer(String username) throws IOException {
@@ -856,62 +778,89 @@ public class NachweisService {
 
     /**
      * Löscht mehrere Nachweise auf einmal (Bulk-Delete)
+     *
+     * Pro Chunk: eine Query für Laden + Berechtigungs-Check, ein DELETE für die
+     * Activities, ein DELETE für die Nachweise, ein saveAll für die Audits. Die
+     * PDFs werden erst nach dem Commit über den {@link DateiCleanupService}
+     * gelöscht - ein Rollback lässt also keine Nachweise ohne Datei zurück.
      */
     @Transactional
     public Map<String, Object> loescheMehrerNachweise(List<UUID> nachweisIds, String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("Benutzer nicht gefunden: " + username));
+        List<User> betroffeneAusbilder = new ArrayList<>();
+        Set<UUID> betroffeneAzubis = new HashSet<>();
 
-        int deletedCount = 0;
-        int failedCount = 0;
+        boolean isAdmin = user.getRoles().stream().anyMatch(role -> role.getName() == ERole.ROLE_ADMIN);
+        List<UUID> idListe = new ArrayList<>(new LinkedHashSet<>(nachweisIds));
         List<UUID> failedIds = new ArrayList<>();
-        boolean isAdmin = user.getRoles().stream().anyMatch(role -> role.getName().equals("ROLE_ADMIN"));
+        List<Path> pdfDateien = new ArrayList<>();
+        int deletedCount = 0;
 
-        for (UUID nachweisId : nachweisIds) {
-            try {
-                Nachweis nachweis = nachweisRepository.findById(nachweisId)
-                        .orElse(null);
+        for (int i = 0; i < idListe.size(); i += BATCH_CHUNK_GROESSE) {
+            List<UUID> chunk = idListe.subList(i, Math.min(i + BATCH_CHUNK_GROESSE, idListe.size()));
+            List<Nachweis> geladen = nachweisRepository.findAllWithDetailsByIdIn(chunk);
 
-                if (nachweis == null) {
-                    log.warn("Nachweis {} nicht gefunden", nachweisId);
-                    failedCount++;
-                    failedIds.add(nachweisId);
-                    continue;
-                }
+            Set<UUID> gefunden = new HashSet<>();
+            List<UUID> loeschIds = new ArrayList<>();
+            List<NachweisAuditLog> auditLogs = new ArrayList<>();
+            Instant jetzt = Instant.now();
 
-                // Check if user has permission to delete
-                boolean canDelete = nachweis.getAzubi().getId().equals(user.getId()) || isAdmin;
+            for (Nachweis nachweis : geladen) {
+                gefunden.add(nachweis.getId());
 
+                // Check if user has permission to delete
+                boolean canDelete = isAdmin
+                        || (nachweis.getAzubi() != null && nachweis.getAzubi().getId().equals(user.getId()));
                 if (!canDelete) {
-                    log.warn("Benutzer {} hat keine Berechtigung, Nachweis {} zu löschen", username, nachweisId);
-                    failedCount++;
-                    failedIds.add(nachweisId);
+                    log.warn("Benutzer {} hat keine Berechtigung, Nachweis {} zu löschen", username,
+                            nachweis.getId());
+                    failedIds.add(nachweis.getId());
                     continue;
                 }
 
-                // Delete PDF file
-                String userVollerName = nachweis.getAzubi().getName().toLowerCase().replaceAll(" ", "_");
-                Path userDirectory = rootLocation
-                        .resolve(userVollerName + "_" + nachweis.getAzubi().getId().toString());
-                Path fileToDelete = userDirectory.resolve(nachweis.getId().toString() + ".pdf");
-                deletePdfFile(fileToDelete, nachweis.getId());
-
-                // Delete from database
-                nachweisRepository.delete(nachweis);
-
-                // Log the action
-                nachweisAuditService.loggeNachweisAktion(nachweisId, "GELOESCHT", username, nachweis, null);
+                try {
+                    auditLogs.add(new NachweisAuditLog(null, nachweis.getId(), "GELOESCHT", jetzt, username,
+                            nachweisAuditService.serialisiere(nachweis), null));
+                    loeschIds.add(nachweis.getId());
+                    betroffeneAusbilder.add(nachweis.getAusbilder());
+                    if (nachweis.getAzubi() != null) {
+                        betroffeneAzubis.add(nachweis.getAzubi().getId());
+                        pdfDateien.add(pdfPfad(nachweis.getAzubi(), nachweis.getId()));
+                    }
+                } catch (Exception e) {
+                    log.error("Fehler beim Vorbereiten des Löschens von Nachweis {}: {}", nachweis.getId(),
+                            e.getMessage());
+                    failedIds.add(nachweis.getId());
+                }
+                // Bulk-DELETE läuft am Persistence Context vorbei
+                entityManager.detach(nachweis);
+            }
 
-                deletedCount++;
-                log.info("Nachweis {} erfolgreich gelöscht von Benutzer {}", nachweisId, username);
+            for (UUID nachweisId : chunk) {
+                if (!gefunden.contains(nachweisId)) {
+                    log.warn("Nachweis {} nicht gefunden", nachweisId);
+                    failedIds.add(nachweisId);
+                }
+            }
 
-            } catch (Exception e) {
-                log.error("Fehler beim Löschen von Nachweis {}: {}", nachweisId, e.getMessage());
-                failedCount++;
-                failedIds.add(nachweisId);
+            if (!loeschIds.isEmpty()) {
+                nachweisRepository.deleteActivitiesByNachweisIds(loeschIds);
+                deletedCount += nachweisRepository.deleteAllByIdIn(loeschIds);
+                nachweisAuditService.loggeNachweisAktionen(auditLogs);
             }
         }
 
+        // gelöschte Nummern wieder freigeben, wie früher bei MAX(nummer) + 1
+        nachweisNummerService.nachLoeschen(betroffeneAzubis);
+
+        // PDFs erst nach dem Commit löschen (mit Retry)
+        dateiCleanupService.einreihen(pdfDateien);
+        dashboardVeraltet(betroffeneAusbilder);
+
+        int failedCount = failedIds.size();
+        log.info("{} Nachweise gelöscht von Benutzer {} ({} fehlgeschlagen)", deletedCount, username, failedCount);
+
         Map<String, Object> result = new HashMap<>();
         result.put("deletedCount", deletedCount);
         result.put("failedCount", failedCount);
@@ -922,60 +871,107 @@ public class NachweisService {
         return result;
     }
 
+    /**
+     * Gecachte Dashboards der betroffenen Ausbilder nach dem Commit verwerfen
+     * ({@link AusbilderDashboardService#beiVeraltet})
+     */
+    private void dashboardVeraltet(User... ausbilder) {
+        dashboardVeraltet(Arrays.asList(ausbilder));
+    }
+
+    private void dashboardVeraltet(Collection<User> ausbilder) {
+        Set<UUID> ids = new HashSet<>();
+        for (User a : ausbilder) {
+            if (a != null) {
+                ids.add(a.getId());
+            }
+        }
+        if (!ids.isEmpty()) {
+            eventPublisher.publishEvent(new AusbilderDashboardVeraltetEvent(ids));
+        }
+    }
+
+    /**
+     * Pfad zum generierten PDF eines Nachweises
+     */
+    private Path pdfPfad(User azubi, UUID nachweisId) {
+        return pdfPfad(azubi.getName(), azubi.getId(), nachweisId);
+    }
+
+    private Path pdfPfad(String azubiName, UUID azubiId, UUID nachweisId) {
+        String userVollerName = azubiName.toLowerCase().replaceAll(" ", "_");
+        return rootLocation.resolve(userVollerName + "_" + azubiId.toString())
+                .resolve(nachweisId.toString() + ".pdf");
+    }
+
     /**
      * Aktualisiert den Status mehrerer Nachweise auf einmal (Batch-Status-Update)
+     *
+     * Set-basiert statt findById/save pro ID: pro Chunk eine IN-Query mit
+     * Fetch-Joins, ein Bulk-UPDATE und ein saveAll für die Audit-Einträge.
+     * Notifications (gesammelt) und E-Mails kommen nach dem Commit.
      */
     @Transactional
     public Map<String, Object> aktualisiereStatusVonMehrerenNachweisen(List<UUID> nachweisIds, EStatus neuerStatus,
             String comment, String username) {
-        int updatedCount = 0;
-        int failedCount = 0;
+        List<UUID> idListe = new ArrayList<>(new LinkedHashSet<>(nachweisIds));
         List<UUID> failedIds = new ArrayList<>();
+        List<Nachweis> aktualisiert = new ArrayList<>();
 
-        for (UUID nachweisId : nachweisIds) {
-            try {
-                Nachweis nachweis = nachweisRepository.findById(nachweisId)
-                        .orElse(null);
+        for (int i = 0; i < idListe.size(); i += BATCH_CHUNK_GROESSE) {
+            List<UUID> chunk = idListe.subList(i, Math.min(i + BATCH_CHUNK_GROESSE, idListe.size()));
+            List<Nachweis> geladen = nachweisRepository.findAllWithDetailsByIdIn(chunk);
 
-                if (nachweis == null) {
-                    log.warn("Nachweis {} nicht gefunden", nachweisId);
-                    failedCount++;
-                    failedIds.add(nachweisId);
-                    continue;
-                }
+            Set<UUID> gefunden = new HashSet<>();
+            List<UUID> updateIds = new ArrayList<>();
+            List<NachweisAuditLog> auditLogs = new ArrayList<>();
+            Instant jetzt = Instant.now();
 
-                // Update status
-                Nachweis alterNachweisKopie = new Nachweis(nachweis);
-                nachweis.setStatus(neuerStatus);
-                nachweis.setComment(comment);
-                Nachweis updatedNachweis = nachweisRepository.save(nachweis);
-
-                // Log audit
-                nachweisAuditService.loggeNachweisAktion(updatedNachweis.getId(), "BATCH_STATUS_AKTUALISIERT",
-                        username, alterNachweisKopie, updatedNachweis);
-
-                // Send email to Azubi about status update
-                User azubi = updatedNachweis.getAzubi();
-                if (azubi != null && azubi.getEmail() != null && !azubi.getEmail().isEmpty()) {
-                    try {
-                        sendStatusUpdateEmail(updatedNachweis, azubi, neuerStatus);
-                    } catch (Exception e) {
-                        log.error("Fehler beim Senden der E-Mail für Nachweis {}: {}", nachweisId, e.getMessage());
-                        // Continue - email failure should not break the main flow
-                    }
+            for (Nachweis nachweis : geladen) {
+                gefunden.add(nachweis.getId());
+                try {
+                    String alteDaten = nachweisAuditService.serialisiere(nachweis);
+                    // Abkoppeln, damit das Dirty-Checking keine UPDATEs pro Zeile nachschiebt -
+                    // geschrieben wird ausschließlich über das Bulk-UPDATE unten
+                    entityManager.detach(nachweis);
+                    nachweis.setStatus(neuerStatus);
+                    nachweis.setComment(comment);
+                    String neueDaten = nachweisAuditService.serialisiere(nachweis);
+
+                    auditLogs.add(new NachweisAuditLog(null, nachweis.getId(), "BATCH_STATUS_AKTUALISIERT", jetzt,
+                            username, alteDaten, neueDaten));
+                    updateIds.add(nachweis.getId());
+                    aktualisiert.add(nachweis);
+                } catch (Exception e) {
+                    log.error("Fehler beim Vorbereiten des Status-Updates von Nachweis {}: {}", nachweis.getId(),
+                            e.getMessage());
+                    failedIds.add(nachweis.getId());
                 }
+            }
 
-                updatedCount++;
-                log.info("Status von Nachweis {} erfolgreich aktualisiert zu {} durch {}",
-                        nachweisId, neuerStatus, username);
+            for (UUID nachweisId : chunk) {
+                if (!gefunden.contains(nachweisId)) {
+                    log.warn("Nachweis {} nicht gefunden", nachweisId);
+                    failedIds.add(nachweisId);
+                }
+            }
 
-            } catch (Exception e) {
-                log.error("Fehler beim Aktualisieren des Status von Nachweis {}: {}", nachweisId, e.getMessage());
-                failedCount++;
-                failedIds.add(nachweisId);
+            if (!updateIds.isEmpty()) {
+                nachweisRepository.updateStatusForIds(updateIds, neuerStatus, comment);
+                nachweisAuditService.loggeNachweisAktionen(auditLogs);
             }
         }
 
+        // Benachrichtigungen und E-Mails erst nach dem Commit (NachweisEreignisHandler)
+        eventPublisher.publishEvent(new NachweiseStatusGeaendertEvent(
+                aktualisiert.stream().map(Nachweis::getId).toList(), neuerStatus, comment));
+        dashboardVeraltet(aktualisiert.stream().map(Nachweis::getAusbilder).toList());
+
+        int updatedCount = aktualisiert.size();
+        int failedCount = failedIds.size();
+        log.info("Status von {} Nachweisen aktualisiert zu {} durch {} ({} fehlgeschlagen)", updatedCount,
+                neuerStatus, username, failedCount);
+
         Map<String, Object> result = new HashMap<>();
         result.put("updatedCount", updatedCount);
         result.put("failedCount", failedCount);
@@ -985,115 +981,4 @@ public class NachweisService {
 
         return result;
     }
-
-    /**
-     * Hilfsmethode zum Senden von Status-Update-E-Mails
-     */
-    private void sendStatusUpdateEmail(Nachweis nachweis, User azubi, EStatus status) {
-        if (status == EStatus.ANGENOMMEN) {
-            String subject = "Dein Ausbildungsnachweis Nr. " + nachweis.getNummer() + " wurde angenommen";
-            String body = buildAcceptedEmailBody(nachweis, azubi);
-
-            // Try to attach PDF
-            try {
-                String userVollerName = azubi.getName().toLowerCase().replaceAll(" ", "_");
-                Path userDirectory = rootLocation.resolve(userVollerName + "_" + azubi.getId().toString());
-                Path file = userDirectory.resolve(nachweis.getId().toString() + ".pdf");
-                if (Files.exists(file) && Files.isReadable(file)) {
-                    byte[] pdfBytes = Files.readAllBytes(file);
-                    emailService.sendEmailWithAttachment(
-                            azubi.getEmail(),
-                            subject,
-                            body,
-                            pdfBytes,
-                            "Nachweis_" + nachweis.getNummer() + ".pdf",
-                            "application/pdf");
-                } else {
-                    emailService.sendEmail(azubi.getEmail(), subject, body);
-                }
-            } catch (IOException e) {
-                log.error("Fehler beim Laden des PDFs für E-Mail: {}", e.getMessage());
-                emailService.sendEmail(azubi.getEmail(), subject, body);
-            }
-        } else if (status == EStatus.ABGELEHNT) {
-            String subject = "Dein Ausbildungsnachweis Nr. " + nachweis.getNummer() + " wurde abgelehnt";
-            String body = buildRejectedEmailBody(nachweis, azubi);
-            emailService.sendEmail(azubi.getEmail(), subject, body);
-        }
-    }
-
-    private String buildAcceptedEmailBody(Nachweis nachweis, User azubi) {
-        return "<html>"
-                + "<head>"
-                + "<meta charset='utf-8'/>"
-                + "<style>"
-                + "body { font-family: -apple-system, BlinkMacSystemFont, 'Segoe UI', Roboto, 'Helvetica Neue', Arial; line-height: 1.5; color: #0f172a; }"
-                + ".container { max-width: 640px; margin: 0 auto; padding: 20px; border-radius: 12px; background-color: #ffffff; box-shadow: 0 6px 20px rgba(16,24,40,0.06); }"
-                + ".header { background: linear-gradient(90deg, #1DB954 0%, #16a34a 100%); color: #ffffff; padding: 20px; text-align: center; border-radius: 10px 10px 0 0; }"
-                + ".content { padding: 22px; color: #0f172a; }"
-                + ".footer { text-align: center; font-size: 0.85em; color: #64748b; margin-top: 18px; }"
-                + ".btn { display:inline-block; background:#1DB954; color:#fff; padding:10px 16px; border-radius:999px; text-decoration:none; font-weight:600; }"
-                + "p { margin: 0 0 12px 0; }"
-                + "</style>"
-                + "</head>"
-                + "<body>"
-                + "<div class='container'>"
-                + "<div class='header'>"
-                + "<h2 style='margin:0;font-size:20px;'>Nice — dein Nachweis ist angenommen 🎉</h2>"
-                + "</div>"
-                + "<div class='content'>"
-                + "<p>Hallo " + azubi.getName() + ",</p>"
-                + "<p>dein Ausbildungsnachweis Nr. <strong>" + nachweis.getNummer()
-                + "</strong> wurde von deinem Ausbilder angenommen.</p>"
-                + "<p>Herzlichen Glückwunsch! Du findest den Nachweis im Anhang dieser E-Mail.</p>"
-                + "<p>Mit freundlichen Grüßen,</p>"
-                + "<p>Dein Ausbilder/in " + nachweis.getAusbilder().getName() + "</p>"
-                + "</div>"
-                + "<div class='footer'>"
-                + "<p>Dies ist eine automatisch generierte E-Mail. Bitte antworte nicht direkt auf diese Nachricht.</p>"
-                + "<p>Mit viel Liebe mit Java gecodet ❤️🇮🇩🇻🇳☕️</p>"
-                + "</div>"
-                + "</div>"
-                + "</body>"
-                + "</html>";
-    }
-
-    private String buildRejectedEmailBody(Nachweis nachweis, User azubi) {
-        return "<html>"
-                + "<head>"
-                + "<meta charset='utf-8'/>"
-                + "<style>"
-                + "body { font-family: -apple-system, BlinkMacSystemFont, 'Segoe UI', Roboto, 'Helvetica Neue', Arial; line-height: 1.5; color: #0f172a; }"
-                + ".container { max-width: 640px; margin: 0 auto; padding: 20px; border-radius: 12px; background-color: #ffffff; box-shadow: 0 6px 20px rgba(16,24,40,0.06); }"
-                + ".header { background: linear-gradient(90deg, #ef4444 0%, #dc2626 100%); color: #ffffff; padding: 20px; text-align: center; border-radius: 10px 10px 0 0; }"
-                + ".content { padding: 22px; color: #0f172a; }"
-                + ".footer { text-align: center; font-size: 0.85em; color: #64748b; margin-top: 18px; }"
-                + ".note { background-color: #fef2f2; border-left: 4px solid #ef4444; padding: 12px; margin: 12px 0; }"
-                + "p { margin: 0 0 12px 0; }"
-                + "</style>"
-                + "</head>"
-                + "<body>"
-                + "<div class='container'>"
-                + "<div class='header'>"
-                + "<h2 style='margin:0;font-size:20px;'>Nachweis wurde abgelehnt</h2>"
-                + "</div>"
-                + "<div class='content'>"
-                + "<p>Hallo " + azubi.getName() + ",</p>"
-                + "<p>dein Ausbildungsnachweis Nr. <strong>" + nachweis.getNummer()
-                + "</strong> wurde leider abgelehnt.</p>"
-                + (nachweis.getComment() != null && !nachweis.getComment().isEmpty()
-                        ? "<div class='note'><strong>Kommentar:</strong><br/>" + nachweis.getComment() + "</div>"
-                        : "")
-                + "<p>Bitte überarbeite den Nachweis und reiche ihn erneut ein.</p>"
-                + "<p>Mit freundlichen Grüßen,</p>"
-                + "<p>Dein Ausbilder/in " + nachweis.getAusbilder().getName() + "</p>"
-                + "</div>"
-                + "<div class='footer'>"
-                + "<p>Dies ist eine automatisch generierte E-Mail. Bitte antworte nicht direkt auf diese Nachricht.</p>"
-                + "<p>Mit viel Liebe mit Java gecodet ❤️🇮🇩🇻🇳☕️</p>"
-                + "</div>"
-                + "</div>"
-                + "</body>"
-                + "</html>";
-    }
 }
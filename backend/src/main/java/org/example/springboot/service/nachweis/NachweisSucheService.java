@@ -0,0 +1,103 @@
+package org.example.springboot.service.nachweis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.springboot.controller.nachweisController.dto.NachweisTrefferDto;
+import org.example.springboot.dto.CursorPage;
+import org.example.springboot.exception.ResourceNotFoundException;
+import org.example.springboot.model.Activity;
+import org.example.springboot.model.Nachweis;
+import org.example.springboot.repository.NachweisRepository;
+import org.example.springboot.repository.UserRepository;
+import org.example.springboot.util.KeysetCursor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+/**
+ * 🔍 **Was geht hier ab?**
+ * Volltextsuche über die Activity-Beschreibungen ("in welcher Woche ging's um
+ * Docker?"). Der tsvector {@code nachweis.suchtext} wird beim Speichern in
+ * derselben Transaktion neu gesetzt, gesucht wird über den GIN-Index mit
+ * deutschem Stemming ("Datenbanken" findet "Datenbank").
+ *
+ * Sortiert wird nach Relevanz, geblättert per Keyset über (rang, id).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NachweisSucheService {
+
+    private final NachweisRepository nachweisRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * Setzt den Suchtext neu. Muss in der Transaktion laufen, die den
+     * Nachweis speichert - das native UPDATE flusht den Nachweis vorher.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void indexieren(Nachweis nachweis) {
+        StringJoiner beschreibungen = new StringJoiner("\n");
+        Set<String> sektionen = new LinkedHashSet<>();
+        for (Activity activity : nachweis.getActivities()) {
+            if (activity.getDescription() != null && !activity.getDescription().isBlank()) {
+                beschreibungen.add(activity.getDescription());
+            }
+            if (activity.getSection() != null && !activity.getSection().isBlank()) {
+                sektionen.add(activity.getSection());
+            }
+        }
+        nachweisRepository.suchtextSetzen(nachweis.getId(), beschreibungen.toString(), String.join(" ", sektionen));
+    }
+
+    /**
+     * @param azubiId     null = alle Azubis
+     * @param ausbilderId null = alle Ausbilder
+     * @param cursor      nextCursor der vorherigen Seite (null = erste Seite)
+     * @throws IllegalArgumentException bei leerer Suche oder kaputtem Cursor
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<NachweisTrefferDto> suchen(String suche, UUID azubiId, UUID ausbilderId, String cursor,
+            int size) {
+        if (suche == null || suche.isBlank()) {
+            throw new IllegalArgumentException("Suchbegriff darf nicht leer sein");
+        }
+        String begriff = suche.strip();
+        Float rang = null;
+        UUID nachId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] teile = KeysetCursor.decode(cursor, 3);
+            if (!teile[0].equals(begriff)) {
+                throw new IllegalArgumentException("Cursor passt nicht zur Suche");
+            }
+            try {
+                rang = Float.valueOf(teile[1]);
+                nachId = UUID.fromString(teile[2]);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Ungültiger Cursor", e);
+            }
+        }
+
+        List<NachweisTrefferDto> geladen = nachweisRepository.sucheVolltext(begriff, azubiId, ausbilderId, rang,
+                nachId, size + 1);
+        log.debug("🔍 Suche '{}' → {} Treffer (Seite)", begriff, Math.min(geladen.size(), size));
+        return CursorPage.aus(geladen, size,
+                t -> KeysetCursor.encode(begriff, Float.toString(t.getRang()), t.getId().toString()));
+    }
+
+    /**
+     * 🔍 Wie {@link #suchen}, nur in den eigenen Nachweisen
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<NachweisTrefferDto> sucheEigene(String username, String suche, String cursor, int size) {
+        UUID azubiId = userRepository.findIdByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("Benutzer nicht gefunden: " + username));
+        return suchen(suche, azubiId, null, cursor, size);
+    }
+}
@@ -13,6 +13,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
+import java.util.Map;
 
 /**
  * 📄 **Was geht hier ab?**
@@ -75,8 +76,9 @@ public class PdfExportService {
 
             // Totals per day (example: Mo_Total)
             BigDecimal grandTotal = BigDecimal.ZERO;
+            Map<Weekday, BigDecimal> stundenProTag = nachweis.stundenProTag();
             for (Weekday day : Weekday.values()) {
-                BigDecimal total = nachweis.totalForDay(day);
+                BigDecimal total = stundenProTag.getOrDefault(day, BigDecimal.ZERO);
                 String prefix = prefixForDay(day);
                 if (prefix != null) {
                     setIfExists(form, prefix + "_Total", safeString(total));
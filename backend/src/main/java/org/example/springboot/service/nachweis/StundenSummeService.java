@@ -0,0 +1,139 @@
+package org.example.springboot.service.nachweis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.springboot.exception.ResourceNotFoundException;
+import org.example.springboot.model.Activity;
+import org.example.springboot.model.Nachweis;
+import org.example.springboot.model.NachweisStundenSumme;
+import org.example.springboot.model.User;
+import org.example.springboot.model.enums.Weekday;
+import org.example.springboot.repository.NachweisStundenSummeRepository;
+import org.example.springboot.repository.UserRepository;
+import org.example.springboot.repository.projection.StundenJahrgang;
+import org.example.springboot.repository.projection.StundenProSektion;
+import org.example.springboot.repository.projection.StundenProTag;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 📊 **Was geht hier ab?**
+ * Pflegt {@code nachweis_stunden_summe}: pro Nachweis, Wochentag und Sektion
+ * eine Zeile mit der Stunden-Summe. Berichte ("Stunden pro Sektion im
+ * 2. Ausbildungsjahr") sind damit ein GROUP BY über einen Index statt alle
+ * Nachweise mit allen Activities zu laden.
+ *
+ * Gepflegt wird inkrementell in der Transaktion, die den Nachweis speichert:
+ * vorhandene Zeilen werden mit dem neuen Stand abgeglichen, nur geänderte
+ * Summen werden geschrieben. Gelöscht wird per {@code ON DELETE CASCADE}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StundenSummeService {
+
+    private final NachweisStundenSummeRepository summeRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * Zieht die Summen eines Nachweises nach. Muss in der Transaktion laufen,
+     * die den Nachweis speichert (ID muss schon vergeben sein).
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void aktualisieren(Nachweis nachweis) {
+        Map<Schluessel, BigDecimal> soll = new HashMap<>();
+        for (Activity activity : nachweis.getActivities()) {
+            if (activity.getDay() == null || activity.getHours() == null) {
+                continue;
+            }
+            soll.merge(new Schluessel(activity.getDay(), sektion(activity.getSection())), activity.getHours(),
+                    BigDecimal::add);
+        }
+
+        UUID azubiId = nachweis.getAzubi().getId();
+        List<NachweisStundenSumme> weg = new ArrayList<>();
+        for (NachweisStundenSumme ist : summeRepository.findByNachweisId(nachweis.getId())) {
+            BigDecimal stunden = soll.remove(new Schluessel(ist.getDay(), ist.getSection()));
+            if (stunden == null) {
+                weg.add(ist);
+                continue;
+            }
+            // Setter nur bei echter Änderung - sonst kein UPDATE durchs Dirty-Checking
+            if (ist.getStunden().compareTo(stunden) != 0) {
+                ist.setStunden(stunden);
+            }
+            if (!azubiId.equals(ist.getAzubiId())) {
+                ist.setAzubiId(azubiId);
+            }
+            if (!Objects.equals(ist.getAusbildungsjahr(), nachweis.getAusbildungsjahr())) {
+                ist.setAusbildungsjahr(nachweis.getAusbildungsjahr());
+            }
+        }
+
+        List<NachweisStundenSumme> neu = new ArrayList<>(soll.size());
+        soll.forEach((schluessel, stunden) -> {
+            NachweisStundenSumme summe = new NachweisStundenSumme();
+            summe.setNachweisId(nachweis.getId());
+            summe.setAzubiId(azubiId);
+            summe.setAusbildungsjahr(nachweis.getAusbildungsjahr());
+            summe.setDay(schluessel.day());
+            summe.setSection(schluessel.section());
+            summe.setStunden(stunden);
+            neu.add(summe);
+        });
+
+        summeRepository.deleteAllInBatch(weg);
+        summeRepository.saveAll(neu);
+        log.debug("📊 Stunden-Summen für Nachweis {}: {} neu, {} entfernt", nachweis.getId(), neu.size(),
+                weg.size());
+    }
+
+    @Transactional(readOnly = true)
+    public List<StundenProSektion> proSektionFuerAzubi(UUID azubiId) {
+        return summeRepository.summeProSektionFuerAzubi(azubiId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<StundenProSektion> proSektionFuerBenutzer(String username) {
+        return summeRepository.summeProSektionFuerAzubi(azubiId(username));
+    }
+
+    @Transactional(readOnly = true)
+    public List<StundenProTag> proTagFuerAzubi(UUID azubiId, String ausbildungsjahr) {
+        List<StundenProTag> tage = new ArrayList<>(summeRepository.summeProTagFuerAzubi(azubiId, ausbildungsjahr));
+        // Enum steht als Text in der DB - Reihenfolge Mo..So hier herstellen
+        tage.sort(Comparator.comparing(StundenProTag::getDay));
+        return tage;
+    }
+
+    @Transactional(readOnly = true)
+    public List<StundenJahrgang> proSektionFuerJahrgang(String ausbildungsjahr) {
+        if (ausbildungsjahr == null || ausbildungsjahr.isBlank()) {
+            throw new IllegalArgumentException("Ausbildungsjahr darf nicht leer sein");
+        }
+        return summeRepository.summeProSektionFuerJahrgang(ausbildungsjahr);
+    }
+
+    private UUID azubiId(String username) {
+        return userRepository.findByUsername(username)
+                .map(User::getId)
+                .orElseThrow(() -> new ResourceNotFoundException("Benutzer nicht gefunden: " + username));
+    }
+
+    private static String sektion(String section) {
+        return section == null ? NachweisStundenSumme.OHNE_SEKTION : section;
+    }
+
+    private record Schluessel(Weekday day, String section) {
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.springboot.service.nachweis.event;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Status-Zahlen dieser Ausbilder haben sich geändert → gecachtes Dashboard
+ * nach dem Commit verwerfen.
+ */
+public record AusbilderDashboardVeraltetEvent(Set<UUID> ausbilderIds) {
+}
@@ -0,0 +1,12 @@
+package org.example.springboot.service.nachweis.event;
+
+import java.util.UUID;
+
+/**
+ * Ein Azubi hat seinen Nachweis geändert (PUT oder PATCH).
+ *
+ * @param pdfNeu                    gedruckter Inhalt hat sich geändert → PDF neu erzeugen
+ * @param ausbilderBenachrichtigen  Ausbilder per E-Mail und In-App informieren
+ */
+public record NachweisAktualisiertEvent(UUID nachweisId, boolean pdfNeu, boolean ausbilderBenachrichtigen) {
+}
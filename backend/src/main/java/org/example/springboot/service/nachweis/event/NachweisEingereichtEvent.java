@@ -0,0 +1,10 @@
+package org.example.springboot.service.nachweis.event;
+
+import java.util.UUID;
+
+/**
+ * Ein Azubi hat einen neuen Nachweis angelegt → PDF erzeugen, Ausbilder per
+ * E-Mail (mit PDF) und In-App benachrichtigen.
+ */
+public record NachweisEingereichtEvent(UUID nachweisId) {
+}
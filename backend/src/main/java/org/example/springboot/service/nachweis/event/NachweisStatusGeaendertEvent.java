@@ -0,0 +1,12 @@
+package org.example.springboot.service.nachweis.event;
+
+import org.example.springboot.model.enums.EStatus;
+
+import java.util.UUID;
+
+/**
+ * Ein Admin/Ausbilder hat den Status eines Nachweises gesetzt → Azubi
+ * benachrichtigen.
+ */
+public record NachweisStatusGeaendertEvent(UUID nachweisId, EStatus neuerStatus, String comment) {
+}
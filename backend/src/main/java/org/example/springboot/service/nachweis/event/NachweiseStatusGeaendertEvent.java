@@ -0,0 +1,13 @@
+package org.example.springboot.service.nachweis.event;
+
+import org.example.springboot.model.enums.EStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Batch-Variante von {@link NachweisStatusGeaendertEvent} - ein Event für den
+ * ganzen Batch, damit die Benachrichtigungen gesammelt gespeichert werden.
+ */
+public record NachweiseStatusGeaendertEvent(List<UUID> nachweisIds, EStatus neuerStatus, String comment) {
+}
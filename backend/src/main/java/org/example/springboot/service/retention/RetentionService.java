@@ -0,0 +1,217 @@
+package org.example.springboot.service.retention;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.example.springboot.service.NotificationZaehlerService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 🧹 **Was geht hier ab?**
+ * Alte Benachrichtigungen und abgelaufene Tokens sammeln sich sonst ewig an.
+ * Dieser Service räumt nachts nach festen Regeln pro Tabelle auf:
+ *
+ * - **notifications**: älter als {@code retention.notifications.tage}
+ * - **password_reset_tokens** / **email_verification_tokens**: abgelaufen seit
+ * mehr als {@code retention.tokens.tage-nach-ablauf}
+ *
+ * Gelöscht wird nicht mit einem riesigen DELETE, sondern in kleinen Chunks
+ * über den Index auf der Zeitspalte, jeder Chunk mit eigenem Commit und einer
+ * kurzen Pause dazwischen - so gibt es keine langen Locks und keine WAL-Spitzen.
+ * Ein Advisory-Lock sorgt dafür, dass bei mehreren Instanzen nur eine läuft.
+ * Gelöschte Zeilen und Laufzeit landen im Log und als Metriken
+ * ({@code retention.geloescht}, {@code retention.dauer}).
+ */
+@Slf4j
+@Service
+public class RetentionService {
+
+    private static final long RETENTION_LOCK_KEY = 0x5265_7465_6E74_696FL; // "Retentio"
+
+    /**
+     * Eine Aufräum-Regel: Tabelle, Zeitspalte und wie lange Zeilen bleiben.
+     */
+    record Richtlinie(String tabelle, String zeitSpalte, Duration aufbewahrung, boolean aktiv) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NotificationZaehlerService zaehlerService;
+    private final MeterRegistry meterRegistry;
+    private final List<Richtlinie> richtlinien;
+    private final int chunkGroesse;
+    private final long pauseMs;
+
+    public RetentionService(JdbcTemplate jdbcTemplate,
+            NotificationZaehlerService zaehlerService,
+            MeterRegistry meterRegistry,
+            @Value("${retention.notifications.tage:90}") int notificationTage,
+            @Value("${retention.notifications.aktiv:true}") boolean notificationsAktiv,
+            @Value("${retention.tokens.tage-nach-ablauf:7}") int tokenTage,
+            @Value("${retention.tokens.aktiv:true}") boolean tokensAktiv,
+            @Value("${retention.chunk-groesse:1000}") int chunkGroesse,
+            @Value("${retention.pause-ms:200}") long pauseMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.zaehlerService = zaehlerService;
+        this.meterRegistry = meterRegistry;
+        this.richtlinien = List.of(
+                new Richtlinie("notifications", "created_at", Duration.ofDays(notificationTage), notificationsAktiv),
+                new Richtlinie("password_reset_tokens", "expiry_date", Duration.ofDays(tokenTage), tokensAktiv),
+                new Richtlinie("email_verification_tokens", "expiry_date", Duration.ofDays(tokenTage), tokensAktiv));
+        this.chunkGroesse = Math.max(1, chunkGroesse);
+        this.pauseMs = Math.max(0, pauseMs);
+    }
+
+    /**
+     * ⏰ Nächtlicher Lauf über alle aktiven Regeln
+     */
+    @Scheduled(cron = "${retention.cron:0 15 4 * * *}")
+    public void geplanterLauf() {
+        try {
+            ausfuehren();
+        } catch (Exception e) {
+            log.error("❌ Retention-Lauf fehlgeschlagen: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 🧹 Alle aktiven Regeln anwenden.
+     *
+     * @return gelöschte Zeilen pro Tabelle, leer wenn eine andere Instanz läuft
+     */
+    public Map<String, Long> ausfuehren() {
+        List<Richtlinie> aktive = new ArrayList<>();
+        for (Richtlinie r : richtlinien) {
+            if (r.aktiv()) {
+                aktive.add(r);
+            }
+        }
+        return ausfuehren(aktive);
+    }
+
+    /**
+     * 🔔 Nur Benachrichtigungen mit abweichender Aufbewahrung bereinigen
+     * (manueller Aufruf über /api/notifications/cleanup)
+     */
+    public long notificationsBereinigen(int tageBehalten) {
+        Map<String, Long> ergebnis = ausfuehren(List.of(
+                new Richtlinie("notifications", "created_at", Duration.ofDays(tageBehalten), true)));
+        return ergebnis.getOrDefault("notifications", 0L);
+    }
+
+    private Map<String, Long> ausfuehren(List<Richtlinie> regeln) {
+        // Eine Connection für Lock + Chunks: der Session-Lock hängt an ihr,
+        // die DELETEs laufen im Autocommit (ein Commit pro Chunk)
+        Map<String, Long> ergebnis = jdbcTemplate.execute((ConnectionCallback<Map<String, Long>>) con -> {
+            if (!sperren(con)) {
+                log.info("⏭️ Retention läuft bereits auf einer anderen Instanz");
+                return Map.of();
+            }
+            boolean autoCommit = con.getAutoCommit();
+            try {
+                con.setAutoCommit(true);
+                Map<String, Long> geloescht = new LinkedHashMap<>();
+                for (Richtlinie regel : regeln) {
+                    geloescht.put(regel.tabelle(), bereinige(con, regel));
+                }
+                return geloescht;
+            } finally {
+                con.setAutoCommit(autoCommit);
+                entsperren(con);
+            }
+        });
+
+        if (ergebnis != null && ergebnis.getOrDefault("notifications", 0L) > 0) {
+            // Gelöschte ungelesene Benachrichtigungen stecken noch in den Zählern
+            zaehlerService.abgleichen();
+        }
+        return ergebnis != null ? ergebnis : Map.of();
+    }
+
+    private long bereinige(Connection con, Richtlinie regel) throws SQLException {
+        Timestamp grenze = Timestamp.valueOf(LocalDateTime.now().minus(regel.aufbewahrung()));
+        // Tabellen-/Spaltennamen kommen ausschließlich aus den festen Regeln oben
+        String sql = "DELETE FROM " + regel.tabelle() + " WHERE id IN (SELECT id FROM " + regel.tabelle()
+                + " WHERE " + regel.zeitSpalte() + " < ? ORDER BY " + regel.zeitSpalte() + " LIMIT ?)";
+
+        long start = System.nanoTime();
+        long gesamt = 0;
+        int chunks = 0;
+        try (PreparedStatement ps = con.prepareStatement(sql)) {
+            while (true) {
+                ps.setTimestamp(1, grenze);
+                ps.setInt(2, chunkGroesse);
+                int anzahl = ps.executeUpdate();
+                gesamt += anzahl;
+                chunks++;
+                if (anzahl < chunkGroesse) {
+                    break;
+                }
+                pause();
+            }
+        }
+        long dauerNs = System.nanoTime() - start;
+
+        Counter.builder("retention.geloescht")
+                .description("Von der Retention gelöschte Zeilen")
+                .tag("tabelle", regel.tabelle())
+                .register(meterRegistry)
+                .increment(gesamt);
+        Timer.builder("retention.dauer")
+                .description("Laufzeit der Retention pro Tabelle")
+                .tag("tabelle", regel.tabelle())
+                .register(meterRegistry)
+                .record(dauerNs, TimeUnit.NANOSECONDS);
+
+        log.info("🧹 Retention {}: {} Zeilen in {} Chunk(s) gelöscht ({} ms, Grenze {})", regel.tabelle(), gesamt,
+                chunks, TimeUnit.NANOSECONDS.toMillis(dauerNs), grenze);
+        return gesamt;
+    }
+
+    private void pause() {
+        if (pauseMs == 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Retention unterbrochen", e);
+        }
+    }
+
+    private boolean sperren(Connection con) throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+            ps.setLong(1, RETENTION_LOCK_KEY);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private void entsperren(Connection con) {
+        try (Statement st = con.createStatement()) {
+            st.execute("SELECT pg_advisory_unlock(" + RETENTION_LOCK_KEY + ")");
+        } catch (SQLException e) {
+            log.warn("Retention-Lock konnte nicht freigegeben werden: {}", e.getMessage());
+        }
+    }
+}
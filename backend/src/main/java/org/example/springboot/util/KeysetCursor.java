@@ -0,0 +1,40 @@
+package org.example.springboot.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 🔖 KeysetCursor
+ *
+ * Opaque Fortsetzungs-Token für Keyset-Pagination: die Werte der letzten Zeile
+ * (Sortierfeld, Richtung, Sortierwert, ID) als Base64url. Der Client reicht
+ * das Token nur durch und baut nix selbst daraus.
+ */
+public final class KeysetCursor {
+
+    private static final String TRENNER = "\u001F";
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(String... teile) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.join(TRENNER, teile).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException bei kaputtem oder manipuliertem Token
+     */
+    public static String[] decode(String token, int anzahlTeile) {
+        try {
+            String roh = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] teile = roh.split(TRENNER, -1);
+            if (teile.length != anzahlTeile) {
+                throw new IllegalArgumentException("Ungültiger Cursor");
+            }
+            return teile;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Ungültiger Cursor", e);
+        }
+    }
+}
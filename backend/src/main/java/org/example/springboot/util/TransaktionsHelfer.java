@@ -0,0 +1,33 @@
+package org.example.springboot.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 🔁 TransaktionsHelfer
+ *
+ * Seiteneffekte außerhalb der Datenbank (Redis, Dateien, In-Memory-Index)
+ * erst nach dem Commit auslösen - nach einem Rollback passiert dann nichts.
+ */
+public final class TransaktionsHelfer {
+
+    private TransaktionsHelfer() {
+    }
+
+    /**
+     * Führt die Aktion nach dem Commit der laufenden Transaktion aus, ohne
+     * Transaktion sofort.
+     */
+    public static void nachCommit(Runnable aktion) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    aktion.run();
+                }
+            });
+        } else {
+            aktion.run();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+-- 🗂️ Audit-Tabellen monatlich partitionieren (nachweis_audit_log & role_audit)
+-- Heiße Abfragen landen nur noch in den aktuellen Monaten, alte Monate werden
+-- vom AuditArchivService als NDJSON.gz exportiert und abgehängt.
+
+-- Hilfsfunktion: legt die Monats-Partition für eine Audit-Tabelle an (idempotent)
+CREATE OR REPLACE FUNCTION audit_partition_anlegen(tabelle TEXT, monat DATE) RETURNS TEXT AS
+$$
+DECLARE
+    start_datum    DATE := date_trunc('month', monat)::DATE;
+    partition_name TEXT := tabelle || '_' || to_char(date_trunc('month', monat), 'YYYY_MM');
+BEGIN
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, tabelle, start_datum, (start_datum + INTERVAL '1 month')::DATE);
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- ========================================
+-- 📜 nachweis_audit_log
+-- ========================================
+ALTER TABLE nachweis_audit_log RENAME TO nachweis_audit_log_alt;
+
+-- Partition-Key muss Teil des Primary Keys sein
+CREATE TABLE nachweis_audit_log
+(
+    id            UUID                        NOT NULL,
+    nachweis_id   UUID                        NOT NULL,
+    aktion        VARCHAR(255)                NOT NULL,
+    aktions_zeit  TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    benutzer_name VARCHAR(255)                NOT NULL,
+    alte_daten    TEXT,
+    neue_daten    TEXT,
+    CONSTRAINT pk_nachweis_audit_log_monat PRIMARY KEY (id, aktions_zeit)
+) PARTITION BY RANGE (aktions_zeit);
+
+CREATE TABLE nachweis_audit_log_default PARTITION OF nachweis_audit_log DEFAULT;
+
+DO
+$$
+DECLARE
+    monat DATE;
+BEGIN
+    FOR monat IN
+        SELECT generate_series(
+                       date_trunc('month', LEAST(COALESCE((SELECT MIN(aktions_zeit) FROM nachweis_audit_log_alt), now()), now())),
+                       date_trunc('month', now()) + INTERVAL '3 months',
+                       INTERVAL '1 month')::DATE
+        LOOP
+            PERFORM audit_partition_anlegen('nachweis_audit_log', monat);
+        END LOOP;
+END
+$$;
+
+INSERT INTO nachweis_audit_log (id, nachweis_id, aktion, aktions_zeit, benutzer_name, alte_daten, neue_daten)
+SELECT id, nachweis_id, aktion, aktions_zeit, benutzer_name, alte_daten, neue_daten
+FROM nachweis_audit_log_alt;
+
+DROP TABLE nachweis_audit_log_alt;
+
+-- Indices werden automatisch auf alle Partitionen vererbt
+CREATE INDEX idx_nachweis_audit_log_zeit ON nachweis_audit_log (aktions_zeit DESC);
+
+CREATE INDEX idx_nachweis_audit_log_nachweis_zeit ON nachweis_audit_log (nachweis_id, aktions_zeit DESC);
+
+-- ========================================
+-- 👑 role_audit
+-- ========================================
+ALTER TABLE role_audit RENAME TO role_audit_alt;
+
+-- IDENTITY geht auf partitionierten Tabellen (PG 15) nicht -> eigene Sequenz
+CREATE SEQUENCE role_audit_monat_id_seq;
+
+CREATE TABLE role_audit
+(
+    id              BIGINT                      NOT NULL DEFAULT nextval('role_audit_monat_id_seq'),
+    action          VARCHAR(255)                NOT NULL,
+    target_username VARCHAR(255)                NOT NULL,
+    performed_by    VARCHAR(255)                NOT NULL,
+    performed_at    TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    details         VARCHAR(2048),
+    CONSTRAINT pk_role_audit_monat PRIMARY KEY (id, performed_at)
+) PARTITION BY RANGE (performed_at);
+
+ALTER SEQUENCE role_audit_monat_id_seq OWNED BY role_audit.id;
+
+CREATE TABLE role_audit_default PARTITION OF role_audit DEFAULT;
+
+DO
+$$
+DECLARE
+    monat DATE;
+BEGIN
+    FOR monat IN
+        SELECT generate_series(
+                       date_trunc('month', LEAST(COALESCE((SELECT MIN(performed_at) FROM role_audit_alt), now()), now())),
+                       date_trunc('month', now()) + INTERVAL '3 months',
+                       INTERVAL '1 month')::DATE
+        LOOP
+            PERFORM audit_partition_anlegen('role_audit', monat);
+        END LOOP;
+END
+$$;
+
+INSERT INTO role_audit (id, action, target_username, performed_by, performed_at, details)
+SELECT id, action, target_username, performed_by, performed_at, details
+FROM role_audit_alt;
+
+SELECT setval('role_audit_monat_id_seq', COALESCE((SELECT MAX(id) FROM role_audit), 0) + 1, false);
+
+DROP TABLE role_audit_alt;
+
+CREATE INDEX idx_role_audit_performed_at ON role_audit (performed_at DESC);
+
+-- ========================================
+-- 📦 Archiv-Verzeichnis der abgehängten Monate
+-- ========================================
+CREATE TABLE audit_archiv
+(
+    id            BIGSERIAL PRIMARY KEY,
+    tabelle       VARCHAR(64)   NOT NULL,
+    monat         DATE          NOT NULL,
+    datei_pfad    VARCHAR(1024) NOT NULL,
+    anzahl_zeilen BIGINT        NOT NULL,
+    archiviert_am TIMESTAMP     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uc_audit_archiv_tabelle_monat UNIQUE (tabelle, monat)
+);
+
+COMMENT ON TABLE audit_archiv IS '📦 Verzeichnis der archivierten Audit-Monate (NDJSON.gz-Dateien)';
@@ -0,0 +1,20 @@
+-- 🧹 Warteschlange für das Löschen von PDF-Dateien nach dem Commit
+-- Einträge werden in derselben Transaktion wie das Löschen der Nachweise
+-- geschrieben -> Rollback = keine verwaisten Dateien, Crash = Retry beim Scheduler.
+
+CREATE SEQUENCE datei_cleanup_auftrag_seq INCREMENT BY 50;
+
+CREATE TABLE datei_cleanup_auftrag
+(
+    id                BIGINT                      NOT NULL,
+    pfad              VARCHAR(1024)               NOT NULL,
+    versuche          INT                         NOT NULL DEFAULT 0,
+    naechster_versuch TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    letzter_fehler    VARCHAR(1024),
+    erstellt_am       TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_datei_cleanup_auftrag PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_datei_cleanup_naechster_versuch ON datei_cleanup_auftrag (naechster_versuch);
+
+COMMENT ON TABLE datei_cleanup_auftrag IS '🧹 Ausstehende Datei-Löschungen (nach Commit, mit Retry)';
@@ -0,0 +1,34 @@
+-- ⚙️ Hintergrund-Jobs für große Lösch-/Batch-Operationen
+-- Fortschritt und Keyset-Cursor werden pro Chunk committed -> nach einem
+-- Crash kann der Job an der gleichen Stelle weitermachen.
+
+CREATE TABLE bulk_job
+(
+    id             UUID                        NOT NULL,
+    typ            VARCHAR(40)                 NOT NULL,
+    status         VARCHAR(20)                 NOT NULL,
+    erstellt_von   VARCHAR(255)                NOT NULL,
+    azubi_id       UUID,
+    gesamt         BIGINT                      NOT NULL DEFAULT 0,
+    verarbeitet    BIGINT                      NOT NULL DEFAULT 0,
+    fehlgeschlagen BIGINT                      NOT NULL DEFAULT 0,
+    cursor_id      UUID,
+    fehler_meldung VARCHAR(2048),
+    erstellt_am    TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    gestartet_am   TIMESTAMP WITHOUT TIME ZONE,
+    beendet_am     TIMESTAMP WITHOUT TIME ZONE,
+    aktualisiert_am TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT pk_bulk_job PRIMARY KEY (id)
+);
+
+-- Für den Scheduler, der liegengebliebene Jobs wieder aufnimmt
+CREATE INDEX idx_bulk_job_status_aktualisiert ON bulk_job (status, aktualisiert_am);
+
+CREATE INDEX idx_bulk_job_erstellt_von ON bulk_job (erstellt_von, erstellt_am DESC);
+
+COMMENT ON TABLE bulk_job IS '⚙️ Hintergrund-Jobs (Löschen/Batch) mit Fortschritt und Keyset-Cursor';
+
+-- 🚀 Keyset-Chunks pro Azubi und Bulk-DELETE der Activities brauchen passende Indices
+CREATE INDEX IF NOT EXISTS idx_nachweis_azubi_id_id ON nachweis (azubi_id, id);
+
+CREATE INDEX IF NOT EXISTS idx_activity_nachweis_id ON activity (nachweis_id);
@@ -0,0 +1,27 @@
+-- 📋 Batch-Jobs (Status-Update / Löschen) mit Ergebnis pro Nachweis
+
+ALTER TABLE bulk_job
+    ADD COLUMN ziel_status VARCHAR(20);
+
+ALTER TABLE bulk_job
+    ADD COLUMN kommentar TEXT;
+
+CREATE SEQUENCE bulk_job_eintrag_seq INCREMENT BY 50;
+
+CREATE TABLE bulk_job_eintrag
+(
+    id            BIGINT                      NOT NULL,
+    job_id        UUID                        NOT NULL,
+    nachweis_id   UUID                        NOT NULL,
+    status        VARCHAR(20)                 NOT NULL,
+    meldung       VARCHAR(1024),
+    bearbeitet_am TIMESTAMP WITHOUT TIME ZONE,
+    CONSTRAINT pk_bulk_job_eintrag PRIMARY KEY (id),
+    CONSTRAINT fk_bulk_job_eintrag_job FOREIGN KEY (job_id) REFERENCES bulk_job (id) ON DELETE CASCADE,
+    CONSTRAINT uc_bulk_job_eintrag_job_nachweis UNIQUE (job_id, nachweis_id)
+);
+
+-- Nächster offener Chunk eines Jobs + Ergebnisse nach Status filtern
+CREATE INDEX idx_bulk_job_eintrag_job_status ON bulk_job_eintrag (job_id, status, id);
+
+COMMENT ON TABLE bulk_job_eintrag IS '📋 Einzelne Nachweise eines Batch-Jobs inkl. Ergebnis';
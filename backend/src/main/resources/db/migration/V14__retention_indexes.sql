@@ -0,0 +1,5 @@
+-- 🧹 Indices für den Retention-Scheduler (abgelaufene Tokens chunkweise löschen)
+
+CREATE INDEX IF NOT EXISTS idx_password_reset_tokens_expiry ON password_reset_tokens (expiry_date);
+
+CREATE INDEX IF NOT EXISTS idx_email_verification_tokens_expiry ON email_verification_tokens (expiry_date);
@@ -0,0 +1,12 @@
+-- 🔖 Indices für Keyset-Pagination: (Filter, Sortierfeld, id), damit jede Seite
+-- ein Index-Range-Scan ist - egal wie weit gescrollt wird
+
+CREATE INDEX IF NOT EXISTS idx_nachweis_azubi_datum_start_id ON nachweis (azubi_id, datum_start, id);
+
+CREATE INDEX IF NOT EXISTS idx_nachweis_datum_start_id ON nachweis (datum_start, id);
+
+CREATE INDEX IF NOT EXISTS idx_nachweis_status_datum_start_id ON nachweis (status, datum_start, id);
+
+CREATE INDEX IF NOT EXISTS idx_notifications_user_created_id ON notifications (user_id, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_app_user_username_id ON app_user (username, id);
@@ -0,0 +1,20 @@
+-- 🔢 Zähler pro Azubi für die Nachweis-Nummer
+-- Statt MAX(nummer) + 1 bei jedem Erstellen wird eine Zeile pro Azubi
+-- hochgezählt. Die Row-Lock des UPDATE serialisiert parallele Einreichungen
+-- desselben Azubis - keine Duplikate, keine Retries.
+
+CREATE TABLE nachweis_nummer_zaehler
+(
+    azubi_id      UUID    NOT NULL,
+    letzte_nummer INTEGER NOT NULL DEFAULT 0,
+    CONSTRAINT pk_nachweis_nummer_zaehler PRIMARY KEY (azubi_id),
+    CONSTRAINT fk_nachweis_nummer_zaehler_azubi FOREIGN KEY (azubi_id) REFERENCES app_user (id) ON DELETE CASCADE
+);
+
+-- Mit dem aktuellen Bestand befüllen
+INSERT INTO nachweis_nummer_zaehler (azubi_id, letzte_nummer)
+SELECT azubi_id, MAX(nummer)
+FROM nachweis
+GROUP BY azubi_id;
+
+COMMENT ON TABLE nachweis_nummer_zaehler IS '🔢 Zuletzt vergebene Nachweis-Nummer pro Azubi';
@@ -0,0 +1,27 @@
+-- 📦 Kompakte Activity-Speicherung
+-- Optional liegt die ganze Woche als ein jsonb-Dokument am Nachweis
+-- (app.nachweis.activities-als-json=true). Laden, Speichern und Audit sind
+-- dann eine Zeile statt bis zu 35 Activity-Zeilen mit eigenem FK.
+-- NULL = Activities liegen (noch) in der activity-Tabelle; ein Nachweis
+-- wechselt beim nächsten Speichern in den eingestellten Modus.
+
+ALTER TABLE nachweis
+    ADD COLUMN activities_json JSONB,
+    ADD COLUMN stunden_gesamt  NUMERIC(6, 2);
+
+-- Summe für den Bestand aus der activity-Tabelle übernehmen
+UPDATE nachweis n
+SET stunden_gesamt = s.summe
+FROM (SELECT nachweis_id, SUM(hours) AS summe
+      FROM activity
+      GROUP BY nachweis_id) s
+WHERE s.nachweis_id = n.id;
+
+-- Stunden-Auswertungen pro Azubi ohne Activities zu lesen
+CREATE INDEX idx_nachweis_azubi_stunden ON nachweis (azubi_id, stunden_gesamt);
+
+-- Suche im Dokument per @> (z.B. '[{"section": "Theorie"}]')
+CREATE INDEX idx_nachweis_activities_json ON nachweis USING GIN (activities_json jsonb_path_ops);
+
+COMMENT ON COLUMN nachweis.activities_json IS '📦 Activities der Woche als Dokument (NULL = activity-Tabelle)';
+COMMENT ON COLUMN nachweis.stunden_gesamt IS 'Summe aller Activity-Stunden, in beiden Modi gepflegt';
@@ -0,0 +1,42 @@
+-- 📊 Stunden-Summen pro Nachweis, Wochentag und Sektion
+-- Wird beim Speichern eines Nachweises inkrementell nachgezogen
+-- (StundenSummeService). Berichte pro Azubi / Jahrgang laufen über die
+-- Indizes hier statt über die komplette activity-Tabelle.
+
+CREATE TABLE nachweis_stunden_summe
+(
+    id              UUID          NOT NULL,
+    nachweis_id     UUID          NOT NULL,
+    azubi_id        UUID          NOT NULL,
+    ausbildungsjahr VARCHAR(50),
+    day             VARCHAR(20)   NOT NULL,
+    section         VARCHAR(255)  NOT NULL,
+    stunden         NUMERIC(6, 2) NOT NULL,
+    CONSTRAINT pk_nachweis_stunden_summe PRIMARY KEY (id),
+    CONSTRAINT uq_nachweis_stunden_summe UNIQUE (nachweis_id, day, section),
+    CONSTRAINT fk_nachweis_stunden_summe_nachweis FOREIGN KEY (nachweis_id) REFERENCES nachweis (id) ON DELETE CASCADE
+);
+
+-- Bericht pro Azubi (pro Ausbildungsjahr/Sektion und pro Wochentag)
+CREATE INDEX idx_stunden_summe_azubi ON nachweis_stunden_summe (azubi_id, ausbildungsjahr, section) INCLUDE (stunden, day);
+
+-- Bericht pro Jahrgang
+CREATE INDEX idx_stunden_summe_jahrgang ON nachweis_stunden_summe (ausbildungsjahr, section) INCLUDE (stunden, azubi_id);
+
+-- Bestand übernehmen: Activities aus der Tabelle und aus activities_json
+INSERT INTO nachweis_stunden_summe (id, nachweis_id, azubi_id, ausbildungsjahr, day, section, stunden)
+SELECT gen_random_uuid(), a.nachweis_id, n.azubi_id, n.ausbildungsjahr, a.day, a.section, SUM(a.hours)
+FROM (SELECT nachweis_id, day, COALESCE(section, '') AS section, hours
+      FROM activity
+      UNION ALL
+      SELECT n2.id, e ->> 'day', COALESCE(e ->> 'section', ''), (e ->> 'hours')::NUMERIC
+      FROM nachweis n2,
+           jsonb_array_elements(n2.activities_json) e
+      WHERE n2.activities_json IS NOT NULL) a
+         JOIN nachweis n ON n.id = a.nachweis_id
+WHERE a.day IS NOT NULL
+  AND a.hours IS NOT NULL
+  AND n.azubi_id IS NOT NULL
+GROUP BY a.nachweis_id, n.azubi_id, n.ausbildungsjahr, a.day, a.section;
+
+COMMENT ON TABLE nachweis_stunden_summe IS '📊 Stunden pro Nachweis, Wochentag und Sektion (für Berichte)';
@@ -0,0 +1,4 @@
+-- 📊 Ausbilder-Dashboard: GROUP BY azubi_id, status über die Nachweise eines
+-- Ausbilders - mit diesem Index ein reiner Index-Only-Scan
+
+CREATE INDEX IF NOT EXISTS idx_nachweis_ausbilder_azubi_status ON nachweis (ausbilder_id, azubi_id, status);
@@ -0,0 +1,26 @@
+-- 🔍 Volltextsuche über die Tätigkeiten eines Nachweises
+-- suchtext wird beim Speichern von der Anwendung gesetzt (NachweisSucheService):
+-- Beschreibungen mit Gewicht A, Sektionen mit Gewicht B, deutsches Stemming.
+
+ALTER TABLE nachweis ADD COLUMN suchtext TSVECTOR;
+
+CREATE INDEX idx_nachweis_suchtext ON nachweis USING GIN (suchtext);
+
+-- Bestand übernehmen: Activities aus der Tabelle und aus activities_json
+UPDATE nachweis n
+SET suchtext = setweight(to_tsvector('german', COALESCE(t.beschreibungen, '')), 'A') ||
+               setweight(to_tsvector('german', COALESCE(t.sektionen, '')), 'B')
+FROM (SELECT a.nachweis_id,
+             string_agg(a.description, E'\n')    AS beschreibungen,
+             string_agg(DISTINCT a.section, ' ') AS sektionen
+      FROM (SELECT nachweis_id, description, section
+            FROM activity
+            UNION ALL
+            SELECT n2.id, e ->> 'description', e ->> 'section'
+            FROM nachweis n2,
+                 jsonb_array_elements(n2.activities_json) e
+            WHERE n2.activities_json IS NOT NULL) a
+      GROUP BY a.nachweis_id) t
+WHERE t.nachweis_id = n.id;
+
+COMMENT ON COLUMN nachweis.suchtext IS '🔍 Volltext-Index über Activity-Beschreibungen (A) und Sektionen (B), german';
@@ -0,0 +1,16 @@
+-- 🔍 Benutzersuche ohne Seq-Scan
+-- UserSpecification.searchByTerm sucht mit lower(spalte) LIKE ... - die
+-- Ausdrucks-Indizes hier passen genau auf diese Prädikate:
+-- - ab 3 Zeichen Teilstring-Suche ('%term%') über Trigramme (GIN)
+-- - kürzere Begriffe und Autocomplete als Präfix ('te%') über B-Tree
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_app_user_username_trgm ON app_user USING GIN (lower(username) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_app_user_name_trgm ON app_user USING GIN (lower(name) gin_trgm_ops);
+
+-- text_pattern_ops: LIKE 'präfix%' nutzt den Index auch bei nicht-C-Collation
+CREATE INDEX IF NOT EXISTS idx_app_user_username_praefix ON app_user (lower(username) text_pattern_ops);
+
+CREATE INDEX IF NOT EXISTS idx_app_user_name_praefix ON app_user (lower(name) text_pattern_ops);
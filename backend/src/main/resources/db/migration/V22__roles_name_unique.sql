@@ -0,0 +1,4 @@
+-- 💾 Role.name ist jetzt Natural ID (L2-Cache-Lookup per Name) - dann muss
+-- sie auch in der DB eindeutig sein
+
+ALTER TABLE roles ADD CONSTRAINT uq_roles_name UNIQUE (name);
@@ -0,0 +1,40 @@
+-- 🗂️ audit_partition_anlegen: Nachzügler aus der DEFAULT-Partition mitnehmen
+-- Liegen in der DEFAULT-Partition schon Zeilen für den Monat, schlägt
+-- CREATE TABLE ... PARTITION OF fehl. Deshalb wird die Partition jetzt
+-- separat angelegt, die Zeilen aus DEFAULT hineinverschoben und erst dann
+-- angehängt.
+
+CREATE OR REPLACE FUNCTION audit_partition_anlegen(tabelle TEXT, monat DATE) RETURNS TEXT AS
+$$
+DECLARE
+    start_datum    DATE := date_trunc('month', monat)::DATE;
+    ende_datum     DATE := (date_trunc('month', monat) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := tabelle || '_' || to_char(date_trunc('month', monat), 'YYYY_MM');
+    default_name   TEXT := tabelle || '_default';
+    zeit_spalte    TEXT;
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN partition_name;
+    END IF;
+
+    SELECT a.attname
+    INTO zeit_spalte
+    FROM pg_partitioned_table pt
+             JOIN pg_attribute a ON a.attrelid = pt.partrelid AND a.attnum = pt.partattrs[0]
+    WHERE pt.partrelid = tabelle::regclass;
+
+    EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name, tabelle);
+
+    IF to_regclass(default_name) IS NOT NULL THEN
+        -- Keine neuen Zeilen für den Monat in DEFAULT, solange wir umziehen
+        EXECUTE format('LOCK TABLE %I IN EXCLUSIVE MODE', default_name);
+        EXECUTE format('WITH verschoben AS (DELETE FROM %I WHERE %I >= %L AND %I < %L RETURNING *) '
+                           || 'INSERT INTO %I SELECT * FROM verschoben',
+                       default_name, zeit_spalte, start_datum, zeit_spalte, ende_datum, partition_name);
+    END IF;
+
+    EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   tabelle, partition_name, start_datum, ende_datum);
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
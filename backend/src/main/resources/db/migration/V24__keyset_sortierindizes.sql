@@ -0,0 +1,19 @@
+-- 🔖 Keyset-Indices für die restlichen Sortierfelder (datumEnde, nummer) und
+-- den Ausbilder-Filter. V15 hatte nur datum_start - bei den anderen
+-- Sortierungen musste jede Seite von vorne scannen und filtern.
+-- Für den Azubi-Filter reicht (azubi_id, datum_start, id) aus V15: pro Azubi
+-- sind es ein paar hundert Nachweise, die Sortierung kostet da nichts.
+
+CREATE INDEX IF NOT EXISTS idx_nachweis_datum_ende_id ON nachweis (datum_ende, id);
+
+CREATE INDEX IF NOT EXISTS idx_nachweis_nummer_id ON nachweis (nummer, id);
+
+CREATE INDEX IF NOT EXISTS idx_nachweis_status_datum_ende_id ON nachweis (status, datum_ende, id);
+
+CREATE INDEX IF NOT EXISTS idx_nachweis_status_nummer_id ON nachweis (status, nummer, id);
+
+CREATE INDEX IF NOT EXISTS idx_nachweis_ausbilder_datum_start_id ON nachweis (ausbilder_id, datum_start, id);
+
+CREATE INDEX IF NOT EXISTS idx_nachweis_ausbilder_datum_ende_id ON nachweis (ausbilder_id, datum_ende, id);
+
+CREATE INDEX IF NOT EXISTS idx_nachweis_ausbilder_nummer_id ON nachweis (ausbilder_id, nummer, id);
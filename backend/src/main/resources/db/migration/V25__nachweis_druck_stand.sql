@@ -0,0 +1,6 @@
+-- 📄 Zeitpunkt der letzten Änderung am gedruckten Inhalt
+-- Das PDF entsteht asynchron nach dem Commit. Der Download vergleicht die
+-- Änderungszeit der Datei mit diesem Stand und erzeugt das PDF neu, wenn es
+-- fehlt oder älter ist. NULL (Bestand) = vorhandene Datei gilt als aktuell.
+
+ALTER TABLE nachweis ADD COLUMN druck_stand TIMESTAMP WITH TIME ZONE;
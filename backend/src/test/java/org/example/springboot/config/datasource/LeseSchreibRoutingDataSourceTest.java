@@ -0,0 +1,112 @@
+package org.example.springboot.config.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Zwei lokale H2-Instanzen als Primary und Replika - jede hat eine Tabelle
+ * "instanz", an der man sieht, wo die Query gelandet ist.
+ */
+class LeseSchreibRoutingDataSourceTest {
+
+    private ReplikaStatus status;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate schreibend;
+    private TransactionTemplate lesend;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primaer = instanz("primaer");
+        DataSource replika = instanz("replika");
+        status = new ReplikaStatus(replika, 60_000, 30);
+
+        DataSource routing = new LazyConnectionDataSourceProxy(
+                new LeseSchreibRoutingDataSource(primaer, replika, status, new SimpleMeterRegistry()));
+        jdbc = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        schreibend = new TransactionTemplate(transactionManager);
+        lesend = new TransactionTemplate(transactionManager);
+        lesend.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransaktion_gehtAnDieReplika() {
+        assertEquals("replika", lesend.execute(s -> wo()));
+    }
+
+    @Test
+    void schreibendeTransaktion_gehtAnDenPrimary() {
+        assertEquals("primaer", schreibend.execute(s -> wo()));
+    }
+
+    @Test
+    void ohneTransaktion_gehtAnDenPrimary() {
+        assertEquals("primaer", wo());
+    }
+
+    @Test
+    void nachEigenemSchreibzugriff_liestDerUserVomPrimary() {
+        anmelden("azubi1");
+        schreibend.executeWithoutResult(s -> jdbc.update("UPDATE instanz SET name = name"));
+
+        assertEquals("primaer", lesend.execute(s -> wo()));
+
+        // andere User sind nicht betroffen
+        anmelden("azubi2");
+        assertEquals("replika", lesend.execute(s -> wo()));
+    }
+
+    @Test
+    void gestoerteReplika_fallbackAufPrimary() {
+        status.alsGestoertMarkieren(new IllegalStateException("Test"));
+
+        assertEquals("primaer", lesend.execute(s -> wo()));
+    }
+
+    @Test
+    void healthCheckFehlgeschlagen_replikaNichtNutzbar() {
+        // H2 kennt pg_last_xact_replay_timestamp() nicht → wie eine kaputte Replika
+        status.pruefen();
+
+        assertFalse(status.isNutzbar());
+        assertEquals("primaer", lesend.execute(s -> wo()));
+    }
+
+    private String wo() {
+        return jdbc.queryForObject("SELECT name FROM instanz", String.class);
+    }
+
+    private static void anmelden(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+
+    private static DataSource instanz(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE instanz (name VARCHAR(20))");
+        jdbc.update("INSERT INTO instanz (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
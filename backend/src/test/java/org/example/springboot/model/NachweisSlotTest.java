@@ -0,0 +1,104 @@
+package org.example.springboot.model;
+
+import org.example.springboot.model.enums.Weekday;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Slot-genaue Änderungen müssen in beiden Speichermodi (activity-Tabelle und
+ * jsonb-Dokument) gleich funktionieren.
+ */
+class NachweisSlotTest {
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void slotSchreiben_aendertNurDenSlot(boolean alsJson) {
+        Nachweis nachweis = woche(alsJson);
+        Activity montagVorher = nachweis.getActivities().get(0);
+
+        nachweis.slotSchreiben(new ActivityEintrag(Weekday.TUESDAY, 1, "Code Review", new BigDecimal("3.0"), "QA"));
+
+        assertEquals(2, nachweis.getActivities().size());
+        assertEquals("Code Review", nachweis.slotLesen(Weekday.TUESDAY, 1).getDescription());
+        assertEquals(new BigDecimal("11.0"), nachweis.getStundenGesamt());
+        if (!alsJson) {
+            // dieselbe Zeile, nur geändert - kein DELETE + INSERT
+            assertSame(montagVorher, nachweis.getActivities().get(0));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void slotSchreiben_neuerSlotWirdAngehaengt(boolean alsJson) {
+        Nachweis nachweis = woche(alsJson);
+
+        nachweis.slotSchreiben(new ActivityEintrag(Weekday.FRIDAY, 2, "Deploy", new BigDecimal("1.5"), "Ops"));
+
+        assertEquals(3, nachweis.getActivities().size());
+        assertEquals(new BigDecimal("17.5"), nachweis.getStundenGesamt());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void slotEntfernen(boolean alsJson) {
+        Nachweis nachweis = woche(alsJson);
+
+        assertTrue(nachweis.slotEntfernen(Weekday.MONDAY, 1));
+        assertFalse(nachweis.slotEntfernen(Weekday.MONDAY, 1));
+
+        assertNull(nachweis.slotLesen(Weekday.MONDAY, 1));
+        assertEquals(new BigDecimal("8.0"), nachweis.getStundenGesamt());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void slotLesen_liefertKopieDesAltenStands(boolean alsJson) {
+        Nachweis nachweis = woche(alsJson);
+        ActivityEintrag vorher = nachweis.slotLesen(Weekday.MONDAY, 1);
+
+        nachweis.slotSchreiben(new ActivityEintrag(Weekday.MONDAY, 1, "Berufsschule", new BigDecimal("8.0"), "Theorie"));
+
+        // fürs Delta-Audit muss der alte Stand erhalten bleiben
+        assertEquals("Schule", vorher.getDescription());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void gleicherInhalt_stundenUnabhaengigVonDerSkala(boolean alsJson) {
+        Nachweis nachweis = woche(alsJson);
+        ActivityEintrag bisher = nachweis.slotLesen(Weekday.MONDAY, 1);
+
+        // Autosave schickt "8" statt "8.0" - keine Änderung
+        assertTrue(new ActivityEintrag(Weekday.MONDAY, 1, "Schule", new BigDecimal("8"), "Test")
+                .gleicherInhalt(bisher));
+        assertTrue(new ActivityEintrag(Weekday.MONDAY, 1, "Schule", new BigDecimal("8.00"), "Test")
+                .gleicherInhalt(bisher));
+        assertFalse(new ActivityEintrag(Weekday.MONDAY, 1, "Schule", new BigDecimal("8.5"), "Test")
+                .gleicherInhalt(bisher));
+        assertFalse(new ActivityEintrag(Weekday.MONDAY, 1, "Schule", null, "Test").gleicherInhalt(bisher));
+        assertFalse(bisher.gleicherInhalt(null));
+    }
+
+    private static Nachweis woche(boolean alsJson) {
+        Nachweis nachweis = new Nachweis();
+        nachweis.setzeActivities(List.of(
+                activity(Weekday.MONDAY, 1, "Schule", "8.0"),
+                activity(Weekday.TUESDAY, 1, "Coding", "8.0")), alsJson);
+        return nachweis;
+    }
+
+    private static Activity activity(Weekday day, int slot, String beschreibung, String stunden) {
+        Activity activity = new Activity();
+        activity.setDay(day);
+        activity.setSlot(slot);
+        activity.setDescription(beschreibung);
+        activity.setHours(new BigDecimal(stunden));
+        activity.setSection("Test");
+        return activity;
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.springboot.model.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7ErzeugerTest {
+
+    @Test
+    void versionUndVarianteStimmen() {
+        UUID uuid = UuidV7Erzeuger.neu();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    void zeitstempelIstDieAktuelleZeit() {
+        long vorher = System.currentTimeMillis();
+        UUID uuid = UuidV7Erzeuger.neu();
+        long nachher = System.currentTimeMillis();
+
+        long zeit = UuidV7Erzeuger.zeitstempel(uuid);
+        // +1: bei Zähler-Überlauf wird eine Millisekunde geliehen
+        assertTrue(zeit >= vorher && zeit <= nachher + 1, () -> "Zeitstempel " + zeit);
+    }
+
+    @Test
+    void strengMonotonUndEindeutig() {
+        // deutlich mehr IDs als der 12-Bit-Zähler pro Millisekunde hergibt
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            ids.add(UuidV7Erzeuger.neu());
+        }
+
+        for (int i = 1; i < ids.size(); i++) {
+            // Postgres vergleicht uuid byteweise = vorzeichenlos
+            assertTrue(vorzeichenlos(ids.get(i - 1), ids.get(i)) < 0, "Nicht sortiert an Position " + i);
+        }
+        assertEquals(ids.size(), new HashSet<>(ids).size());
+    }
+
+    @Test
+    void zeitstempel_keineV7_wirftFehler() {
+        assertThrows(IllegalArgumentException.class, () -> UuidV7Erzeuger.zeitstempel(UUID.randomUUID()));
+    }
+
+    private static int vorzeichenlos(UUID a, UUID b) {
+        int hoch = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return hoch != 0 ? hoch : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.springboot.model.id;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 🏁 Insert-Durchsatz und Index-Größe: UUIDv4 vs. UUIDv7 auf einer lokalen
+ * Postgres-Datenbank. Läuft nur, wenn eine DB angegeben ist:
+ *
+ * <pre>
+ * ./gradlew test --tests '*UuidV7InsertBenchmark' \
+ *     -Dbenchmark.jdbc.url=jdbc:postgresql://localhost:5432/nachweise_db \
+ *     -Dbenchmark.jdbc.user=nachweise_user -Dbenchmark.jdbc.password=changeme
+ * </pre>
+ *
+ * Optional: {@code -Dbenchmark.zeilen=500000} (Standard 200.000).
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark.jdbc.url", matches = ".+")
+class UuidV7InsertBenchmark {
+
+    private static final int BATCH = 1000;
+
+    @Test
+    void v4GegenV7() throws SQLException {
+        int zeilen = Integer.getInteger("benchmark.zeilen", 200_000);
+        try (Connection connection = DriverManager.getConnection(System.getProperty("benchmark.jdbc.url"),
+                System.getProperty("benchmark.jdbc.user"), System.getProperty("benchmark.jdbc.password"))) {
+            Ergebnis v4 = messen(connection, "uuid_benchmark_v4", zeilen, UUID::randomUUID);
+            Ergebnis v7 = messen(connection, "uuid_benchmark_v7", zeilen, UuidV7Erzeuger::neu);
+
+            System.out.printf("%n🏁 %,d Inserts (Batch %d)%n", zeilen, BATCH);
+            System.out.printf("   v4: %,6d ms  (%,8.0f Zeilen/s)  PK-Index %,10d kB%n",
+                    v4.millis, v4.zeilenProSekunde(zeilen), v4.indexBytes / 1024);
+            System.out.printf("   v7: %,6d ms  (%,8.0f Zeilen/s)  PK-Index %,10d kB%n",
+                    v7.millis, v7.zeilenProSekunde(zeilen), v7.indexBytes / 1024);
+
+            // Sequenzielle Inserts füllen die Index-Seiten voll (90% Fillfactor),
+            // zufällige splitten ständig und lassen die Seiten halb leer
+            assertTrue(v7.indexBytes <= v4.indexBytes, "v7-Index sollte nicht größer als v4 sein");
+        }
+    }
+
+    private Ergebnis messen(Connection connection, String tabelle, int zeilen, Supplier<UUID> ids)
+            throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + tabelle);
+            statement.execute("CREATE TABLE " + tabelle
+                    + " (id UUID PRIMARY KEY, erstellt_am TIMESTAMP NOT NULL DEFAULT now(), inhalt TEXT)");
+        }
+
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        long start = System.nanoTime();
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + tabelle + " (id, inhalt) VALUES (?, ?)")) {
+            for (int i = 1; i <= zeilen; i++) {
+                insert.setObject(1, ids.get());
+                insert.setString(2, "Benchmark-Zeile " + i);
+                insert.addBatch();
+                if (i % BATCH == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        long indexBytes;
+        try (Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery("SELECT pg_relation_size('" + tabelle + "_pkey')")) {
+            rs.next();
+            indexBytes = rs.getLong(1);
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE " + tabelle);
+        }
+        return new Ergebnis(millis, indexBytes);
+    }
+
+    private record Ergebnis(long millis, long indexBytes) {
+
+        double zeilenProSekunde(int zeilen) {
+            return millis == 0 ? zeilen : zeilen * 1000.0 / millis;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package org.example.springboot.monitoring;
+
+import org.example.springboot.controller.nachweisController.dto.NachweisListDto;
+import org.example.springboot.controller.userController.dto.UserResponse;
+import org.example.springboot.dto.NotificationResponse;
+import org.example.springboot.model.Nachweis;
+import org.example.springboot.model.Notification;
+import org.example.springboot.model.Role;
+import org.example.springboot.model.User;
+import org.example.springboot.model.enums.ERole;
+import org.example.springboot.model.enums.EStatus;
+import org.example.springboot.service.NotificationPushService;
+import org.example.springboot.service.NotificationService;
+import org.example.springboot.service.NotificationZaehlerService;
+import org.example.springboot.service.audit.RoleAuditService;
+import org.example.springboot.service.auth.EmailVerificationTokenService;
+import org.example.springboot.service.auth.UserService;
+import org.example.springboot.service.nachweis.DateiCleanupService;
+import org.example.springboot.service.nachweis.EmailService;
+import org.example.springboot.service.nachweis.NachweisAuditService;
+import org.example.springboot.service.nachweis.NachweisNummerService;
+import org.example.springboot.service.nachweis.NachweisService;
+import org.example.springboot.service.nachweis.NachweisSucheService;
+import org.example.springboot.service.nachweis.StundenSummeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Query-Budgets für die Listen, die am häufigsten aufgerufen werden - genau
+ * die Service-Methoden hinter /api/nachweise/my-nachweise,
+ * /api/nachweise/admin/all, /api/notifications und /api/user/users. Mit
+ * mehreren Azubis, Ausbildern und Seiten an Daten: ein N+1 (Nachladen pro
+ * Zeile) sprengt das Budget sofort.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "app.frontend.url=http://localhost"
+})
+@Import({ QueryZaehlerHibernateConfig.class, NachweisService.class, NotificationService.class, UserService.class })
+class HotPfadQueryBudgetTest {
+
+    private static final int AZUBIS = 4;
+    private static final int NACHWEISE_PRO_AZUBI = 15;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private NachweisService nachweisService;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private UserService userService;
+
+    @MockitoBean
+    private NachweisAuditService nachweisAuditService;
+    @MockitoBean
+    private DateiCleanupService dateiCleanupService;
+    @MockitoBean
+    private NachweisNummerService nachweisNummerService;
+    @MockitoBean
+    private StundenSummeService stundenSummeService;
+    @MockitoBean
+    private NachweisSucheService nachweisSucheService;
+    @MockitoBean
+    private NotificationZaehlerService notificationZaehlerService;
+    @MockitoBean
+    private NotificationPushService notificationPushService;
+    @MockitoBean
+    private PasswordEncoder passwordEncoder;
+    @MockitoBean
+    private RoleAuditService roleAuditService;
+    @MockitoBean
+    private EmailService emailService;
+    @MockitoBean
+    private EmailVerificationTokenService emailVerificationTokenService;
+
+    private final List<User> azubis = new ArrayList<>();
+    private User ausbilder;
+
+    @BeforeEach
+    void setUp() {
+        Role adminRole = rolle(ERole.ROLE_ADMIN);
+        Role userRole = rolle(ERole.ROLE_USER);
+        ausbilder = user("ausbilder", null, adminRole);
+        User zweiterAusbilder = user("ausbilder2", null, adminRole);
+
+        for (int a = 0; a < AZUBIS; a++) {
+            User azubi = user("azubi" + a, a % 2 == 0 ? ausbilder : zweiterAusbilder, userRole);
+            azubis.add(azubi);
+            for (int n = 1; n <= NACHWEISE_PRO_AZUBI; n++) {
+                nachweis(azubi, azubi.getTrainer(), n);
+            }
+        }
+        for (int i = 0; i < 25; i++) {
+            notification(azubis.get(0), i);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void meineNachweise_hoechstensDreiStatements() {
+        // ID zum Username, Seite, COUNT
+        Page<NachweisListDto> seite = QueryBudget.hoechstens(3, () -> nachweisService
+                .kriegeNachweiseVonAzubiBenutzernameMitFilterUndPagination("azubi0", null, 0, 10, "datumStart",
+                        "desc"));
+
+        assertEquals(10, seite.getContent().size());
+        assertEquals(NACHWEISE_PRO_AZUBI, seite.getTotalElements());
+        assertTrue(seite.getContent().stream().allMatch(n -> n.getAusbilder().getName() != null));
+    }
+
+    @Test
+    void alleNachweiseAdmin_hoechstensZweiStatements() {
+        // Seite, COUNT - Azubi und Ausbilder kommen aus dem Join, nicht pro Zeile
+        Page<NachweisListDto> seite = QueryBudget.hoechstens(2, () -> nachweisService
+                .kriegeAlleNachweiseMitFilterUndPagination(null, null, 0, 20, "datumStart", "desc"));
+
+        assertEquals(20, seite.getContent().size());
+        assertEquals(AZUBIS * NACHWEISE_PRO_AZUBI, seite.getTotalElements());
+    }
+
+    @Test
+    void alleNachweiseAdmin_mitFiltern_hoechstensZweiStatements() {
+        Page<NachweisListDto> seite = QueryBudget.hoechstens(2, () -> nachweisService
+                .kriegeAlleNachweiseMitFilterUndPagination(EStatus.IN_BEARBEITUNG, ausbilder.getId(), 0, 5,
+                        "nummer", "asc"));
+
+        assertEquals(5, seite.getContent().size());
+    }
+
+    @Test
+    void ungeleseneNotifications_hoechstensZweiStatements() {
+        UUID userId = azubis.get(0).getId();
+
+        Page<NotificationResponse> seite = QueryBudget.hoechstens(2,
+                () -> notificationService.getUnreadNotifications(userId, PageRequest.of(0, 20)));
+
+        assertEquals(20, seite.getContent().size());
+        assertEquals(25, seite.getTotalElements());
+    }
+
+    @Test
+    void adminBenutzerliste_hoechstensDreiStatements() {
+        // Seite inkl. Trainer, COUNT, ein Rollen-Batch für die ganze Seite
+        Page<UserResponse> seite = QueryBudget.hoechstens(3, () -> userService.findAllWithFilters(null, null, null,
+                null, PageRequest.of(0, 4, Sort.by("username"))));
+
+        assertEquals(4, seite.getContent().size());
+        assertEquals(AZUBIS + 2, seite.getTotalElements());
+        assertTrue(seite.getContent().stream().allMatch(u -> !u.getRoles().isEmpty()));
+    }
+
+    @Test
+    void adminBenutzerliste_nachRolle_hoechstensDreiStatements() {
+        Page<UserResponse> seite = QueryBudget.hoechstens(3, () -> userService.findAllWithFilters(null, null, null,
+                "USER", PageRequest.of(0, 3, Sort.by("username"))));
+
+        assertEquals(3, seite.getContent().size());
+        assertEquals(AZUBIS, seite.getTotalElements());
+    }
+
+    private Role rolle(ERole name) {
+        Role role = new Role();
+        role.setName(name);
+        return entityManager.persist(role);
+    }
+
+    private User user(String username, User trainer, Role role) {
+        User user = new User();
+        user.setUsername(username);
+        user.setName(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("password");
+        user.setTrainer(trainer);
+        user.setRoles(new HashSet<>(Set.of(role)));
+        return entityManager.persist(user);
+    }
+
+    private void nachweis(User azubi, User ausbilder, int nummer) {
+        Nachweis nachweis = new Nachweis();
+        nachweis.setName(azubi.getName());
+        nachweis.setNummer(nummer);
+        nachweis.setDatumStart(LocalDate.of(2025, 1, 6).plusWeeks(nummer));
+        nachweis.setDatumEnde(LocalDate.of(2025, 1, 10).plusWeeks(nummer));
+        nachweis.setAusbildungsjahr("1");
+        nachweis.setStatus(EStatus.IN_BEARBEITUNG);
+        nachweis.setAzubi(azubi);
+        nachweis.setAusbilder(ausbilder);
+        entityManager.persist(nachweis);
+    }
+
+    private void notification(User empfaenger, int i) {
+        Notification notification = new Notification();
+        notification.setRecipient(empfaenger);
+        notification.setTitle("Hinweis " + i);
+        notification.setMessage("Nachricht " + i);
+        notification.setType(Notification.NotificationType.INFO);
+        notification.setStatus(Notification.NotificationStatus.UNREAD);
+        notification.setCreatedAt(LocalDateTime.now().minusMinutes(i));
+        entityManager.persist(notification);
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.springboot.monitoring;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 💸 Query-Budget für Tests.
+ *
+ * Direkt um einen Service-Aufruf:
+ *
+ * <pre>
+ * QueryBudget.hoechstens(3, () -> nachweisService.kriegeNachweisDurchId(id));
+ * </pre>
+ *
+ * Oder für einen ganzen Endpoint über MockMvc (braucht
+ * {@code app.query-zaehler.header-aktiv=true}):
+ *
+ * <pre>
+ * mockMvc.perform(get("/api/nachweise/my-nachweise"))
+ *         .andExpect(QueryBudget.maxQueries(4));
+ * </pre>
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    /**
+     * Misst die Hibernate-Arbeit der Aktion.
+     */
+    public static QueryZaehler.Messung messen(Runnable aktion) {
+        QueryZaehler.starten();
+        try {
+            aktion.run();
+            return QueryZaehler.aktuell();
+        } finally {
+            QueryZaehler.beenden();
+        }
+    }
+
+    /**
+     * Schneidet die SQL-Statements der Aktion mit - zum Festnageln von
+     * Fetch-Plänen.
+     */
+    public static List<String> sqlMitschneiden(Runnable aktion) {
+        QueryZaehler.startenMitSql();
+        try {
+            aktion.run();
+            return QueryZaehler.sqlProtokoll();
+        } finally {
+            QueryZaehler.beenden();
+        }
+    }
+
+    /**
+     * Führt die Aktion aus und schlägt fehl, wenn sie mehr als
+     * {@code maxStatements} Statements braucht.
+     */
+    public static <T> T hoechstens(long maxStatements, Supplier<T> aktion) {
+        QueryZaehler.starten();
+        T ergebnis;
+        QueryZaehler.Messung messung;
+        try {
+            ergebnis = aktion.get();
+        } finally {
+            messung = QueryZaehler.beenden();
+        }
+        pruefen(maxStatements, messung);
+        return ergebnis;
+    }
+
+    /**
+     * Wie {@link #hoechstens(long, Supplier)} für Aktionen ohne Rückgabe.
+     */
+    public static void hoechstens(long maxStatements, Runnable aktion) {
+        hoechstens(maxStatements, () -> {
+            aktion.run();
+            return null;
+        });
+    }
+
+    /**
+     * MockMvc-Matcher auf den {@link QueryZaehlerFilter#HEADER}.
+     */
+    public static ResultMatcher maxQueries(long maxStatements) {
+        return result -> {
+            String header = result.getResponse().getHeader(QueryZaehlerFilter.HEADER);
+            if (header == null) {
+                throw new AssertionError("Kein " + QueryZaehlerFilter.HEADER
+                        + "-Header - app.query-zaehler.header-aktiv=true gesetzt?");
+            }
+            pruefen(maxStatements, new QueryZaehler.Messung(Long.parseLong(header),
+                    headerWert(result.getResponse().getHeader(QueryZaehlerFilter.HEADER + "-Entities")),
+                    headerWert(result.getResponse().getHeader(QueryZaehlerFilter.HEADER + "-Collections"))));
+        };
+    }
+
+    private static long headerWert(String wert) {
+        return wert == null ? 0 : Long.parseLong(wert);
+    }
+
+    private static void pruefen(long maxStatements, QueryZaehler.Messung messung) {
+        if (messung.statements() > maxStatements) {
+            throw new AssertionError("Query-Budget überschritten: erlaubt " + maxStatements
+                    + " Statements, gebraucht " + messung.statements() + " (" + messung + ")");
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.springboot.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class QueryZaehlerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        QueryZaehler.beenden();
+    }
+
+    @Test
+    void zaehltNurWaehrendLaufenderMessung() {
+        QueryZaehler.statement("select 1");
+        assertEquals(0, QueryZaehler.aktuell().statements());
+
+        QueryZaehler.Messung messung = QueryBudget.messen(() -> {
+            QueryZaehler.statement("select 1");
+            QueryZaehler.statement("select 1");
+            QueryZaehler.entityGeladen();
+            QueryZaehler.collectionGeladen();
+        });
+
+        assertEquals(new QueryZaehler.Messung(2, 1, 1), messung);
+        assertEquals(0, QueryZaehler.aktuell().statements());
+    }
+
+    @Test
+    void hoechstens_innerhalbBudget_liefertErgebnis() {
+        String ergebnis = QueryBudget.hoechstens(2, () -> {
+            QueryZaehler.statement("select 1");
+            QueryZaehler.statement("select 1");
+            return "ok";
+        });
+
+        assertEquals("ok", ergebnis);
+    }
+
+    @Test
+    void hoechstens_ueberBudget_schlaegtFehl() {
+        AssertionError fehler = assertThrows(AssertionError.class, () -> QueryBudget.hoechstens(1, () -> {
+            // typisches N+1: eine Liste + ein Nachladen pro Zeile
+            for (int i = 0; i < 4; i++) {
+                QueryZaehler.statement("select 1");
+            }
+        }));
+
+        assertTrue(fehler.getMessage().contains("erlaubt 1"));
+        assertTrue(fehler.getMessage().contains("gebraucht 4"));
+    }
+
+    @Test
+    void filter_setztHeaderUndMetriken() throws Exception {
+        QueryZaehlerFilter filter = new QueryZaehlerFilter(meterRegistry, true, 50, 1.0);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/nachweise/my-nachweise");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/nachweise/my-nachweise");
+            QueryZaehler.statement("select 1");
+            QueryZaehler.statement("select 1");
+            QueryZaehler.statement("select 1");
+            QueryZaehler.entityGeladen();
+        });
+
+        assertEquals("3", response.getHeader(QueryZaehlerFilter.HEADER));
+        assertEquals("1", response.getHeader(QueryZaehlerFilter.HEADER + "-Entities"));
+        DistributionSummary statements = meterRegistry.find("http.server.requests.queries")
+                .tag("uri", "/api/nachweise/my-nachweise")
+                .tag("art", "statements")
+                .summary();
+        assertNotNull(statements);
+        assertEquals(3.0, statements.totalAmount());
+
+        MvcResult mvcResult = mock(MvcResult.class);
+        when(mvcResult.getResponse()).thenReturn(response);
+        QueryBudget.maxQueries(3).match(mvcResult);
+        assertThrows(AssertionError.class, () -> QueryBudget.maxQueries(2).match(mvcResult));
+    }
+
+    @Test
+    void filter_ohneHeaderFlag_setztKeinenHeader() throws Exception {
+        QueryZaehlerFilter filter = new QueryZaehlerFilter(meterRegistry, false, 50, 1.0);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/notifications"), response,
+                (req, res) -> QueryZaehler.statement("select 1"));
+
+        assertNull(response.getHeader(QueryZaehlerFilter.HEADER));
+        assertEquals(0, QueryZaehler.aktuell().statements());
+    }
+}
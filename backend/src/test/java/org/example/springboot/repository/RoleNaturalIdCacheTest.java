@@ -0,0 +1,90 @@
+package org.example.springboot.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.springboot.model.Role;
+import org.example.springboot.model.enums.ERole;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Rollen-Lookups per Name sollen nach dem ersten Laden aus dem L2-Cache kommen
+ * statt jedes Mal die roles-Tabelle abzufragen. Jeder Lookup läuft in einer
+ * eigenen Transaktion (wie zwei Requests) - innerhalb einer Transaktion käme
+ * der zweite ohnehin aus dem Persistence Context.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+        "spring.jpa.properties.hibernate.javax.cache.provider=com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider",
+        "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=create",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RoleNaturalIdCacheTest {
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private Statistics statistik;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(s -> {
+            Role rolle = new Role();
+            rolle.setName(ERole.ROLE_USER);
+            roleRepository.save(rolle);
+        });
+
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        // sauberer Start - das Speichern selbst hat den Cache schon befüllt
+        sessionFactory.getCache().evictAllRegions();
+        statistik = sessionFactory.getStatistics();
+        statistik.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        tx.executeWithoutResult(s -> roleRepository.deleteAllInBatch());
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @Test
+    void findByName_zweiterLookupKommtAusDemCache() {
+        Role erster = tx.execute(s -> roleRepository.findByName(ERole.ROLE_USER).orElseThrow());
+        long statementsNachErstem = statistik.getPrepareStatementCount();
+        assertTrue(statementsNachErstem > 0, "Erster Lookup muss die DB abfragen");
+
+        Role zweiter = tx.execute(s -> roleRepository.findByName(ERole.ROLE_USER).orElseThrow());
+
+        assertEquals(erster.getId(), zweiter.getId());
+        assertEquals(statementsNachErstem, statistik.getPrepareStatementCount(),
+                "Zweiter Lookup darf die DB nicht mehr abfragen");
+        assertTrue(statistik.getNaturalIdCacheHitCount() > 0);
+    }
+
+    @Test
+    void findByName_unbekannteRolle() {
+        assertTrue(tx.<Boolean>execute(s -> roleRepository.findByName(ERole.ROLE_ADMIN).isEmpty()));
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.springboot.repository;
+
+import org.example.springboot.controller.userController.dto.UserResponse;
+import org.example.springboot.model.Role;
+import org.example.springboot.model.User;
+import org.example.springboot.model.enums.ERole;
+import org.example.springboot.monitoring.QueryBudget;
+import org.example.springboot.monitoring.QueryZaehlerHibernateConfig;
+import org.example.springboot.repository.specification.UserSpecification;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Nagelt die Fetch-Pläne von User fest: Auth, Profil und Admin-Liste sollen
+ * jeweils genau die Statements erzeugen, die wir erwarten.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import(QueryZaehlerHibernateConfig.class)
+class UserFetchPlanTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        Role adminRole = rolle(ERole.ROLE_ADMIN);
+        Role userRole = rolle(ERole.ROLE_USER);
+
+        User chef = user("chef", null, adminRole);
+        User trainer = user("trainer", chef, adminRole);
+        for (int i = 1; i <= 3; i++) {
+            user("azubi" + i, trainer, userRole);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void authPrincipal_einSelectOhneTrainer() {
+        AtomicReference<User> geladen = new AtomicReference<>();
+
+        List<String> sql = QueryBudget.sqlMitschneiden(
+                () -> geladen.set(userRepository.findByEmail("azubi1@example.com").orElseThrow()));
+
+        assertEquals(1, sql.size(), () -> "Erwartet genau ein Select, war: " + sql);
+        assertEquals(1, vorkommen(sql.get(0), "app_user"), () -> "Trainer darf nicht gejoint werden: " + sql);
+        assertTrue(sql.get(0).contains("user_roles"));
+        assertTrue(Hibernate.isInitialized(geladen.get().getRoles()));
+        assertFalse(Hibernate.isInitialized(geladen.get().getTrainer()));
+    }
+
+    @Test
+    void profil_einSelectMitTrainerAberOhneDessenTrainer() {
+        AtomicReference<User> geladen = new AtomicReference<>();
+
+        List<String> sql = QueryBudget.sqlMitschneiden(
+                () -> geladen.set(userRepository.findProfilByUsername("azubi1").orElseThrow()));
+
+        assertEquals(1, sql.size(), () -> "Erwartet genau ein Select, war: " + sql);
+        assertEquals(2, vorkommen(sql.get(0), "app_user"), () -> "Nur User + Trainer: " + sql);
+        User trainer = geladen.get().getTrainer();
+        assertTrue(Hibernate.isInitialized(trainer));
+        assertEquals("trainer", trainer.getUsername());
+        assertFalse(Hibernate.isInitialized(trainer.getTrainer()));
+        assertFalse(Hibernate.isInitialized(trainer.getRoles()));
+    }
+
+    @Test
+    void adminListe_seiteMitTrainerPlusEinRollenBatch() {
+        AtomicReference<List<UserResponse>> geladen = new AtomicReference<>();
+
+        List<String> sql = QueryBudget.sqlMitschneiden(() -> geladen.set(userRepository
+                .findAll(UserSpecification.searchByTerm(null), PageRequest.of(0, 20, Sort.by("username")))
+                .map(UserResponse::new)
+                .getContent()));
+
+        assertEquals(5, geladen.get().size());
+        assertEquals(2, sql.size(), () -> "Erwartet Seite + ein Rollen-Batch, war: " + sql);
+        assertEquals(2, vorkommen(sql.get(0), "app_user"), () -> "Trainer im Seiten-Select: " + sql);
+        assertFalse(sql.get(0).contains("user_roles"));
+        assertTrue(sql.get(1).contains("user_roles"));
+        assertTrue(geladen.get().stream().allMatch(u -> !u.getRoles().isEmpty()));
+    }
+
+    private Role rolle(ERole name) {
+        Role role = new Role();
+        role.setName(name);
+        return entityManager.persist(role);
+    }
+
+    private User user(String username, User trainer, Role role) {
+        User user = new User();
+        user.setUsername(username);
+        user.setName(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("password");
+        user.setTrainer(trainer);
+        user.setRoles(new HashSet<>(Set.of(role)));
+        return entityManager.persist(user);
+    }
+
+    private static int vorkommen(String text, String teil) {
+        int anzahl = 0;
+        for (int i = text.indexOf(teil); i >= 0; i = text.indexOf(teil, i + teil.length())) {
+            anzahl++;
+        }
+        return anzahl;
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.springboot.service.auth;
+
+import org.example.springboot.controller.userController.dto.BenutzerVorschlag;
+import org.example.springboot.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BenutzerPrefixIndexTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private BenutzerPrefixIndex index;
+
+    private final BenutzerVorschlag vu = new BenutzerVorschlag(UUID.randomUUID(), "vuducle", "Vu Quy Le");
+    private final BenutzerVorschlag vergil = new BenutzerVorschlag(UUID.randomUUID(), "vergil", "Vergil Sparda");
+
+    @BeforeEach
+    void setUp() {
+        index = new BenutzerPrefixIndex(userRepository, redisTemplate, listenerContainer, true);
+        when(userRepository.findAlleVorschlaege()).thenReturn(List.of(vu, vergil));
+        index.beimStart();
+    }
+
+    @Test
+    void vorschlaege_findetUsernameUndNamensteile() {
+        assertEquals(List.of(vu), index.vorschlaege("VU", 10));
+        assertEquals(List.of(vu), index.vorschlaege("le", 10));
+        assertEquals(List.of(vergil), index.vorschlaege("spar", 10));
+        assertEquals(2, index.vorschlaege("v", 10).size());
+        assertEquals(1, index.vorschlaege("v", 1).size());
+        verify(userRepository, never()).findVorschlaegeNachPraefix(any(), any());
+    }
+
+    @Test
+    void geaendert_ohneNamensaenderungPassiertNichts() {
+        index.geaendert(vu.getId(), "vuducle", "Vu Quy Le");
+
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void nachricht_ersetztAlteSchluessel() {
+        BenutzerVorschlag umbenannt = new BenutzerVorschlag(vu.getId(), "vuducle", "Vu Nguyen");
+        when(userRepository.findVorschlagById(vu.getId())).thenReturn(Optional.of(umbenannt));
+
+        index.onMessage(nachricht(vu.getId()), null);
+
+        assertTrue(index.vorschlaege("le", 10).isEmpty());
+        assertEquals(List.of(umbenannt), index.vorschlaege("nguy", 10));
+    }
+
+    @Test
+    void nachricht_fuerGeloeschtenUserEntferntIhn() {
+        when(userRepository.findVorschlagById(vergil.getId())).thenReturn(Optional.empty());
+
+        index.onMessage(nachricht(vergil.getId()), null);
+
+        assertTrue(index.vorschlaege("vergil", 10).isEmpty());
+    }
+
+    private static DefaultMessage nachricht(UUID id) {
+        return new DefaultMessage(BenutzerPrefixIndex.KANAL.getBytes(StandardCharsets.UTF_8),
+                id.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.springboot.service.nachweis;
+
+import org.example.springboot.controller.nachweisController.dto.AusbilderDashboardDto;
+import org.example.springboot.model.enums.EStatus;
+import org.example.springboot.repository.NachweisRepository;
+import org.example.springboot.repository.UserRepository;
+import org.example.springboot.repository.projection.AzubiStatusAnzahl;
+import org.example.springboot.service.nachweis.event.AusbilderDashboardVeraltetEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AusbilderDashboardServiceTest {
+
+    @Mock
+    private NachweisRepository nachweisRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @InjectMocks
+    private AusbilderDashboardService dashboardService;
+
+    @Test
+    void fuerAusbilder_fasstZeilenProAzubiZusammen() {
+        UUID ausbilderId = UUID.randomUUID();
+        UUID anna = UUID.randomUUID();
+        UUID ben = UUID.randomUUID();
+        when(nachweisRepository.zaehleProAzubiUndStatus(ausbilderId)).thenReturn(List.of(
+                zeile(anna, "Anna", EStatus.IN_BEARBEITUNG, 3),
+                zeile(anna, "Anna", EStatus.ANGENOMMEN, 10),
+                zeile(ben, "Ben", EStatus.ABGELEHNT, 1),
+                zeile(ben, "Ben", EStatus.IN_BEARBEITUNG, 2)));
+
+        AusbilderDashboardDto dashboard = dashboardService.fuerAusbilder(ausbilderId);
+
+        assertEquals(5, dashboard.getInBearbeitung());
+        assertEquals(10, dashboard.getAngenommen());
+        assertEquals(1, dashboard.getAbgelehnt());
+        assertEquals(2, dashboard.getAzubis().size());
+
+        AusbilderDashboardDto.AzubiZeile erste = dashboard.getAzubis().get(0);
+        assertEquals(anna, erste.getAzubiId());
+        assertEquals(3, erste.getInBearbeitung());
+        assertEquals(10, erste.getAngenommen());
+        assertEquals(0, erste.getAbgelehnt());
+    }
+
+    @Test
+    void beiVeraltet_leertNurDieBetroffenenAusbilder() {
+        Cache cache = mock(Cache.class);
+        when(cacheManager.getCache(AusbilderDashboardService.CACHE)).thenReturn(cache);
+        UUID ausbilderId = UUID.randomUUID();
+
+        dashboardService.beiVeraltet(new AusbilderDashboardVeraltetEvent(Set.of(ausbilderId)));
+
+        verify(cache).evict(ausbilderId);
+        verifyNoMoreInteractions(cache);
+    }
+
+    private static AzubiStatusAnzahl zeile(UUID azubiId, String name, EStatus status, long anzahl) {
+        return new AzubiStatusAnzahl() {
+            @Override
+            public UUID getAzubiId() {
+                return azubiId;
+            }
+
+            @Override
+            public String getAzubiName() {
+                return name;
+            }
+
+            @Override
+            public EStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getAnzahl() {
+                return anzahl;
+            }
+        };
+    }
+}
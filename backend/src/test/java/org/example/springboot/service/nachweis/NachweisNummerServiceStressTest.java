@@ -0,0 +1,175 @@
+package org.example.springboot.service.nachweis;
+
+import org.example.springboot.model.User;
+import org.example.springboot.repository.NachweisNummerZaehlerRepository;
+import org.example.springboot.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Parallele Einreichungen desselben Azubis: jede committete Nummer genau
+ * einmal, lückenlos ab 1 - auch wenn zwischendurch Transaktionen
+ * zurückrollen.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.datasource.url=jdbc:h2:mem:nachweis-nummer;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(NachweisNummerService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NachweisNummerServiceStressTest {
+
+    private static final int THREADS = 8;
+    private static final int PRO_THREAD = 25;
+
+    @Autowired
+    private NachweisNummerService nummerService;
+
+    @Autowired
+    private NachweisNummerZaehlerRepository zaehlerRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private UUID azubiId;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        User azubi = new User();
+        azubi.setUsername("azubi-" + UUID.randomUUID());
+        azubi.setName("Azubi");
+        azubi.setPassword("password");
+        azubiId = tx.execute(s -> userRepository.save(azubi).getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        tx.executeWithoutResult(s -> {
+            zaehlerRepository.deleteAllInBatch();
+            userRepository.deleteAllInBatch();
+        });
+    }
+
+    @Test
+    void paralleleEinreichungen_keineDuplikateKeineLuecken() throws Exception {
+        Queue<Integer> committet = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < PRO_THREAD; i++) {
+                    // jede 7. Einreichung scheitert (z.B. PDF-Fehler) und rollt zurück
+                    boolean zurueckrollen = (thread * PRO_THREAD + i) % 7 == 0;
+                    Integer nummer = tx.execute(s -> {
+                        int n = nummerService.naechsteNummer(azubiId);
+                        if (zurueckrollen) {
+                            s.setRollbackOnly();
+                        }
+                        return n;
+                    });
+                    if (!zurueckrollen) {
+                        committet.add(nummer);
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        List<Integer> sortiert = committet.stream().sorted().toList();
+        List<Integer> erwartet = IntStream.rangeClosed(1, sortiert.size()).boxed().toList();
+        assertEquals(erwartet, sortiert, "Nummern müssen eindeutig und lückenlos sein");
+        assertEquals(sortiert.size(), tx.execute(s -> nummerService.vorschau(azubiId)) - 1);
+    }
+
+    @Test
+    void ersteEinreichungenGleichzeitig_zaehlerWirdNurEinmalAngelegt() throws Exception {
+        Queue<Integer> nummern = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                nummern.add(tx.execute(s -> nummerService.naechsteNummer(azubiId)));
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        assertEquals(IntStream.rangeClosed(1, THREADS).boxed().toList(), nummern.stream().sorted().toList());
+    }
+
+    @Test
+    void vonHandVergebeneNummer_ziehtZaehlerNach() {
+        tx.executeWithoutResult(s -> nummerService.naechsteNummer(azubiId));
+        tx.executeWithoutResult(s -> nummerService.nummerVergeben(azubiId, 10));
+        // kleinere Nummer von Hand darf den Zähler nicht zurücksetzen
+        tx.executeWithoutResult(s -> nummerService.nummerVergeben(azubiId, 4));
+
+        assertEquals(Integer.valueOf(11), tx.<Integer>execute(s -> nummerService.naechsteNummer(azubiId)));
+    }
+
+    @Test
+    void nachLoeschen_nummernWerdenWiederVergeben() {
+        for (int i = 0; i < 3; i++) {
+            tx.executeWithoutResult(s -> nummerService.naechsteNummer(azubiId));
+        }
+        // die Nachweise zu den Nummern gibt es nicht (mehr) - wie nach "alle löschen"
+        tx.executeWithoutResult(s -> nummerService.nachLoeschen(List.of(azubiId)));
+
+        assertEquals(Integer.valueOf(1), tx.<Integer>execute(s -> nummerService.naechsteNummer(azubiId)));
+    }
+
+    @Test
+    void ohneTransaktion_nichtErlaubt() {
+        assertThrows(IllegalTransactionStateException.class, () -> nummerService.naechsteNummer(azubiId));
+    }
+}
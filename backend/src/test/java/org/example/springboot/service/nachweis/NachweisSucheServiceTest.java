@@ -0,0 +1,74 @@
+package org.example.springboot.service.nachweis;
+
+import org.example.springboot.controller.nachweisController.dto.NachweisTrefferDto;
+import org.example.springboot.dto.CursorPage;
+import org.example.springboot.model.enums.EStatus;
+import org.example.springboot.repository.NachweisRepository;
+import org.example.springboot.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NachweisSucheServiceTest {
+
+    @Mock
+    private NachweisRepository nachweisRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private NachweisSucheService sucheService;
+
+    @Test
+    void suchen_cursorFuehrtRangUndIdWeiter() {
+        NachweisTrefferDto erster = treffer(0.6f);
+        NachweisTrefferDto zweiter = treffer(0.3f);
+        when(nachweisRepository.sucheVolltext(eq("docker"), isNull(), isNull(), isNull(), isNull(), eq(2)))
+                .thenReturn(List.of(erster, zweiter));
+
+        CursorPage<NachweisTrefferDto> seite = sucheService.suchen(" docker ", null, null, null, 1);
+
+        assertTrue(seite.isHasNext());
+        assertEquals(List.of(erster), seite.getContent());
+
+        when(nachweisRepository.sucheVolltext("docker", null, null, 0.6f, erster.getId(), 2))
+                .thenReturn(List.of(zweiter));
+        CursorPage<NachweisTrefferDto> naechste = sucheService.suchen("docker", null, null, seite.getNextCursor(), 1);
+
+        assertFalse(naechste.isHasNext());
+        assertEquals(List.of(zweiter), naechste.getContent());
+    }
+
+    @Test
+    void suchen_cursorEinerAnderenSucheWirdAbgelehnt() {
+        when(nachweisRepository.sucheVolltext(any(), any(), any(), any(), any(), anyInt()))
+                .thenReturn(List.of(treffer(0.5f), treffer(0.4f)));
+        String cursor = sucheService.suchen("docker", null, null, null, 1).getNextCursor();
+
+        assertThrows(IllegalArgumentException.class, () -> sucheService.suchen("kubernetes", null, null, cursor, 1));
+    }
+
+    @Test
+    void suchen_leererBegriffWirdAbgelehnt() {
+        assertThrows(IllegalArgumentException.class, () -> sucheService.suchen("  ", null, null, null, 10));
+        verifyNoInteractions(nachweisRepository);
+    }
+
+    private static NachweisTrefferDto treffer(float rang) {
+        return new NachweisTrefferDto(UUID.randomUUID(), 1, LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 10),
+                "1. Ausbildungsjahr", EStatus.ANGENOMMEN, UUID.randomUUID(), "Anna", rang);
+    }
+}
@@ -0,0 +1,259 @@
+package org.example.springboot.service.nachweis;
+
+import org.example.springboot.model.Activity;
+import org.example.springboot.model.ActivityEintrag;
+import org.example.springboot.model.Nachweis;
+import org.example.springboot.model.NachweisStundenSumme;
+import org.example.springboot.model.User;
+import org.example.springboot.model.enums.EStatus;
+import org.example.springboot.model.enums.Weekday;
+import org.example.springboot.repository.NachweisRepository;
+import org.example.springboot.repository.NachweisStundenSummeRepository;
+import org.example.springboot.repository.projection.StundenJahrgang;
+import org.example.springboot.repository.projection.StundenProSektion;
+import org.example.springboot.repository.projection.StundenProTag;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Inkrementelle Pflege von {@code nachweis_stunden_summe} (Anlegen, PUT,
+ * PATCH in beiden Speichermodi), Cascade beim Löschen und die
+ * Berichts-Queries.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        // "day" ist in H2 ein Schlüsselwort - sonst fehlen activity und nachweis_stunden_summe
+        "spring.datasource.url=jdbc:h2:mem:stunden-summe;DB_CLOSE_DELAY=-1;NON_KEYWORDS=DAY",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(StundenSummeService.class)
+class StundenSummeServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private StundenSummeService summeService;
+
+    @Autowired
+    private NachweisStundenSummeRepository summeRepository;
+
+    @Autowired
+    private NachweisRepository nachweisRepository;
+
+    private User azubi;
+    private int naechsteNummer = 1;
+
+    @BeforeEach
+    void setUp() {
+        // FK wie in V18 - ddl-auto kennt nur die Spalte, nicht die Beziehung.
+        // DDL committet in H2 sofort, daher IF NOT EXISTS
+        entityManager.getEntityManager().createNativeQuery("ALTER TABLE nachweis_stunden_summe "
+                + "ADD CONSTRAINT IF NOT EXISTS fk_nachweis_stunden_summe_nachweis FOREIGN KEY (nachweis_id) "
+                + "REFERENCES nachweis (id) ON DELETE CASCADE").executeUpdate();
+        azubi = user("azubi");
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void anlegen_summiertProTagUndSektion(boolean alsJson) {
+        Nachweis nachweis = nachweis(azubi, "1", alsJson,
+                activity(Weekday.MONDAY, 1, "4", "Theorie"),
+                activity(Weekday.MONDAY, 2, "4", "Theorie"),
+                activity(Weekday.TUESDAY, 1, "7.5", "Entwicklung"),
+                activity(Weekday.TUESDAY, 2, "0.5", null));
+
+        summeService.aktualisieren(nachweis);
+
+        Map<String, NachweisStundenSumme> summen = summen(nachweis);
+        assertEquals(3, summen.size());
+        assertStunden("8", summen.get("MONDAY/Theorie").getStunden());
+        assertStunden("7.5", summen.get("TUESDAY/Entwicklung").getStunden());
+        // keine Sektion landet als "" im Unique-Key
+        assertStunden("0.5", summen.get("TUESDAY/").getStunden());
+        assertTrue(summen.values().stream().allMatch(s -> azubi.getId().equals(s.getAzubiId())
+                && "1".equals(s.getAusbildungsjahr())));
+    }
+
+    @Test
+    void aktualisieren_putGleichtZeilenAb() {
+        Nachweis nachweis = nachweis(azubi, "1", false,
+                activity(Weekday.MONDAY, 1, "8", "Theorie"),
+                activity(Weekday.TUESDAY, 1, "6", "Entwicklung"),
+                activity(Weekday.TUESDAY, 2, "2", "QA"));
+        summeService.aktualisieren(nachweis);
+        Map<String, NachweisStundenSumme> vorher = summen(nachweis);
+
+        // PUT: Montag unverändert, Dienstag Entwicklung geändert, QA weg, Mittwoch neu
+        nachweis.setzeActivities(List.of(
+                activity(Weekday.MONDAY, 1, "8.00", "Theorie"),
+                activity(Weekday.TUESDAY, 1, "7", "Entwicklung"),
+                activity(Weekday.WEDNESDAY, 1, "3", "Design")), false);
+        entityManager.flush();
+        summeService.aktualisieren(nachweis);
+
+        Map<String, NachweisStundenSumme> nachher = summen(nachweis);
+        assertEquals(List.of("MONDAY/Theorie", "TUESDAY/Entwicklung", "WEDNESDAY/Design"),
+                nachher.keySet().stream().sorted().toList());
+        // bestehende Zeilen werden geändert, nicht gelöscht und neu angelegt
+        assertEquals(vorher.get("MONDAY/Theorie").getId(), nachher.get("MONDAY/Theorie").getId());
+        assertEquals(vorher.get("TUESDAY/Entwicklung").getId(), nachher.get("TUESDAY/Entwicklung").getId());
+        assertStunden("8", nachher.get("MONDAY/Theorie").getStunden());
+        assertStunden("7", nachher.get("TUESDAY/Entwicklung").getStunden());
+        assertStunden("3", nachher.get("WEDNESDAY/Design").getStunden());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void aktualisieren_patchEinzelnerSlots(boolean alsJson) {
+        Nachweis nachweis = nachweis(azubi, "1", alsJson,
+                activity(Weekday.MONDAY, 1, "4", "Theorie"),
+                activity(Weekday.MONDAY, 2, "4", "Theorie"),
+                activity(Weekday.FRIDAY, 1, "8", "Entwicklung"));
+        summeService.aktualisieren(nachweis);
+        UUID montagId = summen(nachweis).get("MONDAY/Theorie").getId();
+
+        // PATCH: ein Montags-Slot in andere Sektion, Freitag leer, Donnerstag neu
+        nachweis.slotSchreiben(new ActivityEintrag(Weekday.MONDAY, 2, "Review", new BigDecimal("4"), "QA"));
+        nachweis.slotEntfernen(Weekday.FRIDAY, 1);
+        nachweis.slotSchreiben(new ActivityEintrag(Weekday.THURSDAY, 1, "Deploy", new BigDecimal("1.25"), "Ops"));
+        entityManager.flush();
+        summeService.aktualisieren(nachweis);
+
+        Map<String, NachweisStundenSumme> summen = summen(nachweis);
+        assertEquals(List.of("MONDAY/QA", "MONDAY/Theorie", "THURSDAY/Ops"),
+                summen.keySet().stream().sorted().toList());
+        assertEquals(montagId, summen.get("MONDAY/Theorie").getId());
+        assertStunden("4", summen.get("MONDAY/Theorie").getStunden());
+        assertStunden("4", summen.get("MONDAY/QA").getStunden());
+        assertStunden("1.25", summen.get("THURSDAY/Ops").getStunden());
+    }
+
+    @Test
+    void aktualisieren_neuesAusbildungsjahrWirdUebernommen() {
+        Nachweis nachweis = nachweis(azubi, "1", false, activity(Weekday.MONDAY, 1, "8", "Theorie"));
+        summeService.aktualisieren(nachweis);
+
+        nachweis.setAusbildungsjahr("2");
+        summeService.aktualisieren(nachweis);
+
+        assertEquals("2", summen(nachweis).get("MONDAY/Theorie").getAusbildungsjahr());
+    }
+
+    @Test
+    void loeschen_summenGehenPerCascadeMit() {
+        Nachweis weg = nachweis(azubi, "1", false, activity(Weekday.MONDAY, 1, "8", "Theorie"));
+        Nachweis bleibt = nachweis(azubi, "1", false, activity(Weekday.MONDAY, 1, "6", "Theorie"));
+        summeService.aktualisieren(weg);
+        summeService.aktualisieren(bleibt);
+        entityManager.flush();
+        entityManager.clear();
+
+        // wie beim Chunk-/Bulk-Löschen im NachweisService
+        nachweisRepository.deleteActivitiesByNachweisIds(List.of(weg.getId()));
+        nachweisRepository.deleteAllByIdIn(List.of(weg.getId()));
+
+        assertTrue(summeRepository.findByNachweisId(weg.getId()).isEmpty());
+        assertEquals(1, summeRepository.findByNachweisId(bleibt.getId()).size());
+    }
+
+    @Test
+    void berichte_proAzubiTagUndJahrgang() {
+        User zweiter = user("zweiter");
+        summeService.aktualisieren(nachweis(azubi, "1", false,
+                activity(Weekday.TUESDAY, 1, "6", "Entwicklung"),
+                activity(Weekday.MONDAY, 1, "8", "Theorie")));
+        summeService.aktualisieren(nachweis(azubi, "1", true,
+                activity(Weekday.MONDAY, 1, "2", "Entwicklung"),
+                activity(Weekday.MONDAY, 2, "6", "Theorie")));
+        summeService.aktualisieren(nachweis(azubi, "2", false, activity(Weekday.FRIDAY, 1, "5", "Entwicklung")));
+        summeService.aktualisieren(nachweis(zweiter, "1", false, activity(Weekday.MONDAY, 1, "4", "Entwicklung")));
+        entityManager.flush();
+
+        List<StundenProSektion> proSektion = summeService.proSektionFuerBenutzer("azubi");
+        assertEquals(List.of("1/Entwicklung", "1/Theorie", "2/Entwicklung"), proSektion.stream()
+                .map(s -> s.getAusbildungsjahr() + "/" + s.getSection()).toList());
+        assertStunden("8", proSektion.get(0).getStunden());
+        assertStunden("14", proSektion.get(1).getStunden());
+
+        List<StundenProTag> proTag = summeService.proTagFuerAzubi(azubi.getId(), "1");
+        assertEquals(List.of(Weekday.MONDAY, Weekday.TUESDAY), proTag.stream().map(StundenProTag::getDay).toList());
+        assertStunden("16", proTag.get(0).getStunden());
+        // null = alle Jahre
+        assertEquals(3, summeService.proTagFuerAzubi(azubi.getId(), null).size());
+
+        List<StundenJahrgang> jahrgang = summeService.proSektionFuerJahrgang("1");
+        assertEquals(List.of("Entwicklung", "Theorie"), jahrgang.stream().map(StundenJahrgang::getSection).toList());
+        assertStunden("12", jahrgang.get(0).getStunden());
+        assertEquals(2, jahrgang.get(0).getAzubis());
+        assertEquals(1, jahrgang.get(1).getAzubis());
+    }
+
+    @Test
+    void berichtJahrgang_leeresJahrWirdAbgelehnt() {
+        assertThrows(IllegalArgumentException.class, () -> summeService.proSektionFuerJahrgang(" "));
+    }
+
+    private Map<String, NachweisStundenSumme> summen(Nachweis nachweis) {
+        return summeRepository.findByNachweisId(nachweis.getId()).stream()
+                .collect(Collectors.toMap(s -> s.getDay() + "/" + s.getSection(), Function.identity()));
+    }
+
+    private static void assertStunden(String erwartet, BigDecimal ist) {
+        // NUMERIC(6, 2) - Skala egal, nur der Wert zählt
+        assertEquals(0, new BigDecimal(erwartet).compareTo(ist), () -> "erwartet " + erwartet + ", war " + ist);
+    }
+
+    private User user(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setName(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("password");
+        return entityManager.persist(user);
+    }
+
+    private Nachweis nachweis(User azubi, String ausbildungsjahr, boolean alsJson, Activity... activities) {
+        Nachweis nachweis = new Nachweis();
+        nachweis.setName(azubi.getName());
+        nachweis.setNummer(naechsteNummer++);
+        nachweis.setDatumStart(LocalDate.of(2025, 1, 6));
+        nachweis.setDatumEnde(LocalDate.of(2025, 1, 10));
+        nachweis.setAusbildungsjahr(ausbildungsjahr);
+        nachweis.setStatus(EStatus.IN_BEARBEITUNG);
+        nachweis.setAzubi(azubi);
+        nachweis.setzeActivities(List.of(activities), alsJson);
+        return entityManager.persistAndFlush(nachweis);
+    }
+
+    private static Activity activity(Weekday day, int slot, String stunden, String section) {
+        Activity activity = new Activity();
+        activity.setDay(day);
+        activity.setSlot(slot);
+        activity.setDescription("Test");
+        activity.setHours(new BigDecimal(stunden));
+        activity.setSection(section);
+        return activity;
+    }
+}